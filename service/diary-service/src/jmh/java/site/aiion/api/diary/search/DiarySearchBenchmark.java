@@ -0,0 +1,126 @@
+package site.aiion.api.diary.search;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import site.aiion.api.diary.DiaryModel;
+import site.aiion.api.diary.ingest.CsvReader;
+import site.aiion.api.diary.ingest.DiaryCsvRows;
+
+/**
+ * nanjung.csv(난중일기)를 copies 번 복제한 말뭉치에서 한 사용자 검색 지연.
+ * spread=true 면 복제본마다 다른 사용자(사용자당 원본 크기), false 면 한 사용자가 전부 가진다.
+ * 측정은 색인 후보 조회 + 앞쪽 후보 limit 개 본문 확인/발췌(서비스가 DB 에서 읽은 뒤 하는 일)까지다.
+ * 예) gradle :service:diary-service:jmh -PjmhArgs="DiarySearch -p copies=1000 -p spread=true -jvmArgs -Xmx8g"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiarySearchBenchmark {
+
+    private static final long USER = 1L;
+    private static final int LIMIT = 20;
+
+    @Param({ "../../nanjung.csv" })
+    private String csv;
+
+    @Param({ "1", "100" })
+    private int copies;
+
+    @Param({ "true", "false" })
+    private boolean spread;
+
+    @Param({ "어머니", "공무를", "\"동헌에 나가\"", "비" })
+    private String q;
+
+    private DiarySearchIndex index;
+    private DiarySearchQuery query;
+    // 원본 일기. 복제본 id 를 원본 수로 나눈 나머지가 원본 순번이다
+    private List<DiaryModel> originals;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        originals = read(Path.of(csv));
+        index = new DiarySearchIndex();
+        long started = System.nanoTime();
+        long id = 0;
+        for (int copy = 0; copy < copies; copy++) {
+            long userId = spread ? USER + copy : USER;
+            for (DiaryModel diary : originals) {
+                index.put(DiaryModel.builder()
+                        .id(id++)
+                        .userId(userId)
+                        .diaryDate(diary.getDiaryDate())
+                        .title(diary.getTitle())
+                        .content(diary.getContent())
+                        .build());
+            }
+        }
+        System.out.printf("%n색인 %,d개: %,dms%n", id, (System.nanoTime() - started) / 1_000_000);
+        query = DiarySearchQuery.parse(q);
+    }
+
+    @Benchmark
+    public int search() {
+        List<Long> candidates = index.candidates(USER, query.tokens, null, null);
+        return verify(candidates);
+    }
+
+    @Benchmark
+    public int searchInRange() {
+        List<Long> candidates = index.candidates(USER, query.tokens, LocalDate.of(1593, 1, 1), LocalDate.of(1594, 12, 31));
+        return verify(candidates);
+    }
+
+    private int verify(List<Long> candidates) {
+        int hits = 0;
+        for (int i = 0; i < candidates.size() && hits < LIMIT; i++) {
+            DiaryModel diary = originals.get((int) (candidates.get(i) % originals.size()));
+            if (query.matches(diary.getTitle(), diary.getContent())) {
+                hits += DiarySnippets.build(diary.getContent(), query.needles, 40).isEmpty() ? 0 : 1;
+            }
+        }
+        return hits;
+    }
+
+    // 가져오기와 같은 파서로 읽는다. 날짜가 깨진 행('PARSE_ERROR)은 건너뛴다
+    private static List<DiaryModel> read(Path path) throws IOException {
+        List<DiaryModel> diaries = new ArrayList<>();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            CsvReader csv = new CsvReader(reader);
+            DiaryCsvRows rows = DiaryCsvRows.of(csv.readRecord());
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                DiaryModel diary = rows.map(record, USER).diary();
+                if (diary != null) {
+                    diary.setId((long) diaries.size());
+                    diaries.add(diary);
+                }
+            }
+        }
+        return diaries;
+    }
+}
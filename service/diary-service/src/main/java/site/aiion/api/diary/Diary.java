@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "diaries")
+@Table(name = "diaries", indexes = {
+        // 사용자별 최신순 타임라인: (user_id, diary_date, id) 순서 그대로 한 번의 범위 스캔으로 페이지를 읽는다
+        @Index(name = "idx_diaries_user_date_id", columnList = "user_id, diary_date DESC, id DESC")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,7 +21,7 @@ public class Diary {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(name = "diary_date", nullable = false)
     private LocalDate diaryDate;
 
     @Column(length = 200)
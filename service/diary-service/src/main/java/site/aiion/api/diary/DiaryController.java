@@ -1,19 +1,23 @@
 package site.aiion.api.diary;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import site.aiion.api.diary.common.domain.Messenger;
+import site.aiion.api.diary.search.DiarySearchService;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +26,7 @@ import site.aiion.api.diary.common.domain.Messenger;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final DiarySearchService diarySearchService;
 
     @PostMapping("/findById")
     @Operation(summary = "일기 ID로 조회", description = "일기 ID를 받아 해당 일기 정보를 조회합니다.")
@@ -47,6 +52,41 @@ public class DiaryController {
         return diaryService.findByUserId(userId);
     }
 
+    @GetMapping("/{id:\\d+}")
+    @Operation(summary = "일기 본문 조회", description = "목록(요약)에서 고른 일기의 전체 내용을 조회합니다.")
+    public Messenger findOne(@org.springframework.web.bind.annotation.PathVariable Long id) {
+        return diaryService.findById(DiaryModel.builder().id(id).build());
+    }
+
+    @GetMapping("/user/{userId}/summaries")
+    @Operation(summary = "사용자별 일기 요약 조회", description = "본문 대신 앞부분 발췌만 담아 최신순으로 조회합니다.")
+    public Messenger findSummariesByUserId(@org.springframework.web.bind.annotation.PathVariable Long userId) {
+        return diaryService.findSummariesByUserId(userId);
+    }
+
+    @GetMapping("/user/{userId}/page")
+    @Operation(summary = "사용자별 일기 페이지 조회",
+            description = "최신순으로 limit 개씩 조회합니다. 다음 페이지는 응답의 nextCursor 를 after 로 넘깁니다. 예) after=2024-03-01,123. view=summary 면 본문 대신 발췌만 담습니다.")
+    public Messenger findPage(
+            @org.springframework.web.bind.annotation.PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "12") int limit,
+            @RequestParam(required = false) String view) {
+        return diaryService.findPage(userId, after, limit, "summary".equalsIgnoreCase(view));
+    }
+
+    @GetMapping("/user/{userId}/search")
+    @Operation(summary = "사용자별 일기 검색",
+            description = "제목/본문에서 검색어를 찾아 최신순으로 돌려줍니다. 큰따옴표로 묶으면 구 검색, from/to(yyyy-MM-dd)로 기간을 좁힙니다.")
+    public Messenger search(
+            @org.springframework.web.bind.annotation.PathVariable Long userId,
+            @RequestParam String q,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int limit) {
+        return diarySearchService.search(userId, q, from, to, limit);
+    }
+
     @PostMapping
     @Operation(summary = "일기 저장", description = "새로운 일기 정보를 저장합니다.")
     public Messenger save(@RequestBody DiaryModel diaryModel) {
@@ -0,0 +1,20 @@
+package site.aiion.api.diary;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class DiaryPageModel {
+    // DiaryModel, 요약 모드면 DiarySummaryModel
+    private List<?> diaries;
+    // 다음 페이지 요청의 after 값 ("yyyy-MM-dd,id"). 마지막 페이지면 null
+    private String nextCursor;
+    private boolean hasMore;
+}
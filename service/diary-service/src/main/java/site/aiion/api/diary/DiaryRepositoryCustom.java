@@ -1,6 +1,27 @@
 package site.aiion.api.diary;
 
+import java.time.LocalDate;
+import java.util.List;
+
 public interface DiaryRepositoryCustom {
-    
-}
 
+    /** 요약 발췌 길이(글자) */
+    int EXCERPT_LENGTH = 80;
+
+    /**
+     * 사용자의 일기를 최신순(diaryDate DESC, id DESC)으로 limit 개 조회.
+     * afterDate/afterId 가 있으면 그 일기 바로 다음(더 오래된) 것부터 읽는다 (keyset 페이지네이션)
+     */
+    List<DiaryModel> findPage(Long userId, LocalDate afterDate, Long afterId, int limit);
+
+    /**
+     * findPage 와 같은 순서/커서로 id, diaryDate, title 과 본문 앞 EXCERPT_LENGTH 자만 조회.
+     * 본문은 DB 에서 잘라서 가져오므로 긴 TEXT 를 통째로 읽지 않는다. limit 이 null 이면 전부
+     */
+    List<DiarySummaryModel> findSummaries(Long userId, LocalDate afterDate, Long afterId, Integer limit);
+
+    /**
+     * id 가 afterId 보다 큰 일기를 id 순으로 limit 개 (전체를 나눠 읽어 검색 색인을 만들 때 사용)
+     */
+    List<DiaryModel> findBatchAfter(Long afterId, int limit);
+}
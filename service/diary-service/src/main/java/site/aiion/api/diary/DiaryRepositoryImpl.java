@@ -1,10 +1,86 @@
 package site.aiion.api.diary;
 
+import static site.aiion.api.diary.QDiary.diary;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class DiaryRepositoryImpl implements DiaryRepositoryCustom {
     private final JPAQueryFactory queryFactory;
-}
 
+    @Override
+    public List<DiaryModel> findPage(Long userId, LocalDate afterDate, Long afterId, int limit) {
+        return queryFactory.select(Projections.constructor(DiaryModel.class,
+                        diary.id, diary.diaryDate, diary.title, diary.content, diary.userId))
+                .from(diary)
+                .where(timeline(userId, afterDate, afterId))
+                .orderBy(diary.diaryDate.desc(), diary.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<DiarySummaryModel> findSummaries(Long userId, LocalDate afterDate, Long afterId, Integer limit) {
+        // 잘렸는지 알 수 있도록 한 글자 더 가져온다
+        StringExpression head = diary.content.substring(0, EXCERPT_LENGTH + 1);
+        JPAQuery<Tuple> query = queryFactory.select(diary.id, diary.diaryDate, diary.title, head)
+                .from(diary)
+                .where(timeline(userId, afterDate, afterId))
+                .orderBy(diary.diaryDate.desc(), diary.id.desc());
+        if (limit != null) {
+            query.limit(limit);
+        }
+        return query.fetch().stream()
+                .map(row -> DiarySummaryModel.builder()
+                        .id(row.get(diary.id))
+                        .diaryDate(row.get(diary.diaryDate))
+                        .title(row.get(diary.title))
+                        .excerpt(excerpt(row.get(head)))
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<DiaryModel> findBatchAfter(Long afterId, int limit) {
+        return queryFactory.select(Projections.constructor(DiaryModel.class,
+                        diary.id, diary.diaryDate, diary.title, diary.content, diary.userId))
+                .from(diary)
+                .where(afterId == null ? null : diary.id.gt(afterId))
+                .orderBy(diary.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 사용자 조건과, 커서가 있으면 (diary_date, id) < (afterDate, afterId).
+    // 앞의 diary_date <= afterDate 가 색인 범위의 시작점이 된다
+    private static BooleanBuilder timeline(Long userId, LocalDate afterDate, Long afterId) {
+        BooleanBuilder where = new BooleanBuilder(diary.userId.eq(userId));
+        if (afterDate != null && afterId != null) {
+            where.and(diary.diaryDate.loe(afterDate))
+                    .and(diary.diaryDate.lt(afterDate).or(diary.id.lt(afterId)));
+        }
+        return where;
+    }
+
+    // 줄바꿈/연속 공백을 한 칸으로 접고 EXCERPT_LENGTH 자를 넘으면 말줄임표를 붙인다
+    private static String excerpt(String head) {
+        if (head == null) {
+            return null;
+        }
+        boolean truncated = head.length() > EXCERPT_LENGTH;
+        String text = head.replaceAll("\\s+", " ").strip();
+        if (text.length() > EXCERPT_LENGTH) {
+            text = text.substring(0, EXCERPT_LENGTH).stripTrailing();
+        }
+        return truncated ? text + "…" : text;
+    }
+}
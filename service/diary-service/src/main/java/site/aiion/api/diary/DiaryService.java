@@ -7,6 +7,8 @@ public interface DiaryService {
     public Messenger findById(DiaryModel diaryModel);
     public Messenger findAll();
     public Messenger findByUserId(Long userId);
+    public Messenger findSummariesByUserId(Long userId);
+    public Messenger findPage(Long userId, String after, int limit, boolean summary);
     public Messenger save(DiaryModel diaryModel);
     public Messenger saveAll(List<DiaryModel> diaryModelList);
     public Messenger update(DiaryModel diaryModel);
@@ -1,11 +1,17 @@
 package site.aiion.api.diary;
 
+import java.util.Arrays;
+
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.ComponentScan;
 
+import site.aiion.api.diary.ingest.DiaryImportRunner;
+
 @EnableDiscoveryClient
 @SpringBootApplication
 @ComponentScan(basePackages = "site.aiion.api.diary")
@@ -14,7 +20,16 @@ public class DiaryServiceApplication
 {
 
 	public static void main(String[] args) {
-		SpringApplication.run(DiaryServiceApplication.class, args);
+		// --import=파일 로 실행하면 웹 서버 없이 가져오기만 하고 종료한다 (DiaryImportRunner)
+		boolean importMode = Arrays.stream(args).anyMatch(arg -> arg.startsWith("--" + DiaryImportRunner.IMPORT_OPTION + "="));
+		SpringApplication application = new SpringApplication(DiaryServiceApplication.class);
+		if (importMode) {
+			application.setWebApplicationType(WebApplicationType.NONE);
+		}
+		ConfigurableApplicationContext context = application.run(args);
+		if (importMode) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
@@ -1,7 +1,9 @@
 package site.aiion.api.diary;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -9,13 +11,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import site.aiion.api.diary.common.domain.Messenger;
+import site.aiion.api.diary.common.transaction.AfterCommit;
+import site.aiion.api.diary.search.DiarySearchIndex;
 
 @Service
 @RequiredArgsConstructor
 @SuppressWarnings("null")
 public class DiaryServiceImpl implements DiaryService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final DiaryRepository diaryRepository;
+    private final DiarySearchIndex diarySearchIndex;
 
     private DiaryModel entityToModel(Diary entity) {
         return DiaryModel.builder()
@@ -93,6 +100,74 @@ public class DiaryServiceImpl implements DiaryService {
                 .build();
     }
 
+    @Override
+    public Messenger findSummariesByUserId(Long userId) {
+        if (userId == null) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("사용자 ID가 필요합니다.")
+                    .build();
+        }
+        List<DiarySummaryModel> summaries = diaryRepository.findSummaries(userId, null, null, null);
+        return Messenger.builder()
+                .Code(200)
+                .message("사용자별 요약 조회 성공: " + summaries.size() + "개")
+                .data(summaries)
+                .build();
+    }
+
+    @Override
+    public Messenger findPage(Long userId, String after, int limit, boolean summary) {
+        if (userId == null) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("사용자 ID가 필요합니다.")
+                    .build();
+        }
+        LocalDate afterDate = null;
+        Long afterId = null;
+        if (after != null && !after.isBlank()) {
+            // "2024-03-01,123" 또는 "(2024-03-01,123)"
+            String[] parts = after.replace("(", "").replace(")", "").split(",");
+            try {
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException();
+                }
+                afterDate = LocalDate.parse(parts[0].trim());
+                afterId = Long.parseLong(parts[1].trim());
+            } catch (RuntimeException e) {
+                return Messenger.builder()
+                        .Code(400)
+                        .message("after 는 '날짜,ID' 형식이어야 합니다. 예) 2024-03-01,123")
+                        .build();
+            }
+        }
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // 한 개 더 읽어서 다음 페이지가 있는지 본다
+        DiaryPageModel page = summary
+                ? page(diaryRepository.findSummaries(userId, afterDate, afterId, size + 1), size,
+                        DiarySummaryModel::getDiaryDate, DiarySummaryModel::getId)
+                : page(diaryRepository.findPage(userId, afterDate, afterId, size + 1), size,
+                        DiaryModel::getDiaryDate, DiaryModel::getId);
+        return Messenger.builder()
+                .Code(200)
+                .message("페이지 조회 성공: " + page.getDiaries().size() + "개")
+                .data(page)
+                .build();
+    }
+
+    // size + 1 개를 읽은 결과에서 size 개만 남기고, 넘친 게 있으면 마지막 항목으로 다음 커서를 만든다
+    private static <T> DiaryPageModel page(List<T> rows, int size, Function<T, LocalDate> date, Function<T, Long> id) {
+        boolean hasMore = rows.size() > size;
+        List<T> diaries = hasMore ? rows.subList(0, size) : rows;
+        T last = diaries.isEmpty() ? null : diaries.get(diaries.size() - 1);
+        return DiaryPageModel.builder()
+                .diaries(diaries)
+                .nextCursor(hasMore ? date.apply(last) + "," + id.apply(last) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
     @Override
     @Transactional
     public Messenger save(DiaryModel diaryModel) {
@@ -122,6 +197,7 @@ public class DiaryServiceImpl implements DiaryService {
         
         Diary saved = diaryRepository.save(entity);
         DiaryModel model = entityToModel(saved);
+        AfterCommit.run(() -> diarySearchIndex.put(model));
         return Messenger.builder()
                 .Code(200)
                 .message("저장 성공: " + saved.getId())
@@ -155,6 +231,8 @@ public class DiaryServiceImpl implements DiaryService {
                 .collect(Collectors.toList());
         
         List<Diary> saved = diaryRepository.saveAll(entities);
+        List<DiaryModel> models = saved.stream().map(this::entityToModel).toList();
+        AfterCommit.run(() -> models.forEach(diarySearchIndex::put));
         return Messenger.builder()
                 .Code(200)
                 .message("일괄 저장 성공: " + saved.size() + "개")
@@ -184,6 +262,11 @@ public class DiaryServiceImpl implements DiaryService {
             
             Diary saved = diaryRepository.save(updated);
             DiaryModel model = entityToModel(saved);
+            Long previousUserId = existing.getUserId();
+            AfterCommit.run(() -> {
+                diarySearchIndex.remove(previousUserId, model.getId());
+                diarySearchIndex.put(model);
+            });
             return Messenger.builder()
                     .Code(200)
                     .message("수정 성공: " + diaryModel.getId())
@@ -209,6 +292,8 @@ public class DiaryServiceImpl implements DiaryService {
         Optional<Diary> optionalEntity = diaryRepository.findById(diaryModel.getId());
         if (optionalEntity.isPresent()) {
             diaryRepository.deleteById(diaryModel.getId());
+            Long userId = optionalEntity.get().getUserId();
+            AfterCommit.run(() -> diarySearchIndex.remove(userId, diaryModel.getId()));
             return Messenger.builder()
                     .Code(200)
                     .message("삭제 성공: " + diaryModel.getId())
@@ -0,0 +1,25 @@
+package site.aiion.api.diary;
+
+import java.time.LocalDate;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 화면용 일기 요약. 본문 대신 앞부분 발췌만 담고, 전체 본문은 id 로 따로 조회한다.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class DiarySummaryModel {
+    private Long id;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate diaryDate;
+
+    private String title;
+    private String excerpt;
+}
@@ -0,0 +1,120 @@
+package site.aiion.api.diary.ingest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 를 한 레코드씩 읽는 스트리밍 파서.
+ * 따옴표로 감싼 필드 안의 쉼표/줄바꿈과 "" 이스케이프를 처리하며, 파일 전체를 메모리에 올리지 않는다.
+ */
+public class CsvReader {
+
+    private static final char BOM = '﻿';
+
+    private final Reader reader;
+    private int peeked = -2;
+    private long line = 1;
+    private long recordLine;
+    private boolean first = true;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드를 읽는다. 입력이 끝나면 null.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (first) {
+            first = false;
+            if (c == BOM) {
+                c = read();
+            }
+        }
+        // 빈 줄은 건너뛴다
+        while (c == '\r' || c == '\n') {
+            skipNewline(c);
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int previous = -1;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException(recordLine + "행: 닫히지 않은 따옴표");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    // 따옴표 안의 줄바꿈도 \r\n, \r, \n 을 각각 한 줄로 센다
+                    if (c == '\r' || (c == '\n' && previous != '\r')) {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+                previous = c;
+                c = read();
+                continue;
+            }
+            if (c == -1 || c == '\r' || c == '\n') {
+                fields.add(field.toString());
+                if (c != -1) {
+                    skipNewline(c);
+                }
+                return fields;
+            }
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 시작된 행 번호 (1부터).
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    // \r\n, \r, \n 을 한 줄바꿈으로 소비한다
+    private void skipNewline(int c) throws IOException {
+        line++;
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                peeked = next;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
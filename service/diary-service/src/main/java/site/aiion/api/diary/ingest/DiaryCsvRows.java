@@ -0,0 +1,131 @@
+package site.aiion.api.diary.ingest;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import site.aiion.api.diary.DiaryModel;
+
+/**
+ * 일기 CSV 헤더를 읽어 레코드를 DiaryModel 로 바꾼다. (nanjung.csv: localdate,title,content,userId)
+ * 날짜는 엑셀이 붙이는 앞의 ' 를 떼고 yyyy-MM-dd, yyyy.MM.dd, yyyy/MM/dd, yyyyMMdd 를 받는다.
+ */
+public final class DiaryCsvRows {
+
+    static final int TITLE_MAX_LENGTH = 200;
+
+    private static final List<String> DATE_COLUMNS = List.of("localdate", "diarydate", "diary_date", "date");
+    private static final List<String> USER_COLUMNS = List.of("userid", "user_id");
+    private static final Pattern DATE = Pattern.compile("(\\d{4})[-./](\\d{1,2})[-./](\\d{1,2})\\.?|(\\d{4})(\\d{2})(\\d{2})");
+
+    private final int date;
+    private final int title;
+    private final int content;
+    private final int user;
+    private final int columns;
+
+    /**
+     * 변환 결과. diary 와 error 중 하나만 있다
+     */
+    public record Row(DiaryModel diary, String error) {
+    }
+
+    private DiaryCsvRows(List<String> header) {
+        this.date = indexOf(header, DATE_COLUMNS);
+        this.title = indexOf(header, List.of("title"));
+        this.content = indexOf(header, List.of("content"));
+        this.user = indexOf(header, USER_COLUMNS);
+        this.columns = header.size();
+    }
+
+    /**
+     * 날짜 컬럼이 없으면 IllegalArgumentException
+     */
+    public static DiaryCsvRows of(List<String> header) {
+        DiaryCsvRows rows = new DiaryCsvRows(header);
+        if (rows.date < 0) {
+            throw new IllegalArgumentException("날짜 컬럼(" + String.join("/", DATE_COLUMNS) + ")이 헤더에 없습니다.");
+        }
+        return rows;
+    }
+
+    /**
+     * userId 가 있으면 모든 행을 그 사용자 일기로, 없으면 userId 컬럼 값을 쓴다
+     */
+    public Row map(List<String> record, Long userId) {
+        if (record.size() != columns) {
+            return reject("컬럼 수가 헤더와 다릅니다 (" + record.size() + " / " + columns + ")");
+        }
+        String rawDate = record.get(date);
+        LocalDate diaryDate = parseDate(rawDate);
+        if (diaryDate == null) {
+            return reject("날짜 형식 오류: " + rawDate.strip());
+        }
+        Long owner = userId;
+        if (owner == null) {
+            String rawUser = user < 0 ? "" : record.get(user).strip();
+            try {
+                owner = rawUser.isEmpty() ? null : Long.valueOf(rawUser);
+            } catch (NumberFormatException e) {
+                return reject("사용자 ID 형식 오류: " + rawUser);
+            }
+            if (owner == null) {
+                return reject("사용자 ID는 필수 값입니다.");
+            }
+        }
+        String titleValue = title < 0 ? null : emptyToNull(record.get(title).strip());
+        if (titleValue != null && titleValue.length() > TITLE_MAX_LENGTH) {
+            return reject("제목은 " + TITLE_MAX_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        return new Row(DiaryModel.builder()
+                .diaryDate(diaryDate)
+                .title(titleValue)
+                .content(content < 0 ? null : emptyToNull(record.get(content).strip()))
+                .userId(owner)
+                .build(), null);
+    }
+
+    /**
+     * 알아볼 수 없거나 없는 날짜면 null
+     */
+    public static LocalDate parseDate(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String value = raw.strip();
+        while (value.startsWith("'")) {
+            value = value.substring(1).strip();
+        }
+        Matcher m = DATE.matcher(value);
+        if (!m.matches()) {
+            return null;
+        }
+        int g = m.group(1) != null ? 1 : 4;
+        try {
+            return LocalDate.of(Integer.parseInt(m.group(g)), Integer.parseInt(m.group(g + 1)),
+                    Integer.parseInt(m.group(g + 2)));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static int indexOf(List<String> header, List<String> names) {
+        for (int i = 0; i < header.size(); i++) {
+            if (names.contains(header.get(i).strip().toLowerCase(Locale.ROOT))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Row reject(String error) {
+        return new Row(null, error);
+    }
+}
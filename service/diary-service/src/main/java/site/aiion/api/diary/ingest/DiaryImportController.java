@@ -0,0 +1,58 @@
+package site.aiion.api.diary.ingest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일기 CSV 대량 가져오기. 본문을 스트리밍으로 읽고, 진행 상황과 행별 오류를 NDJSON(application/x-ndjson) 으로
+ * 한 줄씩 흘려보낸 뒤 마지막 줄에 요약을 보낸다.
+ * 예) curl -X POST -H 'Content-Type: text/csv' --data-binary @nanjung.csv '/diaries/import?userId=1'
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/diaries/import")
+@Tag(name = "01. Diary", description = "일기 관리 기능")
+public class DiaryImportController {
+
+    private final DiaryImportService diaryImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping
+    @Operation(summary = "일기 CSV 가져오기",
+            description = "localdate,title,content,userId 형식의 CSV 를 가져옵니다. userId 를 주면 모든 행을 그 사용자 일기로 저장합니다.")
+    public void importCsv(
+            @RequestParam(required = false) Long userId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType("application/x-ndjson");
+        OutputStream out = response.getOutputStream();
+        ImportEvent summary = diaryImportService.importCsv(request.getInputStream(), userId, true, event -> write(out, event));
+        write(out, summary);
+    }
+
+    private void write(OutputStream out, ImportEvent event) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(event));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package site.aiion.api.diary.ingest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 명령줄 가져오기. --import=파일[,파일...] 로 실행하면 웹 서버 없이 파일을 차례로 가져오고 종료한다.
+ * --user-id=1 을 주면 모든 행을 그 사용자 일기로 저장한다. 오류 행이 하나라도 있으면 종료 코드 1.
+ * 예) java -jar diary-service.jar --import=nanjung.csv --user-id=1
+ */
+@Component
+@RequiredArgsConstructor
+public class DiaryImportRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    public static final String IMPORT_OPTION = "import";
+    private static final String USER_OPTION = "user-id";
+    private static final Logger logger = LoggerFactory.getLogger(DiaryImportRunner.class);
+
+    private final DiaryImportService diaryImportService;
+    private int exitCode;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!args.containsOption(IMPORT_OPTION)) {
+            return;
+        }
+        List<String> users = args.getOptionValues(USER_OPTION);
+        Long userId = users == null || users.isEmpty() ? null : Long.valueOf(users.get(0));
+        for (String value : args.getOptionValues(IMPORT_OPTION)) {
+            for (String file : value.split(",")) {
+                Path path = Path.of(file.strip());
+                logger.info("일기 가져오기 시작: {}", path);
+                ImportEvent summary;
+                // 명령줄 실행은 곧 종료되므로 검색 색인에는 넣지 않는다
+                try (InputStream in = Files.newInputStream(path)) {
+                    summary = diaryImportService.importCsv(in, userId, false, this::log);
+                }
+                logger.info("{}: {}행, {}건 저장, {}건 오류, {}ms ({}행/초)", path, summary.getRows(), summary.getSaved(),
+                        summary.getErrors(), summary.getElapsedMs(), summary.getRowsPerSecond());
+                if (summary.getErrors() > 0) {
+                    exitCode = 1;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private void log(ImportEvent event) {
+        if ("error".equals(event.getEvent())) {
+            if (event.getLine() == null) {
+                logger.warn(event.getMessage());
+            } else {
+                logger.warn("{}행: {}", event.getLine(), event.getMessage());
+            }
+        } else {
+            logger.info("{}행 읽음, {}건 저장, {}건 오류 ({}행/초)", event.getRows(), event.getSaved(), event.getErrors(),
+                    event.getRowsPerSecond());
+        }
+    }
+}
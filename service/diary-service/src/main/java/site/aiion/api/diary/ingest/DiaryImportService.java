@@ -0,0 +1,9 @@
+package site.aiion.api.diary.ingest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface DiaryImportService {
+    public ImportEvent importCsv(InputStream body, Long userId, boolean indexRows, Consumer<ImportEvent> listener) throws IOException;
+}
@@ -0,0 +1,217 @@
+package site.aiion.api.diary.ingest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import site.aiion.api.diary.DiaryModel;
+import site.aiion.api.diary.search.DiarySearchIndex;
+
+/**
+ * 일기 CSV 를 한 레코드씩 읽어 검증하고, chunk 크기만큼 모일 때마다 한 트랜잭션에서 JDBC batch insert 로 저장한다.
+ * 다음 레코드는 앞 chunk 저장이 끝난 뒤에 읽으므로 메모리에는 항상 chunk 하나만 남는다.
+ * chunk 저장이 실패하면 한 행씩 다시 저장해서 실패한 행만 원본 행 번호로 오류를 남긴다.
+ * id 가 IDENTITY 라 JPA 로는 batch 가 되지 않아서 JdbcTemplate 으로 바로 쓰고, 돌려받은 id 로 검색 색인에 넣는다.
+ */
+@Service
+public class DiaryImportServiceImpl implements DiaryImportService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO diaries (diary_date, title, content, user_id) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DiarySearchIndex diarySearchIndex;
+    private final int chunkSize;
+
+    public DiaryImportServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  DiarySearchIndex diarySearchIndex,
+                                  @Value("${diary.ingest.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.diarySearchIndex = diarySearchIndex;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public ImportEvent importCsv(InputStream body, Long userId, boolean indexRows, Consumer<ImportEvent> listener) throws IOException {
+        long start = System.nanoTime();
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+        DiaryCsvRows mapper;
+        try {
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                return done(0, 0, 0, start);
+            }
+            mapper = DiaryCsvRows.of(header);
+        } catch (IOException | IllegalArgumentException e) {
+            listener.accept(error(1L, "헤더 오류: " + e.getMessage()));
+            return done(0, 0, 1, start);
+        }
+
+        List<DiaryModel> batch = new ArrayList<>(chunkSize);
+        List<Long> batchLines = new ArrayList<>(chunkSize);
+        long rows = 0;
+        long saved = 0;
+        long errors = 0;
+        List<String> record;
+        while ((record = nextRecord(csv, listener)) != null) {
+            rows++;
+            DiaryCsvRows.Row row = mapper.map(record, userId);
+            if (row.error() != null) {
+                errors++;
+                listener.accept(error(csv.getRecordLine(), row.error()));
+                continue;
+            }
+            batch.add(row.diary());
+            batchLines.add(csv.getRecordLine());
+            if (batch.size() == chunkSize) {
+                long written = flush(batch, batchLines, indexRows, listener);
+                saved += written;
+                errors += chunkSize - written;
+                listener.accept(progress(rows, saved, errors, start));
+            }
+        }
+        if (!batch.isEmpty()) {
+            int size = batch.size();
+            long written = flush(batch, batchLines, indexRows, listener);
+            saved += written;
+            errors += size - written;
+        }
+        return done(rows, saved, errors, start);
+    }
+
+    // CSV 문법 오류(닫히지 않은 따옴표 등)는 이후 레코드를 신뢰할 수 없으므로 거기서 멈춘다
+    private List<String> nextRecord(CsvReader csv, Consumer<ImportEvent> listener) {
+        try {
+            return csv.readRecord();
+        } catch (IOException e) {
+            listener.accept(error(null, "읽기 중단: " + e.getMessage()));
+            return null;
+        }
+    }
+
+    // chunk 저장에 실패하면 (실패한 chunk 는 롤백되므로) 한 행씩 다시 저장해서 문제 행만 골라낸다. 저장된 행 수를 반환
+    private long flush(List<DiaryModel> batch, List<Long> lines, boolean indexRows, Consumer<ImportEvent> listener) {
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> insert(batch));
+            for (int i = 0; i < batch.size(); i++) {
+                indexSaved(batch.get(i), ids.get(i), indexRows);
+            }
+            return batch.size();
+        } catch (RuntimeException batchError) {
+            long written = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                List<DiaryModel> single = List.of(batch.get(i));
+                try {
+                    List<Long> ids = transactionTemplate.execute(status -> insert(single));
+                    indexSaved(batch.get(i), ids.get(0), indexRows);
+                    written++;
+                } catch (RuntimeException e) {
+                    listener.accept(error(lines.get(i), "저장 실패: " + e.getMessage()));
+                }
+            }
+            return written;
+        } finally {
+            batch.clear();
+            lines.clear();
+        }
+    }
+
+    private void indexSaved(DiaryModel diary, Long id, boolean indexRows) {
+        if (indexRows) {
+            diary.setId(id);
+            diarySearchIndex.put(diary);
+        }
+    }
+
+    // 생성된 id 를 입력 순서대로 돌려준다
+    private List<Long> insert(List<DiaryModel> batch) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        DiaryModel diary = batch.get(i);
+                        ps.setDate(1, Date.valueOf(diary.getDiaryDate()));
+                        ps.setString(2, diary.getTitle());
+                        if (diary.getContent() == null) {
+                            ps.setNull(3, Types.VARCHAR);
+                        } else {
+                            ps.setString(3, diary.getContent());
+                        }
+                        ps.setLong(4, diary.getUserId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keys);
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (Map<String, Object> key : keys.getKeyList()) {
+            ids.add(((Number) key.get("id")).longValue());
+        }
+        return ids;
+    }
+
+    private static ImportEvent progress(long rows, long saved, long errors, long start) {
+        long elapsedMs = elapsedMs(start);
+        return ImportEvent.builder()
+                .event("progress")
+                .rows(rows)
+                .saved(saved)
+                .errors(errors)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(rowsPerSecond(saved, elapsedMs))
+                .build();
+    }
+
+    private static ImportEvent done(long rows, long saved, long errors, long start) {
+        long elapsedMs = elapsedMs(start);
+        return ImportEvent.builder()
+                .event("done")
+                .rows(rows)
+                .saved(saved)
+                .errors(errors)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(rowsPerSecond(saved, elapsedMs))
+                .message("가져오기 완료: " + saved + "건 저장, " + errors + "건 오류")
+                .build();
+    }
+
+    private static ImportEvent error(Long line, String message) {
+        return ImportEvent.builder()
+                .event("error")
+                .line(line)
+                .message(message)
+                .build();
+    }
+
+    private static long rowsPerSecond(long saved, long elapsedMs) {
+        return saved * 1000 / Math.max(1, elapsedMs);
+    }
+
+    private static long elapsedMs(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,30 @@
+package site.aiion.api.diary.ingest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 가져오기 진행 상황 한 줄 (NDJSON 응답).
+ * event 는 progress(chunk 저장 완료), error(행/chunk 오류), done(요약) 중 하나.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportEvent {
+    private String event;
+    private Long line;
+    private Long rows;
+    private Long saved;
+    private Long errors;
+    private Long elapsedMs;
+    private Long rowsPerSecond;
+    private String message;
+}
@@ -0,0 +1,23 @@
+package site.aiion.api.diary.search;
+
+import java.time.LocalDate;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class DiarySearchHitModel {
+    private Long id;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate diaryDate;
+
+    private String title;
+    // 첫 일치 주변 본문. HTML 이스케이프되어 있고 일치한 부분은 <mark> 로 감싼다
+    private String snippet;
+}
@@ -0,0 +1,252 @@
+package site.aiion.api.diary.search;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import site.aiion.api.diary.DiaryModel;
+
+/**
+ * 사용자별 역색인. 사용자마다 일기에 순번(ordinal)을 매기고, 토큰마다 그 토큰이 나온 순번 목록(오름차순 int 배열)을 둔다.
+ * 새 일기는 항상 가장 큰 순번을 받으므로 목록 끝에 붙이기만 하면 정렬이 유지된다.
+ * 수정은 기존 순번을 지운 것으로 표시하고 새 순번으로 다시 넣고, 지운 순번이 쌓이면 그 사용자 목록만 압축한다.
+ * 색인에는 본문을 두지 않는다. 후보는 bigram 이 모두 나온 일기일 뿐이라 서비스가 본문을 읽어 확정한다.
+ */
+@Component
+public class DiarySearchIndex {
+
+    private final Map<Long, UserIndex> users = new ConcurrentHashMap<>();
+
+    public void clear() {
+        users.clear();
+    }
+
+    /**
+     * 일기를 넣는다. 같은 id 가 이미 있으면 바꾼다
+     */
+    public void put(DiaryModel diary) {
+        if (diary.getId() == null || diary.getUserId() == null) {
+            return;
+        }
+        users.computeIfAbsent(diary.getUserId(), k -> new UserIndex()).put(diary);
+    }
+
+    public void remove(Long userId, Long id) {
+        UserIndex index = userId == null ? null : users.get(userId);
+        if (index != null) {
+            index.remove(id);
+        }
+    }
+
+    public int size(Long userId) {
+        UserIndex index = users.get(userId);
+        return index == null ? 0 : index.live();
+    }
+
+    /**
+     * tokens 가 모두 나온 일기 중 [from, to] 안의 것을 최신순(날짜, id 내림차순) id 로.
+     * 한 글자 토큰은 그 글자를 포함한 모든 bigram 의 합집합으로 찾는다
+     */
+    public List<Long> candidates(Long userId, Set<String> tokens, LocalDate from, LocalDate to) {
+        UserIndex index = users.get(userId);
+        if (index == null || tokens.isEmpty()) {
+            return List.of();
+        }
+        return index.candidates(tokens, from == null ? Long.MIN_VALUE : from.toEpochDay(),
+                to == null ? Long.MAX_VALUE : to.toEpochDay());
+    }
+
+    /**
+     * 늘어나는 int 배열 (순번 목록)
+     */
+    private static final class Postings {
+        int[] values = new int[4];
+        int size;
+
+        void add(int ordinal) {
+            if (size > 0 && values[size - 1] == ordinal) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ordinal;
+        }
+    }
+
+    private static final class UserIndex {
+        private static final int MIN_COMPACT = 64;
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<Long, Integer> ordinalById = new HashMap<>();
+        // 순번별 일기 id 와 날짜(epoch day). 지운 순번은 deleted 에 표시
+        private long[] ids = new long[16];
+        private long[] days = new long[16];
+        private final BitSet deleted = new BitSet();
+        private int size;
+        private int deletedCount;
+
+        void put(DiaryModel diary) {
+            Set<String> tokens = HangulBigrams.tokens(diary.getTitle());
+            tokens.addAll(HangulBigrams.tokens(diary.getContent()));
+            lock.writeLock().lock();
+            try {
+                markDeleted(diary.getId());
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                    days = Arrays.copyOf(days, size * 2);
+                }
+                int ordinal = size++;
+                ids[ordinal] = diary.getId();
+                days[ordinal] = diary.getDiaryDate() == null ? Long.MIN_VALUE : diary.getDiaryDate().toEpochDay();
+                ordinalById.put(diary.getId(), ordinal);
+                for (String token : tokens) {
+                    postings.computeIfAbsent(token, k -> new Postings()).add(ordinal);
+                }
+                compactIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long id) {
+            lock.writeLock().lock();
+            try {
+                markDeleted(id);
+                compactIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int live() {
+            lock.readLock().lock();
+            try {
+                return size - deletedCount;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Long> candidates(Set<String> tokens, long fromDay, long toDay) {
+            lock.readLock().lock();
+            try {
+                BitSet matched = null;
+                // 짧은 목록부터 교집합을 구해서 빨리 비면 멈춘다
+                List<BitSet> requirements = new ArrayList<>(tokens.size());
+                for (String token : tokens) {
+                    BitSet bits = bitsOf(token);
+                    if (bits.isEmpty()) {
+                        return List.of();
+                    }
+                    requirements.add(bits);
+                }
+                requirements.sort((a, b) -> Integer.compare(a.cardinality(), b.cardinality()));
+                for (BitSet bits : requirements) {
+                    if (matched == null) {
+                        matched = (BitSet) bits.clone();
+                    } else {
+                        matched.and(bits);
+                    }
+                    if (matched.isEmpty()) {
+                        return List.of();
+                    }
+                }
+                matched.andNot(deleted);
+
+                List<Integer> ordinals = new ArrayList<>(matched.cardinality());
+                for (int o = matched.nextSetBit(0); o >= 0; o = matched.nextSetBit(o + 1)) {
+                    if (days[o] >= fromDay && days[o] <= toDay) {
+                        ordinals.add(o);
+                    }
+                }
+                ordinals.sort((a, b) -> days[a] != days[b] ? Long.compare(days[b], days[a]) : Long.compare(ids[b], ids[a]));
+                List<Long> result = new ArrayList<>(ordinals.size());
+                for (int o : ordinals) {
+                    result.add(ids[o]);
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private BitSet bitsOf(String token) {
+            BitSet bits = new BitSet(size);
+            if (token.length() == 1 && HangulBigrams.isBigramChar(token.charAt(0))) {
+                char c = token.charAt(0);
+                for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+                    String key = entry.getKey();
+                    if (key.length() <= 2 && key.indexOf(c) >= 0 && HangulBigrams.isBigramChar(key.charAt(0))) {
+                        set(bits, entry.getValue());
+                    }
+                }
+                return bits;
+            }
+            Postings list = postings.get(token);
+            if (list != null) {
+                set(bits, list);
+            }
+            return bits;
+        }
+
+        private static void set(BitSet bits, Postings list) {
+            for (int i = 0; i < list.size; i++) {
+                bits.set(list.values[i]);
+            }
+        }
+
+        private void markDeleted(Long id) {
+            Integer old = ordinalById.remove(id);
+            if (old != null && !deleted.get(old)) {
+                deleted.set(old);
+                deletedCount++;
+            }
+        }
+
+        // 지운 순번이 전체의 1/4 을 넘으면 남은 순번을 앞으로 당기고 목록을 다시 쓴다 (순서는 그대로)
+        private void compactIfNeeded() {
+            if (deletedCount <= Math.max(MIN_COMPACT, size / 4)) {
+                return;
+            }
+            int[] remap = new int[size];
+            int next = 0;
+            for (int o = 0; o < size; o++) {
+                if (deleted.get(o)) {
+                    remap[o] = -1;
+                } else {
+                    remap[o] = next;
+                    ids[next] = ids[o];
+                    days[next] = days[o];
+                    ordinalById.put(ids[next], next);
+                    next++;
+                }
+            }
+            postings.values().removeIf(list -> {
+                int kept = 0;
+                for (int i = 0; i < list.size; i++) {
+                    int mapped = remap[list.values[i]];
+                    if (mapped >= 0) {
+                        list.values[kept++] = mapped;
+                    }
+                }
+                list.size = kept;
+                return kept == 0;
+            });
+            size = next;
+            deleted.clear();
+            deletedCount = 0;
+        }
+    }
+}
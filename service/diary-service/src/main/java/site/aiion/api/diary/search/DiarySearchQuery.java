@@ -0,0 +1,76 @@
+package site.aiion.api.diary.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어 해석. 큰따옴표로 묶은 부분은 구(띄어쓰기까지 그대로 나와야 함), 나머지는 공백으로 나눈 낱말이며 모두 AND.
+ * 예) 어머니 "꿈에 보았다" → 낱말 [어머니], 구 [꿈에 보았다]
+ */
+final class DiarySearchQuery {
+
+    private static final Pattern PART = Pattern.compile("\"([^\"]*)\"|(\\S+)");
+    static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 본문에 그대로 나와야 하는 문자열(소문자, 공백 한 칸으로 정리). 긴 것부터
+    final List<String> needles;
+    // 색인에서 모두 있어야 하는 토큰
+    final Set<String> tokens;
+
+    private DiarySearchQuery(List<String> needles, Set<String> tokens) {
+        this.needles = needles;
+        this.tokens = tokens;
+    }
+
+    static DiarySearchQuery parse(String q) {
+        Set<String> needles = new LinkedHashSet<>();
+        Set<String> tokens = new LinkedHashSet<>();
+        Matcher matcher = PART.matcher(q == null ? "" : q);
+        while (matcher.find()) {
+            String part = normalize(matcher.group(1) != null ? matcher.group(1) : matcher.group(2));
+            // 따옴표 등 토큰이 하나도 없는 낱말은 버린다
+            Set<String> partTokens = HangulBigrams.tokens(part);
+            if (!partTokens.isEmpty()) {
+                needles.add(part);
+                tokens.addAll(partTokens);
+            }
+        }
+        List<String> ordered = new ArrayList<>(needles);
+        ordered.sort(Comparator.comparingInt(String::length).reversed());
+        return new DiarySearchQuery(List.copyOf(ordered), tokens);
+    }
+
+    boolean isEmpty() {
+        return needles.isEmpty();
+    }
+
+    /**
+     * 제목이나 본문에 모든 낱말/구가 들어 있는지 (색인 후보는 bigram 만 맞은 것이라 여기서 확정한다)
+     */
+    boolean matches(String title, String content) {
+        String normalizedTitle = normalize(title);
+        String normalizedContent = normalize(content);
+        for (String needle : needles) {
+            if (!normalizedTitle.contains(needle) && !normalizedContent.contains(needle)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 소문자로 바꾸고 줄바꿈/연속 공백을 한 칸으로
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(text).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+    }
+}
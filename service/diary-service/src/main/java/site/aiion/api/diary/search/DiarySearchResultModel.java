@@ -0,0 +1,21 @@
+package site.aiion.api.diary.search;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class DiarySearchResultModel {
+    private List<DiarySearchHitModel> hits;
+    // 색인에서 모든 bigram 이 나온 일기 수 (실제 일치 수의 상한)
+    private int candidates;
+    // 확인하지 않은 후보가 남아 있으면 true
+    private boolean hasMore;
+    private long elapsedMs;
+}
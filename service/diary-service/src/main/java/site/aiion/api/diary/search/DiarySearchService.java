@@ -0,0 +1,9 @@
+package site.aiion.api.diary.search;
+
+import java.time.LocalDate;
+
+import site.aiion.api.diary.common.domain.Messenger;
+
+public interface DiarySearchService {
+    public Messenger search(Long userId, String q, LocalDate from, LocalDate to, int limit);
+}
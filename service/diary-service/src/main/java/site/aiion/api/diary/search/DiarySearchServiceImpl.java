@@ -0,0 +1,129 @@
+package site.aiion.api.diary.search;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.diary.Diary;
+import site.aiion.api.diary.DiaryModel;
+import site.aiion.api.diary.DiaryRepository;
+import site.aiion.api.diary.common.domain.Messenger;
+
+/**
+ * 사용자 본인 일기 검색. 역색인으로 후보 id 를 최신순으로 얻고, 후보를 묶음으로 읽어 낱말/구가 실제로 있는지 확인하며
+ * limit 개를 채우면 멈춘다. 확인에 쓰는 본문만 DB 에서 읽으므로 전체 일기를 내려받지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DiarySearchServiceImpl implements DiarySearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiarySearchServiceImpl.class);
+    private static final int BUILD_BATCH = 1000;
+
+    private final DiaryRepository diaryRepository;
+    private final DiarySearchIndex diarySearchIndex;
+
+    @Value("${diary.search.max-limit:50}")
+    private int maxLimit;
+
+    @Value("${diary.search.snippet-radius:40}")
+    private int snippetRadius;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex(ApplicationReadyEvent event) {
+        // 명령줄 가져오기(웹 서버 없음)는 검색을 받지 않으므로 색인을 만들지 않는다
+        if (event.getSpringApplication().getWebApplicationType() == WebApplicationType.NONE) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        diarySearchIndex.clear();
+        int count = 0;
+        Long afterId = null;
+        while (true) {
+            List<DiaryModel> batch = diaryRepository.findBatchAfter(afterId, BUILD_BATCH);
+            if (batch.isEmpty()) {
+                break;
+            }
+            batch.forEach(diarySearchIndex::put);
+            count += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        logger.info("일기 검색 색인 구성 완료: {}개, {}ms", count, System.currentTimeMillis() - started);
+    }
+
+    @Override
+    public Messenger search(Long userId, String q, LocalDate from, LocalDate to, int limit) {
+        if (userId == null) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("사용자 ID가 필요합니다.")
+                    .build();
+        }
+        DiarySearchQuery query = DiarySearchQuery.parse(q);
+        if (query.isEmpty()) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("검색어를 입력해주세요.")
+                    .build();
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("from 이 to 보다 늦을 수 없습니다.")
+                    .build();
+        }
+        long started = System.currentTimeMillis();
+        int size = Math.max(1, Math.min(limit, maxLimit));
+        List<Long> candidates = diarySearchIndex.candidates(userId, query.tokens, from, to);
+
+        List<DiarySearchHitModel> hits = new ArrayList<>(size);
+        int checked = 0;
+        // 후보 대부분이 실제로 일치하므로 조금 넉넉히 읽는다
+        int batchSize = Math.max(size * 2, 16);
+        while (hits.size() < size && checked < candidates.size()) {
+            List<Long> batch = candidates.subList(checked, Math.min(checked + batchSize, candidates.size()));
+            Map<Long, Diary> loaded = diaryRepository.findAllById(batch).stream()
+                    .collect(Collectors.toMap(Diary::getId, Function.identity()));
+            for (Long id : batch) {
+                checked++;
+                Diary diary = loaded.get(id);
+                // 색인 후 지워졌거나 다른 사용자로 옮겨진 일기는 건너뛴다
+                if (diary == null || !userId.equals(diary.getUserId())
+                        || !query.matches(diary.getTitle(), diary.getContent())) {
+                    continue;
+                }
+                hits.add(DiarySearchHitModel.builder()
+                        .id(diary.getId())
+                        .diaryDate(diary.getDiaryDate())
+                        .title(diary.getTitle())
+                        .snippet(DiarySnippets.build(diary.getContent(), query.needles, snippetRadius))
+                        .build());
+                if (hits.size() == size) {
+                    break;
+                }
+            }
+        }
+        return Messenger.builder()
+                .Code(200)
+                .message("일기 검색: " + hits.size() + "개")
+                .data(DiarySearchResultModel.builder()
+                        .hits(hits)
+                        .candidates(candidates.size())
+                        .hasMore(checked < candidates.size())
+                        .elapsedMs(System.currentTimeMillis() - started)
+                        .build())
+                .build();
+    }
+}
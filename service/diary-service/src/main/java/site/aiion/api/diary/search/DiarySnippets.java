@@ -0,0 +1,90 @@
+package site.aiion.api.diary.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 결과 발췌. 본문(공백 정리)에서 처음 일치한 곳 앞뒤 radius 자를 잘라 HTML 이스케이프하고,
+ * 그 안의 모든 일치를 긴 검색어부터 겹치지 않게 <mark> 로 감싼다.
+ */
+final class DiarySnippets {
+
+    private DiarySnippets() {
+    }
+
+    static String build(String content, List<String> needles, int radius) {
+        String text = content == null ? "" : DiarySearchQuery.WHITESPACE.matcher(content).replaceAll(" ").strip();
+        String lower = text.toLowerCase(Locale.ROOT);
+        // 소문자 변환으로 길이가 바뀌는 문자가 있으면 위치를 맞출 수 없으므로 강조 없이 앞부분만
+        boolean aligned = lower.length() == text.length();
+
+        int first = -1;
+        int firstLength = 0;
+        if (aligned) {
+            for (String needle : needles) {
+                int at = lower.indexOf(needle);
+                if (at >= 0 && (first < 0 || at < first)) {
+                    first = at;
+                    firstLength = needle.length();
+                }
+            }
+        }
+        // 제목에만 일치했으면 본문 앞부분
+        int start = first < 0 ? 0 : Math.max(0, first - radius);
+        int end = Math.min(text.length(), first < 0 ? radius * 2 : first + firstLength + radius);
+
+        boolean[] marked = new boolean[end - start];
+        if (aligned) {
+            String window = lower.substring(start, end);
+            for (String needle : needles) {
+                for (int at = window.indexOf(needle); at >= 0; at = window.indexOf(needle, at + 1)) {
+                    if (free(marked, at, needle.length())) {
+                        Arrays.fill(marked, at, at + needle.length(), true);
+                    }
+                }
+            }
+        }
+
+        StringBuilder snippet = new StringBuilder(end - start + 32);
+        if (start > 0) {
+            snippet.append('…');
+        }
+        for (int i = start; i < end; i++) {
+            boolean on = marked[i - start];
+            if (on && (i == start || !marked[i - start - 1])) {
+                snippet.append("<mark>");
+            }
+            escape(snippet, text.charAt(i));
+            if (on && (i + 1 == end || !marked[i - start + 1])) {
+                snippet.append("</mark>");
+            }
+        }
+        if (end < text.length()) {
+            snippet.append('…');
+        }
+        return snippet.toString();
+    }
+
+    private static boolean free(boolean[] marked, int from, int length) {
+        if (from + length > marked.length) {
+            return false;
+        }
+        for (int i = from; i < from + length; i++) {
+            if (marked[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void escape(StringBuilder out, char c) {
+        switch (c) {
+            case '<' -> out.append("&lt;");
+            case '>' -> out.append("&gt;");
+            case '&' -> out.append("&amp;");
+            case '"' -> out.append("&quot;");
+            default -> out.append(c);
+        }
+    }
+}
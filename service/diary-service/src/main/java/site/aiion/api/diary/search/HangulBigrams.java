@@ -0,0 +1,57 @@
+package site.aiion.api.diary.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 일기 제목/본문 토큰화.
+ * 한글 음절과 한자는 이어진 구간마다 두 글자씩 겹쳐 자른다("어머니" → "어머", "머니"). 한 글자 구간은 그 글자 하나.
+ * 조사가 붙어도("어머니를") 같은 bigram 이 나오므로 형태소 분석 없이 부분 일치 후보를 찾을 수 있다.
+ * 그 밖의 문자/숫자 구간(영문, 숫자)은 소문자로 바꾼 단어 하나가 토큰이다.
+ */
+final class HangulBigrams {
+
+    private HangulBigrams() {
+    }
+
+    static Set<String> tokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isBigramChar(c)) {
+                int start = i;
+                while (i < length && isBigramChar(text.charAt(i))) {
+                    i++;
+                }
+                if (i - start == 1) {
+                    tokens.add(String.valueOf(c));
+                }
+                for (int j = start; j + 1 < i; j++) {
+                    tokens.add(text.substring(j, j + 2));
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isBigramChar(text.charAt(i))) {
+                    i++;
+                }
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 한글 음절(가-힣) 또는 CJK 통합 한자
+     */
+    static boolean isBigramChar(char c) {
+        return (c >= '가' && c <= '힣') || (c >= '一' && c <= '鿿');
+    }
+}
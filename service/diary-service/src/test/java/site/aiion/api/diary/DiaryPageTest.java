@@ -0,0 +1,159 @@
+package site.aiion.api.diary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import site.aiion.api.diary.common.domain.Messenger;
+import site.aiion.api.diary.config.QuerydslConfig;
+import site.aiion.api.diary.search.DiarySearchIndex;
+
+/**
+ * (diary_date, id) keyset 커서로 페이지를 넘길 때 같은 날짜 일기가 여러 개여도 빠지거나 겹치는 행이 없는지,
+ * 마지막 페이지/잘못된 커서/페이지 크기 상한을 맞게 처리하는지 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import({ DiaryServiceImpl.class, DiarySearchIndex.class, QuerydslConfig.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class DiaryPageTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DiaryService diaryService;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    private final List<Diary> timeline = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 날짜가 뒤섞인 순서로 넣어서 id 순서와 날짜 순서가 다르게 한다. 같은 날짜가 2~3개씩 있다
+        int[] days = { 3, 1, 3, 2, 1, 3, 2, 2, 1 };
+        for (int i = 0; i < days.length; i++) {
+            LocalDate date = LocalDate.of(1592, 2, days[i]);
+            timeline.add(em.persist(Diary.builder().diaryDate(date).title("일기" + i).content("본문" + i)
+                    .userId(USER_ID).build()));
+            em.persist(Diary.builder().diaryDate(date).title("남의 일기" + i).userId(OTHER_USER_ID).build());
+        }
+        em.flush();
+        em.clear();
+        timeline.sort(Comparator.comparing(Diary::getDiaryDate).thenComparing(Diary::getId).reversed());
+    }
+
+    private DiaryPageModel page(String after, int limit) {
+        Messenger messenger = diaryService.findPage(USER_ID, after, limit, false);
+        assertThat(messenger.getCode()).isEqualTo(200);
+        return (DiaryPageModel) messenger.getData();
+    }
+
+    private static List<Long> ids(DiaryPageModel page) {
+        return page.getDiaries().stream().map(diary -> ((DiaryModel) diary).getId()).toList();
+    }
+
+    private List<Long> expectedIds() {
+        return timeline.stream().map(Diary::getId).toList();
+    }
+
+    @Test
+    void pagesThroughDuplicateDatesWithoutSkippingOrRepeating() {
+        for (int size = 1; size <= timeline.size() + 1; size++) {
+            List<Long> seen = new ArrayList<>();
+            String after = null;
+            int pages = 0;
+            DiaryPageModel page;
+            do {
+                page = page(after, size);
+                seen.addAll(ids(page));
+                after = page.getNextCursor();
+                pages++;
+            } while (page.isHasMore());
+
+            assertThat(seen).as("페이지 크기 %d", size).containsExactlyElementsOf(expectedIds());
+            assertThat(pages).isEqualTo(Math.max(1, (timeline.size() + size - 1) / size));
+        }
+    }
+
+    @Test
+    void cursorPointsAfterLastRowOfPage() {
+        DiaryPageModel first = page(null, 2);
+
+        Diary last = timeline.get(1);
+        assertThat(first.getNextCursor()).isEqualTo(last.getDiaryDate() + "," + last.getId());
+        // 괄호로 감싼 커서도 같은 위치에서 이어진다
+        assertThat(ids(page("(" + first.getNextCursor() + ")", 2))).isEqualTo(ids(page(first.getNextCursor(), 2)));
+    }
+
+    @Test
+    void cursorExcludesItselfButKeepsOlderRowsOfSameDate() {
+        // 같은 날짜 3개 중 가운데를 커서로 주면 그 날짜의 더 작은 id 부터 나온다
+        Diary middle = timeline.get(1);
+        assertThat(timeline.get(0).getDiaryDate()).isEqualTo(middle.getDiaryDate());
+
+        List<DiaryModel> rows = diaryRepository.findPage(USER_ID, middle.getDiaryDate(), middle.getId(), 100);
+
+        assertThat(rows).extracting(DiaryModel::getId).containsExactlyElementsOf(expectedIds().subList(2, timeline.size()));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        DiaryPageModel exact = page(null, timeline.size());
+        assertThat(ids(exact)).containsExactlyElementsOf(expectedIds());
+        assertThat(exact.isHasMore()).isFalse();
+        assertThat(exact.getNextCursor()).isNull();
+
+        Diary oldest = timeline.get(timeline.size() - 1);
+        DiaryPageModel beyond = page(oldest.getDiaryDate() + "," + oldest.getId(), 5);
+        assertThat(beyond.getDiaries()).isEmpty();
+        assertThat(beyond.isHasMore()).isFalse();
+        assertThat(beyond.getNextCursor()).isNull();
+    }
+
+    @Test
+    void rejectsMalformedOrPartialCursor() {
+        for (String after : new String[] { "1592-02-03", "1592-02-03,", ",10", "1592-02-03,10,11", "1592-02-30,10",
+                "1592-02-03,abc", "어제,10" }) {
+            Messenger messenger = diaryService.findPage(USER_ID, after, 5, false);
+            assertThat(messenger.getCode()).as(after).isEqualTo(400);
+        }
+        // 비어 있으면 첫 페이지
+        assertThat(ids(page(" ", 2))).containsExactlyElementsOf(expectedIds().subList(0, 2));
+    }
+
+    @Test
+    void clampsPageSizeToMaxPageSize() {
+        for (int i = 0; i < 60; i++) {
+            em.persist(Diary.builder().diaryDate(LocalDate.of(1593, 1, 1)).title("추가" + i).userId(USER_ID).build());
+        }
+        em.flush();
+        em.clear();
+
+        DiaryPageModel huge = page(null, 500);
+        assertThat(huge.getDiaries()).hasSize(50);
+        assertThat(huge.isHasMore()).isTrue();
+
+        DiaryPageModel tiny = page(null, 0);
+        assertThat(tiny.getDiaries()).hasSize(1);
+        assertThat(tiny.isHasMore()).isTrue();
+    }
+}
@@ -0,0 +1,100 @@
+package site.aiion.api.diary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static site.aiion.api.diary.DiaryRepositoryCustom.EXCERPT_LENGTH;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import site.aiion.api.diary.config.QuerydslConfig;
+
+/**
+ * 요약 조회가 본문을 DB 에서 EXCERPT_LENGTH + 1 자만 잘라 와서, 공백을 접고
+ * 실제로 잘린 경우에만 말줄임표를 붙이는지 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import(QuerydslConfig.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class DiarySummaryTest {
+
+    private static final long USER_ID = 1L;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    private String excerptOf(String content) {
+        Diary saved = em.persist(Diary.builder().diaryDate(LocalDate.of(1592, 2, 13)).title("제목")
+                .content(content).userId(USER_ID).build());
+        em.flush();
+        em.clear();
+        List<DiarySummaryModel> summaries = diaryRepository.findSummaries(USER_ID, null, null, null);
+        DiarySummaryModel summary = summaries.stream()
+                .filter(s -> s.getId().equals(saved.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(summary.getTitle()).isEqualTo("제목");
+        assertThat(summary.getDiaryDate()).isEqualTo(LocalDate.of(1592, 2, 13));
+        return summary.getExcerpt();
+    }
+
+    @Test
+    void keepsShortContentAsIs() {
+        assertThat(excerptOf("맑음. 동헌에 나가 공무를 보았다.")).isEqualTo("맑음. 동헌에 나가 공무를 보았다.");
+    }
+
+    @Test
+    void contentOfExactlyExcerptLengthHasNoEllipsis() {
+        String content = "가".repeat(EXCERPT_LENGTH);
+
+        assertThat(excerptOf(content)).isEqualTo(content);
+    }
+
+    @Test
+    void longerContentIsCutWithEllipsis() {
+        assertThat(excerptOf("가".repeat(EXCERPT_LENGTH + 1))).isEqualTo("가".repeat(EXCERPT_LENGTH) + "…");
+        assertThat(excerptOf("나".repeat(10_000))).isEqualTo("나".repeat(EXCERPT_LENGTH) + "…");
+    }
+
+    @Test
+    void nullContentHasNullExcerpt() {
+        assertThat(excerptOf(null)).isNull();
+    }
+
+    @Test
+    void foldsLineBreaksAndRepeatedWhitespace() {
+        assertThat(excerptOf("  첫 줄\n\n둘째   줄\r\n\t셋째 줄  ")).isEqualTo("첫 줄 둘째 줄 셋째 줄");
+    }
+
+    @Test
+    void truncatedMultiLineContentStillGetsEllipsisAfterFolding() {
+        // 잘린 앞부분은 접으면 80자보다 짧아지지만, 원래 본문이 더 길었으므로 말줄임표를 붙인다
+        String content = "가\n\n\n".repeat(EXCERPT_LENGTH);
+
+        String excerpt = excerptOf(content);
+
+        assertThat(excerpt).endsWith("…");
+        assertThat(excerpt.length()).isLessThanOrEqualTo(EXCERPT_LENGTH + 1);
+        assertThat(excerpt).doesNotContain("\n").doesNotContain("  ");
+    }
+
+    @Test
+    void cutDoesNotLeaveTrailingSpaceBeforeEllipsis() {
+        String content = "가".repeat(EXCERPT_LENGTH - 1) + " " + "나".repeat(10);
+
+        assertThat(excerptOf(content)).isEqualTo("가".repeat(EXCERPT_LENGTH - 1) + "…");
+    }
+}
@@ -0,0 +1,71 @@
+package site.aiion.api.diary.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * nanjung.csv 모양(BOM, 여러 줄 따옴표 필드, '1592-02-13 날짜, 깨진 날짜)의 CSV 를 읽어 행별로 변환/거부하는지 확인한다.
+ */
+class DiaryCsvRowsTest {
+
+    private static final String CSV = "﻿localdate,title,content,userId\r\n"
+            + "'1592-02-13,<임술>,\"맑다.\n새벽에 아우 여필과 \"\"봉\"\"이 왔다.\",1\n"
+            + "'PARSE_ERROR,<계해>,\"비.\",1\n"
+            + "1592.3.1,,\"동헌에 나가\n공무를 보았다.\",\n"
+            + "19920230,<갑자>,흐림,2\n"
+            + "1592-03-02,<을축>,맑다,x\n";
+
+    @Test
+    void mapsMultilineRecordsAndRejectsBadRows() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader(CSV));
+        DiaryCsvRows rows = DiaryCsvRows.of(csv.readRecord());
+        List<DiaryCsvRows.Row> mapped = new ArrayList<>();
+        List<Long> lines = new ArrayList<>();
+        List<String> record;
+        while ((record = csv.readRecord()) != null) {
+            mapped.add(rows.map(record, null));
+            lines.add(csv.getRecordLine());
+        }
+
+        assertThat(lines).containsExactly(2L, 4L, 5L, 7L, 8L);
+        assertThat(mapped.get(0).diary().getDiaryDate()).isEqualTo(LocalDate.of(1592, 2, 13));
+        assertThat(mapped.get(0).diary().getTitle()).isEqualTo("<임술>");
+        assertThat(mapped.get(0).diary().getContent()).isEqualTo("맑다.\n새벽에 아우 여필과 \"봉\"이 왔다.");
+        assertThat(mapped.get(0).diary().getUserId()).isEqualTo(1L);
+        assertThat(mapped.get(1).error()).contains("날짜 형식 오류");
+        // userId 컬럼이 비어 있으면 거부
+        assertThat(mapped.get(2).error()).contains("사용자 ID");
+        // 2월 30일은 없는 날짜
+        assertThat(mapped.get(3).error()).contains("날짜 형식 오류");
+        assertThat(mapped.get(4).error()).contains("사용자 ID 형식 오류");
+    }
+
+    @Test
+    void userIdParameterOverridesColumn() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader(CSV));
+        DiaryCsvRows rows = DiaryCsvRows.of(csv.readRecord());
+        csv.readRecord();
+        csv.readRecord();
+        DiaryCsvRows.Row row = rows.map(csv.readRecord(), 7L);
+        assertThat(row.diary().getUserId()).isEqualTo(7L);
+        assertThat(row.diary().getDiaryDate()).isEqualTo(LocalDate.of(1592, 3, 1));
+        assertThat(row.diary().getTitle()).isNull();
+    }
+
+    @Test
+    void parsesDateVariants() {
+        assertThat(DiaryCsvRows.parseDate("'1592-02-13")).isEqualTo(LocalDate.of(1592, 2, 13));
+        assertThat(DiaryCsvRows.parseDate(" 2024/3/1 ")).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(DiaryCsvRows.parseDate("2024.03.01.")).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(DiaryCsvRows.parseDate("20240301")).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(DiaryCsvRows.parseDate("'PARSE_ERROR")).isNull();
+        assertThat(DiaryCsvRows.parseDate("")).isNull();
+    }
+}
@@ -0,0 +1,106 @@
+package site.aiion.api.diary.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.DefaultApplicationArguments;
+
+/**
+ * --import 로 준 파일을 차례로 가져오고, 오류 행이 있으면 종료 코드 1 을 내는지 확인한다.
+ */
+class DiaryImportRunnerTest {
+
+    @TempDir
+    Path dir;
+
+    private final List<String> imported = new ArrayList<>();
+    private DiaryImportService diaryImportService;
+    private DiaryImportRunner runner;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        diaryImportService = mock(DiaryImportService.class);
+        // 파일 내용이 "errors=N" 이면 오류 N 건으로 끝난 것으로 돌려준다
+        when(diaryImportService.importCsv(any(), any(), anyBoolean(), any())).thenAnswer(invocation -> {
+            InputStream in = invocation.getArgument(0);
+            String body = new String(in.readAllBytes(), StandardCharsets.UTF_8).strip();
+            imported.add(body);
+            long errors = Long.parseLong(body.substring("errors=".length()));
+            Consumer<ImportEvent> listener = invocation.getArgument(3);
+            if (errors > 0) {
+                listener.accept(ImportEvent.builder().event("error").line(2L).message("날짜 형식 오류").build());
+            }
+            return ImportEvent.builder().event("done").rows(3L).saved(3L - errors).errors(errors)
+                    .elapsedMs(1L).rowsPerSecond(3000L).build();
+        });
+        runner = new DiaryImportRunner(diaryImportService);
+    }
+
+    private String file(String name, long errors) throws IOException {
+        return Files.writeString(dir.resolve(name), "errors=" + errors).toString();
+    }
+
+    @Test
+    void doesNothingWithoutImportOption() throws IOException {
+        runner.run(new DefaultApplicationArguments("--server.port=0"));
+
+        verify(diaryImportService, never()).importCsv(any(), any(), anyBoolean(), any());
+        assertThat(runner.getExitCode()).isZero();
+    }
+
+    @Test
+    void importsCommaSeparatedFilesForGivenUserWithoutIndexing() throws IOException {
+        String first = file("a.csv", 0);
+        String second = file("b.csv", 0);
+
+        runner.run(new DefaultApplicationArguments("--import=" + first + " , " + second, "--user-id=7"));
+
+        assertThat(imported).containsExactly("errors=0", "errors=0");
+        verify(diaryImportService, times(2)).importCsv(any(), eq(7L), eq(false), any());
+        assertThat(runner.getExitCode()).isZero();
+    }
+
+    @Test
+    void exitsWithOneWhenAnyFileHasErrors() throws IOException {
+        String clean = file("a.csv", 0);
+        String broken = file("b.csv", 2);
+        String later = file("c.csv", 0);
+
+        runner.run(new DefaultApplicationArguments("--import=" + broken, "--import=" + clean + "," + later));
+
+        // 오류가 있어도 나머지 파일은 계속 가져온다
+        assertThat(imported).containsExactly("errors=2", "errors=0", "errors=0");
+        verify(diaryImportService, times(3)).importCsv(any(), isNull(), eq(false), any());
+        assertThat(runner.getExitCode()).isEqualTo(1);
+    }
+
+    @Test
+    void failsOnMissingFile() {
+        String missing = dir.resolve("missing.csv").toString();
+
+        assertThatThrownBy(() -> runner.run(new DefaultApplicationArguments("--import=" + missing)))
+                .isInstanceOf(NoSuchFileException.class);
+    }
+}
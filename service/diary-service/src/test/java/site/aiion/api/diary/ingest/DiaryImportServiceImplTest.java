@@ -0,0 +1,149 @@
+package site.aiion.api.diary.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import site.aiion.api.diary.DiaryModel;
+import site.aiion.api.diary.search.DiarySearchIndex;
+
+/**
+ * chunk 저장이 실패하면 한 행씩 다시 저장해서 실패한 행만 원본 행 번호로 오류를 남기는지 확인한다.
+ * DB 대신 제목이 BAD 로 시작하는 행이 섞인 batch 를 통째로 거부하는 JdbcTemplate 을 쓴다.
+ */
+class DiaryImportServiceImplTest {
+
+    private final List<String> savedTitles = new ArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private DiarySearchIndex diarySearchIndex;
+    private DiaryImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class))).thenAnswer(invocation -> {
+                    BatchPreparedStatementSetter setter = invocation.getArgument(1);
+                    KeyHolder keys = invocation.getArgument(2);
+                    List<String> titles = titles(setter);
+                    if (titles.stream().anyMatch(title -> title.startsWith("BAD"))) {
+                        throw new DataIntegrityViolationException("중복 키");
+                    }
+                    savedTitles.addAll(titles);
+                    for (int i = 0; i < titles.size(); i++) {
+                        keys.getKeyList().add(Map.of("id", nextId.getAndIncrement()));
+                    }
+                    return new int[titles.size()];
+                });
+        diarySearchIndex = mock(DiarySearchIndex.class);
+        importService = new DiaryImportServiceImpl(jdbcTemplate, mock(PlatformTransactionManager.class),
+                diarySearchIndex, 3);
+    }
+
+    private static List<String> titles(BatchPreparedStatementSetter setter) throws Exception {
+        PreparedStatement ps = mock(PreparedStatement.class);
+        for (int i = 0; i < setter.getBatchSize(); i++) {
+            setter.setValues(ps, i);
+        }
+        ArgumentCaptor<String> title = ArgumentCaptor.forClass(String.class);
+        verify(ps, times(setter.getBatchSize())).setString(eq(2), title.capture());
+        return title.getAllValues();
+    }
+
+    private ImportEvent importCsv(String csv, boolean indexRows, List<ImportEvent> events) throws IOException {
+        return importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), 1L, indexRows,
+                events::add);
+    }
+
+    @Test
+    void retriesFailedChunkRowByRow() throws IOException {
+        String csv = "localdate,title,content\n"
+                + "1592-02-13,T1,맑다\n"
+                + "1592-02-14,BAD1,\"여러\n줄\"\n"
+                + "1592-02-15,T2,비\n"
+                + "1592-02-16,T3,흐림\n"
+                + "PARSE_ERROR,T4,맑다\n"
+                + "1592-02-17,BAD2,눈\n";
+        List<ImportEvent> events = new ArrayList<>();
+
+        ImportEvent done = importCsv(csv, false, events);
+
+        assertThat(savedTitles).containsExactly("T1", "T2", "T3");
+        assertThat(done.getRows()).isEqualTo(6);
+        assertThat(done.getSaved()).isEqualTo(3);
+        assertThat(done.getErrors()).isEqualTo(3);
+        // 실패한 행마다 원본 행 번호로 오류 하나씩 (여러 줄 필드 뒤의 행 번호도 맞아야 한다)
+        assertThat(events).filteredOn(e -> "error".equals(e.getEvent()))
+                .extracting(ImportEvent::getLine)
+                .containsExactly(3L, 7L, 8L);
+        assertThat(events).filteredOn(e -> "error".equals(e.getEvent()) && e.getLine() != 7L)
+                .allSatisfy(e -> assertThat(e.getMessage()).startsWith("저장 실패: "));
+        verify(diarySearchIndex, never()).put(any());
+    }
+
+    @Test
+    void indexesRowsSavedOnRetryWithTheirIds() throws IOException {
+        String csv = "localdate,title,content\n"
+                + "1592-02-13,T1,맑다\n"
+                + "1592-02-14,BAD1,비\n"
+                + "1592-02-15,T2,흐림\n";
+
+        ImportEvent done = importCsv(csv, true, new ArrayList<>());
+
+        assertThat(done.getSaved()).isEqualTo(2);
+        ArgumentCaptor<DiaryModel> indexed = ArgumentCaptor.forClass(DiaryModel.class);
+        verify(diarySearchIndex, times(2)).put(indexed.capture());
+        assertThat(indexed.getAllValues()).extracting(DiaryModel::getTitle).containsExactly("T1", "T2");
+        assertThat(indexed.getAllValues()).extracting(DiaryModel::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void savesWholeChunksWhenNothingFails() throws IOException {
+        StringBuilder csv = new StringBuilder("localdate,title,content\n");
+        for (int i = 1; i <= 7; i++) {
+            csv.append("1592-02-").append(String.format("%02d", i)).append(",T").append(i).append(",맑다\n");
+        }
+        List<ImportEvent> events = new ArrayList<>();
+
+        ImportEvent done = importCsv(csv.toString(), false, events);
+
+        assertThat(done.getSaved()).isEqualTo(7);
+        assertThat(done.getErrors()).isZero();
+        // chunk 3 개마다 진행 이벤트
+        assertThat(events).extracting(ImportEvent::getEvent).containsExactly("progress", "progress");
+    }
+
+    @Test
+    void reportsBadHeaderOnFirstLine() throws IOException {
+        List<ImportEvent> events = new ArrayList<>();
+
+        ImportEvent done = importCsv("foo,bar\n1,2\n", false, events);
+
+        assertThat(done.getErrors()).isEqualTo(1);
+        assertThat(events).singleElement().extracting(ImportEvent::getLine).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,73 @@
+package site.aiion.api.diary.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import site.aiion.api.diary.DiaryModel;
+
+/**
+ * 색인 후보 → 본문 확인 → 발췌 흐름을 DB 없이 확인한다.
+ */
+class DiarySearchIndexTest {
+
+    @Test
+    void findsBigramCandidatesNewestFirstAndVerifiesPhrases() {
+        DiarySearchIndex index = new DiarySearchIndex();
+        index.put(diary(1, 1L, "1592-02-13", "<임술>", "맑다.\n새벽에 아우와 조카가 와서 이야기했다. 다만 어머니를 떠나 남쪽에서 설을 세니"));
+        index.put(diary(2, 1L, "1592-02-15", "<갑자>", "동헌에 나가 별방군을 점검했다."));
+        index.put(diary(3, 1L, "1593-05-01", "<기축>", "어머니 소식을 들었다. 동헌에서 나가 공무를 봤다."));
+        index.put(diary(4, 2L, "1593-05-02", "<경인>", "어머니께 편지를 썼다."));
+
+        assertThat(index.candidates(1L, DiarySearchQuery.parse("어머니").tokens, null, null)).containsExactly(3L, 1L);
+        assertThat(index.candidates(1L, DiarySearchQuery.parse("어머니").tokens, LocalDate.of(1593, 1, 1), null))
+                .containsExactly(3L);
+        // 한 글자 검색어는 그 글자가 든 bigram 의 합집합
+        assertThat(index.candidates(1L, DiarySearchQuery.parse("설").tokens, null, null)).containsExactly(1L);
+
+        // bigram 은 모두 있지만 구는 3번에만 그대로 나온다
+        DiarySearchQuery phrase = DiarySearchQuery.parse("\"동헌에 나가\"");
+        assertThat(index.candidates(1L, phrase.tokens, null, null)).containsExactly(3L, 2L);
+        assertThat(phrase.matches("<갑자>", "동헌에 나가 별방군을 점검했다.")).isTrue();
+        assertThat(phrase.matches("<기축>", "어머니 소식을 들었다. 동헌에서 나가 공무를 봤다.")).isFalse();
+
+        // 수정/삭제
+        index.put(diary(3, 1L, "1593-05-01", "<기축>", "비가 왔다."));
+        index.remove(1L, 1L);
+        assertThat(index.candidates(1L, DiarySearchQuery.parse("어머니").tokens, null, null)).isEmpty();
+        assertThat(index.size(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void compactsAfterManyRewrites() {
+        DiarySearchIndex index = new DiarySearchIndex();
+        for (int round = 0; round < 5; round++) {
+            for (long id = 1; id <= 100; id++) {
+                index.put(diary(id, 7L, "1594-01-01", "제목", round % 2 == 0 ? "한산도 진중" : "견내량 출전"));
+            }
+        }
+        assertThat(index.size(7L)).isEqualTo(100);
+        assertThat(index.candidates(7L, DiarySearchQuery.parse("한산도").tokens, null, null)).hasSize(100);
+        assertThat(index.candidates(7L, DiarySearchQuery.parse("견내량").tokens, null, null)).isEmpty();
+    }
+
+    @Test
+    void highlightsMatchesAroundFirstHit() {
+        String snippet = DiarySnippets.build("맑다.\n동헌에 나가 <공무>를 봤다. 다시 동헌에 나가 쉬었다.",
+                List.of("동헌에 나가"), 5);
+        assertThat(snippet).isEqualTo("맑다. <mark>동헌에 나가</mark> &lt;공무&gt;…");
+    }
+
+    private static DiaryModel diary(long id, Long userId, String date, String title, String content) {
+        return DiaryModel.builder()
+                .id(id)
+                .userId(userId)
+                .diaryDate(LocalDate.parse(date))
+                .title(title)
+                .content(content)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package site.aiion.api.soccer.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 초당 시즌 시뮬레이션 횟수. 16팀 홈/원정 2회전(240경기) 중 절반이 끝난 시즌을 가정한다.
+ * 점수(ops/s)는 invocation 당 ITERATIONS 번을 나눠 센 값이므로 곧 "시뮬레이션/초" 이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeasonSimulatorBenchmark {
+
+    private static final int TEAMS = 16;
+    private static final int ITERATIONS = 20_000;
+
+    @Param({ "1", "4", "0" })
+    private int parallelism;
+
+    private SeasonSimulator simulator;
+    private ForkJoinPool pool;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(20120317L);
+        List<SeasonSimulator.Played> played = new ArrayList<>();
+        List<SeasonSimulator.Fixture> remaining = new ArrayList<>();
+        for (int home = 0; home < TEAMS; home++) {
+            for (int away = 0; away < TEAMS; away++) {
+                if (home == away) {
+                    continue;
+                }
+                if (random.nextBoolean()) {
+                    played.add(new SeasonSimulator.Played(home, away, random.nextInt(4), random.nextInt(3)));
+                } else {
+                    remaining.add(new SeasonSimulator.Fixture(home, away));
+                }
+            }
+        }
+        simulator = new SeasonSimulator(TEAMS, played, remaining);
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITERATIONS)
+    public SeasonSimulator.Tally simulate() {
+        return simulator.simulate(ITERATIONS, seed++, pool);
+    }
+}
@@ -0,0 +1,47 @@
+package site.aiion.api.soccer.booking;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import site.aiion.api.soccer.schedule.ScheduleModel;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class AvailabilityModel implements Serializable {
+    private String stadium_uk;
+    private String from;
+    private String to;
+    private long match_duration_minutes;
+    private List<ScheduleModel> booked;
+    private List<Slot> free;
+
+    /**
+     * 빈 시간대 [start, end)
+     */
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Slot implements Serializable {
+        private String start;
+        private String end;
+
+        static Slot of(long startMinute, long endMinute) {
+            return new Slot(toDateTime(startMinute), toDateTime(endMinute));
+        }
+
+        private static String toDateTime(long epochMinute) {
+            return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC).toString();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package site.aiion.api.soccer.booking;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.domain.Messenger;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/soccer/stadiums")
+public class BookingController {
+
+    private final BookingService bookingService;
+
+    /**
+     * 예) /soccer/stadiums/D01/availability?from=2012-03-01&to=2012-03-31
+     */
+    @GetMapping("/{uk}/availability")
+    public Messenger availability(
+            @PathVariable String uk,
+            @RequestParam String from,
+            @RequestParam String to) {
+        return bookingService.availability(uk, from, to);
+    }
+}
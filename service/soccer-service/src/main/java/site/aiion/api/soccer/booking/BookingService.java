@@ -0,0 +1,7 @@
+package site.aiion.api.soccer.booking;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+
+public interface BookingService {
+    public Messenger availability(String stadiumUk, String from, String to);
+}
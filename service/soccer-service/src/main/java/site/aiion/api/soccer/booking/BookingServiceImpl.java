@@ -0,0 +1,58 @@
+package site.aiion.api.soccer.booking;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.schedule.ScheduleRepository;
+
+@Service
+@RequiredArgsConstructor
+public class BookingServiceImpl implements BookingService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final StadiumBookingIndex stadiumBookingIndex;
+
+    @Value("${soccer.booking.max-range-days:366}")
+    private int maxRangeDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildBookingIndex() {
+        stadiumBookingIndex.rebuild(scheduleRepository.findAllModels());
+    }
+
+    @Override
+    public Messenger availability(String stadiumUk, String from, String to) {
+        LocalDate fromDate;
+        LocalDate toDate;
+        try {
+            fromDate = LocalDate.parse(from);
+            toDate = LocalDate.parse(to);
+        } catch (DateTimeParseException e) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("from, to 는 yyyy-MM-dd 형식이어야 합니다.")
+                    .build();
+        }
+        if (toDate.isBefore(fromDate) || ChronoUnit.DAYS.between(fromDate, toDate) >= maxRangeDays) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("조회 기간이 올바르지 않습니다. (최대 " + maxRangeDays + "일)")
+                    .build();
+        }
+        AvailabilityModel availability = stadiumBookingIndex.availability(stadiumUk, fromDate, toDate);
+        return Messenger.builder()
+                .Code(200)
+                .message(stadiumUk + " 예약 " + availability.getBooked().size() + "경기, 빈 시간대 "
+                        + availability.getFree().size() + "개")
+                .data(availability)
+                .build();
+    }
+}
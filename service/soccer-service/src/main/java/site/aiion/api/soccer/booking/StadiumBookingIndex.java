@@ -0,0 +1,218 @@
+package site.aiion.api.soccer.booking;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import site.aiion.api.soccer.common.transaction.AfterCommit;
+import site.aiion.api.soccer.schedule.ScheduleDates;
+import site.aiion.api.soccer.schedule.ScheduleModel;
+
+/**
+ * 경기장별 경기 시간대 색인.
+ * 경기는 [시작, 시작 + matchDuration) 구간을 차지하고, 경기장마다 시작 시각 순으로 정렬된 집합에 들어간다.
+ * 모든 구간 길이가 같으므로 새 경기와 겹치는 경기는 시작 시각이 (s - d, s + d) 안에 있는 경기뿐이라
+ * 정렬 집합의 범위 조회 한 번(O(log n))으로 찾는다.
+ * 시각은 분 단위 epoch 값이며, 날짜만 있는 sche_date 는 그날 0시에 시작한 것으로 본다.
+ * 색인은 커밋 후에야 바뀌므로 중복 검사와 저장은 {@link #lockStadium(String)} 으로 경기장 단위로 묶어야 한다.
+ */
+@Component
+public class StadiumBookingIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(StadiumBookingIndex.class);
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private static final Comparator<Booking> BY_START = Comparator
+            .comparingLong(Booking::start)
+            .thenComparingLong(Booking::scheduleId);
+
+    private final long durationMinutes;
+    private final Map<String, NavigableSet<Booking>> byStadium = new HashMap<>();
+    private final Map<Long, Booking> byId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, ReentrantLock> stadiumLocks = new ConcurrentHashMap<>();
+
+    public StadiumBookingIndex(@Value("${soccer.booking.match-duration:PT24H}") Duration matchDuration) {
+        this.durationMinutes = Math.max(1, matchDuration.toMinutes());
+    }
+
+    record Booking(long scheduleId, String stadiumUk, long start, ScheduleModel model) {
+
+        static Booking of(ScheduleModel model) {
+            LocalDate date = ScheduleDates.parse(model.getSche_date());
+            if (model.getId() == null || model.getStadium_uk() == null || date == null) {
+                return null;
+            }
+            return new Booking(model.getId(), model.getStadium_uk(), date.toEpochDay() * MINUTES_PER_DAY, model);
+        }
+    }
+
+    public void rebuild(Collection<ScheduleModel> models) {
+        int size;
+        lock.writeLock().lock();
+        try {
+            byStadium.clear();
+            byId.clear();
+            for (ScheduleModel model : models) {
+                Booking booking = Booking.of(model);
+                if (booking != null) {
+                    putInternal(booking);
+                }
+            }
+            size = byId.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("경기장 일정 색인 구성 완료: {}경기", size);
+    }
+
+    public void indexSchedule(ScheduleModel model) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                removeInternal(model.getId());
+                Booking booking = Booking.of(model);
+                if (booking != null) {
+                    putInternal(booking);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void removeSchedule(Long scheduleId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                removeInternal(scheduleId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 경기장을 잠근다. 커밋이면 afterCommit 의 색인 반영이 끝난 뒤에 풀리므로
+     * 다음 트랜잭션의 {@link #conflicts} 는 앞선 저장을 반드시 본다. 트랜잭션 안에서만 부를 수 있다.
+     */
+    public void lockStadium(String stadiumUk) {
+        if (stadiumUk == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("경기장 잠금은 트랜잭션 안에서만 사용할 수 있습니다.");
+        }
+        ReentrantLock stadiumLock = stadiumLocks.computeIfAbsent(stadiumUk, k -> new ReentrantLock());
+        stadiumLock.lock();
+        AfterCommit.runAfterCompletion(stadiumLock::unlock);
+    }
+
+    /**
+     * 같은 경기장에서 sche_date 경기와 시간이 겹치는 경기 목록. excludeId(수정 중인 경기 자신)는 뺀다.
+     * 경기장이나 날짜를 알 수 없으면 빈 목록.
+     */
+    public List<ScheduleModel> conflicts(String stadiumUk, String scheDate, Long excludeId) {
+        LocalDate date = ScheduleDates.parse(scheDate);
+        if (stadiumUk == null || date == null) {
+            return List.of();
+        }
+        long start = date.toEpochDay() * MINUTES_PER_DAY;
+        List<ScheduleModel> conflicts = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            NavigableSet<Booking> bookings = byStadium.get(stadiumUk);
+            if (bookings == null) {
+                return conflicts;
+            }
+            for (Booking booking : range(bookings, start - durationMinutes + 1, start + durationMinutes - 1)) {
+                if (excludeId == null || booking.scheduleId() != excludeId) {
+                    conflicts.add(booking.model());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return conflicts;
+    }
+
+    /**
+     * [from, to] 기간(양 끝 날짜 포함)의 예약된 경기와 빈 시간대.
+     */
+    public AvailabilityModel availability(String stadiumUk, LocalDate from, LocalDate to) {
+        long windowStart = from.toEpochDay() * MINUTES_PER_DAY;
+        long windowEnd = (to.toEpochDay() + 1) * MINUTES_PER_DAY;
+        List<ScheduleModel> booked = new ArrayList<>();
+        List<AvailabilityModel.Slot> free = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            NavigableSet<Booking> bookings = byStadium.get(stadiumUk);
+            long cursor = windowStart;
+            if (bookings != null) {
+                // 기간 시작 전에 시작했지만 기간 안으로 걸쳐 있는 경기까지 포함
+                for (Booking booking : range(bookings, windowStart - durationMinutes + 1, windowEnd - 1)) {
+                    booked.add(booking.model());
+                    if (booking.start() > cursor) {
+                        free.add(AvailabilityModel.Slot.of(cursor, booking.start()));
+                    }
+                    cursor = Math.max(cursor, booking.start() + durationMinutes);
+                }
+            }
+            if (cursor < windowEnd) {
+                free.add(AvailabilityModel.Slot.of(cursor, windowEnd));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return AvailabilityModel.builder()
+                .stadium_uk(stadiumUk)
+                .from(from.toString())
+                .to(to.toString())
+                .match_duration_minutes(durationMinutes)
+                .booked(booked)
+                .free(free)
+                .build();
+    }
+
+    private static NavigableSet<Booking> range(NavigableSet<Booking> bookings, long fromStart, long toStart) {
+        if (fromStart > toStart) {
+            return new TreeSet<>(BY_START);
+        }
+        return bookings.subSet(new Booking(Long.MIN_VALUE, null, fromStart, null), true,
+                new Booking(Long.MAX_VALUE, null, toStart, null), true);
+    }
+
+    private void putInternal(Booking booking) {
+        byId.put(booking.scheduleId(), booking);
+        byStadium.computeIfAbsent(booking.stadiumUk(), k -> new TreeSet<>(BY_START)).add(booking);
+    }
+
+    private void removeInternal(Long scheduleId) {
+        Booking old = byId.remove(scheduleId);
+        if (old == null) {
+            return;
+        }
+        NavigableSet<Booking> bookings = byStadium.get(old.stadiumUk());
+        bookings.remove(old);
+        if (bookings.isEmpty()) {
+            byStadium.remove(old.stadiumUk());
+        }
+    }
+}
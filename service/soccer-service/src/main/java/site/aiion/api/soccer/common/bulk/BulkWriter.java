@@ -0,0 +1,63 @@
+package site.aiion.api.soccer.common.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * 대량 저장을 chunk 단위 트랜잭션으로 나눠 실행한다.
+ * chunk 마다 flush 로 JDBC batch insert 를 내보내고 영속성 컨텍스트를 비워서
+ * 건수가 많아도 메모리와 dirty checking 비용이 chunk 크기 이상으로 늘지 않는다.
+ */
+@Component
+public class BulkWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BulkWriter(PlatformTransactionManager transactionManager,
+                      @Value("${soccer.ingest.chunk-size:1000}") int chunkSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * items 를 chunkSize 개씩 잘라 writer 에 넘기고 chunk 마다 커밋한다.
+     * 앞선 chunk 는 이미 커밋되므로, 중간에 실패하면 실패한 chunk 만 롤백된다.
+     */
+    public <T, R> List<R> write(List<T> items, Function<List<T>, List<R>> writer) {
+        List<R> results = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            List<T> chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+            results.addAll(writeChunk(chunk, writer));
+        }
+        return results;
+    }
+
+    /**
+     * 한 chunk 를 하나의 트랜잭션으로 저장한다.
+     */
+    public <T, R> List<R> writeChunk(List<T> chunk, Function<List<T>, List<R>> writer) {
+        return transactionTemplate.execute(status -> {
+            List<R> written = writer.apply(chunk);
+            entityManager.flush();
+            entityManager.clear();
+            return written;
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package site.aiion.api.soccer.common.bulk;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * IDENTITY 로 쌓인 기존 행이 있는 테이블에서 pooled 시퀀스가 이미 쓰인 id 를 다시 내주지 않도록
+ * 기동 시 시퀀스를 max(id) 이후로 맞춘다. (PostgreSQL 전용)
+ * 싱글톤 생성이 끝난 직후, 웹 서버가 요청을 받기 전에 실행하며 하나라도 실패하면 기동을 멈춘다.
+ */
+@Component
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceAligner.class);
+
+    private record PooledSequence(String table, String sequence, int allocationSize) {
+    }
+
+    // 엔티티의 @SequenceGenerator 와 맞춰야 한다
+    private static final List<PooledSequence> SEQUENCES = List.of(
+            new PooledSequence("players", "players_seq", 50),
+            new PooledSequence("schedules", "schedules_seq", 50));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdSequenceAligner(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        align();
+    }
+
+    public void align() {
+        String product = databaseProductName();
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            logger.info("시퀀스 정렬 건너뜀: {}", product);
+            return;
+        }
+        for (PooledSequence sequence : SEQUENCES) {
+            String sql = String.format(
+                    "SELECT setval('%2$s', GREATEST((SELECT COALESCE(MAX(id), 0) FROM %1$s) + %3$d, "
+                            + "(SELECT last_value FROM %2$s)))",
+                    sequence.table(), sequence.sequence(), sequence.allocationSize());
+            try {
+                transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery(sql).getSingleResult());
+            } catch (RuntimeException e) {
+                // 맞추지 못한 채 뜨면 첫 insert 부터 기존 id 와 부딪힐 수 있다
+                throw new IllegalStateException("시퀀스 정렬 실패: " + sequence.sequence(), e);
+            }
+        }
+    }
+
+    private String databaseProductName() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("DB 종류를 확인하지 못해 시퀀스를 정렬할 수 없다", e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package site.aiion.api.soccer.common.fields;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.querydsl.core.types.Expression;
+
+/**
+ * fields= 로 고를 수 있는 응답 필드 목록. 필드 이름(모델 속성 이름)마다 select 할 QueryDSL 경로를 둔다.
+ * 목록에 없는 이름은 select 에 섞이지 않도록 거부한다.
+ */
+public final class FieldCatalog {
+
+    private final Class<?> modelType;
+    private final Map<String, Expression<?>> columns;
+
+    private FieldCatalog(Class<?> modelType, Map<String, Expression<?>> columns) {
+        this.modelType = modelType;
+        this.columns = Collections.unmodifiableMap(columns);
+    }
+
+    public static Builder builder(Class<?> modelType) {
+        return new Builder(modelType);
+    }
+
+    public Class<?> modelType() {
+        return modelType;
+    }
+
+    public Set<String> names() {
+        return columns.keySet();
+    }
+
+    /**
+     * "id,team_name" 같은 쉼표 목록을 선택으로 바꾼다. 비어 있으면 전체 필드, 중복은 한 번만.
+     * @throws IllegalArgumentException 목록에 없는 필드가 있을 때
+     */
+    public FieldSelection select(String fields) {
+        Set<String> names = parse(fields);
+        if (names.isEmpty()) {
+            names = columns.keySet();
+        }
+        List<String> selected = new ArrayList<>(names.size());
+        List<Expression<?>> expressions = new ArrayList<>(names.size());
+        for (String name : names) {
+            Expression<?> column = columns.get(name);
+            if (column == null) {
+                throw new IllegalArgumentException("알 수 없는 필드입니다: " + name + " (가능한 필드: " + String.join(",", columns.keySet()) + ")");
+            }
+            selected.add(name);
+            expressions.add(column);
+        }
+        return new FieldSelection(List.copyOf(selected), List.copyOf(expressions));
+    }
+
+    /**
+     * 쉼표 목록을 순서를 지킨 이름 집합으로 나눈다. 공백과 빈 항목은 버린다.
+     */
+    public static Set<String> parse(String fields) {
+        Set<String> names = new LinkedHashSet<>();
+        if (fields == null) {
+            return names;
+        }
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                names.add(trimmed);
+            }
+        }
+        return names;
+    }
+
+    public static final class Builder {
+        private final Class<?> modelType;
+        private final Map<String, Expression<?>> columns = new LinkedHashMap<>();
+
+        private Builder(Class<?> modelType) {
+            this.modelType = modelType;
+        }
+
+        public Builder field(String name, Expression<?> column) {
+            columns.put(name, column);
+            return this;
+        }
+
+        public FieldCatalog build() {
+            return new FieldCatalog(modelType, columns);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package site.aiion.api.soccer.common.fields;
+
+import java.util.List;
+
+import com.querydsl.core.types.Expression;
+
+/**
+ * 요청에서 고른 필드 이름과 그에 해당하는 select 식. 두 목록의 순서가 같다.
+ */
+public record FieldSelection(List<String> names, List<Expression<?>> columns) {
+
+    public boolean contains(String name) {
+        return names.contains(name);
+    }
+
+    public Expression<?>[] toArray() {
+        return columns.toArray(new Expression<?>[0]);
+    }
+}
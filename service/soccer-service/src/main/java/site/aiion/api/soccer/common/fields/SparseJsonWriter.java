@@ -0,0 +1,115 @@
+package site.aiion.api.soccer.common.fields;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+
+/**
+ * fields= 응답을 JsonGenerator 로 바로 써 내려가는 writer.
+ * SparseRows 는 행 배열을 {"code","message","data":[{...}]} 로 한 행씩 쓰므로 모델 객체나 Map 을 만들지 않는다.
+ * 메모리 색인에서 나온 검색 결과처럼 모델이 이미 있는 응답은 모델 속성 중 고른 필드만 직렬화한다.
+ */
+@Component
+public class SparseJsonWriter {
+
+    private static final String FILTER_ID = "sparseFields";
+
+    private final ObjectMapper objectMapper;
+    // 모든 bean 에 FILTER_ID 를 붙인 복사본. 실제 거르기는 요청마다 넘기는 ModelFieldFilter 가 한다
+    private final ObjectMapper filteringMapper;
+
+    public SparseJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.filteringMapper = objectMapper.copy();
+        filteringMapper.setAnnotationIntrospector(AnnotationIntrospector.pair(new JacksonAnnotationIntrospector() {
+            @Override
+            public Object findFilterId(Annotated annotated) {
+                return FILTER_ID;
+            }
+        }, objectMapper.getSerializationConfig().getAnnotationIntrospector()));
+    }
+
+    /**
+     * data 가 SparseRows 면 행을 스트리밍하고, 아니면(오류 응답 등) Messenger 를 그대로 쓴다.
+     */
+    public ResponseEntity<StreamingResponseBody> respond(Messenger messenger) {
+        if (!(messenger.getData() instanceof SparseRows rows)) {
+            return json(out -> objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, messenger));
+        }
+        return json(out -> {
+            // 응답 스트림은 컨테이너가 닫으므로 generator 를 닫을 때 같이 닫지 않는다
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.writeStartObject();
+                generator.writeNumberField("code", messenger.getCode());
+                generator.writeStringField("message", messenger.getMessage());
+                generator.writeArrayFieldStart("data");
+                List<String> fields = rows.fields();
+                for (Object[] row : rows.rows()) {
+                    generator.writeStartObject();
+                    for (int i = 0; i < fields.size(); i++) {
+                        generator.writeFieldName(fields.get(i));
+                        generator.writeObject(row[i]);
+                    }
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * 응답 안의 catalogs 모델 객체는 fields 에 있는 속성만 쓴다. 다른 객체(Messenger, 검색 결과 래퍼 등)는 그대로.
+     */
+    public ResponseEntity<StreamingResponseBody> respond(Messenger messenger, Set<String> fields, Collection<FieldCatalog> catalogs) {
+        Set<Class<?>> modelTypes = catalogs.stream()
+                .<Class<?>>map(FieldCatalog::modelType)
+                .collect(Collectors.toSet());
+        SimpleFilterProvider filters = new SimpleFilterProvider().addFilter(FILTER_ID, new ModelFieldFilter(modelTypes, fields));
+        return json(out -> filteringMapper.writer(filters).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, messenger));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> json(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static final class ModelFieldFilter extends SimpleBeanPropertyFilter {
+        private final Set<Class<?>> modelTypes;
+        private final Set<String> fields;
+
+        ModelFieldFilter(Set<Class<?>> modelTypes, Set<String> fields) {
+            this.modelTypes = modelTypes;
+            this.fields = fields;
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider,
+                                     PropertyWriter writer) throws Exception {
+            if (!modelTypes.contains(pojo.getClass()) || fields.contains(writer.getName())) {
+                writer.serializeAsField(pojo, generator, provider);
+            }
+        }
+    }
+}
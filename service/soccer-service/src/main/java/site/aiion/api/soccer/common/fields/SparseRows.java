@@ -0,0 +1,9 @@
+package site.aiion.api.soccer.common.fields;
+
+import java.util.List;
+
+/**
+ * 고른 필드만 select 한 결과. rows 의 각 배열은 fields 순서대로 값을 담는다.
+ */
+public record SparseRows(List<String> fields, List<Object[]> rows) {
+}
@@ -0,0 +1,182 @@
+package site.aiion.api.soccer.common.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.transaction.AfterCommit;
+
+/**
+ * 전체 목록 응답을 미리 직렬화한(선택적으로 gzip 한) 바이트 배열로 들고 있는 캐시.
+ * 쓰기가 커밋되면 세대 번호만 올리고, 다음 조회가 목록을 다시 읽어 새 불변 스냅샷으로 통째로 교체한다.
+ * 응답에는 내용 해시로 만든 ETag 를 붙여서 If-None-Match 가 같으면 본문 없이 304 를 돌려준다.
+ * gzip 본문은 바이트가 다른 표현이므로 "-gz" 를 붙인 별도 ETag 를 쓴다.
+ */
+@Component
+public class JsonSnapshotCache {
+
+    public static final String PLAYERS = "players";
+    public static final String TEAMS = "teams";
+    public static final String STADIUMS = "stadiums";
+    public static final String SCHEDULES = "schedules";
+
+    private static final String VERSION_HEADER = "X-Snapshot-Version";
+
+    private final ObjectMapper objectMapper;
+    private final boolean gzipEnabled;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public JsonSnapshotCache(ObjectMapper objectMapper,
+                             @Value("${soccer.snapshot.gzip:true}") boolean gzipEnabled) {
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    private record Snapshot(long version, String etag, String gzipEtag, byte[] json, byte[] gzip) {
+    }
+
+    private static final class Entry {
+        final AtomicLong generation = new AtomicLong();
+        volatile Snapshot snapshot;
+    }
+
+    /**
+     * name 목록이 바뀌었음을 알린다. 트랜잭션 안이면 커밋 후에 반영된다.
+     */
+    public void invalidate(String name) {
+        AfterCommit.run(() -> entry(name).generation.incrementAndGet());
+    }
+
+    /**
+     * 스냅샷 바이트를 그대로 응답한다. 스냅샷이 없거나 오래됐으면 loader 로 다시 만든다.
+     */
+    public ResponseEntity<byte[]> respond(String name, Supplier<Messenger> loader, String ifNoneMatch, String acceptEncoding) {
+        Snapshot snapshot = current(name, loader);
+        boolean gzip = snapshot.gzip() != null && acceptsGzip(acceptEncoding);
+        String etag = gzip ? snapshot.gzipEtag() : snapshot.etag();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.set(VERSION_HEADER, String.valueOf(snapshot.version()));
+        headers.setCacheControl(CacheControl.noCache());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (ifNoneMatch != null && matches(ifNoneMatch, etag)) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return new ResponseEntity<>(snapshot.gzip(), headers, HttpStatus.OK);
+        }
+        return new ResponseEntity<>(snapshot.json(), headers, HttpStatus.OK);
+    }
+
+    private Snapshot current(String name, Supplier<Messenger> loader) {
+        Entry entry = entry(name);
+        Snapshot snapshot = entry.snapshot;
+        if (snapshot != null && snapshot.version() == entry.generation.get()) {
+            return snapshot;
+        }
+        synchronized (entry) {
+            snapshot = entry.snapshot;
+            long generation = entry.generation.get();
+            if (snapshot != null && snapshot.version() == generation) {
+                return snapshot;
+            }
+            // 읽는 도중 쓰기가 커밋되면 세대가 다시 올라가서 다음 조회가 한 번 더 만든다
+            snapshot = build(name, generation, loader.get());
+            entry.snapshot = snapshot;
+            return snapshot;
+        }
+    }
+
+    private Snapshot build(String name, long version, Messenger messenger) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(messenger);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(json);
+        String tag = name + "-" + Long.toHexString(crc.getValue()) + "-" + json.length;
+        return new Snapshot(version, "\"" + tag + "\"", "\"" + tag + "-gz\"", json, gzipEnabled ? gzip(json) : null);
+    }
+
+    private Entry entry(String name) {
+        return entries.computeIfAbsent(name, k -> new Entry());
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accept-Encoding 에서 gzip 을 받는지 본다. q=0 은 거부로 보고, gzip 이 명시되지 않았으면 * 의 q 를 따른다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQ = null;
+        Double anyQ = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase();
+            double q = 1.0;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQ = gzipQ == null ? q : Math.max(gzipQ, q);
+            } else if (coding.equals("*")) {
+                anyQ = q;
+            }
+        }
+        if (gzipQ != null) {
+            return gzipQ > 0;
+        }
+        return anyQ != null && anyQ > 0;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,45 @@
+package site.aiion.api.soccer.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 색인/집계를 DB 와 맞추기 위한 커밋 후 실행 도우미.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 즉시 실행한다. 롤백된 변경이 메모리에 남지 않도록 하기 위함.
+     */
+    public static void run(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 트랜잭션이 끝난 뒤(커밋이면 afterCommit 작업들까지 끝난 뒤, 롤백이어도) 실행한다. 트랜잭션 밖이면 즉시 실행.
+     */
+    public static void runAfterCompletion(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
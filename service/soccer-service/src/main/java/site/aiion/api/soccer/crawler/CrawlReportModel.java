@@ -0,0 +1,29 @@
+package site.aiion.api.soccer.crawler;
+
+import java.io.Serializable;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class CrawlReportModel implements Serializable {
+    private int pages_fetched;
+    private int pages_failed;
+    private int rows_parsed;
+    private int rows_rejected;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    // 경기장 일정 중복 등으로 수정이 거부된 행
+    private int conflicts;
+    private long elapsed_ms;
+    private List<String> errors;
+}
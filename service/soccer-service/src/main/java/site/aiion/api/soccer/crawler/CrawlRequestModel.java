@@ -0,0 +1,22 @@
+package site.aiion.api.soccer.crawler;
+
+import java.io.Serializable;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class CrawlRequestModel implements Serializable {
+    // 시작 페이지 주소 (http/https). 각 페이지의 다음 페이지 링크를 따라간다
+    private List<String> urls;
+    // 이번 수집에서 받을 최대 페이지 수 (생략 시 설정값)
+    private Integer max_pages;
+}
@@ -0,0 +1,25 @@
+package site.aiion.api.soccer.crawler;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.domain.Messenger;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/soccer/crawler")
+public class CrawlerController {
+
+    private final CrawlerService crawlerService;
+
+    /**
+     * 예) {"urls": ["https://example.com/results?season=2012"], "max_pages": 20}
+     */
+    @PostMapping("/run")
+    public Messenger crawl(@RequestBody CrawlRequestModel crawlRequestModel) {
+        return crawlerService.crawl(crawlRequestModel);
+    }
+}
@@ -0,0 +1,7 @@
+package site.aiion.api.soccer.crawler;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+
+public interface CrawlerService {
+    public Messenger crawl(CrawlRequestModel crawlRequestModel);
+}
@@ -0,0 +1,178 @@
+package site.aiion.api.soccer.crawler;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import site.aiion.api.soccer.common.bulk.BulkWriter;
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.schedule.ScheduleDates;
+import site.aiion.api.soccer.schedule.ScheduleModel;
+import site.aiion.api.soccer.schedule.ScheduleRepository;
+import site.aiion.api.soccer.schedule.ScheduleService;
+
+/**
+ * 결과 페이지를 수집해 일정에 반영한다.
+ * 경기는 (match_date, hometeam_uk, awayteam_uk) 로 기존 행과 맞추고, 새 경기는 saveAll 로 묶어 넣고
+ * 점수/경기장/구분이 달라진 경기만 update 로 고친다 (색인/순위표/실시간 점수 갱신은 일정 서비스가 처리).
+ */
+@Service
+public class CrawlerServiceImpl implements CrawlerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CrawlerServiceImpl.class);
+
+    private final ScheduleService scheduleService;
+    private final ScheduleRepository scheduleRepository;
+    private final BulkWriter bulkWriter;
+    private final MatchCrawler matchCrawler;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${soccer.crawler.max-pages:50}")
+    private int defaultMaxPages;
+
+    public CrawlerServiceImpl(ScheduleService scheduleService,
+                              ScheduleRepository scheduleRepository,
+                              BulkWriter bulkWriter,
+                              @Value("${soccer.crawler.fetch-threads:4}") int fetchThreads,
+                              @Value("${soccer.crawler.parse-threads:0}") int parseThreads,
+                              @Value("${soccer.crawler.host-interval:PT1S}") Duration hostInterval,
+                              @Value("${soccer.crawler.timeout:PT10S}") Duration timeout,
+                              @Value("${soccer.crawler.user-agent:aiion-soccer-crawler}") String userAgent,
+                              @Value("${soccer.crawler.allowed-hosts:}") List<String> allowedHosts) {
+        this.scheduleService = scheduleService;
+        this.scheduleRepository = scheduleRepository;
+        this.bulkWriter = bulkWriter;
+        this.matchCrawler = new MatchCrawler(fetchThreads,
+                parseThreads > 0 ? parseThreads : Runtime.getRuntime().availableProcessors(),
+                new HostRateLimiter(hostInterval), timeout, userAgent, allowedHosts);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        matchCrawler.close();
+    }
+
+    @Override
+    public Messenger crawl(CrawlRequestModel crawlRequestModel) {
+        List<String> urls = crawlRequestModel.getUrls() == null ? List.of() : crawlRequestModel.getUrls().stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(url -> url.startsWith("http://") || url.startsWith("https://"))
+                .distinct()
+                .toList();
+        if (urls.isEmpty()) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("수집할 http(s) 주소를 입력해주세요.")
+                    .build();
+        }
+        List<String> disallowed = urls.stream().filter(url -> !matchCrawler.isAllowed(url)).toList();
+        if (!disallowed.isEmpty()) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("수집이 허용되지 않은 주소입니다 (soccer.crawler.allowed-hosts): " + String.join(", ", disallowed))
+                    .build();
+        }
+        // 동시에 두 번 돌면 같은 경기가 두 번 들어갈 수 있으므로 한 번에 하나만 실행한다
+        if (!running.compareAndSet(false, true)) {
+            return Messenger.builder()
+                    .Code(409)
+                    .message("이미 수집이 진행 중입니다.")
+                    .build();
+        }
+        try {
+            int maxPages = crawlRequestModel.getMax_pages() == null ? defaultMaxPages
+                    : Math.max(1, Math.min(crawlRequestModel.getMax_pages(), defaultMaxPages));
+            CrawlReportModel report = new CrawlReportModel();
+            long started = System.currentTimeMillis();
+            MatchCrawler.CrawlStats stats = matchCrawler.crawl(urls, maxPages, rows -> upsert(rows, report));
+            report.setPages_fetched(stats.pagesFetched());
+            report.setPages_failed(stats.pagesFailed());
+            report.setRows_parsed(stats.rowsParsed());
+            report.setRows_rejected(stats.rowsRejected());
+            report.setErrors(stats.errors());
+            report.setElapsed_ms(System.currentTimeMillis() - started);
+            logger.info("경기 결과 수집: {}페이지(실패 {}), 신규 {}, 수정 {}, 변경 없음 {}",
+                    report.getPages_fetched(), report.getPages_failed(),
+                    report.getInserted(), report.getUpdated(), report.getUnchanged());
+            return Messenger.builder()
+                    .Code(200)
+                    .message("수집 완료: 신규 " + report.getInserted() + "경기, 수정 " + report.getUpdated() + "경기")
+                    .data(report)
+                    .build();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void upsert(List<ScheduleModel> rows, CrawlReportModel report) {
+        // 같은 경기가 여러 페이지에 나오면 마지막 것을 쓴다
+        Map<String, ScheduleModel> byKey = new LinkedHashMap<>();
+        rows.forEach(row -> byKey.put(keyOf(row), row));
+        List<ScheduleModel> unique = new ArrayList<>(byKey.values());
+
+        int chunkSize = bulkWriter.getChunkSize();
+        for (int from = 0; from < unique.size(); from += chunkSize) {
+            List<ScheduleModel> chunk = unique.subList(from, Math.min(from + chunkSize, unique.size()));
+            Set<LocalDate> dates = chunk.stream()
+                    .map(row -> ScheduleDates.parse(row.getSche_date()))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Map<String, ScheduleModel> existing = scheduleRepository.findModelsByMatchDates(dates).stream()
+                    .collect(Collectors.toMap(CrawlerServiceImpl::keyOf, model -> model, (first, second) -> first));
+
+            List<ScheduleModel> inserts = new ArrayList<>();
+            for (ScheduleModel row : chunk) {
+                ScheduleModel current = existing.get(keyOf(row));
+                if (current == null) {
+                    inserts.add(row);
+                } else if (changed(current, row)) {
+                    row.setId(current.getId());
+                    // 기존 행의 날짜 표기는 그대로 둔다
+                    row.setSche_date(current.getSche_date());
+                    if (scheduleService.update(row).getCode() == 200) {
+                        report.setUpdated(report.getUpdated() + 1);
+                    } else {
+                        report.setConflicts(report.getConflicts() + 1);
+                    }
+                } else {
+                    report.setUnchanged(report.getUnchanged() + 1);
+                }
+            }
+            if (!inserts.isEmpty()) {
+                scheduleService.saveAll(inserts);
+                report.setInserted(report.getInserted() + inserts.size());
+            }
+        }
+    }
+
+    // 날짜 표기와 관계없이 같은 날 같은 대진이면 같은 경기
+    private static String keyOf(ScheduleModel model) {
+        return ScheduleDates.parse(model.getSche_date()) + "|" + model.getHometeam_uk() + "|" + model.getAwayteam_uk();
+    }
+
+    // 페이지에 없는 값(null)은 기존 값을 덮지 않으므로 비교에서도 뺀다
+    private static boolean changed(ScheduleModel current, ScheduleModel row) {
+        return differs(current.getHome_score(), row.getHome_score())
+                || differs(current.getAway_score(), row.getAway_score())
+                || differs(current.getStadium_uk(), row.getStadium_uk())
+                || differs(current.getGubun(), row.getGubun());
+    }
+
+    private static boolean differs(String current, String incoming) {
+        return incoming != null && !incoming.equals(current);
+    }
+}
@@ -0,0 +1,41 @@
+package site.aiion.api.soccer.crawler;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 호스트별 최소 요청 간격을 지키게 하는 제한기.
+ * 호출마다 호스트의 다음 빈 시각을 CAS 로 예약하고 그때까지 기다리므로, 동시 요청이 몰려도 한 호스트에는
+ * interval 마다 한 건씩만 나간다. 호스트가 다르면 서로 기다리지 않는다.
+ */
+public class HostRateLimiter {
+
+    private final long intervalNanos;
+    private final ConcurrentHashMap<String, AtomicLong> nextSlot = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public void acquire(String host) throws InterruptedException {
+        if (intervalNanos <= 0) {
+            return;
+        }
+        AtomicLong slot = nextSlot.computeIfAbsent(host, h -> new AtomicLong(System.nanoTime()));
+        long now;
+        long reserved;
+        while (true) {
+            now = System.nanoTime();
+            long current = slot.get();
+            reserved = Math.max(current, now);
+            if (slot.compareAndSet(current, reserved + intervalNanos)) {
+                break;
+            }
+        }
+        long waitNanos = reserved - now;
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package site.aiion.api.soccer.crawler;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.jsoup.Jsoup;
+
+import site.aiion.api.soccer.schedule.ScheduleModel;
+
+/**
+ * 결과 페이지 수집 파이프라인.
+ * 다운로드는 fetchThreads 개로 제한된 I/O 풀에서 호스트별 요청 간격을 지키며 하고,
+ * JSoup 파싱은 CPU 코어 수만큼의 별도 풀에서 한다. 느린 사이트가 파싱 스레드를 붙잡지 않는다.
+ * 페이지는 라운드 단위로 처리한다: 현재 라운드의 주소를 모두 받아 파싱한 뒤 읽은 경기를 sink 로 넘기고,
+ * 페이지에서 찾은 다음 페이지 링크가 다음 라운드가 된다. sink 는 호출한 스레드에서 실행된다.
+ * 시작 주소, 다음 페이지 링크, 리다이렉트 대상 모두 allowedHosts 에 있는 호스트만 요청한다 (내부망 요청 방지).
+ * 리다이렉트는 HttpClient 에 맡기지 않고 한 단계씩 직접 따라가며 매번 호스트를 확인한다.
+ */
+public class MatchCrawler implements AutoCloseable {
+
+    private static final int MAX_ERRORS = 20;
+    private static final int MAX_REDIRECTS = 5;
+
+    private final HttpClient httpClient;
+    private final ExecutorService fetchPool;
+    private final ExecutorService parsePool;
+    private final HostRateLimiter rateLimiter;
+    private final Duration requestTimeout;
+    private final String userAgent;
+    private final Set<String> allowedHosts;
+
+    public record CrawlStats(int pagesFetched, int pagesFailed, int rowsParsed, int rowsRejected, List<String> errors) {
+    }
+
+    private record Fetched(String url, byte[] body) {
+    }
+
+    private record PageResult(String url, MatchResultParser.ParsedPage page, String error) {
+    }
+
+    public MatchCrawler(int fetchThreads, int parseThreads, HostRateLimiter rateLimiter,
+                        Duration requestTimeout, String userAgent, Collection<String> allowedHosts) {
+        this.fetchPool = Executors.newFixedThreadPool(fetchThreads);
+        this.parsePool = Executors.newFixedThreadPool(parseThreads);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.rateLimiter = rateLimiter;
+        this.requestTimeout = requestTimeout;
+        this.userAgent = userAgent;
+        Set<String> hosts = new HashSet<>();
+        for (String host : allowedHosts) {
+            if (host != null && !host.isBlank()) {
+                hosts.add(host.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.allowedHosts = Set.copyOf(hosts);
+    }
+
+    /**
+     * http(s) 주소이고 호스트가 허용 목록에 있으면 true. "*.example.com" 은 하위 도메인만 허용한다.
+     */
+    public boolean isAllowed(String url) {
+        try {
+            return isAllowed(URI.create(url));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean isAllowed(URI uri) {
+        String scheme = uri.getScheme();
+        String host = uri.getHost();
+        if (host == null || !("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+            return false;
+        }
+        host = host.toLowerCase(Locale.ROOT);
+        if (allowedHosts.contains(host)) {
+            return true;
+        }
+        int dot = host.indexOf('.');
+        while (dot >= 0) {
+            if (allowedHosts.contains("*" + host.substring(dot))) {
+                return true;
+            }
+            dot = host.indexOf('.', dot + 1);
+        }
+        return false;
+    }
+
+    /**
+     * seeds 부터 다음 페이지 링크를 따라 최대 maxPages 페이지를 읽는다. 같은 주소는 한 번만 받는다.
+     */
+    public CrawlStats crawl(List<String> seeds, int maxPages, Consumer<List<ScheduleModel>> sink) {
+        Set<String> visited = new HashSet<>();
+        List<String> frontier = new ArrayList<>();
+        int fetched = 0;
+        int failed = 0;
+        int parsed = 0;
+        int rejected = 0;
+        List<String> errors = new ArrayList<>();
+        for (String seed : seeds) {
+            if (!isAllowed(seed)) {
+                failed++;
+                if (errors.size() < MAX_ERRORS) {
+                    errors.add(seed + ": 허용되지 않은 호스트");
+                }
+            } else if (visited.add(seed)) {
+                frontier.add(seed);
+            }
+        }
+
+        while (!frontier.isEmpty() && fetched + failed < maxPages) {
+            List<String> round = frontier.subList(0, Math.min(frontier.size(), maxPages - fetched - failed));
+            List<CompletableFuture<PageResult>> futures = new ArrayList<>(round.size());
+            for (String url : round) {
+                futures.add(CompletableFuture.supplyAsync(() -> fetch(url), fetchPool)
+                        .thenApplyAsync(page -> new PageResult(url, parse(page), null), parsePool)
+                        .exceptionally(e -> new PageResult(url, null, describe(e))));
+            }
+
+            Set<String> next = new LinkedHashSet<>();
+            List<ScheduleModel> rows = new ArrayList<>();
+            for (CompletableFuture<PageResult> future : futures) {
+                PageResult result = future.join();
+                if (result.error() != null) {
+                    failed++;
+                    if (errors.size() < MAX_ERRORS) {
+                        errors.add(result.url() + ": " + result.error());
+                    }
+                    continue;
+                }
+                fetched++;
+                rows.addAll(result.page().rows());
+                rejected += result.page().rejected();
+                for (String url : result.page().nextUrls()) {
+                    // 허용 목록 밖을 가리키는 링크는 따라가지 않는다
+                    if (isAllowed(url) && visited.add(url)) {
+                        next.add(url);
+                    }
+                }
+            }
+            parsed += rows.size();
+            if (!rows.isEmpty()) {
+                sink.accept(rows);
+            }
+            frontier = new ArrayList<>(next);
+        }
+        return new CrawlStats(fetched, failed, parsed, rejected, Collections.unmodifiableList(errors));
+    }
+
+    private Fetched fetch(String url) {
+        try {
+            URI uri = URI.create(url);
+            for (int hop = 0; ; hop++) {
+                rateLimiter.acquire(uri.getHost());
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                        .timeout(requestTimeout)
+                        .header("User-Agent", userAgent)
+                        .GET()
+                        .build();
+                HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                int status = response.statusCode();
+                if (status == 200) {
+                    // 리다이렉트된 경우 상대 링크는 최종 주소 기준으로 풀어야 한다
+                    return new Fetched(uri.toString(), response.body());
+                }
+                String location = response.headers().firstValue("Location").orElse(null);
+                if (status < 300 || status >= 400 || location == null) {
+                    throw new IOException("HTTP " + status);
+                }
+                if (hop >= MAX_REDIRECTS) {
+                    throw new IOException("리다이렉트가 " + MAX_REDIRECTS + "번을 넘었습니다");
+                }
+                uri = uri.resolve(location);
+                if (!isAllowed(uri)) {
+                    throw new IOException("허용되지 않은 리다이렉트 대상 " + uri.getHost());
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new CompletionException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    // charset 은 지정하지 않고 JSoup 이 BOM/meta 태그로 판단하게 한다 (EUC-KR 페이지 대응)
+    private static MatchResultParser.ParsedPage parse(Fetched page) {
+        try {
+            return MatchResultParser.parse(Jsoup.parse(new ByteArrayInputStream(page.body()), null, page.url()));
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static String describe(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause.getClass().getSimpleName() + (cause.getMessage() != null ? " " + cause.getMessage() : "");
+    }
+
+    @Override
+    public void close() {
+        fetchPool.shutdownNow();
+        parsePool.shutdownNow();
+    }
+}
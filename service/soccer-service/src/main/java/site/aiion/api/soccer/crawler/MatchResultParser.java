@@ -0,0 +1,102 @@
+package site.aiion.api.soccer.crawler;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import site.aiion.api.soccer.schedule.ScheduleDates;
+import site.aiion.api.soccer.schedule.ScheduleModel;
+
+/**
+ * 경기 결과 페이지 파서.
+ * <pre>
+ * &lt;tr class="match" data-gubun="Y"&gt;
+ *   &lt;td class="date"&gt;2012-03-17&lt;/td&gt;&lt;td class="stadium"&gt;D03&lt;/td&gt;
+ *   &lt;td class="home"&gt;K05&lt;/td&gt;&lt;td class="score"&gt;2 : 1&lt;/td&gt;&lt;td class="away"&gt;K08&lt;/td&gt;
+ * &lt;/tr&gt;
+ * &lt;a class="next" href="?page=2"&gt;
+ * </pre>
+ * 점수 칸이 "숫자 : 숫자" 가 아니면(예: "vs", "-") 아직 치르지 않은 경기로 보고 점수를 비워 둔다.
+ */
+public final class MatchResultParser {
+
+    static final String ROW_SELECTOR = "tr.match";
+    static final String NEXT_SELECTOR = "a.next[href], link[rel=next][href]";
+
+    private static final Pattern SCORE = Pattern.compile("^\\s*(\\d{1,2})\\s*[:\\-]\\s*(\\d{1,2})\\s*$");
+
+    private MatchResultParser() {
+    }
+
+    /**
+     * rows: 읽은 경기, nextUrls: 다음 페이지 절대 주소, rejected: 날짜/팀이 없어 버린 행 수
+     */
+    public record ParsedPage(List<ScheduleModel> rows, List<String> nextUrls, int rejected) {
+    }
+
+    public static ParsedPage parse(Document document) {
+        List<ScheduleModel> rows = new ArrayList<>();
+        int rejected = 0;
+        for (Element row : document.select(ROW_SELECTOR)) {
+            ScheduleModel model = toModel(row);
+            if (model == null) {
+                rejected++;
+            } else {
+                rows.add(model);
+            }
+        }
+        Set<String> nextUrls = new LinkedHashSet<>();
+        for (Element link : document.select(NEXT_SELECTOR)) {
+            String url = link.absUrl("href");
+            if (!url.isEmpty()) {
+                nextUrls.add(url);
+            }
+        }
+        return new ParsedPage(rows, List.copyOf(nextUrls), rejected);
+    }
+
+    private static ScheduleModel toModel(Element row) {
+        LocalDate date = ScheduleDates.parse(text(row, "td.date"));
+        String home = text(row, "td.home");
+        String away = text(row, "td.away");
+        if (date == null || home == null || away == null) {
+            return null;
+        }
+        String homeScore = null;
+        String awayScore = null;
+        String score = text(row, "td.score");
+        Matcher matcher = score != null ? SCORE.matcher(score) : null;
+        if (matcher != null && matcher.matches()) {
+            homeScore = String.valueOf(Integer.parseInt(matcher.group(1)));
+            awayScore = String.valueOf(Integer.parseInt(matcher.group(2)));
+        }
+        String gubun = row.attr("data-gubun");
+        return ScheduleModel.builder()
+                // 기존 데이터와 같은 yyyyMMdd 형식으로 맞춘다
+                .sche_date(date.format(DateTimeFormatter.BASIC_ISO_DATE))
+                .stadium_uk(text(row, "td.stadium"))
+                .gubun(gubun.isBlank() ? null : gubun.trim())
+                .hometeam_uk(home)
+                .awayteam_uk(away)
+                .home_score(homeScore)
+                .away_score(awayScore)
+                .build();
+    }
+
+    private static String text(Element row, String selector) {
+        Element cell = row.selectFirst(selector);
+        if (cell == null) {
+            return null;
+        }
+        String value = cell.text().trim();
+        return value.isEmpty() ? null : value;
+    }
+}
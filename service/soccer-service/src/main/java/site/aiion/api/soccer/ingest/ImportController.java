@@ -0,0 +1,74 @@
+package site.aiion.api.soccer.ingest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.domain.Messenger;
+
+/**
+ * 대량 가져오기. 본문(CSV 또는 NDJSON)을 스트리밍으로 읽고,
+ * 진행 상황과 행별 오류를 NDJSON(application/x-ndjson) 으로 한 줄씩 흘려보낸 뒤 마지막 줄에 요약을 보낸다.
+ * 예) curl -X POST -H 'Content-Type: text/csv' --data-binary @players.csv /soccer/import/players
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/soccer/import")
+public class ImportController {
+
+    private final ImportService importService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping("/{type}")
+    public void importRows(
+            @PathVariable String type,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (!importService.supports(type)) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.setContentType("application/json");
+            objectMapper.writeValue(response.getOutputStream(), Messenger.builder()
+                    .Code(400)
+                    .message("지원하지 않는 타입입니다: " + type + " (players, teams, stadiums, schedules)")
+                    .build());
+            return;
+        }
+
+        // format 파라미터가 없으면 Content-Type 으로 판단 (text/csv 가 아니면 NDJSON)
+        String resolvedFormat = format != null ? format
+                : (contentType != null && contentType.toLowerCase().contains("csv") ? "csv" : "ndjson");
+
+        response.setContentType("application/x-ndjson");
+        OutputStream out = response.getOutputStream();
+        ImportEvent summary = importService.importRows(type, resolvedFormat, request.getInputStream(), event -> write(out, event));
+        write(out, summary);
+    }
+
+    private void write(OutputStream out, ImportEvent event) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(event));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
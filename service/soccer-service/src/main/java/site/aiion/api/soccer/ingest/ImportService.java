@@ -0,0 +1,10 @@
+package site.aiion.api.soccer.ingest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface ImportService {
+    public boolean supports(String type);
+    public ImportEvent importRows(String type, String format, InputStream body, Consumer<ImportEvent> listener) throws IOException;
+}
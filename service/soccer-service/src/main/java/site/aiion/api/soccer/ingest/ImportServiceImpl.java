@@ -0,0 +1,275 @@
+package site.aiion.api.soccer.ingest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import site.aiion.api.soccer.common.bulk.BulkWriter;
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.player.PlayerModel;
+import site.aiion.api.soccer.player.PlayerService;
+import site.aiion.api.soccer.schedule.ScheduleModel;
+import site.aiion.api.soccer.schedule.ScheduleService;
+import site.aiion.api.soccer.stadium.StadiumModel;
+import site.aiion.api.soccer.stadium.StadiumService;
+import site.aiion.api.soccer.team.TeamModel;
+import site.aiion.api.soccer.team.TeamService;
+
+/**
+ * CSV/NDJSON 요청 본문을 한 행씩 읽어 검증하고, chunk 크기만큼 모일 때마다 saveAll 로 저장한다.
+ * 다음 행은 앞 배치 저장이 끝난 뒤에 읽으므로 (동기 pull) 메모리에는 항상 배치 하나만 남는다.
+ * 행 오류는 모아두지 않고 바로 listener 로 흘려보낸다.
+ * 배치 저장이 실패하면 그 배치를 한 행씩 다시 저장해서, 실패한 행마다 원본 행 번호로 오류를 남긴다.
+ */
+@Service
+public class ImportServiceImpl implements ImportService {
+
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {
+    };
+
+    private final PlayerService playerService;
+    private final TeamService teamService;
+    private final StadiumService stadiumService;
+    private final ScheduleService scheduleService;
+    private final BulkWriter bulkWriter;
+    private final ObjectMapper objectMapper;
+
+    public ImportServiceImpl(PlayerService playerService, TeamService teamService, StadiumService stadiumService,
+                             ScheduleService scheduleService, BulkWriter bulkWriter, ObjectMapper objectMapper) {
+        this.playerService = playerService;
+        this.teamService = teamService;
+        this.stadiumService = stadiumService;
+        this.scheduleService = scheduleService;
+        this.bulkWriter = bulkWriter;
+        // 모르는 컬럼은 무시한다
+        this.objectMapper = objectMapper.copy().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    private record ImportTarget<M>(Class<M> modelType, Function<M, String> validator, Function<List<M>, Messenger> writer) {
+    }
+
+    private record Row(long line, Map<String, Object> values, String error) {
+    }
+
+    private interface RowSource {
+        Row next() throws IOException;
+    }
+
+    @Override
+    public boolean supports(String type) {
+        return target(type) != null;
+    }
+
+    @Override
+    public ImportEvent importRows(String type, String format, InputStream body, Consumer<ImportEvent> listener) throws IOException {
+        ImportTarget<?> target = target(type);
+        if (target == null) {
+            throw new IllegalArgumentException("지원하지 않는 타입입니다: " + type);
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        RowSource source = "csv".equalsIgnoreCase(format) ? csvSource(reader) : ndjsonSource(reader);
+        return run(target, source, listener);
+    }
+
+    private ImportTarget<?> target(String type) {
+        if (type == null) {
+            return null;
+        }
+        return switch (type.toLowerCase()) {
+            case "player", "players" -> new ImportTarget<>(PlayerModel.class,
+                    m -> required("player_uk", m.getPlayer_uk(), "player_name", m.getPlayer_name()),
+                    playerService::saveAll);
+            case "team", "teams" -> new ImportTarget<>(TeamModel.class,
+                    m -> required("team_uk", m.getTeam_uk(), "team_name", m.getTeam_name()),
+                    teamService::saveAll);
+            case "stadium", "stadiums" -> new ImportTarget<>(StadiumModel.class,
+                    m -> required("stadium_uk", m.getStadium_uk(), "stadium_name", m.getStadium_name()),
+                    stadiumService::saveAll);
+            case "schedule", "schedules" -> new ImportTarget<>(ScheduleModel.class,
+                    m -> required("sche_date", m.getSche_date(), "hometeam_uk", m.getHometeam_uk(),
+                            "awayteam_uk", m.getAwayteam_uk()),
+                    scheduleService::saveAll);
+            default -> null;
+        };
+    }
+
+    private <M> ImportEvent run(ImportTarget<M> target, RowSource source, Consumer<ImportEvent> listener) throws IOException {
+        long start = System.nanoTime();
+        int batchSize = bulkWriter.getChunkSize();
+        List<M> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+        long rows = 0;
+        long saved = 0;
+        long errors = 0;
+
+        Row row;
+        while ((row = nextRow(source, listener)) != null) {
+            rows++;
+            if (row.error() != null) {
+                errors++;
+                listener.accept(error(row.line(), row.error()));
+                continue;
+            }
+            M model;
+            try {
+                model = objectMapper.convertValue(row.values(), target.modelType());
+            } catch (IllegalArgumentException e) {
+                errors++;
+                listener.accept(error(row.line(), "값 변환 실패: " + e.getMessage()));
+                continue;
+            }
+            String invalid = target.validator().apply(model);
+            if (invalid != null) {
+                errors++;
+                listener.accept(error(row.line(), invalid));
+                continue;
+            }
+            batch.add(model);
+            batchLines.add(row.line());
+            if (batch.size() == batchSize) {
+                long written = flush(target, batch, batchLines, listener);
+                saved += written;
+                errors += batchSize - written;
+                listener.accept(progress(rows, saved, errors, start));
+            }
+        }
+        if (!batch.isEmpty()) {
+            int size = batch.size();
+            long written = flush(target, batch, batchLines, listener);
+            saved += written;
+            errors += size - written;
+        }
+        return ImportEvent.builder()
+                .event("done")
+                .rows(rows)
+                .saved(saved)
+                .errors(errors)
+                .elapsedMs(elapsedMs(start))
+                .message("가져오기 완료: " + saved + "건 저장, " + errors + "건 오류")
+                .build();
+    }
+
+    // CSV 문법 오류(닫히지 않은 따옴표 등)는 이후 행을 신뢰할 수 없으므로 거기서 멈춘다
+    private Row nextRow(RowSource source, Consumer<ImportEvent> listener) {
+        try {
+            return source.next();
+        } catch (IOException e) {
+            listener.accept(error(null, "읽기 중단: " + e.getMessage()));
+            return null;
+        }
+    }
+
+    // 배치 저장에 실패하면 (실패한 chunk 는 롤백되므로) 한 행씩 다시 저장해서 문제 행만 골라낸다. 저장된 행 수를 반환
+    private <M> long flush(ImportTarget<M> target, List<M> batch, List<Long> lines, Consumer<ImportEvent> listener) {
+        try {
+            target.writer().apply(batch);
+            return batch.size();
+        } catch (RuntimeException batchError) {
+            long written = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    target.writer().apply(List.of(batch.get(i)));
+                    written++;
+                } catch (RuntimeException e) {
+                    listener.accept(error(lines.get(i), "저장 실패: " + e.getMessage()));
+                }
+            }
+            return written;
+        } finally {
+            batch.clear();
+            lines.clear();
+        }
+    }
+
+    private RowSource csvSource(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return () -> null;
+        }
+        List<String> columns = header.stream().map(String::trim).toList();
+        return () -> {
+            List<String> record = csv.readRecord();
+            if (record == null) {
+                return null;
+            }
+            if (record.size() != columns.size()) {
+                return new Row(csv.getRecordLine(), null,
+                        "컬럼 수가 헤더와 다릅니다 (" + record.size() + " / " + columns.size() + ")");
+            }
+            Map<String, Object> values = new HashMap<>(columns.size() * 2);
+            for (int i = 0; i < columns.size(); i++) {
+                String value = record.get(i);
+                values.put(columns.get(i), value.isEmpty() ? null : value);
+            }
+            return new Row(csv.getRecordLine(), values, null);
+        };
+    }
+
+    private RowSource ndjsonSource(BufferedReader reader) {
+        long[] line = { 0 };
+        return () -> {
+            String text;
+            do {
+                text = reader.readLine();
+                line[0]++;
+            } while (text != null && text.isBlank());
+            if (text == null) {
+                return null;
+            }
+            try {
+                return new Row(line[0], objectMapper.readValue(text, ROW_TYPE), null);
+            } catch (JsonProcessingException e) {
+                return new Row(line[0], null, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    // (이름, 값) 쌍을 받아 비어 있는 필수 값이 있으면 오류 메시지를 반환한다
+    private static String required(String... nameValuePairs) {
+        for (int i = 0; i < nameValuePairs.length; i += 2) {
+            String value = nameValuePairs[i + 1];
+            if (value == null || value.isBlank()) {
+                return nameValuePairs[i] + " 값이 필요합니다.";
+            }
+        }
+        return null;
+    }
+
+    private static ImportEvent progress(long rows, long saved, long errors, long start) {
+        return ImportEvent.builder()
+                .event("progress")
+                .rows(rows)
+                .saved(saved)
+                .errors(errors)
+                .elapsedMs(elapsedMs(start))
+                .build();
+    }
+
+    private static ImportEvent error(Long line, String message) {
+        return ImportEvent.builder()
+                .event("error")
+                .line(line)
+                .message(message)
+                .build();
+    }
+
+    private static long elapsedMs(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,227 @@
+package site.aiion.api.soccer.live;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 이 인스턴스에 연결된 SSE 구독자에게 점수 이벤트를 나눠 준다.
+ * 이벤트는 한 번만 직렬화해서 모든 구독자가 같은 프레임을 공유한다.
+ * 구독자마다 크기가 정해진 큐를 두고 가상 스레드가 하나씩 꺼내 보내므로, 느린 연결이 발행 쪽을 막지 않는다.
+ * 큐가 가득 찬 구독자(느린 소비자)는 연결을 끊고, 클라이언트는 재연결 후 GET /schedules 로 상태를 다시 맞춘다.
+ */
+@Component
+public class LiveScoreBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveScoreBroadcaster.class);
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("ping").build();
+
+    // 등록된 모든 구독자 (heartbeat 는 경기 구독 수와 관계없이 구독자마다 한 번만 보낸다)
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // 경기 필터 없이 전체를 받는 구독자
+    private final Set<Subscriber> allMatches = ConcurrentHashMap.newKeySet();
+    // 경기 id → 그 경기를 구독한 구독자
+    private final ConcurrentHashMap<Long, Set<Subscriber>> byMatch = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberCount = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor();
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+
+    public LiveScoreBroadcaster(ObjectMapper objectMapper,
+                                @Value("${soccer.live.buffer-size:64}") int bufferSize,
+                                @Value("${soccer.live.max-subscribers:10000}") int maxSubscribers,
+                                @Value("${soccer.live.timeout:PT30M}") Duration timeout,
+                                @Value("${soccer.live.heartbeat:PT15S}") Duration heartbeatInterval) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeout.toMillis();
+        long interval = heartbeatInterval.toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 새 구독자를 등록한다. matchIds 가 비어 있으면 모든 경기를 받는다. 구독자 수가 상한이면 null.
+     */
+    public SseEmitter subscribe(Set<Long> matchIds) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = createEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(matchIds));
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+        subscribers.add(subscriber);
+        if (subscriber.matchIds.isEmpty()) {
+            allMatches.add(subscriber);
+        } else {
+            for (Long matchId : subscriber.matchIds) {
+                byMatch.computeIfAbsent(matchId, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * 이 인스턴스의 구독자에게 이벤트를 보낸다. 호출 스레드는 큐에 넣기만 하고 바로 돌아온다.
+     */
+    public void broadcast(ScoreEvent event) {
+        Set<ResponseBodyEmitter.DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .name("score")
+                    .data(objectMapper.writeValueAsString(event), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            logger.warn("점수 이벤트 직렬화 실패: {}", event.getSchedule_id(), e);
+            return;
+        }
+        published.incrementAndGet();
+        enqueueAll(allMatches, frame);
+        Set<Subscriber> matchSubscribers = byMatch.get(event.getSchedule_id());
+        if (matchSubscribers != null) {
+            enqueueAll(matchSubscribers, frame);
+        }
+    }
+
+    // 테스트에서 전송을 가로챌 수 있도록 분리
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    public long getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getEvictedCount() {
+        return evicted.get();
+    }
+
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    private void enqueueAll(Collection<Subscriber> subscribers, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(frame);
+        }
+    }
+
+    // 끊긴 연결은 쓰기에서 예외가 나야 알 수 있으므로 주기적으로 주석 프레임을 보낸다
+    void sendHeartbeat() {
+        enqueueAll(subscribers, HEARTBEAT);
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.remove(subscriber);
+        if (subscriber.matchIds.isEmpty()) {
+            allMatches.remove(subscriber);
+            return;
+        }
+        for (Long matchId : subscriber.matchIds) {
+            byMatch.computeIfPresent(matchId, (k, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<Long> matchIds;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, Set<Long> matchIds) {
+            this.emitter = emitter;
+            this.matchIds = matchIds;
+        }
+
+        void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                evict();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        // 한 구독자에 대해 동시에 하나의 drain 만 돈다. 빠져나온 직후 들어온 이벤트는 다시 잡아서 보낸다
+        private void drain() {
+            try {
+                do {
+                    Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                    while ((frame = queue.poll()) != null) {
+                        emitter.send(frame);
+                    }
+                    draining.set(false);
+                } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                draining.set(false);
+                unregister(this);
+                queue.clear();
+                // 컨테이너 쪽 비동기 요청도 끝내야 연결과 스레드가 정리된다
+                emitter.completeWithError(e);
+            }
+        }
+
+        private void evict() {
+            if (closed.get()) {
+                return;
+            }
+            evicted.incrementAndGet();
+            unregister(this);
+            queue.clear();
+            logger.info("느린 SSE 구독자 연결 종료 (대기 이벤트 {}개 초과)", bufferSize);
+            // 전송 중인 스레드가 emitter 잠금을 쥐고 있을 수 있으므로 종료도 별도 스레드에서 한다
+            sender.execute(emitter::complete);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package site.aiion.api.soccer.live;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.domain.Messenger;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/schedules/live")
+public class LiveScoreController {
+
+    private final LiveScoreBroadcaster liveScoreBroadcaster;
+
+    /**
+     * 점수 변경 SSE 스트림 (event: score). match 를 주면 해당 경기만 받는다.
+     * 예) /schedules/live?match=101&match=102
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(name = "match", required = false) List<Long> matchIds) {
+        SseEmitter emitter = liveScoreBroadcaster.subscribe(matchIds == null ? Set.of() : Set.copyOf(matchIds));
+        if (emitter == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "실시간 구독자 수가 상한에 도달했습니다.");
+        }
+        return emitter;
+    }
+
+    @GetMapping("/stats")
+    public Messenger stats() {
+        Map<String, Long> data = new LinkedHashMap<>();
+        data.put("subscribers", liveScoreBroadcaster.getSubscriberCount());
+        data.put("published", liveScoreBroadcaster.getPublishedCount());
+        data.put("evicted", liveScoreBroadcaster.getEvictedCount());
+        return Messenger.builder()
+                .Code(200)
+                .message("실시간 구독자 " + data.get("subscribers") + "명")
+                .data(data)
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package site.aiion.api.soccer.live;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.transaction.AfterCommit;
+
+/**
+ * 점수 변경을 커밋 후에 이 인스턴스 구독자에게 보내고, Redis 중계가 켜져 있으면 다른 인스턴스에도 알린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveScorePublisher {
+
+    private final LiveScoreBroadcaster liveScoreBroadcaster;
+    private final ObjectProvider<RedisLiveScoreRelay> redisLiveScoreRelay;
+
+    public void publish(ScoreEvent event) {
+        AfterCommit.run(() -> {
+            liveScoreBroadcaster.broadcast(event);
+            redisLiveScoreRelay.ifAvailable(relay -> relay.send(event));
+        });
+    }
+}
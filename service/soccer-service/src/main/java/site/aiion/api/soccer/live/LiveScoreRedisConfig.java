@@ -0,0 +1,22 @@
+package site.aiion.api.soccer.live;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "soccer.live.redis.enabled", havingValue = "true")
+public class LiveScoreRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer liveScoreListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    RedisLiveScoreRelay relay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(relay, new ChannelTopic(relay.getChannel()));
+        return container;
+    }
+}
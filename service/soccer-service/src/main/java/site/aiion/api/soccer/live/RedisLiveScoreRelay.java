@@ -0,0 +1,75 @@
+package site.aiion.api.soccer.live;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Redis pub/sub 으로 점수 이벤트를 다른 인스턴스와 주고받는다.
+ * 자기가 보낸 메시지는 이미 로컬에 보냈으므로 origin 으로 걸러낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "soccer.live.redis.enabled", havingValue = "true")
+public class RedisLiveScoreRelay implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisLiveScoreRelay.class);
+
+    record Envelope(String origin, ScoreEvent event) {
+    }
+
+    private final String origin = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final LiveScoreBroadcaster liveScoreBroadcaster;
+    private final String channel;
+
+    public RedisLiveScoreRelay(StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               LiveScoreBroadcaster liveScoreBroadcaster,
+                               @Value("${soccer.live.redis.channel:soccer:live-scores}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.liveScoreBroadcaster = liveScoreBroadcaster;
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void send(ScoreEvent event) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(new Envelope(origin, event)));
+        } catch (JsonProcessingException e) {
+            logger.warn("점수 이벤트 직렬화 실패: {}", event.getSchedule_id(), e);
+        } catch (RuntimeException e) {
+            // Redis 장애여도 로컬 구독자 전송과 일정 저장은 그대로 진행한다
+            logger.warn("Redis 점수 이벤트 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Envelope envelope = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), Envelope.class);
+            if (!origin.equals(envelope.origin()) && envelope.event() != null) {
+                liveScoreBroadcaster.broadcast(envelope.event());
+            }
+        } catch (IOException e) {
+            logger.warn("Redis 점수 이벤트 해석 실패", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package site.aiion.api.soccer.live;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 경기 점수 변경 이벤트. previous_* 는 변경 전 점수 (처음 입력이면 null)
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class ScoreEvent implements Serializable {
+    private Long schedule_id;
+    private String sche_date;
+    private String stadium_uk;
+    private String hometeam_uk;
+    private String awayteam_uk;
+    private String home_score;
+    private String away_score;
+    private String previous_home_score;
+    private String previous_away_score;
+    private String updated_at;
+}
@@ -15,7 +15,9 @@ import site.aiion.api.soccer.team.Team;
 @AllArgsConstructor
 public class Player {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 대량 저장 시 JDBC batch insert 가 가능하도록 pooled 시퀀스 사용 (IDENTITY 는 batch 불가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "players_seq")
+    @SequenceGenerator(name = "players_seq", sequenceName = "players_seq", allocationSize = 50)
     private Long id;
     
     private String player_uk;
@@ -2,16 +2,22 @@ package site.aiion.api.soccer.player;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.fields.SparseJsonWriter;
+import site.aiion.api.soccer.common.snapshot.JsonSnapshotCache;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,15 +25,27 @@ import site.aiion.api.soccer.common.domain.Messenger;
 public class PlayerController {
 
     private final PlayerService playerService;
+    private final JsonSnapshotCache jsonSnapshotCache;
+    private final SparseJsonWriter sparseJsonWriter;
 
     @PostMapping("/findById")
     public Messenger findById(@RequestBody PlayerModel playerModel) {
         return playerService.findById(playerModel);
     }
 
+    /**
+     * 미리 직렬화된 목록 스냅샷을 그대로 내려준다. If-None-Match 가 현재 ETag 와 같으면 304.
+     * fields(예: id,player_name)를 주면 그 컬럼만 select 해서 스트리밍한다.
+     */
     @GetMapping
-    public Messenger findAll() {
-        return playerService.findAll();
+    public ResponseEntity<?> findAll(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (fields != null && !fields.isBlank()) {
+            return sparseJsonWriter.respond(playerService.findFields(fields));
+        }
+        return jsonSnapshotCache.respond(JsonSnapshotCache.PLAYERS, playerService::findAll, ifNoneMatch, acceptEncoding);
     }
 
     @PostMapping
@@ -50,4 +68,14 @@ public class PlayerController {
         return playerService.delete(playerModel);
     }
 
+    @GetMapping("/fuzzy")
+    public Messenger findByWordFuzzy(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Integer maxDistance) {
+        PlayerModel playerModel = PlayerModel.builder()
+                .e_player_name(keyword)
+                .build();
+        return playerService.findByWordFuzzy(playerModel, maxDistance);
+    }
+
 }
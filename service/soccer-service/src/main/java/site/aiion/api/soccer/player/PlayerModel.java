@@ -43,4 +43,17 @@ public class PlayerModel {
     private String weight;
     
     private String team_uk;
+    
+    // 조회 시 팀을 join 한 경우에만 채워진다
+    private String team_name;
+    
+    /**
+     * 팀 컬럼 없이 선수 컬럼만 조회하는 QueryDSL 프로젝션용 생성자
+     */
+    public PlayerModel(Long id, String player_uk, String player_name, String e_player_name, String nickname,
+                       String join_yyyy, String position, String back_no, String nation, String birth_date,
+                       String solar, String height, String weight, String team_uk) {
+        this(id, player_uk, player_name, e_player_name, nickname, join_yyyy, position, back_no, nation,
+                birth_date, solar, height, weight, team_uk, null);
+    }
 }
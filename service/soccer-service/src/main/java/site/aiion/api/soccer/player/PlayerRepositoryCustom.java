@@ -1,5 +1,52 @@
 package site.aiion.api.soccer.player;
 
+import static site.aiion.api.soccer.player.QPlayer.player;
+import static site.aiion.api.soccer.team.QTeam.team;
+
+import java.util.List;
+import java.util.Optional;
+
+import site.aiion.api.soccer.common.fields.FieldCatalog;
+import site.aiion.api.soccer.common.fields.FieldSelection;
+
 public interface PlayerRepositoryCustom {
-    
+
+    /**
+     * GET /players?fields= 로 고를 수 있는 필드. team_name 을 고르면 팀을 left join 한다
+     */
+    FieldCatalog FIELDS = FieldCatalog.builder(PlayerModel.class)
+            .field("id", player.id)
+            .field("player_uk", player.player_uk)
+            .field("player_name", player.player_name)
+            .field("e_player_name", player.e_player_name)
+            .field("nickname", player.nickname)
+            .field("join_yyyy", player.join_yyyy)
+            .field("position", player.position)
+            .field("back_no", player.back_no)
+            .field("nation", player.nation)
+            .field("birth_date", player.birth_date)
+            .field("solar", player.solar)
+            .field("height", player.height)
+            .field("weight", player.weight)
+            .field("team_uk", player.team_uk)
+            .field("team_name", team.team_name)
+            .build();
+
+    /**
+     * 선수 목록을 PlayerModel 로 바로 조회 (엔티티 로딩 없이 SQL 1회)
+     * @param withTeam true 면 팀을 left join 해서 team_name 까지 채운다
+     */
+    List<PlayerModel> findAllModels(boolean withTeam);
+
+    Optional<PlayerModel> findModelById(Long id, boolean withTeam);
+
+    /**
+     * 한 팀 소속 선수 목록 (팀 컬럼 없이 선수 컬럼만)
+     */
+    List<PlayerModel> findModelsByTeamUk(String teamUk);
+
+    /**
+     * 고른 컬럼만 select 해서 id 순 행 배열로 조회
+     */
+    List<Object[]> findFields(FieldSelection selection);
 }
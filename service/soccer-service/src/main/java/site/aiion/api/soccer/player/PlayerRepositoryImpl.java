@@ -1,10 +1,80 @@
 package site.aiion.api.soccer.player;
 
+import static site.aiion.api.soccer.player.QPlayer.player;
+import static site.aiion.api.soccer.team.QTeam.team;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.fields.FieldSelection;
 
 @RequiredArgsConstructor
 public class PlayerRepositoryImpl implements PlayerRepositoryCustom
 {
    private final JPAQueryFactory queryFactory;
+
+   @Override
+   public List<PlayerModel> findAllModels(boolean withTeam) {
+      return selectModels(withTeam)
+            .orderBy(player.id.asc())
+            .fetch();
+   }
+
+   @Override
+   public Optional<PlayerModel> findModelById(Long id, boolean withTeam) {
+      return Optional.ofNullable(selectModels(withTeam)
+            .where(player.id.eq(id))
+            .fetchOne());
+   }
+
+   @Override
+   public List<PlayerModel> findModelsByTeamUk(String teamUk) {
+      return selectModels(false)
+            .where(player.team_uk.eq(teamUk))
+            .orderBy(player.id.asc())
+            .fetch();
+   }
+
+   @Override
+   public List<Object[]> findFields(FieldSelection selection) {
+      JPAQuery<Tuple> query = queryFactory.select(selection.toArray()).from(player);
+      if (selection.contains("team_name")) {
+         query.leftJoin(player.team, team);
+      }
+      return query.orderBy(player.id.asc())
+            .fetch()
+            .stream()
+            .map(Tuple::toArray)
+            .toList();
+   }
+
+   // 스칼라 컬럼만 select 하므로 @ManyToOne team 의 즉시 로딩(추가 select)이 일어나지 않는다
+   private JPAQuery<PlayerModel> selectModels(boolean withTeam) {
+      if (!withTeam) {
+         return queryFactory.select(playerColumns()).from(player);
+      }
+      return queryFactory.select(playerWithTeamColumns())
+            .from(player)
+            .leftJoin(player.team, team);
+   }
+
+   private static ConstructorExpression<PlayerModel> playerColumns() {
+      return Projections.constructor(PlayerModel.class,
+            player.id, player.player_uk, player.player_name, player.e_player_name, player.nickname,
+            player.join_yyyy, player.position, player.back_no, player.nation, player.birth_date,
+            player.solar, player.height, player.weight, player.team_uk);
+   }
+
+   private static ConstructorExpression<PlayerModel> playerWithTeamColumns() {
+      return Projections.constructor(PlayerModel.class,
+            player.id, player.player_uk, player.player_name, player.e_player_name, player.nickname,
+            player.join_yyyy, player.position, player.back_no, player.nation, player.birth_date,
+            player.solar, player.height, player.weight, player.team_uk, team.team_name);
+   }
 }
@@ -6,9 +6,14 @@ import site.aiion.api.soccer.common.domain.Messenger;
 public interface PlayerService {
     public Messenger findById(PlayerModel playerModel);
     public Messenger findAll();
+    /**
+     * fields(쉼표 목록)에 있는 필드만 조회. data 는 SparseRows, 모르는 필드가 있으면 code 400
+     */
+    public Messenger findFields(String fields);
     public Messenger save(PlayerModel playerModel);
     public Messenger saveAll(List<PlayerModel> playerModelList);
     public Messenger update(PlayerModel playerModel);
     public Messenger delete(PlayerModel playerModel);
     public Messenger findByWord(PlayerModel playerModel);
+    public Messenger findByWordFuzzy(PlayerModel playerModel, Integer maxDistance);
 }
@@ -1,14 +1,25 @@
 package site.aiion.api.soccer.player;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.bulk.BulkWriter;
 import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.fields.FieldSelection;
+import site.aiion.api.soccer.common.fields.SparseRows;
+import site.aiion.api.soccer.common.snapshot.JsonSnapshotCache;
+import site.aiion.api.soccer.search.BkTree;
+import site.aiion.api.soccer.search.SoccerSearchIndex;
+import site.aiion.api.soccer.stats.PlayerColumnStore;
 import site.aiion.api.soccer.team.TeamRepository;
 import site.aiion.api.soccer.team.Team;
 
@@ -19,6 +30,13 @@ public class PlayerServiceImpl implements PlayerService {
 
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
+    private final SoccerSearchIndex soccerSearchIndex;
+    private final JsonSnapshotCache jsonSnapshotCache;
+    private final BulkWriter bulkWriter;
+    private final PlayerColumnStore playerColumnStore;
+
+    @Value("${soccer.search.fuzzy.max-distance:2}")
+    private int fuzzyMaxDistance;
 
     private PlayerModel entityToModel(Player entity) {
         return PlayerModel.builder()
@@ -36,6 +54,7 @@ public class PlayerServiceImpl implements PlayerService {
                 .height(entity.getHeight())
                 .weight(entity.getWeight())
                 .team_uk(entity.getTeam_uk())
+                .team_name(entity.getTeam() != null ? entity.getTeam().getTeam_name() : null)
                 .build();
     }
 
@@ -44,6 +63,10 @@ public class PlayerServiceImpl implements PlayerService {
         if (model.getTeam_uk() != null) {
             team = teamRepository.findByTeam_uk(model.getTeam_uk()).orElse(null);
         }
+        return modelToEntity(model, team);
+    }
+
+    private Player modelToEntity(PlayerModel model, Team team) {
         return Player.builder()
                 .id(model.getId())
                 .player_uk(model.getPlayer_uk())
@@ -63,6 +86,13 @@ public class PlayerServiceImpl implements PlayerService {
                 .build();
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSearchIndex() {
+        List<PlayerModel> modelList = playerRepository.findAllModels(true);
+        soccerSearchIndex.rebuildPlayers(modelList);
+        playerColumnStore.rebuild(modelList);
+    }
+
     @Override
     public Messenger findById(PlayerModel playerModel) {
         if (playerModel.getId() == null) {
@@ -71,13 +101,12 @@ public class PlayerServiceImpl implements PlayerService {
                     .message("ID가 필요합니다.")
                     .build();
         }
-        Optional<Player> entity = playerRepository.findById(playerModel.getId());
-        if (entity.isPresent()) {
-            PlayerModel model = entityToModel(entity.get());
+        Optional<PlayerModel> model = playerRepository.findModelById(playerModel.getId(), true);
+        if (model.isPresent()) {
             return Messenger.builder()
                     .Code(200)
                     .message("조회 성공")
-                    .data(model)
+                    .data(model.get())
                     .build();
         } else {
             return Messenger.builder()
@@ -89,10 +118,7 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public Messenger findAll() {
-        List<Player> entities = playerRepository.findAll();
-        List<PlayerModel> modelList = entities.stream()
-                .map(this::entityToModel)
-                .collect(Collectors.toList());
+        List<PlayerModel> modelList = playerRepository.findAllModels(true);
         return Messenger.builder()
                 .Code(200)
                 .message("전체 조회 성공: " + modelList.size() + "개")
@@ -100,12 +126,34 @@ public class PlayerServiceImpl implements PlayerService {
                 .build();
     }
 
+    @Override
+    public Messenger findFields(String fields) {
+        FieldSelection selection;
+        try {
+            selection = PlayerRepository.FIELDS.select(fields);
+        } catch (IllegalArgumentException e) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message(e.getMessage())
+                    .build();
+        }
+        List<Object[]> rows = playerRepository.findFields(selection);
+        return Messenger.builder()
+                .Code(200)
+                .message("전체 조회 성공: " + rows.size() + "개")
+                .data(new SparseRows(selection.names(), rows))
+                .build();
+    }
+
     @Override
     @Transactional
     public Messenger save(PlayerModel playerModel) {
         Player entity = modelToEntity(playerModel);
         Player saved = playerRepository.save(entity);
         PlayerModel model = entityToModel(saved);
+        soccerSearchIndex.indexPlayer(model);
+        jsonSnapshotCache.invalidate(JsonSnapshotCache.PLAYERS);
+        playerColumnStore.indexPlayer(model);
         return Messenger.builder()
                 .Code(200)
                 .message("저장 성공: " + saved.getId())
@@ -113,14 +161,27 @@ public class PlayerServiceImpl implements PlayerService {
                 .build();
     }
 
+    /**
+     * 대량 저장. 팀은 한 번에 읽어 둔 team_uk → 팀 맵에서 찾고, chunk 단위로 batch insert 후 커밋한다.
+     */
     @Override
-    @Transactional
     public Messenger saveAll(List<PlayerModel> playerModelList) {
-        List<Player> entities = playerModelList.stream()
-                .map(this::modelToEntity)
-                .collect(Collectors.toList());
+        Map<String, Team> teamsByUk = teamRepository.findAll().stream()
+                .filter(team -> team.getTeam_uk() != null)
+                .collect(Collectors.toMap(Team::getTeam_uk, team -> team, (first, second) -> first));
         
-        List<Player> saved = playerRepository.saveAll(entities);
+        List<PlayerModel> saved = bulkWriter.write(playerModelList, chunk -> {
+            List<Player> entities = chunk.stream()
+                    .map(model -> modelToEntity(model, model.getTeam_uk() != null ? teamsByUk.get(model.getTeam_uk()) : null))
+                    .collect(Collectors.toList());
+            List<PlayerModel> models = playerRepository.saveAll(entities).stream()
+                    .map(this::entityToModel)
+                    .collect(Collectors.toList());
+            models.forEach(soccerSearchIndex::indexPlayer);
+            jsonSnapshotCache.invalidate(JsonSnapshotCache.PLAYERS);
+            models.forEach(playerColumnStore::indexPlayer);
+            return models;
+        });
         return Messenger.builder()
                 .Code(200)
                 .message("일괄 저장 성공: " + saved.size() + "개")
@@ -163,6 +224,9 @@ public class PlayerServiceImpl implements PlayerService {
             
             Player saved = playerRepository.save(updated);
             PlayerModel model = entityToModel(saved);
+            soccerSearchIndex.indexPlayer(model);
+            jsonSnapshotCache.invalidate(JsonSnapshotCache.PLAYERS);
+            playerColumnStore.indexPlayer(model);
             return Messenger.builder()
                     .Code(200)
                     .message("수정 성공: " + playerModel.getId())
@@ -188,6 +252,9 @@ public class PlayerServiceImpl implements PlayerService {
         Optional<Player> optionalEntity = playerRepository.findById(playerModel.getId());
         if (optionalEntity.isPresent()) {
             playerRepository.deleteById(playerModel.getId());
+            soccerSearchIndex.removePlayer(playerModel.getId());
+            jsonSnapshotCache.invalidate(JsonSnapshotCache.PLAYERS);
+            playerColumnStore.removePlayer(playerModel.getId());
             return Messenger.builder()
                     .Code(200)
                     .message("삭제 성공: " + playerModel.getId())
@@ -211,24 +278,41 @@ public class PlayerServiceImpl implements PlayerService {
                     .build();
         }
         
-        // 이름으로 검색 (LIKE 검색)
-        List<Player> players = playerRepository.findAll().stream()
-                .filter(p -> p.getPlayer_name() != null && 
-                            (p.getPlayer_name().contains(keyword) || 
-                             (p.getE_player_name() != null && p.getE_player_name().contains(keyword)) ||
-                             (p.getNickname() != null && p.getNickname().contains(keyword))))
-                .collect(Collectors.toList());
+        // 메모리 n-gram 색인으로 이름/영문명/닉네임 검색 (DB 조회 없음)
+        List<PlayerModel> modelList = soccerSearchIndex.searchPlayers(keyword);
         
-        List<PlayerModel> modelList = players.stream()
-                .map(this::entityToModel)
+        return Messenger.builder()
+                .Code(200)
+                .message("검색 완료: " + modelList.size() + "개")
+                .data(modelList)
+                .build();
+    }
+
+    @Override
+    public Messenger findByWordFuzzy(PlayerModel playerModel, Integer maxDistance) {
+        String keyword = playerModel.getE_player_name();
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("검색어를 입력해주세요.")
+                    .data(null)
+                    .build();
+        }
+        // 요청 값이 없거나 설정 상한을 넘으면 설정 값으로 제한 (짧은 검색어는 BkTree 가 길이에 맞춰 더 줄인다)
+        int distance = maxDistance == null
+                ? fuzzyMaxDistance
+                : Math.max(0, Math.min(maxDistance, fuzzyMaxDistance));
+        
+        // 영문명 편집 거리 검색 (가까운 순 정렬)
+        List<PlayerModel> modelList = soccerSearchIndex.fuzzySearchPlayers(keyword, distance).stream()
+                .map(BkTree.Match::value)
                 .collect(Collectors.toList());
         
         return Messenger.builder()
                 .Code(200)
-                .message("검색 완료: " + modelList.size() + "개")
+                .message("유사 검색 완료: " + modelList.size() + "개")
                 .data(modelList)
                 .build();
     }
 
 }
-
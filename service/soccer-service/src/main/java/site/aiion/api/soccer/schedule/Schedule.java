@@ -1,5 +1,7 @@
 package site.aiion.api.soccer.schedule;
 
+import java.time.LocalDate;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,17 +11,28 @@ import site.aiion.api.soccer.stadium.Stadium;
 import site.aiion.api.soccer.team.Team;
 
 @Entity
-@Table(name = "schedules")
+// 기간 조회는 (match_date, gubun) 으로, 팀별 기간 조회는 홈/원정 인덱스를 BitmapOr 로 합쳐 찾는다
+@Table(name = "schedules", indexes = {
+        @Index(name = "idx_schedules_match_date_gubun", columnList = "match_date, gubun"),
+        @Index(name = "idx_schedules_home_match_date", columnList = "hometeam_uk, match_date"),
+        @Index(name = "idx_schedules_away_match_date", columnList = "awayteam_uk, match_date")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Schedule {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 대량 저장 시 JDBC batch insert 가 가능하도록 pooled 시퀀스 사용 (IDENTITY 는 batch 불가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedules_seq")
+    @SequenceGenerator(name = "schedules_seq", sequenceName = "schedules_seq", allocationSize = 50)
     private Long id;
 
     private String sche_date;
+
+    // sche_date 를 파싱한 날짜. 저장/수정 시 자동으로 채워지며 날짜 형식이 아니면 null
+    @Column(name = "match_date")
+    private LocalDate match_date;
     
     private String stadium_uk;
     
@@ -44,5 +57,10 @@ public class Schedule {
     @ManyToOne
     @JoinColumn(name = "awayteam_uk", referencedColumnName = "team_uk", insertable = false, updatable = false)
     private Team awayteam;
-}
 
+    @PrePersist
+    @PreUpdate
+    void syncMatchDate() {
+        match_date = ScheduleDates.parse(sche_date);
+    }
+}
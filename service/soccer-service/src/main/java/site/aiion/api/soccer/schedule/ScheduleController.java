@@ -1,17 +1,25 @@
 package site.aiion.api.soccer.schedule;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.fields.SparseJsonWriter;
+import site.aiion.api.soccer.common.snapshot.JsonSnapshotCache;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,15 +27,39 @@ import site.aiion.api.soccer.common.domain.Messenger;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final JsonSnapshotCache jsonSnapshotCache;
+    private final SparseJsonWriter sparseJsonWriter;
 
     @PostMapping("/findById")
     public Messenger findById(@RequestBody ScheduleModel scheduleModel) {
         return scheduleService.findById(scheduleModel);
     }
 
+    /**
+     * 미리 직렬화된 목록 스냅샷을 그대로 내려준다. If-None-Match 가 현재 ETag 와 같으면 304.
+     * fields(예: id,sche_date)를 주면 그 컬럼만 select 해서 스트리밍한다.
+     */
     @GetMapping
-    public Messenger findAll() {
-        return scheduleService.findAll();
+    public ResponseEntity<?> findAll(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (fields != null && !fields.isBlank()) {
+            return sparseJsonWriter.respond(scheduleService.findFields(fields));
+        }
+        return jsonSnapshotCache.respond(JsonSnapshotCache.SCHEDULES, scheduleService::findAll, ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * 기간(from~to, yyyy-MM-dd) 안의 일정을 날짜순으로 조회. gubun, team(홈/원정 팀 코드)은 선택.
+     */
+    @GetMapping("/range")
+    public Messenger findByRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String gubun,
+            @RequestParam(required = false) String team) {
+        return scheduleService.findByRange(from, to, gubun, team);
     }
 
     @PostMapping
@@ -0,0 +1,46 @@
+package site.aiion.api.soccer.schedule;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * 문자열 sche_date("20120317", "2012-03-17", "2012.03.17") 를 LocalDate 로 바꾸는 유틸리티.
+ */
+public final class ScheduleDates {
+
+    private ScheduleDates() {
+    }
+
+    /**
+     * 숫자 8자리(구분자 무시)를 yyyyMMdd 로 읽는다. 형식이 맞지 않으면 null.
+     */
+    public static LocalDate parse(String scheDate) {
+        if (scheDate == null) {
+            return null;
+        }
+        int[] digits = new int[8];
+        int count = 0;
+        for (int i = 0; i < scheDate.length(); i++) {
+            char c = scheDate.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (count == digits.length) {
+                    return null;
+                }
+                digits[count++] = c - '0';
+            } else if (c != '-' && c != '.' && c != '/' && !Character.isWhitespace(c)) {
+                return null;
+            }
+        }
+        if (count != digits.length) {
+            return null;
+        }
+        int year = digits[0] * 1000 + digits[1] * 100 + digits[2] * 10 + digits[3];
+        int month = digits[4] * 10 + digits[5];
+        int day = digits[6] * 10 + digits[7];
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package site.aiion.api.soccer.schedule;
+
+import static site.aiion.api.soccer.schedule.QSchedule.schedule;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import site.aiion.api.soccer.common.fields.FieldCatalog;
+import site.aiion.api.soccer.common.fields.FieldSelection;
+
+public interface ScheduleRepositoryCustom {
+
+    /**
+     * GET /schedules?fields= 로 고를 수 있는 필드
+     */
+    FieldCatalog FIELDS = FieldCatalog.builder(ScheduleModel.class)
+            .field("id", schedule.id)
+            .field("sche_date", schedule.sche_date)
+            .field("stadium_uk", schedule.stadium_uk)
+            .field("gubun", schedule.gubun)
+            .field("hometeam_uk", schedule.hometeam_uk)
+            .field("awayteam_uk", schedule.awayteam_uk)
+            .field("home_score", schedule.home_score)
+            .field("away_score", schedule.away_score)
+            .build();
+
+    /**
+     * 일정 목록을 ScheduleModel 로 바로 조회 (경기장/팀 연관을 로딩하지 않으므로 SQL 1회)
+     */
+    List<ScheduleModel> findAllModels();
+
+    Optional<ScheduleModel> findModelById(Long id);
+
+    /**
+     * 고른 컬럼만 select 해서 id 순 행 배열로 조회
+     */
+    List<Object[]> findFields(FieldSelection selection);
+
+    /**
+     * 날짜, 홈팀, 원정팀 코드에 검색어가 포함된 일정 조회
+     */
+    List<ScheduleModel> findModelsByKeyword(String keyword);
+
+    /**
+     * match_date 가 [from, to] 안에 있는 일정을 날짜순으로 조회. gubun, teamUk(홈/원정)은 null 이면 조건에서 빠진다
+     */
+    List<ScheduleModel> findModelsByRange(LocalDate from, LocalDate to, String gubun, String teamUk);
+
+    /**
+     * match_date 가 주어진 날짜 중 하나인 일정 조회 (수집 결과를 기존 행과 맞춰 볼 때 사용).
+     * sche_date 표기(yyyyMMdd, yyyy-MM-dd, yyyy.MM.dd)가 달라도 같은 날이면 찾는다
+     */
+    List<ScheduleModel> findModelsByMatchDates(Collection<LocalDate> matchDates);
+
+    /**
+     * match_date 가 비어 있는 기존 행을 sche_date 로부터 채운다. 갱신한 행 수를 반환
+     */
+    long backfillMatchDates();
+}
@@ -0,0 +1,122 @@
+package site.aiion.api.soccer.schedule;
+
+import static site.aiion.api.soccer.schedule.QSchedule.schedule;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.fields.FieldSelection;
+
+@RequiredArgsConstructor
+public class ScheduleRepositoryImpl implements ScheduleRepositoryCustom
+{
+   private final JPAQueryFactory queryFactory;
+
+   @Override
+   public List<ScheduleModel> findAllModels() {
+      return queryFactory.select(scheduleColumns())
+            .from(schedule)
+            .orderBy(schedule.id.asc())
+            .fetch();
+   }
+
+   @Override
+   public List<Object[]> findFields(FieldSelection selection) {
+      return queryFactory.select(selection.toArray())
+            .from(schedule)
+            .orderBy(schedule.id.asc())
+            .fetch()
+            .stream()
+            .map(Tuple::toArray)
+            .toList();
+   }
+
+   @Override
+   public Optional<ScheduleModel> findModelById(Long id) {
+      return Optional.ofNullable(queryFactory.select(scheduleColumns())
+            .from(schedule)
+            .where(schedule.id.eq(id))
+            .fetchOne());
+   }
+
+   @Override
+   public List<ScheduleModel> findModelsByKeyword(String keyword) {
+      return queryFactory.select(scheduleColumns())
+            .from(schedule)
+            .where(schedule.sche_date.contains(keyword)
+                  .or(schedule.hometeam_uk.contains(keyword))
+                  .or(schedule.awayteam_uk.contains(keyword)))
+            .orderBy(schedule.id.asc())
+            .fetch();
+   }
+
+   @Override
+   public List<ScheduleModel> findModelsByRange(LocalDate from, LocalDate to, String gubun, String teamUk) {
+      BooleanBuilder where = new BooleanBuilder(schedule.match_date.between(from, to));
+      if (gubun != null && !gubun.isBlank()) {
+         where.and(schedule.gubun.eq(gubun));
+      }
+      if (teamUk != null && !teamUk.isBlank()) {
+         where.and(schedule.hometeam_uk.eq(teamUk).or(schedule.awayteam_uk.eq(teamUk)));
+      }
+      return queryFactory.select(scheduleColumns())
+            .from(schedule)
+            .where(where)
+            .orderBy(schedule.match_date.asc(), schedule.id.asc())
+            .fetch();
+   }
+
+   @Override
+   public List<ScheduleModel> findModelsByMatchDates(Collection<LocalDate> matchDates) {
+      if (matchDates.isEmpty()) {
+         return List.of();
+      }
+      return queryFactory.select(scheduleColumns())
+            .from(schedule)
+            .where(schedule.match_date.in(matchDates))
+            .orderBy(schedule.id.asc())
+            .fetch();
+   }
+
+   @Override
+   public long backfillMatchDates() {
+      List<Tuple> rows = queryFactory.select(schedule.id, schedule.sche_date)
+            .from(schedule)
+            .where(schedule.match_date.isNull(), schedule.sche_date.isNotNull())
+            .fetch();
+      // 같은 날짜끼리 묶어 날짜 하나당 update 1회로 끝낸다
+      Map<LocalDate, List<Long>> idsByDate = new LinkedHashMap<>();
+      for (Tuple row : rows) {
+         LocalDate date = ScheduleDates.parse(row.get(schedule.sche_date));
+         if (date != null) {
+            idsByDate.computeIfAbsent(date, d -> new ArrayList<>()).add(row.get(schedule.id));
+         }
+      }
+      long updated = 0;
+      for (Map.Entry<LocalDate, List<Long>> entry : idsByDate.entrySet()) {
+         updated += queryFactory.update(schedule)
+               .set(schedule.match_date, entry.getKey())
+               .where(schedule.id.in(entry.getValue()))
+               .execute();
+      }
+      return updated;
+   }
+
+   // *_uk 컬럼만 읽으므로 stadium/hometeam/awayteam 즉시 로딩(경기마다 추가 select)이 일어나지 않는다
+   private static ConstructorExpression<ScheduleModel> scheduleColumns() {
+      return Projections.constructor(ScheduleModel.class,
+            schedule.id, schedule.sche_date, schedule.stadium_uk, schedule.gubun,
+            schedule.hometeam_uk, schedule.awayteam_uk, schedule.home_score, schedule.away_score);
+   }
+}
@@ -1,15 +1,21 @@
 package site.aiion.api.soccer.schedule;
 
+import java.time.LocalDate;
 import java.util.List;
 import site.aiion.api.soccer.common.domain.Messenger;
 
 public interface ScheduleService {
     public Messenger findById(ScheduleModel scheduleModel);
     public Messenger findAll();
+    /**
+     * fields(쉼표 목록)에 있는 필드만 조회. data 는 SparseRows, 모르는 필드가 있으면 code 400
+     */
+    public Messenger findFields(String fields);
     public Messenger save(ScheduleModel scheduleModel);
     public Messenger saveAll(List<ScheduleModel> scheduleModelList);
     public Messenger update(ScheduleModel scheduleModel);
     public Messenger delete(ScheduleModel scheduleModel);
     public Messenger findByWord(ScheduleModel scheduleModel);
+    public Messenger findByRange(LocalDate from, LocalDate to, String gubun, String teamUk);
 }
 
@@ -1,15 +1,33 @@
 package site.aiion.api.soccer.schedule;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.booking.StadiumBookingIndex;
+import site.aiion.api.soccer.common.bulk.BulkWriter;
 import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.fields.FieldSelection;
+import site.aiion.api.soccer.common.fields.SparseRows;
+import site.aiion.api.soccer.common.snapshot.JsonSnapshotCache;
+import site.aiion.api.soccer.live.LiveScorePublisher;
+import site.aiion.api.soccer.live.ScoreEvent;
+import site.aiion.api.soccer.search.SoccerSearchIndex;
 import site.aiion.api.soccer.stadium.StadiumRepository;
+import site.aiion.api.soccer.standings.StandingsService;
 import site.aiion.api.soccer.team.TeamRepository;
 import site.aiion.api.soccer.stadium.Stadium;
 import site.aiion.api.soccer.team.Team;
@@ -18,9 +36,21 @@ import site.aiion.api.soccer.team.Team;
 @RequiredArgsConstructor
 public class ScheduleServiceImpl implements ScheduleService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleServiceImpl.class);
+
     private final ScheduleRepository scheduleRepository;
     private final StadiumRepository stadiumRepository;
     private final TeamRepository teamRepository;
+    private final SoccerSearchIndex soccerSearchIndex;
+    private final JsonSnapshotCache jsonSnapshotCache;
+    private final BulkWriter bulkWriter;
+    private final StandingsService standingsService;
+    private final StadiumBookingIndex stadiumBookingIndex;
+    private final LiveScorePublisher liveScorePublisher;
+
+    // reject: 경기장 일정이 겹치면 저장 거부, flag: 저장하고 메시지로만 알림
+    @Value("${soccer.booking.on-conflict:reject}")
+    private String onConflict;
 
     private ScheduleModel entityToModel(Schedule entity) {
         return ScheduleModel.builder()
@@ -49,7 +79,10 @@ public class ScheduleServiceImpl implements ScheduleService {
         if (model.getAwayteam_uk() != null) {
             awayteam = teamRepository.findByTeam_uk(model.getAwayteam_uk()).orElse(null);
         }
-        
+        return modelToEntity(model, stadium, hometeam, awayteam);
+    }
+
+    private Schedule modelToEntity(ScheduleModel model, Stadium stadium, Team hometeam, Team awayteam) {
         return Schedule.builder()
                 .id(model.getId())
                 .sche_date(model.getSche_date())
@@ -65,15 +98,30 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .build();
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSearchIndex() {
+        List<ScheduleModel> modelList = scheduleRepository.findAllModels();
+        soccerSearchIndex.rebuildSchedules(modelList);
+    }
+
+    // match_date 컬럼이 생기기 전에 저장된 행을 채운다 (이미 채워져 있으면 select 1회로 끝)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillMatchDates() {
+        long updated = scheduleRepository.backfillMatchDates();
+        if (updated > 0) {
+            logger.info("일정 match_date 채움: {}개", updated);
+        }
+    }
+
     @Override
     public Messenger findById(ScheduleModel scheduleModel) {
-        Optional<Schedule> entity = scheduleRepository.findById(scheduleModel.getId());
-        if (entity.isPresent()) {
-            ScheduleModel dto = entityToModel(entity.get());
+        Optional<ScheduleModel> dto = scheduleRepository.findModelById(scheduleModel.getId());
+        if (dto.isPresent()) {
             return Messenger.builder()
                     .Code(200)
                     .message("조회 성공")
-                    .data(dto)
+                    .data(dto.get())
                     .build();
         } else {
             return Messenger.builder()
@@ -85,10 +133,7 @@ public class ScheduleServiceImpl implements ScheduleService {
 
     @Override
     public Messenger findAll() {
-        List<Schedule> entities = scheduleRepository.findAll();
-        List<ScheduleModel> modelList = entities.stream()
-                .map(this::entityToModel)
-                .collect(Collectors.toList());
+        List<ScheduleModel> modelList = scheduleRepository.findAllModels();
         return Messenger.builder()
                 .Code(200)
                 .message("전체 조회 성공: " + modelList.size() + "개")
@@ -96,58 +141,77 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .build();
     }
 
+    @Override
+    public Messenger findFields(String fields) {
+        FieldSelection selection;
+        try {
+            selection = ScheduleRepository.FIELDS.select(fields);
+        } catch (IllegalArgumentException e) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message(e.getMessage())
+                    .build();
+        }
+        List<Object[]> rows = scheduleRepository.findFields(selection);
+        return Messenger.builder()
+                .Code(200)
+                .message("전체 조회 성공: " + rows.size() + "개")
+                .data(new SparseRows(selection.names(), rows))
+                .build();
+    }
+
     @Override
     @Transactional
     public Messenger save(ScheduleModel scheduleModel) {
+        // 검사부터 커밋 후 색인 반영까지 같은 경기장 저장이 끼어들지 못하게 잠근다
+        stadiumBookingIndex.lockStadium(scheduleModel.getStadium_uk());
+        List<ScheduleModel> conflicts = stadiumBookingIndex.conflicts(
+                scheduleModel.getStadium_uk(), scheduleModel.getSche_date(), scheduleModel.getId());
+        if (!conflicts.isEmpty() && "reject".equalsIgnoreCase(onConflict)) {
+            return conflictResponse(conflicts);
+        }
         Schedule entity = modelToEntity(scheduleModel);
         Schedule saved = scheduleRepository.save(entity);
         ScheduleModel dto = entityToModel(saved);
+        soccerSearchIndex.indexSchedule(dto);
+        stadiumBookingIndex.indexSchedule(dto);
+        jsonSnapshotCache.invalidate(JsonSnapshotCache.SCHEDULES);
+        standingsService.applySchedule(dto);
         return Messenger.builder()
                 .Code(200)
-                .message("저장 성공: " + saved.getId())
+                .message("저장 성공: " + saved.getId() + conflictNote(conflicts))
                 .data(dto)
                 .build();
     }
 
+    /**
+     * 대량 저장. 경기장/팀은 한 번에 읽어 둔 uk → 엔티티 맵에서 찾고, chunk 단위로 batch insert 후 커밋한다.
+     */
     @Override
-    @Transactional
     public Messenger saveAll(List<ScheduleModel> scheduleModelList) {
-        List<Schedule> entities = scheduleModelList.stream()
-                .map(model -> {
-                    Stadium stadium = null;
-                    Team hometeam = null;
-                    Team awayteam = null;
-                    
-                    if (model.getStadium_uk() != null) {
-                        stadium = stadiumRepository.findByStadium_uk(model.getStadium_uk()).orElse(null);
-                    }
-                    if (model.getHometeam_uk() != null) {
-                        hometeam = teamRepository.findByTeam_uk(model.getHometeam_uk()).orElse(null);
-                    }
-                    if (model.getAwayteam_uk() != null) {
-                        awayteam = teamRepository.findByTeam_uk(model.getAwayteam_uk()).orElse(null);
-                    }
-                    
-                    return Schedule.builder()
-                            .id(model.getId())
-                            .sche_date(model.getSche_date())
-                            .stadium_uk(model.getStadium_uk())
-                            .gubun(model.getGubun())
-                            .hometeam_uk(model.getHometeam_uk())
-                            .awayteam_uk(model.getAwayteam_uk())
-                            .home_score(model.getHome_score())
-                            .away_score(model.getAway_score())
-                            .stadium(stadium)
-                            .hometeam(hometeam)
-                            .awayteam(awayteam)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        Map<String, Stadium> stadiumsByUk = stadiumRepository.findAll().stream()
+                .filter(stadium -> stadium.getStadium_uk() != null)
+                .collect(Collectors.toMap(Stadium::getStadium_uk, stadium -> stadium, (first, second) -> first));
+        Map<String, Team> teamsByUk = teamRepository.findAll().stream()
+                .filter(team -> team.getTeam_uk() != null)
+                .collect(Collectors.toMap(Team::getTeam_uk, team -> team, (first, second) -> first));
         
-        List<Schedule> saved = scheduleRepository.saveAll(entities);
-        List<ScheduleModel> modelList = saved.stream()
-                .map(this::entityToModel)
-                .collect(Collectors.toList());
+        List<ScheduleModel> modelList = bulkWriter.write(scheduleModelList, chunk -> {
+            List<Schedule> entities = chunk.stream()
+                    .map(model -> modelToEntity(model,
+                            lookup(stadiumsByUk, model.getStadium_uk()),
+                            lookup(teamsByUk, model.getHometeam_uk()),
+                            lookup(teamsByUk, model.getAwayteam_uk())))
+                    .collect(Collectors.toList());
+            List<ScheduleModel> models = scheduleRepository.saveAll(entities).stream()
+                    .map(this::entityToModel)
+                    .collect(Collectors.toList());
+            models.forEach(soccerSearchIndex::indexSchedule);
+            models.forEach(stadiumBookingIndex::indexSchedule);
+            jsonSnapshotCache.invalidate(JsonSnapshotCache.SCHEDULES);
+            models.forEach(standingsService::applySchedule);
+            return models;
+        });
         return Messenger.builder()
                 .Code(200)
                 .message("일괄 저장 성공: " + modelList.size() + "개")
@@ -155,6 +219,39 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .build();
     }
 
+    private static <T> T lookup(Map<String, T> byUk, String uk) {
+        return uk != null ? byUk.get(uk) : null;
+    }
+
+    private static ScoreEvent scoreEvent(ScheduleModel dto, String previousHomeScore, String previousAwayScore) {
+        return ScoreEvent.builder()
+                .schedule_id(dto.getId())
+                .sche_date(dto.getSche_date())
+                .stadium_uk(dto.getStadium_uk())
+                .hometeam_uk(dto.getHometeam_uk())
+                .awayteam_uk(dto.getAwayteam_uk())
+                .home_score(dto.getHome_score())
+                .away_score(dto.getAway_score())
+                .previous_home_score(previousHomeScore)
+                .previous_away_score(previousAwayScore)
+                .updated_at(LocalDateTime.now().toString())
+                .build();
+    }
+
+    // 같은 경기장·시간대에 이미 잡힌 경기가 있으면 저장하지 않고 409 로 알려준다
+    private Messenger conflictResponse(List<ScheduleModel> conflicts) {
+        return Messenger.builder()
+                .Code(409)
+                .message("경기장 일정이 겹칩니다: " + conflicts.size() + "경기")
+                .data(conflicts)
+                .build();
+    }
+
+    // flag 모드에서는 저장하되 메시지에 중복 건수를 붙인다
+    private static String conflictNote(List<ScheduleModel> conflicts) {
+        return conflicts.isEmpty() ? "" : " (경기장 일정 중복 " + conflicts.size() + "경기)";
+    }
+
     @Override
     @Transactional
     public Messenger update(ScheduleModel scheduleModel) {
@@ -186,11 +283,29 @@ public class ScheduleServiceImpl implements ScheduleService {
                     .awayteam(awayteam)
                     .build();
             
+            stadiumBookingIndex.lockStadium(updated.getStadium_uk());
+            List<ScheduleModel> conflicts = stadiumBookingIndex.conflicts(
+                    updated.getStadium_uk(), updated.getSche_date(), existing.getId());
+            if (!conflicts.isEmpty() && "reject".equalsIgnoreCase(onConflict)) {
+                return conflictResponse(conflicts);
+            }
+            
+            // save 가 existing 에 병합되므로 변경 전 점수를 먼저 잡아 둔다
+            String previousHomeScore = existing.getHome_score();
+            String previousAwayScore = existing.getAway_score();
             Schedule saved = scheduleRepository.save(updated);
             ScheduleModel dto = entityToModel(saved);
+            soccerSearchIndex.indexSchedule(dto);
+            stadiumBookingIndex.indexSchedule(dto);
+            jsonSnapshotCache.invalidate(JsonSnapshotCache.SCHEDULES);
+            standingsService.applySchedule(dto);
+            if (!Objects.equals(previousHomeScore, dto.getHome_score())
+                    || !Objects.equals(previousAwayScore, dto.getAway_score())) {
+                liveScorePublisher.publish(scoreEvent(dto, previousHomeScore, previousAwayScore));
+            }
             return Messenger.builder()
                     .Code(200)
-                    .message("수정 성공: " + scheduleModel.getId())
+                    .message("수정 성공: " + scheduleModel.getId() + conflictNote(conflicts))
                     .data(dto)
                     .build();
         } else {
@@ -207,6 +322,10 @@ public class ScheduleServiceImpl implements ScheduleService {
         Optional<Schedule> optionalEntity = scheduleRepository.findById(scheduleModel.getId());
         if (optionalEntity.isPresent()) {
             scheduleRepository.deleteById(scheduleModel.getId());
+            soccerSearchIndex.removeSchedule(scheduleModel.getId());
+            stadiumBookingIndex.removeSchedule(scheduleModel.getId());
+            jsonSnapshotCache.invalidate(JsonSnapshotCache.SCHEDULES);
+            standingsService.removeSchedule(scheduleModel.getId());
             return Messenger.builder()
                     .Code(200)
                     .message("삭제 성공: " + scheduleModel.getId())
@@ -230,15 +349,11 @@ public class ScheduleServiceImpl implements ScheduleService {
                     .build();
         }
         
-        List<Schedule> schedules = scheduleRepository.findAll().stream()
-                .filter(s -> (s.getSche_date() != null && s.getSche_date().contains(keyword)) ||
-                            (s.getHometeam_uk() != null && s.getHometeam_uk().contains(keyword)) ||
-                            (s.getAwayteam_uk() != null && s.getAwayteam_uk().contains(keyword)))
-                .collect(Collectors.toList());
-        
-        List<ScheduleModel> modelList = schedules.stream()
-                .map(this::entityToModel)
-                .collect(Collectors.toList());
+        // 날짜로 읽히는 검색어는 match_date 인덱스로 그날 경기만 찾는다
+        LocalDate day = ScheduleDates.parse(keyword);
+        List<ScheduleModel> modelList = day != null
+                ? scheduleRepository.findModelsByRange(day, day, null, null)
+                : scheduleRepository.findModelsByKeyword(keyword.trim());
         
         return Messenger.builder()
                 .Code(200)
@@ -247,5 +362,20 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .build();
     }
 
-}
+    @Override
+    public Messenger findByRange(LocalDate from, LocalDate to, String gubun, String teamUk) {
+        if (from == null || to == null || from.isAfter(to)) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("조회 기간이 올바르지 않습니다.")
+                    .build();
+        }
+        List<ScheduleModel> modelList = scheduleRepository.findModelsByRange(from, to, gubun, teamUk);
+        return Messenger.builder()
+                .Code(200)
+                .message("기간 조회 성공: " + modelList.size() + "개")
+                .data(modelList)
+                .build();
+    }
 
+}
@@ -0,0 +1,218 @@
+package site.aiion.api.soccer.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 편집 거리(Levenshtein) 기반 BK-tree.
+ * 오타가 섞인 영문 이름을 사전 전체를 훑지 않고 삼각 부등식으로 가지치기하며 찾는다.
+ * 이름 전체와 단어 단위 용어를 모두 넣으므로 "Park Ji-Sung" 은 "parkjisung", "park", "ji", "sung" 으로 색인된다.
+ * 짧은 용어는 작은 편집 거리로도 거의 모든 용어와 겹치므로 허용 거리를 용어 길이에 맞춰 줄인다({@link #maxDistanceFor(int)}).
+ * 삭제는 노드에서 값만 빼고 노드 자체는 남겨 둔다(트리 구조 유지).
+ */
+public class BkTree<T> {
+
+    private static final String SEPARATORS = "[\\s\\-_.]+";
+
+    private final Map<Long, Set<String>> termsById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node<T> root;
+
+    private static final class Node<T> {
+        final String term;
+        final Map<Long, T> values = new LinkedHashMap<>();
+        final Map<Integer, Node<T>> children = new HashMap<>();
+
+        Node(String term) {
+            this.term = term;
+        }
+    }
+
+    public record Match<T>(T value, int distance) {
+    }
+
+    public void put(long id, T value, String... fields) {
+        Set<String> terms = termsOf(fields);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (terms.isEmpty()) {
+                return;
+            }
+            termsById.put(id, terms);
+            for (String term : terms) {
+                nodeFor(term).values.put(id, value);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root = null;
+            termsById.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 편집 거리가 maxDistance 이하인 값을 거리 오름차순으로 반환한다. 같은 값은 가장 가까운 거리로 한 번만 나온다.
+     * 실제 허용 거리는 검색어와 색인 용어 중 짧은 쪽 길이의 {@link #maxDistanceFor(int)} 를 넘지 않는다.
+     */
+    public List<Match<T>> search(String query, int maxDistance) {
+        String term = normalize(query);
+        if (term.isEmpty()) {
+            return List.of();
+        }
+        // 가지치기 반경은 검색어 길이로 정하고, 더 짧은 색인 용어는 만났을 때 한 번 더 거른다
+        int radius = Math.min(maxDistance, maxDistanceFor(term.length()));
+        Map<Long, Match<T>> best = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            if (root == null) {
+                return List.of();
+            }
+            Deque<Node<T>> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node<T> node = stack.pop();
+                int d = distance(term, node.term);
+                if (d <= Math.min(radius, maxDistanceFor(node.term.length()))) {
+                    for (Map.Entry<Long, T> e : node.values.entrySet()) {
+                        Match<T> current = best.get(e.getKey());
+                        if (current == null || d < current.distance()) {
+                            best.put(e.getKey(), new Match<>(e.getValue(), d));
+                        }
+                    }
+                }
+                // 삼각 부등식: |d - k| <= radius 인 간선만 따라간다
+                for (Map.Entry<Integer, Node<T>> child : node.children.entrySet()) {
+                    if (Math.abs(child.getKey() - d) <= radius) {
+                        stack.push(child.getValue());
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Match<T>> matches = new ArrayList<>(best.values());
+        matches.sort((a, b) -> Integer.compare(a.distance(), b.distance()));
+        return matches;
+    }
+
+    /**
+     * 길이별 허용 편집 거리: 1~2자는 0(정확히 일치), 3~5자는 1, 그보다 길면 2.
+     */
+    public static int maxDistanceFor(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    private Node<T> nodeFor(String term) {
+        if (root == null) {
+            root = new Node<>(term);
+            return root;
+        }
+        Node<T> node = root;
+        while (true) {
+            int d = distance(term, node.term);
+            if (d == 0) {
+                return node;
+            }
+            Node<T> child = node.children.get(d);
+            if (child == null) {
+                child = new Node<>(term);
+                node.children.put(d, child);
+                return child;
+            }
+            node = child;
+        }
+    }
+
+    private void removeInternal(long id) {
+        Set<String> terms = termsById.remove(id);
+        if (terms == null || root == null) {
+            return;
+        }
+        for (String term : terms) {
+            Node<T> node = root;
+            while (node != null) {
+                int d = distance(term, node.term);
+                if (d == 0) {
+                    node.values.remove(id);
+                    break;
+                }
+                node = node.children.get(d);
+            }
+        }
+    }
+
+    // 영문 이름의 공백/하이픈 표기 차이("Ji-Sung", "Ji Sung", "Jisung")는 오타로 보지 않는다
+    private static String normalize(String text) {
+        return NgramIndex.normalize(text.replaceAll(SEPARATORS, ""));
+    }
+
+    private static Set<String> termsOf(String... fields) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field == null || field.isBlank()) {
+                continue;
+            }
+            terms.add(normalize(field));
+            for (String word : field.split(SEPARATORS)) {
+                String normalized = normalize(word);
+                if (normalized.length() >= 2) {
+                    terms.add(normalized);
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Levenshtein 거리. BK-tree 가지치기는 삼각 부등식에 기대므로 거리 함수는 반드시 metric 이어야 한다
+     * (인접 문자 교환을 1 로 세는 OSA 거리는 이를 만족하지 않아 쓰지 않는다).
+     */
+    static int distance(String a, String b) {
+        int[] prev = new int[b.length() + 1];
+        int[] curr = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            curr[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[b.length()];
+    }
+}
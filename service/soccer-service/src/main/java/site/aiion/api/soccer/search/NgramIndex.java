@@ -0,0 +1,401 @@
+package site.aiion.api.soccer.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자 n-gram 역색인.
+ * 한글은 음절 단위, 영문은 소문자 기준으로 1-gram/2-gram 을 만들어 posting list 로 보관한다.
+ * 검색어의 gram posting 을 교집합한 뒤 실제 포함 여부를 한 번 더 확인하므로 결과는 contains 검색과 같다.
+ * {@link #searchScored(String)} 는 같은 결과를 필드 가중치를 적용한 BM25 점수와 함께 돌려준다.
+ * 여러 색인의 점수를 한 목록으로 합칠 때는 {@link #corpusStats(String)} 를 {@link CorpusStats#merge} 로 합쳐
+ * 같은 문서 수/문서 빈도/평균 필드 길이로 점수를 내야 서로 비교할 수 있다.
+ */
+public class NgramIndex<T> {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Document<T>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final double[] fieldBoosts;
+    private long totalFieldLength;
+    private long nonEmptyFields;
+
+    private record Document<T>(T value, String[] fields, Set<String> grams) {
+    }
+
+    public record Scored<T>(T value, double score) {
+    }
+
+    /**
+     * BM25 계산에 쓰는 말뭉치 통계. documentFrequencies 는 검색어 gram 별 문서 빈도.
+     * 평균 필드 길이는 비어 있지 않은 모든 필드의 평균이다.
+     */
+    public record CorpusStats(long documents, long totalFieldLength, long nonEmptyFields,
+                              Map<String, Long> documentFrequencies) {
+
+        public static CorpusStats merge(List<CorpusStats> parts) {
+            long documents = 0;
+            long totalFieldLength = 0;
+            long nonEmptyFields = 0;
+            Map<String, Long> documentFrequencies = new HashMap<>();
+            for (CorpusStats part : parts) {
+                documents += part.documents();
+                totalFieldLength += part.totalFieldLength();
+                nonEmptyFields += part.nonEmptyFields();
+                part.documentFrequencies().forEach((gram, df) -> documentFrequencies.merge(gram, df, Long::sum));
+            }
+            return new CorpusStats(documents, totalFieldLength, nonEmptyFields, documentFrequencies);
+        }
+
+        double averageFieldLength() {
+            return nonEmptyFields == 0 ? 1 : (double) totalFieldLength / nonEmptyFields;
+        }
+
+        double idf(String gram) {
+            long df = documentFrequencies.getOrDefault(gram, 0L);
+            return Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+        }
+    }
+
+    /**
+     * @param fieldBoosts put 에 넘기는 필드 순서대로의 BM25 가중치. 지정하지 않은 필드는 1.0
+     */
+    public NgramIndex(double... fieldBoosts) {
+        this.fieldBoosts = fieldBoosts;
+    }
+
+    /**
+     * 문서를 색인한다. 같은 id 가 이미 있으면 교체한다.
+     */
+    public void put(long id, T value, String... fields) {
+        String[] normalized = new String[fields.length];
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < fields.length; i++) {
+            normalized[i] = normalize(fields[i]);
+            grams.addAll(documentGrams(normalized[i]));
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            documents.put(id, new Document<>(value, normalized, grams));
+            addFieldLengths(normalized, 1);
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, k -> new PostingList()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalFieldLength = 0;
+            nonEmptyFields = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 문서를 id 오름차순으로 반환한다.
+     */
+    public List<T> search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return matchingDocuments(query).stream()
+                    .map(Document::value)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 문서를 이 색인의 통계로 낸 BM25 점수와 함께 반환한다 (정렬하지 않음).
+     */
+    public List<Scored<T>> searchScored(String keyword) {
+        return searchScored(keyword, corpusStats(keyword));
+    }
+
+    /**
+     * 검색어를 포함하는 문서를 주어진 말뭉치 통계로 낸 BM25 점수와 함께 반환한다 (정렬하지 않음).
+     * 검색어의 gram 을 term 으로 보고, 필드별 BM25 에 필드 가중치를 곱해 합산한다.
+     */
+    public List<Scored<T>> searchScored(String keyword, CorpusStats stats) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Document<T>> matched = matchingDocuments(query);
+            if (matched.isEmpty()) {
+                return List.of();
+            }
+            Set<String> grams = queryGrams(query);
+            List<Scored<T>> results = new ArrayList<>(matched.size());
+            for (Document<T> document : matched) {
+                results.add(new Scored<>(document.value(), score(document, grams, stats)));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어 gram 에 대한 이 색인의 말뭉치 통계.
+     */
+    public CorpusStats corpusStats(String keyword) {
+        String query = normalize(keyword);
+        Set<String> grams = query.isEmpty() ? Set.of() : queryGrams(query);
+        lock.readLock().lock();
+        try {
+            Map<String, Long> documentFrequencies = new HashMap<>();
+            for (String gram : grams) {
+                PostingList list = postings.get(gram);
+                documentFrequencies.put(gram, list != null ? (long) list.size() : 0L);
+            }
+            return new CorpusStats(documents.size(), totalFieldLength, nonEmptyFields, documentFrequencies);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 잠금 안에서 호출해야 한다
+    private List<Document<T>> matchingDocuments(String query) {
+        Set<String> grams = queryGrams(query);
+        List<PostingList> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        List<Document<T>> results = new ArrayList<>();
+        PostingList smallest = lists.get(0);
+        for (int i = 0; i < smallest.size(); i++) {
+            long id = smallest.get(i);
+            if (!containsAll(lists, id)) {
+                continue;
+            }
+            Document<T> document = documents.get(id);
+            if (matches(document.fields(), query)) {
+                results.add(document);
+            }
+        }
+        return results;
+    }
+
+    private double score(Document<T> document, Set<String> grams, CorpusStats stats) {
+        double score = 0;
+        double avgLength = Math.max(stats.averageFieldLength(), 1);
+        String[] fields = document.fields();
+        for (int f = 0; f < fields.length; f++) {
+            if (fields[f].isEmpty()) {
+                continue;
+            }
+            double boost = f < fieldBoosts.length ? fieldBoosts[f] : 1.0;
+            double lengthNorm = 1 - B + B * fields[f].length() / avgLength;
+            for (String gram : grams) {
+                int tf = countOccurrences(fields[f], gram);
+                if (tf > 0) {
+                    score += boost * stats.idf(gram) * tf * (K1 + 1) / (tf + K1 * lengthNorm);
+                }
+            }
+        }
+        return score;
+    }
+
+    private static int countOccurrences(String text, String gram) {
+        int count = 0;
+        int from = text.indexOf(gram);
+        while (from >= 0) {
+            count++;
+            from = text.indexOf(gram, from + 1);
+        }
+        return count;
+    }
+
+    private void addFieldLengths(String[] fields, int sign) {
+        for (String field : fields) {
+            if (!field.isEmpty()) {
+                totalFieldLength += (long) sign * field.length();
+                nonEmptyFields += sign;
+            }
+        }
+    }
+
+    /**
+     * NFC 로 합치고 공백을 제거한 뒤 소문자로 바꾼다. "FC 서울" 과 "fc서울" 은 같은 문자열이 된다.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder sb = new StringBuilder(composed.length());
+        composed.codePoints()
+                .filter(cp -> !Character.isWhitespace(cp))
+                .map(Character::toLowerCase)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    private void removeInternal(long id) {
+        Document<T> old = documents.remove(id);
+        if (old == null) {
+            return;
+        }
+        addFieldLengths(old.fields(), -1);
+        for (String gram : old.grams()) {
+            PostingList list = postings.get(gram);
+            if (list != null) {
+                list.remove(id);
+                if (list.size() == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static boolean containsAll(List<PostingList> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String[] fields, String query) {
+        for (String field : fields) {
+            if (field.contains(query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 문서는 1글자 검색어도 받을 수 있도록 unigram 과 bigram 을 모두 색인한다.
+    private static Collection<String> documentGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        int[] cps = text.codePoints().toArray();
+        for (int i = 0; i < cps.length; i++) {
+            grams.add(new String(cps, i, 1));
+            if (i + 1 < cps.length) {
+                grams.add(new String(cps, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> queryGrams(String query) {
+        int[] cps = query.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        if (cps.length == 1) {
+            grams.add(query);
+            return grams;
+        }
+        for (int i = 0; i + 1 < cps.length; i++) {
+            grams.add(new String(cps, i, 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 정렬된 long 배열 posting list. id 는 대부분 증가 순서로 들어오므로 추가는 보통 append 로 끝난다.
+     */
+    static final class PostingList {
+        private long[] ids = new long[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        long get(int index) {
+            return ids[index];
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int pos = Arrays.binarySearch(ids, 0, size, id);
+                if (pos >= 0) {
+                    return;
+                }
+                insertAt(-pos - 1, id);
+                return;
+            }
+            ensureCapacity();
+            ids[size++] = id;
+        }
+
+        void remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+        }
+
+        private void insertAt(int pos, long id) {
+            ensureCapacity();
+            System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+            ids[pos] = id;
+            size++;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package site.aiion.api.soccer.search;
 
+import java.util.List;
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -10,6 +14,12 @@ import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.fields.FieldCatalog;
+import site.aiion.api.soccer.common.fields.SparseJsonWriter;
+import site.aiion.api.soccer.player.PlayerRepositoryCustom;
+import site.aiion.api.soccer.schedule.ScheduleRepositoryCustom;
+import site.aiion.api.soccer.stadium.StadiumRepositoryCustom;
+import site.aiion.api.soccer.team.TeamRepositoryCustom;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,12 +28,20 @@ public class SearchController {
 
     private static final Logger logger = LoggerFactory.getLogger(SearchController.class);
 
+    // 검색 결과에 섞여 나오는 모델별로 고를 수 있는 필드 (목록 조회의 fields= 와 같은 이름)
+    private static final List<FieldCatalog> FIELD_CATALOGS = List.of(
+            PlayerRepositoryCustom.FIELDS, TeamRepositoryCustom.FIELDS,
+            StadiumRepositoryCustom.FIELDS, ScheduleRepositoryCustom.FIELDS);
+
     private final SearchService searchService;
+    private final SparseJsonWriter sparseJsonWriter;
 
     @GetMapping("/findByWord")
-    public Messenger findByWord(
+    public ResponseEntity<?> findByWord(
             @RequestParam(required = true) String keyword,
-            @RequestParam(required = false) String type) {
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String fields) {
         
         // 터미널에 명확하게 출력
         System.out.println("========================================");
@@ -32,24 +50,30 @@ public class SearchController {
         System.out.println("🏷️  검색 타입: " + (type != null && !type.isEmpty() ? type : "전체"));
         System.out.println("========================================");
         
+        Messenger invalid = checkFields(fields);
+        if (invalid != null) {
+            return ResponseEntity.ok(invalid);
+        }
         logger.info("=== [GET] 검색 요청 수신 ===");
         logger.info("검색어: {}", keyword);
         logger.info("검색 타입: {}", type != null ? type : "전체");
         
-        Messenger result = searchService.findByWord(keyword, type);
+        Messenger result = searchService.findByWord(keyword, type, limit);
         
         // 검색 결과 출력
         System.out.println("✅ 검색 완료 - 결과 코드: " + result.getCode());
         System.out.println("📊 검색 결과 메시지: " + result.getMessage());
         System.out.println("========================================");
         
-        return result;
+        return respond(result, fields);
     }
 
     @PostMapping("/findByWord")
-    public Messenger findByWordPost(
+    public ResponseEntity<?> findByWordPost(
             @RequestParam(required = true) String keyword,
-            @RequestParam(required = false) String type) {
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String fields) {
         
         // 터미널에 명확하게 출력
         System.out.println("========================================");
@@ -58,20 +82,57 @@ public class SearchController {
         System.out.println("🏷️  검색 타입: " + (type != null && !type.isEmpty() ? type : "전체"));
         System.out.println("========================================");
         
+        Messenger invalid = checkFields(fields);
+        if (invalid != null) {
+            return ResponseEntity.ok(invalid);
+        }
         logger.info("=== [POST] 검색 요청 수신 ===");
         logger.info("검색어: {}", keyword);
         logger.info("검색 타입: {}", type != null ? type : "전체");
         
         // POST 요청도 GET과 동일하게 처리
-        Messenger result = searchService.findByWord(keyword, type);
+        Messenger result = searchService.findByWord(keyword, type, limit);
         
         // 검색 결과 출력
         System.out.println("✅ 검색 완료 - 결과 코드: " + result.getCode());
         System.out.println("📊 검색 결과 메시지: " + result.getMessage());
         System.out.println("========================================");
         
-        return result;
+        return respond(result, fields);
     }
 
-}
+    /**
+     * 입력 중인 검색어(접두어, 초성)로 선수/팀/경기장 이름 자동완성.
+     * 타이핑마다 호출되므로 로그를 남기지 않는다.
+     */
+    @GetMapping("/suggest")
+    public Messenger suggest(
+            @RequestParam(required = true) String keyword,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "10") int limit) {
+        return searchService.suggest(keyword, type, limit);
+    }
 
+    // 어느 모델에도 없는 필드가 있으면 400 응답, 문제없으면 null
+    private static Messenger checkFields(String fields) {
+        for (String name : FieldCatalog.parse(fields)) {
+            if (FIELD_CATALOGS.stream().noneMatch(catalog -> catalog.names().contains(name))) {
+                return Messenger.builder()
+                        .Code(400)
+                        .message("알 수 없는 필드입니다: " + name)
+                        .build();
+            }
+        }
+        return null;
+    }
+
+    // fields 가 있으면 결과 안의 선수/팀/경기장/일정 객체를 그 필드만 남겨 직렬화한다
+    private ResponseEntity<?> respond(Messenger result, String fields) {
+        Set<String> names = FieldCatalog.parse(fields);
+        if (names.isEmpty() || result.getCode() != 200) {
+            return ResponseEntity.ok(result);
+        }
+        return sparseJsonWriter.respond(result, names, FIELD_CATALOGS);
+    }
+
+}
@@ -0,0 +1,18 @@
+package site.aiion.api.soccer.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class SearchHit {
+    private String type;
+    private double score;
+    private Object item;
+}
@@ -3,6 +3,7 @@ package site.aiion.api.soccer.search;
 import site.aiion.api.soccer.common.domain.Messenger;
 
 public interface SearchService {
-    public Messenger findByWord(String keyword, String type);
+    public Messenger findByWord(String keyword, String type, int limit);
+    public Messenger suggest(String keyword, String type, int limit);
 }
 
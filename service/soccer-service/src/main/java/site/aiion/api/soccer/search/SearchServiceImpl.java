@@ -1,24 +1,28 @@
 package site.aiion.api.soccer.search;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import site.aiion.api.soccer.common.domain.Messenger;
-import site.aiion.api.soccer.player.PlayerModel;
-import site.aiion.api.soccer.player.PlayerService;
-import site.aiion.api.soccer.team.TeamModel;
-import site.aiion.api.soccer.team.TeamService;
-import site.aiion.api.soccer.schedule.ScheduleModel;
-import site.aiion.api.soccer.schedule.ScheduleService;
-import site.aiion.api.soccer.stadium.StadiumModel;
-import site.aiion.api.soccer.stadium.StadiumService;
 
 @Service
 @RequiredArgsConstructor
@@ -26,13 +30,31 @@ public class SearchServiceImpl implements SearchService {
 
     private static final Logger logger = LoggerFactory.getLogger(SearchServiceImpl.class);
 
-    private final PlayerService playerService;
-    private final TeamService teamService;
-    private final ScheduleService scheduleService;
-    private final StadiumService stadiumService;
+    private final SoccerSearchIndex soccerSearchIndex;
+
+    // 타입별 검색 작업은 요청마다 가상 스레드에서 실행한다
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${soccer.search.parallel:true}")
+    private boolean parallel;
+
+    @Value("${soccer.search.max-limit:100}")
+    private int maxLimit;
+
+    @Value("${soccer.search.timeout-ms.player:200}")
+    private long playerTimeoutMs;
+
+    @Value("${soccer.search.timeout-ms.team:200}")
+    private long teamTimeoutMs;
+
+    @Value("${soccer.search.timeout-ms.stadium:200}")
+    private long stadiumTimeoutMs;
+
+    @Value("${soccer.search.timeout-ms.schedule:300}")
+    private long scheduleTimeoutMs;
 
     @Override
-    public Messenger findByWord(String keyword, String type) {
+    public Messenger findByWord(String keyword, String type, int limit) {
         // 터미널 출력
         System.out.println("🔎 [SearchService] 검색 서비스 실행");
         System.out.println("   └─ 검색어: " + keyword);
@@ -43,70 +65,67 @@ public class SearchServiceImpl implements SearchService {
         logger.info("검색 타입: {}", type != null ? type : "전체");
         
         try {
-            Map<String, Object> result = new HashMap<>();
-            List<Object> allResults = new ArrayList<>();
+            int size = Math.max(1, Math.min(limit, maxLimit));
+            
+            // 타입별 점수를 한 힙에서 비교할 수 있도록 네 색인을 합친 통계로 BM25 를 계산한다
+            NgramIndex.CorpusStats stats = soccerSearchIndex.corpusStats(keyword);
             
-            // 타입이 지정되지 않았거나 "player"인 경우
+            // 타입별 BM25 검색 작업 구성 (타입이 지정되지 않았으면 전체)
+            Map<String, Callable<List<SearchHit>>> tasks = new LinkedHashMap<>();
             if (type == null || type.isEmpty() || "player".equalsIgnoreCase(type)) {
-                logger.info("선수 검색 시작...");
-                PlayerModel playerModel = PlayerModel.builder()
-                    .player_name(keyword)
-                    .build();
-                Messenger playerResult = playerService.findByWord(playerModel);
-                if (playerResult != null && playerResult.getData() != null) {
-                    result.put("players", playerResult.getData());
-                    if (playerResult.getData() instanceof List) {
-                        allResults.addAll((List<?>) playerResult.getData());
-                    }
-                }
-                logger.info("선수 검색 완료");
+                tasks.put("players", () -> toHits("players", soccerSearchIndex.rankPlayers(keyword, stats)));
             }
-            
-            // 타입이 지정되지 않았거나 "team"인 경우
             if (type == null || type.isEmpty() || "team".equalsIgnoreCase(type)) {
-                logger.info("팀 검색 시작...");
-                TeamModel teamModel = TeamModel.builder()
-                    .team_name(keyword)
-                    .build();
-                Messenger teamResult = teamService.findByWord(teamModel);
-                if (teamResult != null && teamResult.getData() != null) {
-                    result.put("teams", teamResult.getData());
-                    if (teamResult.getData() instanceof List) {
-                        allResults.addAll((List<?>) teamResult.getData());
-                    }
-                }
-                logger.info("팀 검색 완료");
+                tasks.put("teams", () -> toHits("teams", soccerSearchIndex.rankTeams(keyword, stats)));
             }
-            
-            // 타입이 지정되지 않았거나 "stadium"인 경우
             if (type == null || type.isEmpty() || "stadium".equalsIgnoreCase(type)) {
-                logger.info("경기장 검색 시작...");
-                StadiumModel stadiumModel = StadiumModel.builder()
-                    .stadium_name(keyword)
-                    .build();
-                Messenger stadiumResult = stadiumService.findByWord(stadiumModel);
-                if (stadiumResult != null && stadiumResult.getData() != null) {
-                    result.put("stadiums", stadiumResult.getData());
-                    if (stadiumResult.getData() instanceof List) {
-                        allResults.addAll((List<?>) stadiumResult.getData());
-                    }
+                tasks.put("stadiums", () -> toHits("stadiums", soccerSearchIndex.rankStadiums(keyword, stats)));
+            }
+            if (type == null || type.isEmpty() || "schedule".equalsIgnoreCase(type)) {
+                tasks.put("schedules", () -> toHits("schedules", soccerSearchIndex.rankSchedules(keyword, stats)));
+            }
+            
+            Map<String, List<SearchHit>> responses = new LinkedHashMap<>();
+            List<String> timedOut = new ArrayList<>();
+            List<String> failed = new ArrayList<>();
+            if (parallel) {
+                runParallel(tasks, responses, timedOut, failed);
+            } else {
+                for (Map.Entry<String, Callable<List<SearchHit>>> task : tasks.entrySet()) {
+                    responses.put(task.getKey(), task.getValue().call());
                 }
-                logger.info("경기장 검색 완료");
             }
             
-            // 타입이 지정되지 않았거나 "schedule"인 경우
-            if (type == null || type.isEmpty() || "schedule".equalsIgnoreCase(type)) {
-                logger.info("일정 검색 시작...");
-                ScheduleModel scheduleModel = ScheduleModel.builder()
-                    .build();
-                Messenger scheduleResult = scheduleService.findByWord(scheduleModel);
-                if (scheduleResult != null && scheduleResult.getData() != null) {
-                    result.put("schedules", scheduleResult.getData());
-                    if (scheduleResult.getData() instanceof List) {
-                        allResults.addAll((List<?>) scheduleResult.getData());
+            // 점수 기준 최소 힙에 limit 개만 남기며 전체 결과를 합친다
+            PriorityQueue<SearchHit> heap = new PriorityQueue<>(size + 1, Comparator.comparingDouble(SearchHit::getScore));
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            int totalCount = 0;
+            for (Map.Entry<String, List<SearchHit>> response : responses.entrySet()) {
+                counts.put(response.getKey(), response.getValue().size());
+                totalCount += response.getValue().size();
+                for (SearchHit hit : response.getValue()) {
+                    heap.offer(hit);
+                    if (heap.size() > size) {
+                        heap.poll();
                     }
                 }
-                logger.info("일정 검색 완료");
+            }
+            List<SearchHit> hits = new ArrayList<>(heap);
+            hits.sort(Comparator.comparingDouble(SearchHit::getScore).reversed());
+            
+            // 기존 응답 형태(results.players 등)는 상위 결과만 타입별로 나눠서 유지
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (SearchHit hit : hits) {
+                @SuppressWarnings("unchecked")
+                List<Object> items = (List<Object>) result.computeIfAbsent(hit.getType(), k -> new ArrayList<>());
+                items.add(hit.getItem());
+            }
+            
+            soccerSearchIndex.recordSearch(keyword);
+            boolean partial = !timedOut.isEmpty() || !failed.isEmpty();
+            if (partial) {
+                logger.warn("시간 초과/오류로 일부 결과만 반환합니다. 검색어: {}, 초과 타입: {}, 실패 타입: {}",
+                    keyword, timedOut, failed);
             }
             
             // 결과가 없으면 빈 맵 반환
@@ -125,24 +144,24 @@ public class SearchServiceImpl implements SearchService {
             // 최종 결과 구성
             Map<String, Object> finalData = new HashMap<>();
             finalData.put("results", result);
-            finalData.put("totalCount", allResults.size());
+            finalData.put("hits", hits);
+            finalData.put("totalCount", totalCount);
+            finalData.put("counts", counts);
+            finalData.put("limit", size);
+            finalData.put("partial", partial);
+            finalData.put("timedOut", timedOut);
+            finalData.put("failed", failed);
             
             // 응답 메시지에 검색어와 타입 포함
             String typeDisplay = type != null && !type.isEmpty() ? type : "전체";
-            String message = String.format("✅ 검색어 '%s' (타입: %s)에 대한 검색이 완료되었습니다. 결과: %d개", 
-                keyword, typeDisplay, allResults.size());
+            String message = String.format("✅ 검색어 '%s' (타입: %s)에 대한 검색이 완료되었습니다. 결과: %d개 중 상위 %d개", 
+                keyword, typeDisplay, totalCount, hits.size());
             
             // 터미널에 결과 출력
             System.out.println("📈 [SearchService] 검색 결과:");
-            System.out.println("   └─ 총 결과 수: " + allResults.size() + "개");
+            System.out.println("   └─ 총 결과 수: " + totalCount + "개 (반환: " + hits.size() + "개)");
             System.out.println("   └─ 결과 타입별 분류:");
-            result.forEach((key, value) -> {
-                if (value instanceof List) {
-                    System.out.println("      • " + key + ": " + ((List<?>) value).size() + "개");
-                } else {
-                    System.out.println("      • " + key + ": 1개");
-                }
-            });
+            counts.forEach((key, count) -> System.out.println("      • " + key + ": " + count + "개"));
             
             logger.info("응답 메시지: {}", message);
             
@@ -163,5 +182,77 @@ public class SearchServiceImpl implements SearchService {
                 .build();
         }
     }
-}
 
+    @Override
+    public Messenger suggest(String keyword, String type, int limit) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Messenger.builder()
+                .Code(400)
+                .message("검색어를 입력해주세요.")
+                .data(null)
+                .build();
+        }
+        List<SuggestModel> suggestions = soccerSearchIndex.suggest(keyword, type, limit);
+        return Messenger.builder()
+            .Code(200)
+            .message("자동완성 조회 성공: " + suggestions.size() + "개")
+            .data(suggestions)
+            .build();
+    }
+
+    /**
+     * 타입별 검색을 가상 스레드에서 동시에 실행하고, 타입별 제한 시간 안에 끝난 결과만 모은다.
+     * 제한 시간을 넘긴 타입은 취소하고 timedOut 목록에, 예외로 끝난 타입은 failed 목록에 이름을 남긴다.
+     */
+    private void runParallel(Map<String, Callable<List<SearchHit>>> tasks,
+                             Map<String, List<SearchHit>> responses,
+                             List<String> timedOut,
+                             List<String> failed) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        Map<String, Future<List<SearchHit>>> futures = new LinkedHashMap<>();
+        tasks.forEach((key, task) -> futures.put(key, executor.submit(task)));
+        
+        for (Map.Entry<String, Future<List<SearchHit>>> entry : futures.entrySet()) {
+            String key = entry.getKey();
+            Future<List<SearchHit>> future = entry.getValue();
+            long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(timeoutMillis(key));
+            try {
+                responses.put(key, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                timedOut.add(key);
+            } catch (ExecutionException e) {
+                // 한 타입의 실패가 전체 검색을 막지 않도록 건너뛰되, 응답에는 일부 결과임을 알린다
+                logger.error("{} 검색 중 오류 발생", key, e.getCause());
+                failed.add(key);
+            }
+        }
+    }
+    
+    private static <T> List<SearchHit> toHits(String type, List<NgramIndex.Scored<T>> scored) {
+        List<SearchHit> hits = new ArrayList<>(scored.size());
+        for (NgramIndex.Scored<T> s : scored) {
+            hits.add(SearchHit.builder()
+                .type(type)
+                .score(s.score())
+                .item(s.value())
+                .build());
+        }
+        return hits;
+    }
+    
+    private long timeoutMillis(String key) {
+        return switch (key) {
+            case "players" -> playerTimeoutMs;
+            case "teams" -> teamTimeoutMs;
+            case "stadiums" -> stadiumTimeoutMs;
+            case "schedules" -> scheduleTimeoutMs;
+            default -> throw new IllegalArgumentException("알 수 없는 검색 타입: " + key);
+        };
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,318 @@
+package site.aiion.api.soccer.search;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+import site.aiion.api.soccer.common.transaction.AfterCommit;
+import site.aiion.api.soccer.player.PlayerModel;
+import site.aiion.api.soccer.schedule.ScheduleModel;
+import site.aiion.api.soccer.stadium.StadiumModel;
+import site.aiion.api.soccer.team.TeamModel;
+
+/**
+ * 선수/팀/경기장 검색용 메모리 색인 (n-gram 검색 + 자모/초성 자동완성).
+ * 각 서비스가 기동 시 전체 목록으로 rebuild 하고, 저장/수정/삭제 시 커밋 이후에 색인을 갱신한다.
+ * 검색 횟수(자동완성 인기도)는 검색 경로에서 잠금 없이 모아 두었다가 주기적으로 한 번에 trie 에 반영한다.
+ */
+@Component
+public class SoccerSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SoccerSearchIndex.class);
+
+    // 반영 주기 사이에 모아 두는 서로 다른 검색어 수 상한 (넘치면 새 검색어는 다음 주기로 미루지 않고 버린다)
+    private static final int MAX_PENDING_KEYWORDS = 10_000;
+
+    // BM25 필드 가중치: 이름 > 영문명 > 별명/지역
+    private final NgramIndex<PlayerModel> players = new NgramIndex<>(3.0, 2.0, 1.5);
+    private final NgramIndex<TeamModel> teams = new NgramIndex<>(3.0, 2.0, 1.0);
+    private final NgramIndex<StadiumModel> stadiums = new NgramIndex<>(3.0);
+    private final NgramIndex<ScheduleModel> schedules = new NgramIndex<>(1.0, 1.0, 1.0, 1.0);
+
+    private final SuggestTrie playerSuggest = new SuggestTrie();
+    private final SuggestTrie teamSuggest = new SuggestTrie();
+    private final SuggestTrie stadiumSuggest = new SuggestTrie();
+
+    // 영문 이름 오타 검색용
+    private final BkTree<PlayerModel> playerFuzzy = new BkTree<>();
+    private final BkTree<TeamModel> teamFuzzy = new BkTree<>();
+
+    // 정규화한 검색어 → 아직 trie 에 반영하지 않은 검색 횟수
+    private final Map<String, LongAdder> pendingSearches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService popularityFlusher = Executors.newSingleThreadScheduledExecutor();
+
+    public SoccerSearchIndex(@Value("${soccer.search.suggest.popularity-flush:PT5S}") Duration flushInterval) {
+        long interval = flushInterval.toMillis();
+        popularityFlusher.scheduleWithFixedDelay(this::flushSearchCounts, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // ===== 선수 =====
+
+    public void rebuildPlayers(Collection<PlayerModel> models) {
+        players.clear();
+        models.forEach(m -> players.put(m.getId(), m, m.getPlayer_name(), m.getE_player_name(), m.getNickname()));
+        playerSuggest.rebuild(models.stream().map(SoccerSearchIndex::playerEntry).toList());
+        playerFuzzy.clear();
+        models.forEach(m -> playerFuzzy.put(m.getId(), m, m.getE_player_name()));
+        logger.info("선수 검색 색인 구성 완료: {}개", players.size());
+    }
+
+    public void indexPlayer(PlayerModel model) {
+        AfterCommit.run(() -> putPlayer(model));
+    }
+
+    public void removePlayer(Long id) {
+        AfterCommit.run(() -> {
+            players.remove(id);
+            playerSuggest.remove(id);
+            playerFuzzy.remove(id);
+        });
+    }
+
+    public List<PlayerModel> searchPlayers(String keyword) {
+        return players.search(keyword);
+    }
+
+    public List<NgramIndex.Scored<PlayerModel>> rankPlayers(String keyword, NgramIndex.CorpusStats stats) {
+        return players.searchScored(keyword, stats);
+    }
+
+    /**
+     * 영문 이름(e_player_name)과 편집 거리 maxDistance 이내인 선수를 가까운 순으로 반환한다.
+     */
+    public List<BkTree.Match<PlayerModel>> fuzzySearchPlayers(String keyword, int maxDistance) {
+        return playerFuzzy.search(keyword, maxDistance);
+    }
+
+    private void putPlayer(PlayerModel m) {
+        players.put(m.getId(), m, m.getPlayer_name(), m.getE_player_name(), m.getNickname());
+        playerSuggest.put(m.getId(), m.getPlayer_name(), m.getPlayer_name(), m.getE_player_name(), m.getNickname());
+        playerFuzzy.put(m.getId(), m, m.getE_player_name());
+    }
+
+    private static SuggestTrie.Entry playerEntry(PlayerModel m) {
+        return SuggestTrie.entry(m.getId(), m.getPlayer_name(), m.getPlayer_name(), m.getE_player_name(), m.getNickname());
+    }
+
+    // ===== 팀 =====
+
+    public void rebuildTeams(Collection<TeamModel> models) {
+        teams.clear();
+        models.forEach(m -> teams.put(m.getId(), m, m.getTeam_name(), m.getE_team_name(), m.getRegion_name()));
+        teamSuggest.rebuild(models.stream().map(SoccerSearchIndex::teamEntry).toList());
+        teamFuzzy.clear();
+        models.forEach(m -> teamFuzzy.put(m.getId(), m, m.getE_team_name()));
+        logger.info("팀 검색 색인 구성 완료: {}개", teams.size());
+    }
+
+    public void indexTeam(TeamModel model) {
+        AfterCommit.run(() -> putTeam(model));
+    }
+
+    public void removeTeam(Long id) {
+        AfterCommit.run(() -> {
+            teams.remove(id);
+            teamSuggest.remove(id);
+            teamFuzzy.remove(id);
+        });
+    }
+
+    public List<TeamModel> searchTeams(String keyword) {
+        return teams.search(keyword);
+    }
+
+    public List<NgramIndex.Scored<TeamModel>> rankTeams(String keyword, NgramIndex.CorpusStats stats) {
+        return teams.searchScored(keyword, stats);
+    }
+
+    /**
+     * 영문 팀명(e_team_name)과 편집 거리 maxDistance 이내인 팀을 가까운 순으로 반환한다.
+     */
+    public List<BkTree.Match<TeamModel>> fuzzySearchTeams(String keyword, int maxDistance) {
+        return teamFuzzy.search(keyword, maxDistance);
+    }
+
+    private void putTeam(TeamModel m) {
+        teams.put(m.getId(), m, m.getTeam_name(), m.getE_team_name(), m.getRegion_name());
+        teamSuggest.put(m.getId(), m.getTeam_name(), m.getTeam_name(), m.getE_team_name());
+        teamFuzzy.put(m.getId(), m, m.getE_team_name());
+    }
+
+    private static SuggestTrie.Entry teamEntry(TeamModel m) {
+        return SuggestTrie.entry(m.getId(), m.getTeam_name(), m.getTeam_name(), m.getE_team_name());
+    }
+
+    // ===== 경기장 =====
+
+    public void rebuildStadiums(Collection<StadiumModel> models) {
+        stadiums.clear();
+        models.forEach(m -> stadiums.put(m.getId(), m, m.getStadium_name()));
+        stadiumSuggest.rebuild(models.stream().map(SoccerSearchIndex::stadiumEntry).toList());
+        logger.info("경기장 검색 색인 구성 완료: {}개", stadiums.size());
+    }
+
+    public void indexStadium(StadiumModel model) {
+        AfterCommit.run(() -> putStadium(model));
+    }
+
+    public void removeStadium(Long id) {
+        AfterCommit.run(() -> {
+            stadiums.remove(id);
+            stadiumSuggest.remove(id);
+        });
+    }
+
+    public List<StadiumModel> searchStadiums(String keyword) {
+        return stadiums.search(keyword);
+    }
+
+    public List<NgramIndex.Scored<StadiumModel>> rankStadiums(String keyword, NgramIndex.CorpusStats stats) {
+        return stadiums.searchScored(keyword, stats);
+    }
+
+    private void putStadium(StadiumModel m) {
+        stadiums.put(m.getId(), m, m.getStadium_name());
+        stadiumSuggest.put(m.getId(), m.getStadium_name(), m.getStadium_name());
+    }
+
+    private static SuggestTrie.Entry stadiumEntry(StadiumModel m) {
+        return SuggestTrie.entry(m.getId(), m.getStadium_name(), m.getStadium_name());
+    }
+
+    // ===== 일정 =====
+
+    public void rebuildSchedules(Collection<ScheduleModel> models) {
+        schedules.clear();
+        models.forEach(this::putSchedule);
+        logger.info("일정 검색 색인 구성 완료: {}개", schedules.size());
+    }
+
+    public void indexSchedule(ScheduleModel model) {
+        AfterCommit.run(() -> putSchedule(model));
+    }
+
+    public void removeSchedule(Long id) {
+        AfterCommit.run(() -> schedules.remove(id));
+    }
+
+    public List<NgramIndex.Scored<ScheduleModel>> rankSchedules(String keyword, NgramIndex.CorpusStats stats) {
+        return schedules.searchScored(keyword, stats);
+    }
+
+    private void putSchedule(ScheduleModel m) {
+        schedules.put(m.getId(), m, m.getHometeam_uk(), m.getAwayteam_uk(), m.getGubun(), m.getSche_date());
+    }
+
+    // ===== 통합 검색 점수 =====
+
+    /**
+     * 선수/팀/경기장/일정 색인을 하나의 말뭉치로 본 BM25 통계.
+     * 타입별 점수를 한 목록으로 합치려면 모든 rank* 호출에 같은 통계를 넘겨야 점수 척도가 같아진다.
+     */
+    public NgramIndex.CorpusStats corpusStats(String keyword) {
+        return NgramIndex.CorpusStats.merge(List.of(
+                players.corpusStats(keyword),
+                teams.corpusStats(keyword),
+                stadiums.corpusStats(keyword),
+                schedules.corpusStats(keyword)));
+    }
+
+    // ===== 자동완성 =====
+
+    /**
+     * 접두어/초성으로 시작하는 선수·팀·경기장 이름을 인기도 순으로 최대 limit 개 반환한다.
+     * type 이 비어 있으면 세 종류의 top 목록을 합쳐 다시 정렬한다.
+     */
+    public List<SuggestModel> suggest(String prefix, String type, int limit) {
+        int size = Math.max(1, Math.min(limit, SuggestTrie.MAX_SUGGESTIONS));
+        List<SuggestModel> results = new ArrayList<>();
+        if (type == null || type.isEmpty() || "player".equalsIgnoreCase(type)) {
+            addSuggestions(results, "player", playerSuggest.suggest(prefix, size));
+        }
+        if (type == null || type.isEmpty() || "team".equalsIgnoreCase(type)) {
+            addSuggestions(results, "team", teamSuggest.suggest(prefix, size));
+        }
+        if (type == null || type.isEmpty() || "stadium".equalsIgnoreCase(type)) {
+            addSuggestions(results, "stadium", stadiumSuggest.suggest(prefix, size));
+        }
+        results.sort(Comparator.comparingLong(SuggestModel::getPopularity).reversed()
+                .thenComparingInt(m -> m.getLabel().length()));
+        return results.size() > size ? results.subList(0, size) : results;
+    }
+
+    /**
+     * 검색 횟수를 모아 둔다. 이름과 정확히 일치하는 항목의 인기도는 다음 {@link #flushSearchCounts()} 때 오른다.
+     * 검색 경로에서 trie 쓰기 잠금을 잡지 않도록 여기서는 카운터만 올린다.
+     */
+    public void recordSearch(String keyword) {
+        String normalized = NgramIndex.normalize(keyword);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        LongAdder counter = pendingSearches.get(normalized);
+        if (counter == null) {
+            if (pendingSearches.size() >= MAX_PENDING_KEYWORDS) {
+                return;
+            }
+            counter = pendingSearches.computeIfAbsent(normalized, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * 모아 둔 검색 횟수를 자동완성 trie 에 반영한다. trie 마다 쓰기 잠금은 한 번만 잡는다.
+     * 꺼내는 순간 다른 스레드가 올린 몇 건은 빠질 수 있다 (인기도는 근사값이면 충분하다).
+     */
+    public void flushSearchCounts() {
+        if (pendingSearches.isEmpty()) {
+            return;
+        }
+        Map<String, Long> counts = new HashMap<>();
+        for (String keyword : pendingSearches.keySet()) {
+            LongAdder counter = pendingSearches.remove(keyword);
+            if (counter != null) {
+                counts.put(keyword, counter.sum());
+            }
+        }
+        try {
+            playerSuggest.recordSearches(counts);
+            teamSuggest.recordSearches(counts);
+            stadiumSuggest.recordSearches(counts);
+        } catch (RuntimeException e) {
+            // 예약 작업은 예외가 나면 이후 실행이 멈추므로 여기서 끊는다
+            logger.warn("자동완성 인기도 반영 실패: {}개 검색어", counts.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        popularityFlusher.shutdownNow();
+    }
+
+    private static void addSuggestions(List<SuggestModel> results, String type, List<SuggestTrie.Entry> entries) {
+        for (SuggestTrie.Entry entry : entries) {
+            results.add(SuggestModel.builder()
+                    .type(type)
+                    .id(entry.id())
+                    .label(entry.label())
+                    .popularity(entry.popularity())
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package site.aiion.api.soccer.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class SuggestModel {
+    private String type;
+    private Long id;
+    private String label;
+    private long popularity;
+}
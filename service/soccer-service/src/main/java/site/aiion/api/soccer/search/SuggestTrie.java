@@ -0,0 +1,315 @@
+package site.aiion.api.soccer.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자모 분해 키와 초성 키를 담는 자동완성 trie.
+ * 각 노드는 하위 트리에서 인기도가 가장 높은 항목 {@link #MAX_SUGGESTIONS}개를 미리 들고 있어서
+ * 조회는 검색어 길이만큼 노드를 따라 내려가는 비용만 든다.
+ * 쓰기(추가/삭제/인기도 증가) 시에는 해당 키 경로의 노드만 다시 계산한다.
+ */
+public class SuggestTrie {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong((Entry e) -> -e.popularity)
+            .thenComparingInt(e -> e.label.length())
+            .thenComparing(e -> e.label)
+            .thenComparingLong(e -> e.id);
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+
+    /**
+     * 자동완성 항목. label 은 화면에 보여줄 이름, keys 는 trie 에 들어가는 자모/초성 키.
+     */
+    public static final class Entry {
+        private final long id;
+        private final String label;
+        private final String normalizedLabel;
+        private final String[] keys;
+        private long popularity;
+
+        private Entry(long id, String label, String[] keys) {
+            this.id = id;
+            this.label = label != null ? label : "";
+            this.normalizedLabel = NgramIndex.normalize(this.label);
+            this.keys = keys;
+        }
+
+        public long id() {
+            return id;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        public long popularity() {
+            return popularity;
+        }
+    }
+
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        char[] labels = new char[0];
+        Node[] children = NO_CHILDREN;
+        Entry[] terminals = NO_ENTRIES;
+        Entry[] top = NO_ENTRIES;
+
+        Node child(char c) {
+            int pos = Arrays.binarySearch(labels, c);
+            return pos >= 0 ? children[pos] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int pos = Arrays.binarySearch(labels, c);
+            if (pos >= 0) {
+                return children[pos];
+            }
+            int insert = -pos - 1;
+            Node node = new Node();
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insert);
+            System.arraycopy(children, 0, newChildren, 0, insert);
+            newLabels[insert] = c;
+            newChildren[insert] = node;
+            System.arraycopy(labels, insert, newLabels, insert + 1, labels.length - insert);
+            System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+            labels = newLabels;
+            children = newChildren;
+            return node;
+        }
+
+        void addTerminal(Entry entry) {
+            terminals = Arrays.copyOf(terminals, terminals.length + 1);
+            terminals[terminals.length - 1] = entry;
+        }
+
+        void removeTerminal(Entry entry) {
+            terminals = Arrays.stream(terminals).filter(e -> e != entry).toArray(Entry[]::new);
+        }
+    }
+
+    /**
+     * 항목을 추가하거나 교체한다. 이름(names)마다 단어 시작 위치별 접미어를 자모 키와 초성 키로 넣는다.
+     */
+    public void put(long id, String label, String... names) {
+        Entry entry = new Entry(id, label, keysOf(names));
+        lock.writeLock().lock();
+        try {
+            Entry old = removeInternal(id);
+            if (old != null) {
+                entry.popularity = old.popularity;
+            }
+            entries.put(id, entry);
+            for (String key : entry.keys) {
+                insert(key, entry);
+                refreshPath(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 항목을 새로 구성한다. 기존 id 의 인기도는 유지한다.
+     * 경로별 갱신 대신 마지막에 한 번 후위 순회로 top 목록을 계산한다.
+     */
+    public void rebuild(Collection<Entry> newEntries) {
+        lock.writeLock().lock();
+        try {
+            Map<Long, Entry> previous = new HashMap<>(entries);
+            entries.clear();
+            root = new Node();
+            for (Entry entry : newEntries) {
+                Entry old = previous.get(entry.id);
+                if (old != null) {
+                    entry.popularity = old.popularity;
+                }
+                entries.put(entry.id, entry);
+                for (String key : entry.keys) {
+                    insert(key, entry);
+                }
+            }
+            refreshAll(root);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public static Entry entry(long id, String label, String... names) {
+        return new Entry(id, label, keysOf(names));
+    }
+
+    /**
+     * 접두어(자모/초성 혼용 가능)로 시작하는 항목을 인기도 순으로 최대 limit 개 반환한다.
+     */
+    public List<Entry> suggest(String prefix, int limit) {
+        String key = HangulJamo.decompose(NgramIndex.normalize(prefix));
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return List.of();
+            }
+            int size = Math.min(limit, node.top.length);
+            return List.of(Arrays.copyOf(node.top, size));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어별 횟수만큼, 검색어와 이름이 정확히 일치하는 항목의 인기도를 올린다.
+     * 모아 둔 횟수를 한 번의 쓰기 잠금으로 반영하고, 바뀐 항목의 키 경로는 한 번씩만 다시 계산한다.
+     */
+    public void recordSearches(Map<String, Long> counts) {
+        Map<String, Long> byKey = new HashMap<>();
+        counts.forEach((keyword, count) -> {
+            String normalized = NgramIndex.normalize(keyword);
+            if (!normalized.isEmpty() && count > 0) {
+                byKey.merge(normalized, count, Long::sum);
+            }
+        });
+        if (byKey.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Set<String> dirtyKeys = new LinkedHashSet<>();
+            byKey.forEach((normalized, count) -> {
+                Node node = find(HangulJamo.decompose(normalized));
+                if (node == null) {
+                    return;
+                }
+                for (Entry entry : node.terminals) {
+                    if (entry.normalizedLabel.equals(normalized)) {
+                        entry.popularity += count;
+                        dirtyKeys.addAll(Arrays.asList(entry.keys));
+                    }
+                }
+            });
+            dirtyKeys.forEach(this::refreshPath);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Entry removeInternal(long id) {
+        Entry old = entries.remove(id);
+        if (old == null) {
+            return null;
+        }
+        for (String key : old.keys) {
+            Node node = find(key);
+            if (node != null) {
+                node.removeTerminal(old);
+                refreshPath(key);
+            }
+        }
+        return old;
+    }
+
+    private void insert(String key, Entry entry) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        node.addTerminal(entry);
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    // 키 경로를 아래에서 위로 올라가며 top 목록을 다시 계산한다
+    private void refreshPath(String key) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            Node next = path[depth].child(key.charAt(depth));
+            if (next == null) {
+                break;
+            }
+            path[++depth] = next;
+        }
+        for (int i = depth; i >= 0; i--) {
+            computeTop(path[i]);
+        }
+    }
+
+    private void refreshAll(Node node) {
+        for (Node child : node.children) {
+            refreshAll(child);
+        }
+        computeTop(node);
+    }
+
+    private static void computeTop(Node node) {
+        List<Entry> candidates = new ArrayList<>(node.terminals.length + node.children.length * MAX_SUGGESTIONS);
+        candidates.addAll(Arrays.asList(node.terminals));
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(RANKING);
+        // 같은 항목이 자모 키와 초성 키로 두 번 올라올 수 있으므로 중복을 걸러낸다
+        Set<Entry> top = new LinkedHashSet<>();
+        for (Entry candidate : candidates) {
+            if (top.size() == MAX_SUGGESTIONS) {
+                break;
+            }
+            top.add(candidate);
+        }
+        node.top = top.toArray(new Entry[0]);
+    }
+
+    private static String[] keysOf(String... names) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            // "FC 서울" 은 "서울" 로도 찾을 수 있도록 단어 시작 위치마다 키를 만든다
+            String[] words = name.trim().split("\\s+");
+            for (int i = 0; i < words.length; i++) {
+                String suffix = NgramIndex.normalize(String.join("", Arrays.copyOfRange(words, i, words.length)));
+                keys.add(HangulJamo.decompose(suffix));
+                keys.add(HangulJamo.choseong(suffix));
+            }
+        }
+        return keys.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,301 @@
+package site.aiion.api.soccer.simulation;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import site.aiion.api.soccer.standings.StandingsTable;
+
+/**
+ * 남은 경기를 Poisson 득점 모델로 반복 시뮬레이션해 팀별 우승/순위 확률을 구한다.
+ * 팀 강도는 끝난 경기의 득실을 리그 평균(홈/원정 구분)과 비교해 구하고, 경기 수가 적은 팀은
+ * PRIOR_MATCHES 경기만큼 평균 쪽으로 당긴다.
+ * 반복은 ForkJoinPool 에서 LEAF_ITERATIONS 단위로 나눠 돌리며, 각 작업은 seed 에서 split 한
+ * 자기 SplittableRandom 과 int/long 배열 누적기만 쓰므로 스레드 간 공유 상태가 없다.
+ * 같은 seed 면 스레드 수와 관계없이 결과가 같다.
+ */
+public class SeasonSimulator {
+
+    public static final int MAX_GOALS = 10;
+
+    static final int LEAF_ITERATIONS = 1024;
+    private static final double PRIOR_MATCHES = 3.0;
+    // 끝난 경기가 없을 때 쓰는 리그 평균 득점
+    private static final double DEFAULT_HOME_GOALS = 1.4;
+    private static final double DEFAULT_AWAY_GOALS = 1.1;
+
+    /**
+     * 끝난 경기. home/away 는 팀 번호(0 ~ teamCount-1)
+     */
+    public record Played(int home, int away, int homeGoals, int awayGoals) {
+    }
+
+    /**
+     * 남은 경기
+     */
+    public record Fixture(int home, int away) {
+    }
+
+    private final int teamCount;
+    private final int fixtureCount;
+    private final int[] basePoints;
+    private final int[] baseGoalDiff;
+    private final int[] baseGoalsFor;
+    private final int[] fixtureHome;
+    private final int[] fixtureAway;
+    // 경기 f 의 득점 누적분포: cdf[f * (MAX_GOALS + 1) + k] = P(goals <= k)
+    private final double[] homeCdf;
+    private final double[] awayCdf;
+    private final double[] attack;
+    private final double[] defence;
+
+    public SeasonSimulator(int teamCount, List<Played> played, List<Fixture> remaining) {
+        this.teamCount = teamCount;
+        this.fixtureCount = remaining.size();
+        this.basePoints = new int[teamCount];
+        this.baseGoalDiff = new int[teamCount];
+        this.baseGoalsFor = new int[teamCount];
+        this.attack = new double[teamCount];
+        this.defence = new double[teamCount];
+
+        int homeGoals = 0;
+        int awayGoals = 0;
+        for (Played p : played) {
+            homeGoals += p.homeGoals();
+            awayGoals += p.awayGoals();
+            addResult(basePoints, baseGoalDiff, baseGoalsFor, p.home(), p.away(), p.homeGoals(), p.awayGoals());
+        }
+        double avgHome = played.isEmpty() ? DEFAULT_HOME_GOALS : Math.max((double) homeGoals / played.size(), 0.1);
+        double avgAway = played.isEmpty() ? DEFAULT_AWAY_GOALS : Math.max((double) awayGoals / played.size(), 0.1);
+        fitStrengths(played, avgHome, avgAway);
+
+        int stride = MAX_GOALS + 1;
+        this.fixtureHome = new int[fixtureCount];
+        this.fixtureAway = new int[fixtureCount];
+        this.homeCdf = new double[fixtureCount * stride];
+        this.awayCdf = new double[fixtureCount * stride];
+        for (int f = 0; f < fixtureCount; f++) {
+            Fixture fixture = remaining.get(f);
+            fixtureHome[f] = fixture.home();
+            fixtureAway[f] = fixture.away();
+            poissonCdf(avgHome * attack[fixture.home()] * defence[fixture.away()], homeCdf, f * stride);
+            poissonCdf(avgAway * attack[fixture.away()] * defence[fixture.home()], awayCdf, f * stride);
+        }
+    }
+
+    // 강도 1.0 = 리그 평균. 홈/원정 평균이 다르므로 기대 득점도 경기 장소별 평균으로 잡는다
+    private void fitStrengths(List<Played> played, double avgHome, double avgAway) {
+        double[] scored = new double[teamCount];
+        double[] conceded = new double[teamCount];
+        double[] expectedScored = new double[teamCount];
+        double[] expectedConceded = new double[teamCount];
+        for (Played p : played) {
+            scored[p.home()] += p.homeGoals();
+            conceded[p.home()] += p.awayGoals();
+            expectedScored[p.home()] += avgHome;
+            expectedConceded[p.home()] += avgAway;
+            scored[p.away()] += p.awayGoals();
+            conceded[p.away()] += p.homeGoals();
+            expectedScored[p.away()] += avgAway;
+            expectedConceded[p.away()] += avgHome;
+        }
+        double prior = PRIOR_MATCHES * (avgHome + avgAway) / 2;
+        for (int i = 0; i < teamCount; i++) {
+            attack[i] = (scored[i] + prior) / (expectedScored[i] + prior);
+            defence[i] = (conceded[i] + prior) / (expectedConceded[i] + prior);
+        }
+    }
+
+    private static void poissonCdf(double lambda, double[] cdf, int offset) {
+        double p = Math.exp(-lambda);
+        double sum = p;
+        cdf[offset] = sum;
+        for (int k = 1; k < MAX_GOALS; k++) {
+            p = p * lambda / k;
+            sum += p;
+            cdf[offset + k] = sum;
+        }
+        // MAX_GOALS 이상은 마지막 칸에 몰아 넣는다
+        cdf[offset + MAX_GOALS] = 1.0;
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    public int getFixtureCount() {
+        return fixtureCount;
+    }
+
+    public int basePoints(int team) {
+        return basePoints[team];
+    }
+
+    public double attack(int team) {
+        return attack[team];
+    }
+
+    public double defence(int team) {
+        return defence[team];
+    }
+
+    /**
+     * 남은 경기를 iterations 번 시뮬레이션한다.
+     */
+    public Tally simulate(int iterations, long seed, ForkJoinPool pool) {
+        return pool.invoke(new SimulationTask(iterations, new SplittableRandom(seed)));
+    }
+
+    private final class SimulationTask extends RecursiveTask<Tally> {
+        private final int iterations;
+        private final SplittableRandom random;
+
+        SimulationTask(int iterations, SplittableRandom random) {
+            this.iterations = iterations;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (iterations <= LEAF_ITERATIONS) {
+                return run(iterations, random);
+            }
+            int half = iterations / 2;
+            SimulationTask left = new SimulationTask(half, random.split());
+            SimulationTask right = new SimulationTask(iterations - half, random);
+            left.fork();
+            Tally tally = right.compute();
+            tally.merge(left.join());
+            return tally;
+        }
+    }
+
+    /**
+     * 한 스레드에서 iterations 번을 순차로 돌린다. 반복마다 새로 할당하는 객체가 없다.
+     */
+    Tally run(int iterations, SplittableRandom random) {
+        Tally tally = new Tally(teamCount, iterations);
+        int[] points = new int[teamCount];
+        int[] goalDiff = new int[teamCount];
+        int[] goalsFor = new int[teamCount];
+        int[] order = new int[teamCount];
+        int stride = MAX_GOALS + 1;
+        for (int it = 0; it < iterations; it++) {
+            System.arraycopy(basePoints, 0, points, 0, teamCount);
+            System.arraycopy(baseGoalDiff, 0, goalDiff, 0, teamCount);
+            System.arraycopy(baseGoalsFor, 0, goalsFor, 0, teamCount);
+            for (int f = 0; f < fixtureCount; f++) {
+                int home = sample(homeCdf, f * stride, random.nextDouble());
+                int away = sample(awayCdf, f * stride, random.nextDouble());
+                addResult(points, goalDiff, goalsFor, fixtureHome[f], fixtureAway[f], home, away);
+            }
+            rank(order, points, goalDiff, goalsFor);
+            tally.titles[order[0]]++;
+            for (int pos = 0; pos < teamCount; pos++) {
+                tally.positions[order[pos] * teamCount + pos]++;
+            }
+            for (int i = 0; i < teamCount; i++) {
+                tally.pointsSum[i] += points[i];
+            }
+        }
+        return tally;
+    }
+
+    private static int sample(double[] cdf, int offset, double u) {
+        int k = 0;
+        while (k < MAX_GOALS && u > cdf[offset + k]) {
+            k++;
+        }
+        return k;
+    }
+
+    private static void addResult(int[] points, int[] goalDiff, int[] goalsFor,
+                                  int home, int away, int homeGoals, int awayGoals) {
+        goalsFor[home] += homeGoals;
+        goalsFor[away] += awayGoals;
+        goalDiff[home] += homeGoals - awayGoals;
+        goalDiff[away] += awayGoals - homeGoals;
+        if (homeGoals > awayGoals) {
+            points[home] += StandingsTable.WIN_POINTS;
+        } else if (homeGoals < awayGoals) {
+            points[away] += StandingsTable.WIN_POINTS;
+        } else {
+            points[home] += StandingsTable.DRAW_POINTS;
+            points[away] += StandingsTable.DRAW_POINTS;
+        }
+    }
+
+    // 순위표와 같은 기준(승점 → 득실차 → 다득점 → 팀 번호). 팀 수가 적어 삽입 정렬로 충분하다
+    private static void rank(int[] order, int[] points, int[] goalDiff, int[] goalsFor) {
+        for (int i = 0; i < order.length; i++) {
+            int team = i;
+            int j = i - 1;
+            while (j >= 0 && ahead(team, order[j], points, goalDiff, goalsFor)) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = team;
+        }
+    }
+
+    private static boolean ahead(int a, int b, int[] points, int[] goalDiff, int[] goalsFor) {
+        if (points[a] != points[b]) {
+            return points[a] > points[b];
+        }
+        if (goalDiff[a] != goalDiff[b]) {
+            return goalDiff[a] > goalDiff[b];
+        }
+        if (goalsFor[a] != goalsFor[b]) {
+            return goalsFor[a] > goalsFor[b];
+        }
+        return a < b;
+    }
+
+    /**
+     * 시뮬레이션 누적 결과. 작업별로 따로 쌓고 join 할 때 더한다.
+     */
+    public static final class Tally {
+        private final int teamCount;
+        private int iterations;
+        private final long[] titles;
+        private final long[] pointsSum;
+        // positions[team * teamCount + pos]: team 이 pos 위(0부터)로 끝난 횟수
+        private final long[] positions;
+
+        Tally(int teamCount, int iterations) {
+            this.teamCount = teamCount;
+            this.iterations = iterations;
+            this.titles = new long[teamCount];
+            this.pointsSum = new long[teamCount];
+            this.positions = new long[teamCount * teamCount];
+        }
+
+        void merge(Tally other) {
+            iterations += other.iterations;
+            for (int i = 0; i < teamCount; i++) {
+                titles[i] += other.titles[i];
+                pointsSum[i] += other.pointsSum[i];
+            }
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] += other.positions[i];
+            }
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public double titleProbability(int team) {
+            return iterations == 0 ? 0 : (double) titles[team] / iterations;
+        }
+
+        public double expectedPoints(int team) {
+            return iterations == 0 ? 0 : (double) pointsSum[team] / iterations;
+        }
+
+        public double positionProbability(int team, int pos) {
+            return iterations == 0 ? 0 : (double) positions[team * teamCount + pos] / iterations;
+        }
+    }
+}
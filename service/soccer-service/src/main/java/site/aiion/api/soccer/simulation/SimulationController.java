@@ -0,0 +1,28 @@
+package site.aiion.api.soccer.simulation;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.domain.Messenger;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/soccer")
+public class SimulationController {
+
+    private final SimulationService simulationService;
+
+    /**
+     * 예) /soccer/simulation?season=2012&iterations=20000
+     */
+    @GetMapping("/simulation")
+    public Messenger simulate(
+            @RequestParam(required = false) String season,
+            @RequestParam(required = false) String gubun,
+            @RequestParam(required = false) Integer iterations) {
+        return simulationService.simulate(season, gubun, iterations);
+    }
+}
@@ -0,0 +1,43 @@
+package site.aiion.api.soccer.simulation;
+
+import java.io.Serializable;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class SimulationModel implements Serializable {
+    private String season;
+    private String gubun;
+    private int iterations;
+    private int played_matches;
+    private int remaining_matches;
+    private long elapsed_ms;
+    private List<TeamProjection> teams;
+
+    /**
+     * 팀별 예측. position_probabilities[i] 는 i+1 위로 끝날 확률
+     */
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Getter
+    @Setter
+    public static class TeamProjection implements Serializable {
+        private String team_uk;
+        private int points;
+        private double attack;
+        private double defence;
+        private double expected_points;
+        private double title_probability;
+        private double[] position_probabilities;
+    }
+}
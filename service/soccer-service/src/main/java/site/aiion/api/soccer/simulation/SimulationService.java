@@ -0,0 +1,7 @@
+package site.aiion.api.soccer.simulation;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+
+public interface SimulationService {
+    public Messenger simulate(String season, String gubun, Integer iterations);
+}
@@ -0,0 +1,219 @@
+package site.aiion.api.soccer.simulation;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.schedule.ScheduleModel;
+import site.aiion.api.soccer.schedule.ScheduleRepository;
+import site.aiion.api.soccer.standings.StandingsService;
+import site.aiion.api.soccer.standings.StandingsTable;
+
+/**
+ * 시즌 잔여 경기 Monte Carlo 예측.
+ * 결과는 (시즌, 구분, 반복 수, 순위표 revision) 별로 최대 cache-size 개까지 LRU 로 캐시한다.
+ * revision 이 올라가면 이전 revision 결과는 버리고, 같은 키 요청이 몰리면 처음 요청만 계산하고 나머지는 그 결과를 기다린다.
+ */
+@Service
+public class SimulationServiceImpl implements SimulationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimulationServiceImpl.class);
+
+    private record CacheKey(String season, String gubun, int iterations, long revision) {
+    }
+
+    private final ScheduleRepository scheduleRepository;
+    private final StandingsService standingsService;
+    private final ForkJoinPool pool;
+    // 접근 순서 LinkedHashMap. 계산은 잠금 밖에서 하고 잠금은 future 를 찾거나 넣을 때만 잡는다
+    private final Map<CacheKey, CompletableFuture<SimulationModel>> cache;
+
+    @Value("${soccer.simulation.iterations:10000}")
+    private int defaultIterations;
+
+    @Value("${soccer.simulation.max-iterations:200000}")
+    private int maxIterations;
+
+    @Value("${soccer.simulation.seed:20120317}")
+    private long seed;
+
+    public SimulationServiceImpl(ScheduleRepository scheduleRepository,
+                                 StandingsService standingsService,
+                                 @Value("${soccer.simulation.parallelism:0}") int parallelism,
+                                 @Value("${soccer.simulation.cache-size:32}") int cacheSize) {
+        this.scheduleRepository = scheduleRepository;
+        this.standingsService = standingsService;
+        int maxEntries = Math.max(1, cacheSize);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CompletableFuture<SimulationModel>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        // 0 이면 CPU 코어 수. 요청 스레드를 막는 CPU 작업이라 공용 풀과 분리한다
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public Messenger simulate(String season, String gubun, Integer iterations) {
+        String target = season;
+        if (target == null || target.isBlank()) {
+            List<String> seasons = standingsService.seasons();
+            if (seasons.isEmpty()) {
+                return Messenger.builder()
+                        .Code(404)
+                        .message("집계된 경기 결과가 없습니다.")
+                        .build();
+            }
+            target = seasons.get(seasons.size() - 1);
+        }
+        target = target.trim();
+        if (!target.matches("\\d{4}")) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("season 은 연도 4자리여야 합니다.")
+                    .build();
+        }
+        int runs = iterations == null ? defaultIterations : Math.max(1, Math.min(iterations, maxIterations));
+        String filter = gubun == null || gubun.isBlank() ? null : gubun.trim();
+
+        CacheKey key = new CacheKey(target, filter, runs, standingsService.revision());
+        CompletableFuture<SimulationModel> future;
+        boolean owner = false;
+        synchronized (cache) {
+            future = cache.get(key);
+            if (future == null) {
+                // 순위표가 바뀌었으면 이전 revision 결과는 다시 쓰일 일이 없다
+                cache.keySet().removeIf(cachedKey -> cachedKey.revision() < key.revision());
+                future = new CompletableFuture<>();
+                cache.put(key, future);
+                owner = true;
+            }
+        }
+        if (owner) {
+            try {
+                future.complete(run(target, filter, runs));
+            } catch (RuntimeException e) {
+                // 실패는 캐시하지 않는다. 기다리던 요청에도 같은 예외를 넘긴다
+                synchronized (cache) {
+                    cache.remove(key, future);
+                }
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+        SimulationModel model;
+        try {
+            model = future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        if (model == null) {
+            return Messenger.builder()
+                    .Code(404)
+                    .message(target + " 시즌 일정이 없습니다.")
+                    .build();
+        }
+        return Messenger.builder()
+                .Code(200)
+                .message(target + " 시즌 예측: 남은 " + model.getRemaining_matches() + "경기 × " + model.getIterations() + "회")
+                .data(model)
+                .build();
+    }
+
+    private SimulationModel run(String season, String gubun, int iterations) {
+        int year = Integer.parseInt(season);
+        List<ScheduleModel> schedules = scheduleRepository.findModelsByRange(
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31), gubun, null);
+
+        TreeSet<String> teamSet = new TreeSet<>();
+        for (ScheduleModel s : schedules) {
+            if (s.getHometeam_uk() != null && s.getAwayteam_uk() != null) {
+                teamSet.add(s.getHometeam_uk());
+                teamSet.add(s.getAwayteam_uk());
+            }
+        }
+        if (teamSet.isEmpty()) {
+            return null;
+        }
+        List<String> teams = new ArrayList<>(teamSet);
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < teams.size(); i++) {
+            index.put(teams.get(i), i);
+        }
+
+        List<SeasonSimulator.Played> played = new ArrayList<>();
+        List<SeasonSimulator.Fixture> remaining = new ArrayList<>();
+        for (ScheduleModel s : schedules) {
+            if (s.getHometeam_uk() == null || s.getAwayteam_uk() == null) {
+                continue;
+            }
+            int home = index.get(s.getHometeam_uk());
+            int away = index.get(s.getAwayteam_uk());
+            Integer homeScore = StandingsTable.parseScore(s.getHome_score());
+            Integer awayScore = StandingsTable.parseScore(s.getAway_score());
+            if (homeScore != null && awayScore != null) {
+                played.add(new SeasonSimulator.Played(home, away, homeScore, awayScore));
+            } else {
+                remaining.add(new SeasonSimulator.Fixture(home, away));
+            }
+        }
+
+        long started = System.nanoTime();
+        SeasonSimulator simulator = new SeasonSimulator(teams.size(), played, remaining);
+        SeasonSimulator.Tally tally = simulator.simulate(iterations, seed, pool);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        logger.info("{} 시즌 시뮬레이션: 남은 {}경기 × {}회, {}ms", season, remaining.size(), iterations, elapsedMs);
+
+        List<SimulationModel.TeamProjection> projections = new ArrayList<>(teams.size());
+        for (int i = 0; i < teams.size(); i++) {
+            double[] positions = new double[teams.size()];
+            for (int pos = 0; pos < positions.length; pos++) {
+                positions[pos] = round(tally.positionProbability(i, pos));
+            }
+            projections.add(SimulationModel.TeamProjection.builder()
+                    .team_uk(teams.get(i))
+                    .points(simulator.basePoints(i))
+                    .attack(round(simulator.attack(i)))
+                    .defence(round(simulator.defence(i)))
+                    .expected_points(round(tally.expectedPoints(i)))
+                    .title_probability(round(tally.titleProbability(i)))
+                    .position_probabilities(positions)
+                    .build());
+        }
+        projections.sort((a, b) -> Double.compare(b.getExpected_points(), a.getExpected_points()));
+
+        return SimulationModel.builder()
+                .season(season)
+                .gubun(gubun)
+                .iterations(tally.getIterations())
+                .played_matches(played.size())
+                .remaining_matches(remaining.size())
+                .elapsed_ms(elapsedMs)
+                .teams(projections)
+                .build();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10000) / 10000.0;
+    }
+}
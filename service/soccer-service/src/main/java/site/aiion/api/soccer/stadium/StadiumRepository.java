@@ -8,7 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface StadiumRepository extends JpaRepository<Stadium, Long> {
+public interface StadiumRepository extends JpaRepository<Stadium, Long>, StadiumRepositoryCustom {
     @Query("SELECT s FROM Stadium s WHERE s.stadium_uk = :stadiumUk")
     Optional<Stadium> findByStadium_uk(@Param("stadiumUk") String stadiumUk);
     
@@ -0,0 +1,30 @@
+package site.aiion.api.soccer.stadium;
+
+import static site.aiion.api.soccer.stadium.QStadium.stadium;
+
+import java.util.List;
+
+import site.aiion.api.soccer.common.fields.FieldCatalog;
+import site.aiion.api.soccer.common.fields.FieldSelection;
+
+public interface StadiumRepositoryCustom {
+
+    /**
+     * GET /stadiums?fields= 로 고를 수 있는 필드
+     */
+    FieldCatalog FIELDS = FieldCatalog.builder(StadiumModel.class)
+            .field("id", stadium.id)
+            .field("stadium_uk", stadium.stadium_uk)
+            .field("stadium_name", stadium.stadium_name)
+            .field("hometeam_uk", stadium.hometeam_uk)
+            .field("seat_count", stadium.seat_count)
+            .field("address", stadium.address)
+            .field("ddd", stadium.ddd)
+            .field("tel", stadium.tel)
+            .build();
+
+    /**
+     * 고른 컬럼만 select 해서 id 순 행 배열로 조회
+     */
+    List<Object[]> findFields(FieldSelection selection);
+}
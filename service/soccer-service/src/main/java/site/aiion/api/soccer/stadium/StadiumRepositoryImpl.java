@@ -0,0 +1,27 @@
+package site.aiion.api.soccer.stadium;
+
+import static site.aiion.api.soccer.stadium.QStadium.stadium;
+
+import java.util.List;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.fields.FieldSelection;
+
+@RequiredArgsConstructor
+public class StadiumRepositoryImpl implements StadiumRepositoryCustom
+{
+   private final JPAQueryFactory queryFactory;
+
+   @Override
+   public List<Object[]> findFields(FieldSelection selection) {
+      return queryFactory.select(selection.toArray())
+            .from(stadium)
+            .orderBy(stadium.id.asc())
+            .fetch()
+            .stream()
+            .map(Tuple::toArray)
+            .toList();
+   }
+}
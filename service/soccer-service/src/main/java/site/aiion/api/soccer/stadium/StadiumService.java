@@ -6,6 +6,10 @@ import site.aiion.api.soccer.common.domain.Messenger;
 public interface StadiumService {
     public Messenger findById(StadiumModel stadiumModel);
     public Messenger findAll();
+    /**
+     * fields(쉼표 목록)에 있는 필드만 조회. data 는 SparseRows, 모르는 필드가 있으면 code 400
+     */
+    public Messenger findFields(String fields);
     public Messenger save(StadiumModel stadiumModel);
     public Messenger saveAll(List<StadiumModel> stadiumModelList);
     public Messenger update(StadiumModel stadiumModel);
@@ -4,17 +4,25 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.fields.FieldSelection;
+import site.aiion.api.soccer.common.fields.SparseRows;
+import site.aiion.api.soccer.common.snapshot.JsonSnapshotCache;
+import site.aiion.api.soccer.search.SoccerSearchIndex;
 
 @Service
 @RequiredArgsConstructor
 public class StadiumServiceImpl implements StadiumService {
 
     private final StadiumRepository stadiumRepository;
+    private final SoccerSearchIndex soccerSearchIndex;
+    private final JsonSnapshotCache jsonSnapshotCache;
 
     private StadiumModel entityToModel(Stadium entity) {
         return StadiumModel.builder()
@@ -42,6 +50,14 @@ public class StadiumServiceImpl implements StadiumService {
                 .build();
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSearchIndex() {
+        List<StadiumModel> modelList = stadiumRepository.findAll().stream()
+                .map(this::entityToModel)
+                .collect(Collectors.toList());
+        soccerSearchIndex.rebuildStadiums(modelList);
+    }
+
     @Override
     public Messenger findById(StadiumModel stadiumModel) {
         Optional<Stadium> entity = stadiumRepository.findById(stadiumModel.getId());
@@ -73,12 +89,33 @@ public class StadiumServiceImpl implements StadiumService {
                 .build();
     }
 
+    @Override
+    public Messenger findFields(String fields) {
+        FieldSelection selection;
+        try {
+            selection = StadiumRepository.FIELDS.select(fields);
+        } catch (IllegalArgumentException e) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message(e.getMessage())
+                    .build();
+        }
+        List<Object[]> rows = stadiumRepository.findFields(selection);
+        return Messenger.builder()
+                .Code(200)
+                .message("전체 조회 성공: " + rows.size() + "개")
+                .data(new SparseRows(selection.names(), rows))
+                .build();
+    }
+
     @Override
     @Transactional
     public Messenger save(StadiumModel stadiumModel) {
         Stadium entity = modelToEntity(stadiumModel);
         Stadium saved = stadiumRepository.save(entity);
         StadiumModel model = entityToModel(saved);
+        soccerSearchIndex.indexStadium(model);
+        jsonSnapshotCache.invalidate(JsonSnapshotCache.STADIUMS);
         return Messenger.builder()
                 .Code(200)
                 .message("저장 성공: " + saved.getId())
@@ -94,6 +131,10 @@ public class StadiumServiceImpl implements StadiumService {
                 .collect(Collectors.toList());
         
         List<Stadium> saved = stadiumRepository.saveAll(entities);
+        saved.stream()
+                .map(this::entityToModel)
+                .forEach(soccerSearchIndex::indexStadium);
+        jsonSnapshotCache.invalidate(JsonSnapshotCache.STADIUMS);
         return Messenger.builder()
                 .Code(200)
                 .message("일괄 저장 성공: " + saved.size() + "개")
@@ -121,6 +162,8 @@ public class StadiumServiceImpl implements StadiumService {
             
             Stadium saved = stadiumRepository.save(updated);
             StadiumModel model = entityToModel(saved);
+            soccerSearchIndex.indexStadium(model);
+            jsonSnapshotCache.invalidate(JsonSnapshotCache.STADIUMS);
             return Messenger.builder()
                     .Code(200)
                     .message("수정 성공: " + stadiumModel.getId())
@@ -140,6 +183,8 @@ public class StadiumServiceImpl implements StadiumService {
         Optional<Stadium> optionalEntity = stadiumRepository.findById(stadiumModel.getId());
         if (optionalEntity.isPresent()) {
             stadiumRepository.deleteById(stadiumModel.getId());
+            soccerSearchIndex.removeStadium(stadiumModel.getId());
+            jsonSnapshotCache.invalidate(JsonSnapshotCache.STADIUMS);
             return Messenger.builder()
                     .Code(200)
                     .message("삭제 성공: " + stadiumModel.getId())
@@ -163,13 +208,8 @@ public class StadiumServiceImpl implements StadiumService {
                     .build();
         }
         
-        List<Stadium> stadiums = stadiumRepository.findAll().stream()
-                .filter(s -> s.getStadium_name() != null && s.getStadium_name().contains(keyword))
-                .collect(Collectors.toList());
-        
-        List<StadiumModel> modelList = stadiums.stream()
-                .map(this::entityToModel)
-                .collect(Collectors.toList());
+        // 메모리 n-gram 색인으로 경기장명 검색 (DB 조회 없음)
+        List<StadiumModel> modelList = soccerSearchIndex.searchStadiums(keyword);
         
         return Messenger.builder()
                 .Code(200)
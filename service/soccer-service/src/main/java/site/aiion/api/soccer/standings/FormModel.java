@@ -0,0 +1,23 @@
+package site.aiion.api.soccer.standings;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class FormModel implements Serializable {
+    private Long schedule_id;
+    private String sche_date;
+    private String venue;
+    private String opponent_uk;
+    private int goals_for;
+    private int goals_against;
+    private String result;
+}
@@ -0,0 +1,26 @@
+package site.aiion.api.soccer.standings;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class HeadToHeadModel implements Serializable {
+    private String team_uk;
+    private String opponent_uk;
+    private int played;
+    private int home_played;
+    private int away_played;
+    private int win;
+    private int draw;
+    private int loss;
+    private int goals_for;
+    private int goals_against;
+}
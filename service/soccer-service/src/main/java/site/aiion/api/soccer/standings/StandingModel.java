@@ -0,0 +1,27 @@
+package site.aiion.api.soccer.standings;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class StandingModel implements Serializable {
+    private String season;
+    private int rank;
+    private String team_uk;
+    private int played;
+    private int win;
+    private int draw;
+    private int loss;
+    private int goals_for;
+    private int goals_against;
+    private int goal_diff;
+    private int points;
+}
@@ -0,0 +1,37 @@
+package site.aiion.api.soccer.standings;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.domain.Messenger;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/soccer")
+public class StandingsController {
+
+    private final StandingsService standingsService;
+
+    @GetMapping("/standings")
+    public Messenger findBySeason(@RequestParam(required = false) String season) {
+        return standingsService.findBySeason(season);
+    }
+
+    @GetMapping("/teams/{uk}/form")
+    public Messenger findForm(
+            @PathVariable String uk,
+            @RequestParam(required = false) Integer limit) {
+        return standingsService.findForm(uk, limit);
+    }
+
+    @GetMapping("/h2h")
+    public Messenger findHeadToHead(
+            @RequestParam String team,
+            @RequestParam String opponent) {
+        return standingsService.findHeadToHead(team, opponent);
+    }
+}
@@ -0,0 +1,16 @@
+package site.aiion.api.soccer.standings;
+
+import java.util.List;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.schedule.ScheduleModel;
+
+public interface StandingsService {
+    public Messenger findBySeason(String season);
+    public Messenger findForm(String teamUk, Integer limit);
+    public Messenger findHeadToHead(String teamUk, String opponentUk);
+    public void applySchedule(ScheduleModel scheduleModel);
+    public void removeSchedule(Long scheduleId);
+    public List<String> seasons();
+    public long revision();
+}
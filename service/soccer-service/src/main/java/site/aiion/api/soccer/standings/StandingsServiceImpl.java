@@ -0,0 +1,141 @@
+package site.aiion.api.soccer.standings;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.transaction.AfterCommit;
+import site.aiion.api.soccer.schedule.ScheduleModel;
+import site.aiion.api.soccer.schedule.ScheduleRepository;
+
+/**
+ * 기동 시 전체 일정으로 순위표/상대 전적/최근 폼을 만들고, 이후에는 일정 저장/수정/삭제를 커밋 후에 한 경기씩 반영한다.
+ */
+@Service
+public class StandingsServiceImpl implements StandingsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandingsServiceImpl.class);
+
+    private final ScheduleRepository scheduleRepository;
+    private final StandingsTable standingsTable = new StandingsTable();
+    private final TeamAnalytics teamAnalytics;
+    // 일정이 반영될 때마다 증가. 시즌 시뮬레이션 캐시가 이 값으로 만료 여부를 판단한다
+    private final AtomicLong revision = new AtomicLong();
+
+    public StandingsServiceImpl(ScheduleRepository scheduleRepository,
+                                @Value("${soccer.analytics.form-size:10}") int formSize) {
+        this.scheduleRepository = scheduleRepository;
+        this.teamAnalytics = new TeamAnalytics(formSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildStandings() {
+        List<ScheduleModel> schedules = scheduleRepository.findAllModels();
+        standingsTable.rebuild(schedules);
+        teamAnalytics.rebuild(schedules);
+        revision.incrementAndGet();
+        logger.info("순위표 구성 완료: 시즌 {}", standingsTable.seasons());
+    }
+
+    @Override
+    public Messenger findBySeason(String season) {
+        List<String> seasons = standingsTable.seasons();
+        if (seasons.isEmpty()) {
+            return Messenger.builder()
+                    .Code(404)
+                    .message("집계된 경기 결과가 없습니다.")
+                    .build();
+        }
+        // 시즌을 지정하지 않으면 가장 최근 시즌
+        String target = season == null || season.isBlank() ? seasons.get(seasons.size() - 1) : season.trim();
+        List<StandingModel> table = standingsTable.standings(target);
+        if (table.isEmpty()) {
+            return Messenger.builder()
+                    .Code(404)
+                    .message(target + " 시즌 순위가 없습니다. (가능한 시즌: " + seasons + ")")
+                    .build();
+        }
+        return Messenger.builder()
+                .Code(200)
+                .message(target + " 시즌 순위: " + table.size() + "팀")
+                .data(table)
+                .build();
+    }
+
+    @Override
+    public Messenger findForm(String teamUk, Integer limit) {
+        int size = limit == null ? 5 : Math.max(1, Math.min(limit, teamAnalytics.getFormSize()));
+        List<FormModel> form = teamAnalytics.form(teamUk, size);
+        if (form.isEmpty()) {
+            return Messenger.builder()
+                    .Code(404)
+                    .message(teamUk + " 팀의 경기 결과가 없습니다.")
+                    .build();
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("team_uk", teamUk);
+        // 최신순 결과 요약 (예: "WWDLW")
+        data.put("form", form.stream().map(FormModel::getResult).collect(Collectors.joining()));
+        data.put("matches", form);
+        return Messenger.builder()
+                .Code(200)
+                .message(teamUk + " 최근 " + form.size() + "경기")
+                .data(data)
+                .build();
+    }
+
+    @Override
+    public Messenger findHeadToHead(String teamUk, String opponentUk) {
+        if (teamUk == null || opponentUk == null || teamUk.equals(opponentUk)) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("서로 다른 두 팀 코드가 필요합니다.")
+                    .build();
+        }
+        HeadToHeadModel headToHead = teamAnalytics.headToHead(teamUk, opponentUk);
+        return Messenger.builder()
+                .Code(200)
+                .message(teamUk + " vs " + opponentUk + ": " + headToHead.getWin() + "승 "
+                        + headToHead.getDraw() + "무 " + headToHead.getLoss() + "패")
+                .data(headToHead)
+                .build();
+    }
+
+    @Override
+    public void applySchedule(ScheduleModel scheduleModel) {
+        AfterCommit.run(() -> {
+            standingsTable.apply(scheduleModel);
+            teamAnalytics.apply(scheduleModel);
+            revision.incrementAndGet();
+        });
+    }
+
+    @Override
+    public void removeSchedule(Long scheduleId) {
+        AfterCommit.run(() -> {
+            standingsTable.remove(scheduleId);
+            teamAnalytics.remove(scheduleId);
+            revision.incrementAndGet();
+        });
+    }
+
+    @Override
+    public List<String> seasons() {
+        return standingsTable.seasons();
+    }
+
+    @Override
+    public long revision() {
+        return revision.get();
+    }
+}
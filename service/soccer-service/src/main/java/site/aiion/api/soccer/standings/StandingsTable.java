@@ -0,0 +1,214 @@
+package site.aiion.api.soccer.standings;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import site.aiion.api.soccer.schedule.ScheduleModel;
+
+/**
+ * 시즌별 팀 성적(승/무/패, 득실, 승점) 메모리 집계.
+ * 경기 id 별로 마지막으로 반영한 결과를 기억해 두고, 저장/수정 시 이전 결과를 빼고 새 결과를 더하므로
+ * 경기 하나의 변경은 전체 일정 수와 관계없이 O(1) 로 반영된다.
+ * 순위는 조회 시점에 해당 시즌 팀 수만큼만 정렬한다.
+ */
+public class StandingsTable {
+
+    public static final int WIN_POINTS = 3;
+    public static final int DRAW_POINTS = 1;
+
+    private static final Comparator<StandingModel> RANKING = Comparator
+            .comparingInt(StandingModel::getPoints).reversed()
+            .thenComparing(Comparator.comparingInt(StandingModel::getGoal_diff).reversed())
+            .thenComparing(Comparator.comparingInt(StandingModel::getGoals_for).reversed())
+            .thenComparing(StandingModel::getTeam_uk);
+
+    private final Map<String, Map<String, TeamRecord>> seasons = new HashMap<>();
+    private final Map<Long, Result> applied = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 집계에 반영되는 경기 결과. 점수가 숫자가 아니면(미진행 경기) 반영하지 않는다.
+     */
+    record Result(String season, String home, String away, int homeScore, int awayScore) {
+
+        static Result of(ScheduleModel model) {
+            String season = seasonOf(model.getSche_date());
+            Integer homeScore = parseScore(model.getHome_score());
+            Integer awayScore = parseScore(model.getAway_score());
+            if (season == null || model.getHometeam_uk() == null || model.getAwayteam_uk() == null
+                    || homeScore == null || awayScore == null) {
+                return null;
+            }
+            return new Result(season, model.getHometeam_uk(), model.getAwayteam_uk(), homeScore, awayScore);
+        }
+    }
+
+    private static final class TeamRecord {
+        int played;
+        int win;
+        int draw;
+        int loss;
+        int goalsFor;
+        int goalsAgainst;
+
+        void add(int scored, int conceded, int sign) {
+            played += sign;
+            goalsFor += sign * scored;
+            goalsAgainst += sign * conceded;
+            if (scored > conceded) {
+                win += sign;
+            } else if (scored == conceded) {
+                draw += sign;
+            } else {
+                loss += sign;
+            }
+        }
+
+        boolean isEmpty() {
+            return played == 0;
+        }
+    }
+
+    /**
+     * 경기 결과를 반영한다. 같은 id 가 이미 반영돼 있으면 이전 결과를 빼고 새 결과로 바꾼다.
+     */
+    public void apply(ScheduleModel model) {
+        if (model.getId() == null) {
+            return;
+        }
+        Result result = Result.of(model);
+        lock.writeLock().lock();
+        try {
+            Result old = result != null ? applied.put(model.getId(), result) : applied.remove(model.getId());
+            if (old != null) {
+                add(old, -1);
+            }
+            if (result != null) {
+                add(result, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long scheduleId) {
+        lock.writeLock().lock();
+        try {
+            Result old = applied.remove(scheduleId);
+            if (old != null) {
+                add(old, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<ScheduleModel> models) {
+        lock.writeLock().lock();
+        try {
+            seasons.clear();
+            applied.clear();
+            for (ScheduleModel model : models) {
+                Result result = model.getId() != null ? Result.of(model) : null;
+                if (result != null && applied.putIfAbsent(model.getId(), result) == null) {
+                    add(result, 1);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 시즌 순위표. 승점 → 득실차 → 다득점 → 팀 코드 순.
+     */
+    public List<StandingModel> standings(String season) {
+        List<StandingModel> table = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<String, TeamRecord> teams = seasons.get(season);
+            if (teams == null) {
+                return table;
+            }
+            teams.forEach((team, record) -> table.add(StandingModel.builder()
+                    .season(season)
+                    .team_uk(team)
+                    .played(record.played)
+                    .win(record.win)
+                    .draw(record.draw)
+                    .loss(record.loss)
+                    .goals_for(record.goalsFor)
+                    .goals_against(record.goalsAgainst)
+                    .goal_diff(record.goalsFor - record.goalsAgainst)
+                    .points(record.win * WIN_POINTS + record.draw * DRAW_POINTS)
+                    .build()));
+        } finally {
+            lock.readLock().unlock();
+        }
+        table.sort(RANKING);
+        for (int i = 0; i < table.size(); i++) {
+            table.get(i).setRank(i + 1);
+        }
+        return table;
+    }
+
+    /**
+     * 결과가 하나 이상 있는 시즌 목록 (오름차순).
+     */
+    public List<String> seasons() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(new TreeSet<>(seasons.keySet()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Result result, int sign) {
+        Map<String, TeamRecord> teams = seasons.computeIfAbsent(result.season(), k -> new HashMap<>());
+        addTeam(teams, result.home(), result.homeScore(), result.awayScore(), sign);
+        addTeam(teams, result.away(), result.awayScore(), result.homeScore(), sign);
+        if (teams.isEmpty()) {
+            seasons.remove(result.season());
+        }
+    }
+
+    // 경기가 모두 빠진 팀은 순위표에서도 뺀다
+    private static void addTeam(Map<String, TeamRecord> teams, String team, int scored, int conceded, int sign) {
+        TeamRecord record = teams.computeIfAbsent(team, k -> new TeamRecord());
+        record.add(scored, conceded, sign);
+        if (record.isEmpty()) {
+            teams.remove(team);
+        }
+    }
+
+    /**
+     * sche_date("20120317") 앞 4자리를 시즌으로 본다.
+     */
+    public static String seasonOf(String scheDate) {
+        if (scheDate == null || scheDate.length() < 4) {
+            return null;
+        }
+        String season = scheDate.substring(0, 4);
+        return season.chars().allMatch(Character::isDigit) ? season : null;
+    }
+
+    public static Integer parseScore(String score) {
+        if (score == null || score.isBlank()) {
+            return null;
+        }
+        try {
+            int value = Integer.parseInt(score.trim());
+            return value >= 0 ? value : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
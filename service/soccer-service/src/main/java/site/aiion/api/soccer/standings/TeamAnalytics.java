@@ -0,0 +1,307 @@
+package site.aiion.api.soccer.standings;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import site.aiion.api.soccer.schedule.ScheduleModel;
+
+/**
+ * 상대 전적과 최근 폼 집계.
+ * 상대 전적은 (홈팀, 원정팀) 키별 누적 기록이라 두 팀 전적은 조회 두 번으로 끝난다.
+ * 최근 폼은 팀마다 최근 formSize 경기를 담는 ring buffer 로, 날짜 순으로 들어오는 새 결과는 O(1) 로 덧붙인다.
+ * 과거 날짜 경기가 끼어들거나 버퍼 안의 경기가 수정/삭제된 경우에만 그 팀 경기 목록에서 버퍼를 다시 채운다.
+ */
+public class TeamAnalytics {
+
+    private static final Comparator<Match> CHRONOLOGICAL = Comparator
+            .comparing(Match::date)
+            .thenComparingLong(Match::id);
+
+    private final int formSize;
+    private final Map<Long, Match> applied = new HashMap<>();
+    private final Map<Matchup, MatchupRecord> matchups = new HashMap<>();
+    private final Map<String, Map<Long, Match>> matchesByTeam = new HashMap<>();
+    private final Map<String, FormBuffer> forms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TeamAnalytics(int formSize) {
+        this.formSize = Math.max(1, formSize);
+    }
+
+    record Match(long id, String date, String home, String away, int homeScore, int awayScore) {
+
+        static Match of(ScheduleModel model) {
+            Integer homeScore = StandingsTable.parseScore(model.getHome_score());
+            Integer awayScore = StandingsTable.parseScore(model.getAway_score());
+            if (model.getId() == null || model.getSche_date() == null || model.getHometeam_uk() == null
+                    || model.getAwayteam_uk() == null || homeScore == null || awayScore == null) {
+                return null;
+            }
+            return new Match(model.getId(), model.getSche_date(), model.getHometeam_uk(), model.getAwayteam_uk(),
+                    homeScore, awayScore);
+        }
+    }
+
+    private record Matchup(String home, String away) {
+    }
+
+    private static final class MatchupRecord {
+        int played;
+        int homeWin;
+        int draw;
+        int awayWin;
+        int homeGoals;
+        int awayGoals;
+
+        void add(Match match, int sign) {
+            played += sign;
+            homeGoals += sign * match.homeScore();
+            awayGoals += sign * match.awayScore();
+            if (match.homeScore() > match.awayScore()) {
+                homeWin += sign;
+            } else if (match.homeScore() == match.awayScore()) {
+                draw += sign;
+            } else {
+                awayWin += sign;
+            }
+        }
+    }
+
+    /**
+     * 최근 경기 ring buffer. 논리 인덱스 0 이 가장 오래된 경기.
+     */
+    private static final class FormBuffer {
+        final Match[] slots;
+        int head;
+        int size;
+
+        FormBuffer(int capacity) {
+            slots = new Match[capacity];
+        }
+
+        Match get(int index) {
+            return slots[(head + index) % slots.length];
+        }
+
+        Match newest() {
+            return size == 0 ? null : get(size - 1);
+        }
+
+        // 가장 최근 경기보다 뒤의 결과만 받는다. 가득 차 있으면 가장 오래된 경기를 덮어쓴다
+        void append(Match match) {
+            if (size < slots.length) {
+                slots[(head + size) % slots.length] = match;
+                size++;
+            } else {
+                slots[head] = match;
+                head = (head + 1) % slots.length;
+            }
+        }
+
+        boolean contains(long id) {
+            for (int i = 0; i < size; i++) {
+                if (get(i).id() == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void clear() {
+            head = 0;
+            size = 0;
+        }
+    }
+
+    public void apply(ScheduleModel model) {
+        if (model.getId() == null) {
+            return;
+        }
+        Match match = Match.of(model);
+        lock.writeLock().lock();
+        try {
+            removeInternal(model.getId());
+            if (match != null) {
+                addInternal(match);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long scheduleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(scheduleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(List<ScheduleModel> models) {
+        List<Match> matches = new ArrayList<>();
+        for (ScheduleModel model : models) {
+            Match match = Match.of(model);
+            if (match != null) {
+                matches.add(match);
+            }
+        }
+        // 날짜 순으로 넣으면 폼 버퍼는 모두 append 경로를 탄다
+        matches.sort(CHRONOLOGICAL);
+        lock.writeLock().lock();
+        try {
+            applied.clear();
+            matchups.clear();
+            matchesByTeam.clear();
+            forms.clear();
+            for (Match match : matches) {
+                if (!applied.containsKey(match.id())) {
+                    addInternal(match);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 팀의 최근 경기 결과 (최신순, 최대 limit 개, limit 은 formSize 이하).
+     */
+    public List<FormModel> form(String team, int limit) {
+        List<FormModel> results = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            FormBuffer buffer = forms.get(team);
+            if (buffer == null) {
+                return results;
+            }
+            for (int i = buffer.size - 1; i >= 0 && results.size() < limit; i--) {
+                results.add(toForm(team, buffer.get(i)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return results;
+    }
+
+    /**
+     * 두 팀의 통산 상대 전적 (team 기준 승/무/패).
+     */
+    public HeadToHeadModel headToHead(String team, String opponent) {
+        HeadToHeadModel model = HeadToHeadModel.builder().team_uk(team).opponent_uk(opponent).build();
+        lock.readLock().lock();
+        try {
+            MatchupRecord home = matchups.get(new Matchup(team, opponent));
+            if (home != null) {
+                model.setHome_played(home.played);
+                model.setWin(model.getWin() + home.homeWin);
+                model.setDraw(model.getDraw() + home.draw);
+                model.setLoss(model.getLoss() + home.awayWin);
+                model.setGoals_for(model.getGoals_for() + home.homeGoals);
+                model.setGoals_against(model.getGoals_against() + home.awayGoals);
+            }
+            MatchupRecord away = matchups.get(new Matchup(opponent, team));
+            if (away != null) {
+                model.setAway_played(away.played);
+                model.setWin(model.getWin() + away.awayWin);
+                model.setDraw(model.getDraw() + away.draw);
+                model.setLoss(model.getLoss() + away.homeWin);
+                model.setGoals_for(model.getGoals_for() + away.awayGoals);
+                model.setGoals_against(model.getGoals_against() + away.homeGoals);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        model.setPlayed(model.getHome_played() + model.getAway_played());
+        return model;
+    }
+
+    public int getFormSize() {
+        return formSize;
+    }
+
+    private void addInternal(Match match) {
+        applied.put(match.id(), match);
+        matchups.computeIfAbsent(new Matchup(match.home(), match.away()), k -> new MatchupRecord()).add(match, 1);
+        addToTeam(match.home(), match);
+        addToTeam(match.away(), match);
+    }
+
+    private void removeInternal(long id) {
+        Match old = applied.remove(id);
+        if (old == null) {
+            return;
+        }
+        Matchup key = new Matchup(old.home(), old.away());
+        MatchupRecord record = matchups.get(key);
+        record.add(old, -1);
+        if (record.played == 0) {
+            matchups.remove(key);
+        }
+        removeFromTeam(old.home(), old);
+        removeFromTeam(old.away(), old);
+    }
+
+    private void addToTeam(String team, Match match) {
+        matchesByTeam.computeIfAbsent(team, k -> new HashMap<>()).put(match.id(), match);
+        FormBuffer buffer = forms.computeIfAbsent(team, k -> new FormBuffer(formSize));
+        Match newest = buffer.newest();
+        if (newest == null || CHRONOLOGICAL.compare(match, newest) > 0) {
+            buffer.append(match);
+        } else {
+            refill(team, buffer);
+        }
+    }
+
+    private void removeFromTeam(String team, Match match) {
+        Map<Long, Match> matches = matchesByTeam.get(team);
+        if (matches == null || matches.remove(match.id()) == null) {
+            return;
+        }
+        if (matches.isEmpty()) {
+            matchesByTeam.remove(team);
+            forms.remove(team);
+            return;
+        }
+        FormBuffer buffer = forms.get(team);
+        if (buffer.contains(match.id())) {
+            refill(team, buffer);
+        }
+    }
+
+    // 팀 경기 중 최근 formSize 개를 골라 버퍼를 다시 채운다 (과거 경기 끼어들기/삭제 시에만)
+    private void refill(String team, FormBuffer buffer) {
+        PriorityQueue<Match> recent = new PriorityQueue<>(formSize + 1, CHRONOLOGICAL);
+        for (Match match : matchesByTeam.get(team).values()) {
+            recent.add(match);
+            if (recent.size() > formSize) {
+                recent.poll();
+            }
+        }
+        buffer.clear();
+        while (!recent.isEmpty()) {
+            buffer.append(recent.poll());
+        }
+    }
+
+    private static FormModel toForm(String team, Match match) {
+        boolean home = team.equals(match.home());
+        int scored = home ? match.homeScore() : match.awayScore();
+        int conceded = home ? match.awayScore() : match.homeScore();
+        return FormModel.builder()
+                .schedule_id(match.id())
+                .sche_date(match.date())
+                .venue(home ? "H" : "A")
+                .opponent_uk(home ? match.away() : match.home())
+                .goals_for(scored)
+                .goals_against(conceded)
+                .result(scored > conceded ? "W" : scored == conceded ? "D" : "L")
+                .build();
+    }
+}
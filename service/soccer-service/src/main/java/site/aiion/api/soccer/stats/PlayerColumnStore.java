@@ -0,0 +1,89 @@
+package site.aiion.api.soccer.stats;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import site.aiion.api.soccer.common.transaction.AfterCommit;
+import site.aiion.api.soccer.player.PlayerModel;
+
+/**
+ * 선수 열 스냅샷 보관소 (copy-on-write).
+ * 쓰기는 원본 맵만 바꾸고 스냅샷을 무효화하며, 다음 조회 때 새 불변 스냅샷을 만들어 교체한다.
+ * 조회 중인 요청은 이전 스냅샷을 그대로 끝까지 쓰므로 잠금 없이 읽는다.
+ * saveAll 처럼 연속된 쓰기는 스냅샷 재구성 한 번으로 합쳐진다.
+ * 유사 선수 k-d tree 는 스냅샷과 달리 쓰기마다 바로 고친다.
+ */
+@Component
+public class PlayerColumnStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerColumnStore.class);
+
+    private final Map<Long, PlayerModel> players = new ConcurrentHashMap<>();
+    private volatile PlayerColumns snapshot = PlayerColumns.EMPTY;
+    private volatile boolean stale;
+    private volatile PlayerFacetIndex facetIndex;
+    private final PlayerSimilarityIndex similarity = new PlayerSimilarityIndex();
+
+    public void rebuild(Collection<PlayerModel> models) {
+        players.clear();
+        models.forEach(m -> players.put(m.getId(), m));
+        synchronized (this) {
+            snapshot = PlayerColumns.of(List.copyOf(players.values()));
+            stale = false;
+        }
+        similarity.rebuild(models);
+        logger.info("선수 열 스냅샷 구성 완료: {}명", snapshot.size);
+    }
+
+    public void indexPlayer(PlayerModel model) {
+        AfterCommit.run(() -> {
+            players.put(model.getId(), model);
+            stale = true;
+            similarity.put(model);
+        });
+    }
+
+    public void removePlayer(Long id) {
+        AfterCommit.run(() -> {
+            players.remove(id);
+            stale = true;
+            similarity.remove(id);
+        });
+    }
+
+    PlayerColumns snapshot() {
+        if (stale) {
+            synchronized (this) {
+                if (stale) {
+                    // 재구성 도중 들어온 쓰기는 다시 stale 로 표시되어 다음 조회에서 반영된다
+                    stale = false;
+                    snapshot = PlayerColumns.of(List.copyOf(players.values()));
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 현재 스냅샷의 비트셋 색인. 스냅샷이 바뀐 뒤 처음 조회할 때 한 번 만든다.
+     */
+    PlayerFacetIndex facets() {
+        PlayerColumns columns = snapshot();
+        PlayerFacetIndex index = facetIndex;
+        if (index == null || index.columns != columns) {
+            index = new PlayerFacetIndex(columns);
+            facetIndex = index;
+        }
+        return index;
+    }
+
+    PlayerSimilarityIndex similarity() {
+        return similarity;
+    }
+}
@@ -0,0 +1,259 @@
+package site.aiion.api.soccer.stats;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import site.aiion.api.soccer.player.PlayerModel;
+
+/**
+ * 선수 목록의 열 지향 불변 스냅샷.
+ * 문자열로 저장된 키/몸무게/등번호/연도는 미리 short 로 파싱하고, 포지션/국적/팀은 사전 코드(int)로 바꿔 둔다.
+ * 집계는 배열을 한 번 훑는 루프라서 행마다 객체를 만들지 않는다.
+ */
+final class PlayerColumns {
+
+    /** 값이 없거나 숫자가 아닌 칸 */
+    static final short MISSING = Short.MIN_VALUE;
+    /** 사전에 없는(비어 있는) 코드 */
+    static final int NONE = -1;
+
+    static final PlayerColumns EMPTY = of(List.of());
+
+    final int size;
+    final short[] height;
+    final short[] weight;
+    final short[] backNo;
+    final short[] joinYear;
+    final short[] birthYear;
+    final int[] position;
+    final int[] nation;
+    final int[] team;
+    final String[] positions;
+    final String[] nations;
+    final String[] teams;
+    // i 번째 선수 원본 (필터 결과를 돌려줄 때 사용)
+    final PlayerModel[] rows;
+
+    private PlayerColumns(int size, short[] height, short[] weight, short[] backNo, short[] joinYear, short[] birthYear,
+                          int[] position, int[] nation, int[] team,
+                          String[] positions, String[] nations, String[] teams, PlayerModel[] rows) {
+        this.size = size;
+        this.height = height;
+        this.weight = weight;
+        this.backNo = backNo;
+        this.joinYear = joinYear;
+        this.birthYear = birthYear;
+        this.position = position;
+        this.nation = nation;
+        this.team = team;
+        this.positions = positions;
+        this.nations = nations;
+        this.teams = teams;
+        this.rows = rows;
+    }
+
+    static PlayerColumns of(Collection<PlayerModel> models) {
+        int size = models.size();
+        short[] height = new short[size];
+        short[] weight = new short[size];
+        short[] backNo = new short[size];
+        short[] joinYear = new short[size];
+        short[] birthYear = new short[size];
+        int[] position = new int[size];
+        int[] nation = new int[size];
+        int[] team = new int[size];
+        PlayerModel[] rows = new PlayerModel[size];
+        Map<String, Integer> positionDict = new LinkedHashMap<>();
+        Map<String, Integer> nationDict = new LinkedHashMap<>();
+        Map<String, Integer> teamDict = new LinkedHashMap<>();
+
+        int i = 0;
+        for (PlayerModel m : models) {
+            height[i] = parseShort(m.getHeight());
+            weight[i] = parseShort(m.getWeight());
+            backNo[i] = parseShort(m.getBack_no());
+            joinYear[i] = parseYear(m.getJoin_yyyy());
+            birthYear[i] = parseYear(m.getBirth_date());
+            position[i] = encode(positionDict, m.getPosition());
+            nation[i] = encode(nationDict, m.getNation());
+            team[i] = encode(teamDict, m.getTeam_uk());
+            rows[i] = m;
+            i++;
+        }
+        return new PlayerColumns(size, height, weight, backNo, joinYear, birthYear, position, nation, team,
+                positionDict.keySet().toArray(new String[0]),
+                nationDict.keySet().toArray(new String[0]),
+                teamDict.keySet().toArray(new String[0]),
+                rows);
+    }
+
+    /**
+     * groupBy(position/nation/team, 없으면 전체) 별 인원수와 키/몸무게/나이 통계.
+     * position/team 필터는 사전 코드로 바꿔 정수 비교만 한다. 값이 없는 그룹은 "미상" 으로 묶는다.
+     */
+    List<PlayerStatModel> aggregate(String groupBy, String positionFilter, String teamFilter, int referenceYear) {
+        int[] groupCodes;
+        String[] groupNames;
+        if (groupBy == null || groupBy.isBlank()) {
+            groupCodes = null;
+            groupNames = new String[] { "전체" };
+        } else {
+            switch (groupBy.toLowerCase()) {
+                case "position" -> { groupCodes = position; groupNames = positions; }
+                case "nation" -> { groupCodes = nation; groupNames = nations; }
+                case "team" -> { groupCodes = team; groupNames = teams; }
+                default -> throw new IllegalArgumentException("지원하지 않는 groupBy 입니다: " + groupBy);
+            }
+        }
+        int positionCode = positionFilter == null ? NONE : codeOf(positions, positionFilter);
+        int teamCode = teamFilter == null ? NONE : codeOf(teams, teamFilter);
+        if ((positionFilter != null && positionCode == NONE) || (teamFilter != null && teamCode == NONE)) {
+            return List.of();
+        }
+
+        // 마지막 칸은 코드가 없는 선수("미상")
+        int groups = groupNames.length + 1;
+        int[] count = new int[groups];
+        Accumulator heights = new Accumulator(groups);
+        Accumulator weights = new Accumulator(groups);
+        Accumulator ages = new Accumulator(groups);
+        for (int i = 0; i < size; i++) {
+            if ((positionFilter != null && position[i] != positionCode) || (teamFilter != null && team[i] != teamCode)) {
+                continue;
+            }
+            int g = groupCodes == null ? 0 : groupCodes[i];
+            if (g == NONE) {
+                g = groups - 1;
+            }
+            count[g]++;
+            heights.add(g, height[i]);
+            weights.add(g, weight[i]);
+            if (birthYear[i] != MISSING) {
+                ages.add(g, (short) (referenceYear - birthYear[i]));
+            }
+        }
+
+        List<PlayerStatModel> results = new ArrayList<>();
+        for (int g = 0; g < groups; g++) {
+            if (count[g] == 0) {
+                continue;
+            }
+            results.add(PlayerStatModel.builder()
+                    .group(g < groupNames.length ? groupNames[g] : "미상")
+                    .count(count[g])
+                    .avg_height(heights.average(g))
+                    .min_height(heights.min(g))
+                    .max_height(heights.max(g))
+                    .avg_weight(weights.average(g))
+                    .min_weight(weights.min(g))
+                    .max_weight(weights.max(g))
+                    .avg_age(ages.average(g))
+                    .min_age(ages.min(g))
+                    .max_age(ages.max(g))
+                    .build());
+        }
+        return results;
+    }
+
+    /**
+     * 그룹별 합계/개수/최소/최대. 값이 MISSING 이면 건너뛴다.
+     */
+    private static final class Accumulator {
+        final long[] sum;
+        final int[] n;
+        final short[] min;
+        final short[] max;
+
+        Accumulator(int groups) {
+            sum = new long[groups];
+            n = new int[groups];
+            min = new short[groups];
+            max = new short[groups];
+        }
+
+        void add(int g, short value) {
+            if (value == MISSING) {
+                return;
+            }
+            if (n[g] == 0 || value < min[g]) {
+                min[g] = value;
+            }
+            if (n[g] == 0 || value > max[g]) {
+                max[g] = value;
+            }
+            sum[g] += value;
+            n[g]++;
+        }
+
+        Double average(int g) {
+            return n[g] == 0 ? null : Math.round(sum[g] * 10.0 / n[g]) / 10.0;
+        }
+
+        Integer min(int g) {
+            return n[g] == 0 ? null : (int) min[g];
+        }
+
+        Integer max(int g) {
+            return n[g] == 0 ? null : (int) max[g];
+        }
+    }
+
+    /**
+     * 사전에서 값의 코드를 찾는다. 없으면 NONE.
+     */
+    static int codeOf(String[] dictionary, String value) {
+        for (int i = 0; i < dictionary.length; i++) {
+            if (dictionary[i].equals(value)) {
+                return i;
+            }
+        }
+        return NONE;
+    }
+
+    private static int encode(Map<String, Integer> dictionary, String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        return dictionary.computeIfAbsent(value.trim(), k -> dictionary.size());
+    }
+
+    // "183", "183cm", " 74 " 처럼 앞쪽 숫자만 읽는다
+    static short parseShort(String text) {
+        if (text == null) {
+            return MISSING;
+        }
+        int value = 0;
+        int digits = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (++digits > 4) {
+                    return MISSING;
+                }
+            } else if (digits > 0 || !Character.isWhitespace(c)) {
+                break;
+            }
+        }
+        return digits == 0 ? MISSING : (short) value;
+    }
+
+    // "1979-11-22", "19791122", "1997" 의 앞 4자리 연도
+    static short parseYear(String text) {
+        if (text == null || text.length() < 4) {
+            return MISSING;
+        }
+        int year = 0;
+        for (int i = 0; i < 4; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return MISSING;
+            }
+            year = year * 10 + (c - '0');
+        }
+        return (short) year;
+    }
+}
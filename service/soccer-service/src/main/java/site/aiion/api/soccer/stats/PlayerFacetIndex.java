@@ -0,0 +1,225 @@
+package site.aiion.api.soccer.stats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import site.aiion.api.soccer.player.PlayerModel;
+
+/**
+ * 선수 열 스냅샷 위의 비트셋 색인. 포지션/국적/팀 값마다, 출생 연도마다 "그 값을 가진 선수" 비트셋을 둔다.
+ * 필터는 차원 안에서는 OR, 차원끼리는 AND 로 long 단위 교집합을 구한다.
+ * 차원별 facet 개수는 자기 차원 조건만 뺀 교집합과 값 비트셋의 popcount 로 구하므로,
+ * 이미 고른 값 옆에도 "다른 값을 고르면 몇 명인지" 가 나온다. 앞/뒤 누적 AND 로 차원마다 한 번씩만 교집합을 만든다.
+ */
+final class PlayerFacetIndex {
+
+    static final String UNKNOWN = "미상";
+    static final int BIRTH_BUCKET_YEARS = 5;
+
+    private static final int POSITION = 0;
+    private static final int NATION = 1;
+    private static final int TEAM = 2;
+    private static final int BIRTH_YEAR = 3;
+    private static final int DIMENSIONS = 4;
+
+    final PlayerColumns columns;
+    private final int words;
+    private final Dimension position;
+    private final Dimension nation;
+    private final Dimension team;
+    private final int minYear;
+    // yearBits[y - minYear]: 그 해에 태어난 선수, 마지막 칸은 출생 연도가 없는 선수
+    private final long[][] yearBits;
+
+    record Query(List<String> positions, List<String> nations, List<String> teams, Integer bornFrom, Integer bornTo) {
+    }
+
+    record Result(int total, List<PlayerModel> players, Map<String, List<PlayerFilterModel.FacetCount>> facets) {
+    }
+
+    /**
+     * 포지션/국적/팀 한 차원. bits[code] 는 사전 코드가 code 인 선수, 마지막 칸은 값이 없는 선수.
+     */
+    private static final class Dimension {
+        final String[] names;
+        final long[][] bits;
+
+        Dimension(String[] names, int[] codes, int size, int words) {
+            this.names = names;
+            this.bits = new long[names.length + 1][words];
+            for (int i = 0; i < size; i++) {
+                int code = codes[i] == PlayerColumns.NONE ? names.length : codes[i];
+                bits[code][i >>> 6] |= 1L << i;
+            }
+        }
+
+        // 값 목록에 해당하는 선수의 합집합. 조건이 없으면 null(전체)
+        long[] select(List<String> values, int words) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            long[] mask = new long[words];
+            for (String value : values) {
+                int code = UNKNOWN.equals(value) ? names.length : PlayerColumns.codeOf(names, value);
+                if (code != PlayerColumns.NONE) {
+                    or(mask, bits[code]);
+                }
+            }
+            return mask;
+        }
+
+        List<PlayerFilterModel.FacetCount> counts(long[] mask) {
+            List<PlayerFilterModel.FacetCount> counts = new ArrayList<>();
+            for (int code = 0; code < bits.length; code++) {
+                int count = count(bits[code], mask);
+                if (count > 0) {
+                    counts.add(new PlayerFilterModel.FacetCount(code < names.length ? names[code] : UNKNOWN, count));
+                }
+            }
+            counts.sort(Comparator.comparingInt(PlayerFilterModel.FacetCount::getCount).reversed()
+                    .thenComparing(PlayerFilterModel.FacetCount::getValue));
+            return counts;
+        }
+    }
+
+    PlayerFacetIndex(PlayerColumns columns) {
+        this.columns = columns;
+        int size = columns.size;
+        this.words = (size + 63) >>> 6;
+        this.position = new Dimension(columns.positions, columns.position, size, words);
+        this.nation = new Dimension(columns.nations, columns.nation, size, words);
+        this.team = new Dimension(columns.teams, columns.team, size, words);
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            if (columns.birthYear[i] != PlayerColumns.MISSING) {
+                min = Math.min(min, columns.birthYear[i]);
+                max = Math.max(max, columns.birthYear[i]);
+            }
+        }
+        this.minYear = min == Integer.MAX_VALUE ? 0 : min;
+        int years = min == Integer.MAX_VALUE ? 0 : max - min + 1;
+        this.yearBits = new long[years + 1][words];
+        for (int i = 0; i < size; i++) {
+            short year = columns.birthYear[i];
+            int slot = year == PlayerColumns.MISSING ? years : year - minYear;
+            yearBits[slot][i >>> 6] |= 1L << i;
+        }
+    }
+
+    Result query(Query query, int offset, int limit) {
+        long[][] masks = new long[DIMENSIONS][];
+        masks[POSITION] = position.select(query.positions(), words);
+        masks[NATION] = nation.select(query.nations(), words);
+        masks[TEAM] = team.select(query.teams(), words);
+        masks[BIRTH_YEAR] = selectYears(query.bornFrom(), query.bornTo());
+
+        // prefix[d] = masks[0..d-1] 의 AND, suffix[d] = masks[d..] 의 AND (null 은 전체)
+        long[][] prefix = new long[DIMENSIONS + 1][];
+        long[][] suffix = new long[DIMENSIONS + 1][];
+        for (int d = 0; d < DIMENSIONS; d++) {
+            prefix[d + 1] = and(prefix[d], masks[d]);
+        }
+        for (int d = DIMENSIONS - 1; d >= 0; d--) {
+            suffix[d] = and(masks[d], suffix[d + 1]);
+        }
+        long[] matched = prefix[DIMENSIONS];
+
+        Map<String, List<PlayerFilterModel.FacetCount>> facets = new LinkedHashMap<>();
+        facets.put("position", position.counts(and(prefix[POSITION], suffix[POSITION + 1])));
+        facets.put("nation", nation.counts(and(prefix[NATION], suffix[NATION + 1])));
+        facets.put("team", team.counts(and(prefix[TEAM], suffix[TEAM + 1])));
+        facets.put("birth_year", yearCounts(and(prefix[BIRTH_YEAR], suffix[BIRTH_YEAR + 1])));
+
+        int total = matched == null ? columns.size : count(matched, null);
+        List<PlayerModel> players = new ArrayList<>(Math.min(limit, Math.max(total - offset, 0)));
+        if (matched == null) {
+            for (int i = offset; i < columns.size && players.size() < limit; i++) {
+                players.add(columns.rows[i]);
+            }
+            return new Result(total, players, facets);
+        }
+        // 켜진 비트만 건너뛰며 offset 이후 limit 명을 모은다
+        int seen = 0;
+        for (int w = 0; w < words && players.size() < limit; w++) {
+            long word = matched[w];
+            while (word != 0 && players.size() < limit) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                if (seen++ >= offset) {
+                    players.add(columns.rows[i]);
+                }
+            }
+        }
+        return new Result(total, players, facets);
+    }
+
+    // [bornFrom, bornTo] 에 드는 연도 비트셋의 합집합. 둘 다 없으면 null(전체)
+    private long[] selectYears(Integer bornFrom, Integer bornTo) {
+        if (bornFrom == null && bornTo == null) {
+            return null;
+        }
+        long[] mask = new long[words];
+        int years = yearBits.length - 1;
+        int from = Math.max(bornFrom == null ? minYear : bornFrom, minYear) - minYear;
+        int to = Math.min(bornTo == null ? minYear + years - 1 : bornTo, minYear + years - 1) - minYear;
+        for (int slot = from; slot <= to; slot++) {
+            or(mask, yearBits[slot]);
+        }
+        return mask;
+    }
+
+    // 연도별 개수를 BIRTH_BUCKET_YEARS 년 구간("1990-1994")으로 묶는다
+    private List<PlayerFilterModel.FacetCount> yearCounts(long[] mask) {
+        Map<Integer, Integer> buckets = new LinkedHashMap<>();
+        int years = yearBits.length - 1;
+        for (int slot = 0; slot < years; slot++) {
+            int count = count(yearBits[slot], mask);
+            if (count > 0) {
+                int start = Math.floorDiv(minYear + slot, BIRTH_BUCKET_YEARS) * BIRTH_BUCKET_YEARS;
+                buckets.merge(start, count, Integer::sum);
+            }
+        }
+        List<PlayerFilterModel.FacetCount> counts = new ArrayList<>();
+        buckets.forEach((start, count) -> counts.add(
+                new PlayerFilterModel.FacetCount(start + "-" + (start + BIRTH_BUCKET_YEARS - 1), count)));
+        int unknown = count(yearBits[years], mask);
+        if (unknown > 0) {
+            counts.add(new PlayerFilterModel.FacetCount(UNKNOWN, unknown));
+        }
+        return counts;
+    }
+
+    private static long[] and(long[] a, long[] b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        long[] result = Arrays.copyOf(a, a.length);
+        for (int w = 0; w < result.length; w++) {
+            result[w] &= b[w];
+        }
+        return result;
+    }
+
+    private static void or(long[] target, long[] bits) {
+        for (int w = 0; w < target.length; w++) {
+            target[w] |= bits[w];
+        }
+    }
+
+    private static int count(long[] bits, long[] mask) {
+        int count = 0;
+        for (int w = 0; w < bits.length; w++) {
+            count += Long.bitCount(mask == null ? bits[w] : bits[w] & mask[w]);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,35 @@
+package site.aiion.api.soccer.stats;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import site.aiion.api.soccer.player.PlayerModel;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class PlayerFilterModel implements Serializable {
+    private int total;
+    private int offset;
+    private int limit;
+    private List<PlayerModel> players;
+    // 차원(position/nation/team/birth_year)별 값과 인원수. 각 차원은 자기 조건을 뺀 나머지 조건으로 센다
+    private Map<String, List<FacetCount>> facets;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class FacetCount implements Serializable {
+        private String value;
+        private int count;
+    }
+}
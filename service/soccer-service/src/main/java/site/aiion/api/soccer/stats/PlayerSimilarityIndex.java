@@ -0,0 +1,290 @@
+package site.aiion.api.soccer.stats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import site.aiion.api.soccer.player.PlayerModel;
+
+/**
+ * 키/몸무게/출생 연도/포지션 4차원 k-d tree.
+ * 각 차원은 마지막 전체 구성 때의 평균/표준편차로 정규화하고, 값이 없는 칸은 평균(0)으로 둔다.
+ * 포지션은 GK-DF-MF-FW 순서의 서수로 넣어 인접 포지션끼리 가깝게 한다.
+ * 쓰기는 잎에 노드를 붙이거나(추가/수정) 노드를 지운 것으로 표시(삭제)만 하고,
+ * 그렇게 쌓인 변경이 전체의 REBUILD_RATIO 를 넘으면 중앙값 분할로 균형 트리를 다시 만든다.
+ */
+final class PlayerSimilarityIndex {
+
+    static final int DIMENSIONS = 4;
+    static final String[] POSITION_ORDER = { "GK", "DF", "MF", "FW" };
+
+    private static final double REBUILD_RATIO = 0.25;
+    private static final int MIN_REBUILD = 16;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Node> live = new HashMap<>();
+    private Node root;
+    private double[] mean = new double[DIMENSIONS];
+    private double[] scale = filled(1.0);
+    // 마지막 구성 이후 붙이거나 지운 노드 수
+    private int changes;
+
+    record Neighbor(PlayerModel player, double distance) {
+    }
+
+    private static final class Node {
+        final PlayerModel model;
+        final double[] point;
+        int axis;
+        Node left;
+        Node right;
+        boolean deleted;
+
+        Node(PlayerModel model, double[] point, int axis) {
+            this.model = model;
+            this.point = point;
+            this.axis = axis;
+        }
+    }
+
+    void rebuild(Collection<PlayerModel> models) {
+        lock.writeLock().lock();
+        try {
+            buildInternal(List.copyOf(models));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void put(PlayerModel model) {
+        lock.writeLock().lock();
+        try {
+            Node old = live.remove(model.getId());
+            if (old != null) {
+                old.deleted = true;
+                changes++;
+            }
+            Node node = insert(model);
+            live.put(model.getId(), node);
+            changes++;
+            rebuildIfUnbalanced();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Node old = live.remove(id);
+            if (old != null) {
+                old.deleted = true;
+                changes++;
+                rebuildIfUnbalanced();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return live.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * id 선수와 가장 가까운 k 명을 가까운 순으로. 선수가 없으면 null.
+     */
+    List<Neighbor> nearest(Long id, int k) {
+        lock.readLock().lock();
+        try {
+            Node target = live.get(id);
+            if (target == null) {
+                return null;
+            }
+            // 거리가 먼 것이 맨 위에 오는 크기 k 의 힙
+            PriorityQueue<Candidate> best = new PriorityQueue<>(k + 1,
+                    Comparator.comparingDouble(Candidate::distance).reversed());
+            search(root, target, k, best);
+            List<Neighbor> result = new ArrayList<>(best.size());
+            best.stream()
+                    .sorted(Comparator.comparingDouble(Candidate::distance).thenComparing(c -> c.node().model.getId()))
+                    .forEach(c -> result.add(new Neighbor(c.node().model, Math.sqrt(c.distance()))));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record Candidate(Node node, double distance) {
+    }
+
+    private static void search(Node node, Node target, int k, PriorityQueue<Candidate> best) {
+        if (node == null) {
+            return;
+        }
+        if (!node.deleted && node != target) {
+            double distance = squaredDistance(node.point, target.point);
+            if (best.size() < k) {
+                best.offer(new Candidate(node, distance));
+            } else if (distance < best.peek().distance()) {
+                best.poll();
+                best.offer(new Candidate(node, distance));
+            }
+        }
+        double diff = target.point[node.axis] - node.point[node.axis];
+        Node near = diff < 0 ? node.left : node.right;
+        Node far = diff < 0 ? node.right : node.left;
+        search(near, target, k, best);
+        // 분할면까지 거리가 현재 k 번째보다 멀면 반대편에는 더 가까운 점이 없다
+        if (best.size() < k || diff * diff < best.peek().distance()) {
+            search(far, target, k, best);
+        }
+    }
+
+    private void rebuildIfUnbalanced() {
+        if (changes > Math.max(MIN_REBUILD, live.size() * REBUILD_RATIO)) {
+            buildInternal(live.values().stream().map(node -> node.model).toList());
+        }
+    }
+
+    private void buildInternal(List<PlayerModel> models) {
+        double[][] raw = new double[models.size()][];
+        for (int i = 0; i < raw.length; i++) {
+            raw[i] = features(models.get(i));
+        }
+        computeScale(raw);
+        live.clear();
+        List<Node> nodes = new ArrayList<>(models.size());
+        for (int i = 0; i < raw.length; i++) {
+            Node node = new Node(models.get(i), normalize(raw[i]), 0);
+            nodes.add(node);
+            live.put(node.model.getId(), node);
+        }
+        root = build(nodes, 0);
+        changes = 0;
+    }
+
+    // 축 값으로 정렬해 중앙값을 뿌리로 두고 양쪽을 재귀로 만든다
+    private static Node build(List<Node> nodes, int depth) {
+        if (nodes.isEmpty()) {
+            return null;
+        }
+        int axis = depth % DIMENSIONS;
+        List<Node> sorted = new ArrayList<>(nodes);
+        sorted.sort(Comparator.comparingDouble(n -> n.point[axis]));
+        int median = sorted.size() / 2;
+        Node node = sorted.get(median);
+        node.axis = axis;
+        node.left = build(sorted.subList(0, median), depth + 1);
+        node.right = build(sorted.subList(median + 1, sorted.size()), depth + 1);
+        return node;
+    }
+
+    private Node insert(PlayerModel model) {
+        double[] point = normalize(features(model));
+        if (root == null) {
+            root = new Node(model, point, 0);
+            return root;
+        }
+        Node parent = root;
+        while (true) {
+            boolean left = point[parent.axis] < parent.point[parent.axis];
+            Node child = left ? parent.left : parent.right;
+            if (child == null) {
+                Node node = new Node(model, point, (parent.axis + 1) % DIMENSIONS);
+                if (left) {
+                    parent.left = node;
+                } else {
+                    parent.right = node;
+                }
+                return node;
+            }
+            parent = child;
+        }
+    }
+
+    private void computeScale(double[][] raw) {
+        double[] sum = new double[DIMENSIONS];
+        double[] sumSq = new double[DIMENSIONS];
+        int[] n = new int[DIMENSIONS];
+        for (double[] row : raw) {
+            for (int d = 0; d < DIMENSIONS; d++) {
+                if (!Double.isNaN(row[d])) {
+                    sum[d] += row[d];
+                    sumSq[d] += row[d] * row[d];
+                    n[d]++;
+                }
+            }
+        }
+        mean = new double[DIMENSIONS];
+        scale = filled(1.0);
+        for (int d = 0; d < DIMENSIONS; d++) {
+            if (n[d] == 0) {
+                continue;
+            }
+            mean[d] = sum[d] / n[d];
+            double variance = sumSq[d] / n[d] - mean[d] * mean[d];
+            scale[d] = variance > 1e-9 ? Math.sqrt(variance) : 1.0;
+        }
+    }
+
+    private double[] normalize(double[] raw) {
+        double[] point = new double[DIMENSIONS];
+        for (int d = 0; d < DIMENSIONS; d++) {
+            point[d] = Double.isNaN(raw[d]) ? 0.0 : (raw[d] - mean[d]) / scale[d];
+        }
+        return point;
+    }
+
+    // 값이 없으면 NaN
+    static double[] features(PlayerModel model) {
+        return new double[] {
+                orNaN(PlayerColumns.parseShort(model.getHeight())),
+                orNaN(PlayerColumns.parseShort(model.getWeight())),
+                orNaN(PlayerColumns.parseYear(model.getBirth_date())),
+                positionOrdinal(model.getPosition())
+        };
+    }
+
+    private static double positionOrdinal(String position) {
+        if (position != null) {
+            for (int i = 0; i < POSITION_ORDER.length; i++) {
+                if (POSITION_ORDER[i].equalsIgnoreCase(position.trim())) {
+                    return i;
+                }
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static double orNaN(short value) {
+        return value == PlayerColumns.MISSING ? Double.NaN : value;
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double sum = 0;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            double diff = a[d] - b[d];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private static double[] filled(double value) {
+        double[] values = new double[DIMENSIONS];
+        Arrays.fill(values, value);
+        return values;
+    }
+}
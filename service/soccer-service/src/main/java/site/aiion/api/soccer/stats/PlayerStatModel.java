@@ -0,0 +1,27 @@
+package site.aiion.api.soccer.stats;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class PlayerStatModel implements Serializable {
+    private String group;
+    private int count;
+    private Double avg_height;
+    private Integer min_height;
+    private Integer max_height;
+    private Double avg_weight;
+    private Integer min_weight;
+    private Integer max_weight;
+    private Double avg_age;
+    private Integer min_age;
+    private Integer max_age;
+}
@@ -0,0 +1,58 @@
+package site.aiion.api.soccer.stats;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.domain.Messenger;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/soccer/players")
+public class PlayerStatsController {
+
+    private final PlayerStatsService playerStatsService;
+
+    /**
+     * 예) /soccer/players/stats?groupBy=position&team=K01
+     */
+    @GetMapping("/stats")
+    public Messenger aggregate(
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) String team) {
+        return playerStatsService.aggregate(groupBy, position, team);
+    }
+
+    /**
+     * 예) /soccer/players/filter?position=MF&nation=브라질&team=K05&bornFrom=1996
+     * 같은 조건 안의 여러 값은 OR(position=MF,FW), 조건끼리는 AND. 응답에 차원별 facet 개수가 함께 온다.
+     */
+    @GetMapping("/filter")
+    public Messenger filter(
+            @RequestParam(required = false) List<String> position,
+            @RequestParam(required = false) List<String> nation,
+            @RequestParam(required = false) List<String> team,
+            @RequestParam(required = false) Integer bornFrom,
+            @RequestParam(required = false) Integer bornTo,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "50") int limit) {
+        return playerStatsService.filter(position, nation, team, bornFrom, bornTo, offset, limit);
+    }
+
+    /**
+     * 예) /soccer/players/7/similar?k=5
+     * 키/몸무게/나이/포지션이 가까운 선수를 가까운 순으로. distance 는 표준화한 값의 유클리드 거리.
+     */
+    @GetMapping("/{id}/similar")
+    public Messenger similar(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int k) {
+        return playerStatsService.similar(id, k);
+    }
+}
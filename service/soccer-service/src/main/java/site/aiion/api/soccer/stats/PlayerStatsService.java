@@ -0,0 +1,12 @@
+package site.aiion.api.soccer.stats;
+
+import java.util.List;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+
+public interface PlayerStatsService {
+    public Messenger aggregate(String groupBy, String position, String teamUk);
+    public Messenger filter(List<String> positions, List<String> nations, List<String> teamUks,
+                            Integer bornFrom, Integer bornTo, int offset, int limit);
+    public Messenger similar(Long playerId, int k);
+}
@@ -0,0 +1,111 @@
+package site.aiion.api.soccer.stats;
+
+import java.time.Year;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import site.aiion.api.soccer.common.domain.Messenger;
+
+@Service
+@RequiredArgsConstructor
+public class PlayerStatsServiceImpl implements PlayerStatsService {
+
+    private final PlayerColumnStore playerColumnStore;
+
+    @Value("${soccer.search.max-limit:100}")
+    private int maxLimit;
+
+    @Override
+    public Messenger aggregate(String groupBy, String position, String teamUk) {
+        List<PlayerStatModel> stats;
+        try {
+            stats = playerColumnStore.snapshot().aggregate(groupBy, blankToNull(position), blankToNull(teamUk),
+                    Year.now().getValue());
+        } catch (IllegalArgumentException e) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message(e.getMessage() + " (position, nation, team)")
+                    .build();
+        }
+        if (stats.isEmpty()) {
+            return Messenger.builder()
+                    .Code(404)
+                    .message("조건에 맞는 선수가 없습니다.")
+                    .build();
+        }
+        return Messenger.builder()
+                .Code(200)
+                .message("선수 통계: " + stats.size() + "개 그룹")
+                .data(stats)
+                .build();
+    }
+
+    @Override
+    public Messenger filter(List<String> positions, List<String> nations, List<String> teamUks,
+                            Integer bornFrom, Integer bornTo, int offset, int limit) {
+        if (bornFrom != null && bornTo != null && bornFrom > bornTo) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("bornFrom 이 bornTo 보다 클 수 없습니다.")
+                    .build();
+        }
+        int size = Math.max(1, Math.min(limit, maxLimit));
+        int start = Math.max(0, offset);
+        PlayerFacetIndex.Result result = playerColumnStore.facets().query(
+                new PlayerFacetIndex.Query(values(positions), values(nations), values(teamUks), bornFrom, bornTo),
+                start, size);
+        return Messenger.builder()
+                .Code(200)
+                .message("선수 필터: " + result.total() + "명")
+                .data(PlayerFilterModel.builder()
+                        .total(result.total())
+                        .offset(start)
+                        .limit(size)
+                        .players(result.players())
+                        .facets(result.facets())
+                        .build())
+                .build();
+    }
+
+    @Override
+    public Messenger similar(Long playerId, int k) {
+        List<PlayerSimilarityIndex.Neighbor> neighbors = playerColumnStore.similarity()
+                .nearest(playerId, Math.max(1, Math.min(k, maxLimit)));
+        if (neighbors == null) {
+            return Messenger.builder()
+                    .Code(404)
+                    .message("선수를 찾을 수 없습니다.")
+                    .build();
+        }
+        List<SimilarPlayerModel> similar = neighbors.stream()
+                .map(n -> new SimilarPlayerModel(n.player(), Math.round(n.distance() * 1000) / 1000.0))
+                .toList();
+        return Messenger.builder()
+                .Code(200)
+                .message("유사 선수: " + similar.size() + "명")
+                .data(similar)
+                .build();
+    }
+
+    // ?position=MF,FW 와 ?position=MF&position=FW 를 모두 받는다
+    private static List<String> values(List<String> params) {
+        if (params == null) {
+            return null;
+        }
+        List<String> values = params.stream()
+                .flatMap(param -> Arrays.stream(param.split(",")))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .toList();
+        return values.isEmpty() ? null : values;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
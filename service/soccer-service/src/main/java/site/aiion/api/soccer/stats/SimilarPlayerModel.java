@@ -0,0 +1,21 @@
+package site.aiion.api.soccer.stats;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import site.aiion.api.soccer.player.PlayerModel;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class SimilarPlayerModel implements Serializable {
+    private PlayerModel player;
+    // 키/몸무게/출생 연도/포지션을 표준화한 4차원 유클리드 거리 (작을수록 비슷)
+    private double distance;
+}
@@ -2,16 +2,22 @@ package site.aiion.api.soccer.team;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.fields.SparseJsonWriter;
+import site.aiion.api.soccer.common.snapshot.JsonSnapshotCache;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,15 +25,27 @@ import site.aiion.api.soccer.common.domain.Messenger;
 public class TeamController {
 
     private final TeamService teamService;
+    private final JsonSnapshotCache jsonSnapshotCache;
+    private final SparseJsonWriter sparseJsonWriter;
 
     @PostMapping("/findById")
     public Messenger findById(@RequestBody TeamModel teamModel) {
         return teamService.findById(teamModel);
     }
 
+    /**
+     * 미리 직렬화된 목록 스냅샷을 그대로 내려준다. If-None-Match 가 현재 ETag 와 같으면 304.
+     * fields(예: id,team_name)를 주면 그 컬럼만 select 해서 스트리밍한다.
+     */
     @GetMapping
-    public Messenger findAll() {
-        return teamService.findAll();
+    public ResponseEntity<?> findAll(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (fields != null && !fields.isBlank()) {
+            return sparseJsonWriter.respond(teamService.findFields(fields));
+        }
+        return jsonSnapshotCache.respond(JsonSnapshotCache.TEAMS, teamService::findAll, ifNoneMatch, acceptEncoding);
     }
 
     @PostMapping
@@ -50,4 +68,14 @@ public class TeamController {
         return teamService.delete(teamModel);
     }
 
+    @GetMapping("/fuzzy")
+    public Messenger findByWordFuzzy(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Integer maxDistance) {
+        TeamModel teamModel = TeamModel.builder()
+                .e_team_name(keyword)
+                .build();
+        return teamService.findByWordFuzzy(teamModel, maxDistance);
+    }
+
 }
@@ -8,7 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TeamRepository extends JpaRepository<Team, Long> {
+public interface TeamRepository extends JpaRepository<Team, Long>, TeamRepositoryCustom {
     @Query("SELECT t FROM Team t WHERE t.team_uk = :teamUk")
     Optional<Team> findByTeam_uk(@Param("teamUk") String teamUk);
     
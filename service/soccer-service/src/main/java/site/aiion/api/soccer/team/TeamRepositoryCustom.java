@@ -0,0 +1,37 @@
+package site.aiion.api.soccer.team;
+
+import static site.aiion.api.soccer.team.QTeam.team;
+
+import java.util.List;
+
+import site.aiion.api.soccer.common.fields.FieldCatalog;
+import site.aiion.api.soccer.common.fields.FieldSelection;
+
+public interface TeamRepositoryCustom {
+
+    /**
+     * GET /team?fields= 로 고를 수 있는 필드
+     */
+    FieldCatalog FIELDS = FieldCatalog.builder(TeamModel.class)
+            .field("id", team.id)
+            .field("team_uk", team.team_uk)
+            .field("region_name", team.region_name)
+            .field("team_name", team.team_name)
+            .field("e_team_name", team.e_team_name)
+            .field("orig_yyyy", team.orig_yyyy)
+            .field("zip_code1", team.zip_code1)
+            .field("zip_code2", team.zip_code2)
+            .field("address", team.address)
+            .field("ddd", team.ddd)
+            .field("tel", team.tel)
+            .field("fax", team.fax)
+            .field("homepage", team.homepage)
+            .field("owner", team.owner)
+            .field("stadium_uk", team.stadium_uk)
+            .build();
+
+    /**
+     * 고른 컬럼만 select 해서 id 순 행 배열로 조회 (경기장 연관을 로딩하지 않는다)
+     */
+    List<Object[]> findFields(FieldSelection selection);
+}
@@ -6,9 +6,14 @@ import site.aiion.api.soccer.common.domain.Messenger;
 public interface TeamService {
     public Messenger findById(TeamModel teamModel);
     public Messenger findAll();
+    /**
+     * fields(쉼표 목록)에 있는 필드만 조회. data 는 SparseRows, 모르는 필드가 있으면 code 400
+     */
+    public Messenger findFields(String fields);
     public Messenger save(TeamModel teamModel);
     public Messenger saveAll(List<TeamModel> teamModelList);
     public Messenger update(TeamModel teamModel);
     public Messenger delete(TeamModel teamModel);
     public Messenger findByWord(TeamModel teamModel);
+    public Messenger findByWordFuzzy(TeamModel teamModel, Integer maxDistance);
 }
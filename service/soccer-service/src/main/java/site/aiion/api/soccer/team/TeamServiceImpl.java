@@ -1,14 +1,25 @@
 package site.aiion.api.soccer.team;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.fields.FieldSelection;
+import site.aiion.api.soccer.common.fields.SparseRows;
+import site.aiion.api.soccer.common.snapshot.JsonSnapshotCache;
+import site.aiion.api.soccer.player.PlayerModel;
+import site.aiion.api.soccer.player.PlayerRepository;
+import site.aiion.api.soccer.search.BkTree;
+import site.aiion.api.soccer.search.SoccerSearchIndex;
 import site.aiion.api.soccer.stadium.StadiumRepository;
 import site.aiion.api.soccer.stadium.Stadium;
 
@@ -18,6 +29,12 @@ public class TeamServiceImpl implements TeamService {
 
     private final TeamRepository teamRepository;
     private final StadiumRepository stadiumRepository;
+    private final PlayerRepository playerRepository;
+    private final SoccerSearchIndex soccerSearchIndex;
+    private final JsonSnapshotCache jsonSnapshotCache;
+
+    @Value("${soccer.search.fuzzy.max-distance:2}")
+    private int fuzzyMaxDistance;
 
     private TeamModel entityToModel(Team entity) {
         return TeamModel.builder()
@@ -64,6 +81,14 @@ public class TeamServiceImpl implements TeamService {
                 .build();
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSearchIndex() {
+        List<TeamModel> modelList = teamRepository.findAll().stream()
+                .map(this::entityToModel)
+                .collect(Collectors.toList());
+        soccerSearchIndex.rebuildTeams(modelList);
+    }
+
     @Override
     public Messenger findById(TeamModel teamModel) {
         Optional<Team> entity = teamRepository.findById(teamModel.getId());
@@ -96,12 +121,34 @@ public class TeamServiceImpl implements TeamService {
                 .build();
     }
 
+    @Override
+    public Messenger findFields(String fields) {
+        FieldSelection selection;
+        try {
+            selection = TeamRepository.FIELDS.select(fields);
+        } catch (IllegalArgumentException e) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message(e.getMessage())
+                    .build();
+        }
+        List<Object[]> rows = teamRepository.findFields(selection);
+        return Messenger.builder()
+                .Code(200)
+                .message("전체 조회 성공: " + rows.size() + "개")
+                .data(new SparseRows(selection.names(), rows))
+                .build();
+    }
+
     @Override
     @Transactional
     public Messenger save(TeamModel teamModel) {
         Team entity = modelToEntity(teamModel);
         Team saved = teamRepository.save(entity);
         TeamModel model = entityToModel(saved);
+        soccerSearchIndex.indexTeam(model);
+        jsonSnapshotCache.invalidate(JsonSnapshotCache.TEAMS);
+        jsonSnapshotCache.invalidate(JsonSnapshotCache.PLAYERS);
         return Messenger.builder()
                 .Code(200)
                 .message("저장 성공: " + saved.getId())
@@ -117,6 +164,11 @@ public class TeamServiceImpl implements TeamService {
                 .collect(Collectors.toList());
         
         List<Team> saved = teamRepository.saveAll(entities);
+        saved.stream()
+                .map(this::entityToModel)
+                .forEach(soccerSearchIndex::indexTeam);
+        jsonSnapshotCache.invalidate(JsonSnapshotCache.TEAMS);
+        jsonSnapshotCache.invalidate(JsonSnapshotCache.PLAYERS);
         return Messenger.builder()
                 .Code(200)
                 .message("일괄 저장 성공: " + saved.size() + "개")
@@ -129,6 +181,8 @@ public class TeamServiceImpl implements TeamService {
         Optional<Team> optionalEntity = teamRepository.findById(teamModel.getId());
         if (optionalEntity.isPresent()) {
             Team existing = optionalEntity.get();
+            // save(merge) 가 관리 중인 existing 을 덮어쓰므로 이름 변경 여부 판단용으로 먼저 받아 둔다
+            String previousName = existing.getTeam_name();
             Stadium stadium = teamModel.getStadium_uk() != null 
                     ? stadiumRepository.findByStadium_uk(teamModel.getStadium_uk()).orElse(existing.getStadium()) 
                     : existing.getStadium();
@@ -155,6 +209,12 @@ public class TeamServiceImpl implements TeamService {
             
             Team saved = teamRepository.save(updated);
             TeamModel model = entityToModel(saved);
+            soccerSearchIndex.indexTeam(model);
+            if (!Objects.equals(previousName, saved.getTeam_name())) {
+                reindexPlayers(model);
+            }
+            jsonSnapshotCache.invalidate(JsonSnapshotCache.TEAMS);
+            jsonSnapshotCache.invalidate(JsonSnapshotCache.PLAYERS);
             return Messenger.builder()
                     .Code(200)
                     .message("수정 성공: " + teamModel.getId())
@@ -168,12 +228,24 @@ public class TeamServiceImpl implements TeamService {
         }
     }
 
+    // 선수 색인에 들어 있는 팀 이름(team_name)을 새 이름으로 바꿔 다시 넣는다
+    private void reindexPlayers(TeamModel team) {
+        List<PlayerModel> players = playerRepository.findModelsByTeamUk(team.getTeam_uk());
+        for (PlayerModel player : players) {
+            player.setTeam_name(team.getTeam_name());
+            soccerSearchIndex.indexPlayer(player);
+        }
+    }
+
     @Override
     @Transactional
     public Messenger delete(TeamModel teamModel) {
         Optional<Team> optionalEntity = teamRepository.findById(teamModel.getId());
         if (optionalEntity.isPresent()) {
             teamRepository.deleteById(teamModel.getId());
+            soccerSearchIndex.removeTeam(teamModel.getId());
+            jsonSnapshotCache.invalidate(JsonSnapshotCache.TEAMS);
+            jsonSnapshotCache.invalidate(JsonSnapshotCache.PLAYERS);
             return Messenger.builder()
                     .Code(200)
                     .message("삭제 성공: " + teamModel.getId())
@@ -197,23 +269,41 @@ public class TeamServiceImpl implements TeamService {
                     .build();
         }
         
-        List<Team> teams = teamRepository.findAll().stream()
-                .filter(t -> t.getTeam_name() != null && 
-                            (t.getTeam_name().contains(keyword) || 
-                             (t.getE_team_name() != null && t.getE_team_name().contains(keyword)) ||
-                             (t.getRegion_name() != null && t.getRegion_name().contains(keyword))))
-                .collect(Collectors.toList());
+        // 메모리 n-gram 색인으로 팀명/영문명/지역명 검색 (DB 조회 없음)
+        List<TeamModel> modelList = soccerSearchIndex.searchTeams(keyword);
         
-        List<TeamModel> modelList = teams.stream()
-                .map(this::entityToModel)
+        return Messenger.builder()
+                .Code(200)
+                .message("검색 완료: " + modelList.size() + "개")
+                .data(modelList)
+                .build();
+    }
+
+    @Override
+    public Messenger findByWordFuzzy(TeamModel teamModel, Integer maxDistance) {
+        String keyword = teamModel.getE_team_name();
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Messenger.builder()
+                    .Code(400)
+                    .message("검색어를 입력해주세요.")
+                    .data(null)
+                    .build();
+        }
+        // 요청 값이 없거나 설정 상한을 넘으면 설정 값으로 제한 (짧은 검색어는 BkTree 가 길이에 맞춰 더 줄인다)
+        int distance = maxDistance == null
+                ? fuzzyMaxDistance
+                : Math.max(0, Math.min(maxDistance, fuzzyMaxDistance));
+        
+        // 영문명 편집 거리 검색 (가까운 순 정렬)
+        List<TeamModel> modelList = soccerSearchIndex.fuzzySearchTeams(keyword, distance).stream()
+                .map(BkTree.Match::value)
                 .collect(Collectors.toList());
         
         return Messenger.builder()
                 .Code(200)
-                .message("검색 완료: " + modelList.size() + "개")
+                .message("유사 검색 완료: " + modelList.size() + "개")
                 .data(modelList)
                 .build();
     }
 
 }
-
@@ -0,0 +1,232 @@
+package site.aiion.api.soccer.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import site.aiion.api.soccer.schedule.ScheduleModel;
+
+class StadiumBookingIndexTest {
+
+    private static ScheduleModel schedule(long id, String stadiumUk, String scheDate) {
+        return ScheduleModel.builder().id(id).stadium_uk(stadiumUk).sche_date(scheDate).build();
+    }
+
+    private static List<Long> ids(List<ScheduleModel> models) {
+        return models.stream().map(ScheduleModel::getId).toList();
+    }
+
+    @Test
+    void conflictsFindsOverlappingMatchesOnSameStadiumOnly() {
+        StadiumBookingIndex index = new StadiumBookingIndex(Duration.ofHours(24));
+        index.rebuild(List.of(
+                schedule(1, "C02", "20120317"),
+                schedule(2, "C02", "20120318"),
+                schedule(3, "B01", "20120317")));
+
+        assertThat(ids(index.conflicts("C02", "2012-03-17", null))).containsExactly(1L);
+        assertThat(ids(index.conflicts("C02", "2012.03.18", null))).containsExactly(2L);
+        assertThat(index.conflicts("C02", "20120319", null)).isEmpty();
+        assertThat(index.conflicts("D03", "20120317", null)).isEmpty();
+    }
+
+    @Test
+    void conflictsExcludesScheduleBeingUpdated() {
+        StadiumBookingIndex index = new StadiumBookingIndex(Duration.ofHours(24));
+        index.rebuild(List.of(schedule(1, "C02", "20120317")));
+
+        assertThat(index.conflicts("C02", "20120317", 1L)).isEmpty();
+        assertThat(ids(index.conflicts("C02", "20120317", 2L))).containsExactly(1L);
+    }
+
+    @Test
+    void conflictsUsesMatchDurationWindow() {
+        StadiumBookingIndex index = new StadiumBookingIndex(Duration.ofHours(48));
+        index.rebuild(List.of(schedule(1, "C02", "20120317")));
+
+        assertThat(ids(index.conflicts("C02", "20120316", null))).containsExactly(1L);
+        assertThat(ids(index.conflicts("C02", "20120318", null))).containsExactly(1L);
+        assertThat(index.conflicts("C02", "20120319", null)).isEmpty();
+    }
+
+    @Test
+    void conflictsIgnoresUnknownStadiumOrDate() {
+        StadiumBookingIndex index = new StadiumBookingIndex(Duration.ofHours(24));
+        index.rebuild(List.of(schedule(1, "C02", "20120317"), schedule(2, "C02", "미정")));
+
+        assertThat(index.conflicts(null, "20120317", null)).isEmpty();
+        assertThat(index.conflicts("C02", "미정", null)).isEmpty();
+    }
+
+    @Test
+    void indexAndRemoveApplyImmediatelyOutsideTransaction() {
+        StadiumBookingIndex index = new StadiumBookingIndex(Duration.ofHours(24));
+        index.indexSchedule(schedule(1, "C02", "20120317"));
+        assertThat(ids(index.conflicts("C02", "20120317", null))).containsExactly(1L);
+
+        // 경기장을 옮기면 이전 경기장에서는 빠진다
+        index.indexSchedule(schedule(1, "B01", "20120317"));
+        assertThat(index.conflicts("C02", "20120317", null)).isEmpty();
+        assertThat(ids(index.conflicts("B01", "20120317", null))).containsExactly(1L);
+
+        index.removeSchedule(1L);
+        assertThat(index.conflicts("B01", "20120317", null)).isEmpty();
+    }
+
+    @Test
+    void availabilityListsBookedMatchesAndFreeGaps() {
+        StadiumBookingIndex index = new StadiumBookingIndex(Duration.ofHours(24));
+        index.rebuild(List.of(
+                schedule(1, "C02", "20120317"),
+                schedule(2, "C02", "20120319"),
+                schedule(3, "B01", "20120318")));
+
+        AvailabilityModel availability = index.availability("C02",
+                LocalDate.of(2012, 3, 16), LocalDate.of(2012, 3, 20));
+
+        assertThat(availability.getStadium_uk()).isEqualTo("C02");
+        assertThat(availability.getFrom()).isEqualTo("2012-03-16");
+        assertThat(availability.getTo()).isEqualTo("2012-03-20");
+        assertThat(availability.getMatch_duration_minutes()).isEqualTo(24 * 60);
+        assertThat(ids(availability.getBooked())).containsExactly(1L, 2L);
+        assertThat(availability.getFree())
+                .extracting(AvailabilityModel.Slot::getStart, AvailabilityModel.Slot::getEnd)
+                .containsExactly(
+                        tuple("2012-03-16T00:00", "2012-03-17T00:00"),
+                        tuple("2012-03-18T00:00", "2012-03-19T00:00"),
+                        tuple("2012-03-20T00:00", "2012-03-21T00:00"));
+    }
+
+    @Test
+    void availabilityIncludesMatchStartingBeforeWindow() {
+        StadiumBookingIndex index = new StadiumBookingIndex(Duration.ofHours(48));
+        index.rebuild(List.of(schedule(1, "C02", "20120316")));
+
+        AvailabilityModel availability = index.availability("C02",
+                LocalDate.of(2012, 3, 17), LocalDate.of(2012, 3, 18));
+
+        assertThat(ids(availability.getBooked())).containsExactly(1L);
+        assertThat(availability.getFree())
+                .extracting(AvailabilityModel.Slot::getStart, AvailabilityModel.Slot::getEnd)
+                .containsExactly(tuple("2012-03-18T00:00", "2012-03-19T00:00"));
+    }
+
+    @Test
+    void availabilityOfEmptyStadiumIsWholeWindow() {
+        StadiumBookingIndex index = new StadiumBookingIndex(Duration.ofHours(24));
+
+        AvailabilityModel availability = index.availability("C02",
+                LocalDate.of(2012, 3, 17), LocalDate.of(2012, 3, 17));
+
+        assertThat(availability.getBooked()).isEmpty();
+        assertThat(availability.getFree())
+                .extracting(AvailabilityModel.Slot::getStart, AvailabilityModel.Slot::getEnd)
+                .containsExactly(tuple("2012-03-17T00:00", "2012-03-18T00:00"));
+    }
+
+    @Test
+    void lockStadiumRequiresTransaction() {
+        StadiumBookingIndex index = new StadiumBookingIndex(Duration.ofHours(24));
+
+        assertThatThrownBy(() -> index.lockStadium("C02")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void lockedStadiumSeesPreviousBookingAfterItCommits() throws Exception {
+        StadiumBookingIndex index = new StadiumBookingIndex(Duration.ofHours(24));
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        CountDownLatch secondWaiting = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<ScheduleModel>> first = executor.submit(() -> inTransaction(() -> {
+                index.lockStadium("C02");
+                firstLocked.countDown();
+                List<ScheduleModel> conflicts = index.conflicts("C02", "20120317", null);
+                index.indexSchedule(schedule(1, "C02", "20120317"));
+                // 두 번째 저장이 잠금을 기다리는 동안 커밋을 미룬다
+                secondWaiting.await(5, TimeUnit.SECONDS);
+                Thread.sleep(100);
+                return conflicts;
+            }));
+            firstLocked.await(5, TimeUnit.SECONDS);
+            Future<List<ScheduleModel>> second = executor.submit(() -> inTransaction(() -> {
+                secondWaiting.countDown();
+                index.lockStadium("C02");
+                List<ScheduleModel> conflicts = index.conflicts("C02", "20120317", null);
+                if (conflicts.isEmpty()) {
+                    index.indexSchedule(schedule(2, "C02", "20120317"));
+                }
+                return conflicts;
+            }));
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEmpty();
+            assertThat(ids(second.get(5, TimeUnit.SECONDS))).containsExactly(1L);
+            assertThat(ids(index.conflicts("C02", "20120317", null))).containsExactly(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void lockIsReleasedOnRollback() throws Exception {
+        StadiumBookingIndex index = new StadiumBookingIndex(Duration.ofHours(24));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                    index.lockStadium("C02");
+                    index.indexSchedule(schedule(1, "C02", "20120317"));
+                    TransactionSynchronizationUtils.invokeAfterCompletion(
+                            TransactionSynchronizationManager.getSynchronizations(),
+                            TransactionSynchronization.STATUS_ROLLED_BACK);
+                } finally {
+                    TransactionSynchronizationManager.clearSynchronization();
+                }
+            }).get(5, TimeUnit.SECONDS);
+
+            // 다른 스레드에서 곧바로 잠글 수 있고, 롤백된 경기는 색인에 없다
+            List<ScheduleModel> conflicts = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> inTransaction(() -> {
+                        index.lockStadium("C02");
+                        return index.conflicts("C02", "20120317", null);
+                    }));
+            assertThat(conflicts).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 커밋 순서(afterCommit → afterCompletion)를 흉내 내어 작업을 트랜잭션 안에서 실행한다.
+     */
+    private static <T> T inTransaction(Callable<T> work) throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            T result = work.call();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations,
+                    TransactionSynchronization.STATUS_COMMITTED);
+            return result;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
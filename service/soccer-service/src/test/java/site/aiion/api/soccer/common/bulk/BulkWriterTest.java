@@ -0,0 +1,115 @@
+package site.aiion.api.soccer.common.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import site.aiion.api.soccer.schedule.Schedule;
+import site.aiion.api.soccer.schedule.ScheduleRepository;
+
+/**
+ * chunk 크기대로 나눠 chunk 마다 커밋하고, 실패한 chunk 만 롤백되며,
+ * chunk 가 끝나면 flush 로 DB 에 내보낸 뒤 영속성 컨텍스트를 비우는지 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "soccer.ingest.chunk-size=3"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(BulkWriter.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class BulkWriterTest {
+
+    @Autowired
+    private BulkWriter bulkWriter;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @AfterEach
+    void tearDown() {
+        scheduleRepository.deleteAll();
+    }
+
+    private static List<Schedule> schedules(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(day -> Schedule.builder()
+                        .sche_date("201203" + String.format("%02d", day))
+                        .gubun("Y")
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void splitsItemsIntoChunksAndCommitsEach() {
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        List<Schedule> saved = bulkWriter.write(schedules(7), chunk -> {
+            chunkSizes.add(chunk.size());
+            return scheduleRepository.saveAll(chunk);
+        });
+
+        assertThat(bulkWriter.getChunkSize()).isEqualTo(3);
+        assertThat(chunkSizes).containsExactly(3, 3, 1);
+        assertThat(saved).hasSize(7).allSatisfy(schedule -> assertThat(schedule.getId()).isNotNull());
+        assertThat(scheduleRepository.count()).isEqualTo(7);
+    }
+
+    @Test
+    void failedChunkRollsBackAloneAfterEarlierChunksCommitted() {
+        List<Schedule> items = schedules(7);
+
+        assertThatThrownBy(() -> bulkWriter.write(items, chunk -> {
+            List<Schedule> written = scheduleRepository.saveAll(chunk);
+            if (chunk.contains(items.get(4))) {
+                throw new IllegalStateException("chunk 실패");
+            }
+            return written;
+        })).isInstanceOf(IllegalStateException.class);
+
+        // 첫 chunk 만 남고, 실패한 두 번째 chunk 는 롤백, 세 번째 chunk 는 시작하지 않는다
+        assertThat(scheduleRepository.findAll())
+                .extracting(Schedule::getSche_date)
+                .containsExactlyInAnyOrder("20120301", "20120302", "20120303");
+    }
+
+    @Test
+    void flushesAndClearsPersistenceContextAfterEachChunk() {
+        // 바깥 트랜잭션에 참여시키면 chunk 가 끝난 뒤에도 같은 영속성 컨텍스트를 들여다볼 수 있다
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<Schedule> saved = bulkWriter.writeChunk(schedules(2), scheduleRepository::saveAll);
+
+            assertThat(saved).noneMatch(entityManager::contains);
+            Number rows = (Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM schedules").getSingleResult();
+            assertThat(rows.longValue()).isEqualTo(2);
+            status.setRollbackOnly();
+        });
+
+        assertThat(scheduleRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,73 @@
+package site.aiion.api.soccer.common.bulk;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+
+/**
+ * PostgreSQL 에서만 시퀀스를 맞추고, 하나라도 실패하면 예외를 던져 기동을 멈추는지 확인한다.
+ */
+class IdSequenceAlignerTest {
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+
+    private IdSequenceAligner aligner(String databaseProductName) throws Exception {
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn(databaseProductName);
+        Connection connection = mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        IdSequenceAligner aligner = new IdSequenceAligner(dataSource, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(aligner, "entityManager", entityManager);
+        return aligner;
+    }
+
+    @Test
+    void alignsEverySequenceOnPostgres() throws Exception {
+        Query query = mock(Query.class);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+
+        aligner("PostgreSQL").afterSingletonsInstantiated();
+
+        verify(entityManager).createNativeQuery(contains("setval('players_seq'"));
+        verify(entityManager).createNativeQuery(contains("setval('schedules_seq'"));
+    }
+
+    @Test
+    void skipsOtherDatabases() throws Exception {
+        aligner("H2").afterSingletonsInstantiated();
+
+        verify(entityManager, never()).createNativeQuery(anyString());
+    }
+
+    @Test
+    void failsStartupWhenAlignmentFails() throws Exception {
+        Query query = mock(Query.class);
+        when(query.getSingleResult()).thenThrow(new PersistenceException("relation \"players_seq\" does not exist"));
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+
+        assertThatThrownBy(() -> aligner("PostgreSQL").afterSingletonsInstantiated())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("players_seq")
+                .hasCauseInstanceOf(PersistenceException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package site.aiion.api.soccer.common.fields;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.search.SearchHit;
+import site.aiion.api.soccer.team.TeamModel;
+import site.aiion.api.soccer.team.TeamRepositoryCustom;
+
+class SparseJsonWriterTest {
+
+    private final SparseJsonWriter writer = new SparseJsonWriter(new ObjectMapper());
+
+    @Test
+    void selectsOnlyKnownFieldsInRequestedOrder() {
+        FieldSelection selection = TeamRepositoryCustom.FIELDS.select(" team_name, region_name,team_name ");
+        assertThat(selection.names()).containsExactly("team_name", "region_name");
+        assertThat(selection.columns()).hasSize(2);
+
+        assertThat(TeamRepositoryCustom.FIELDS.select(null).names()).hasSize(15);
+        assertThatThrownBy(() -> TeamRepositoryCustom.FIELDS.select("team_name,password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("password");
+    }
+
+    @Test
+    void streamsRowsAsObjects() throws IOException {
+        Messenger messenger = Messenger.builder()
+                .Code(200)
+                .message("전체 조회 성공: 2개")
+                .data(new SparseRows(List.of("id", "team_name"),
+                        List.of(new Object[] { 1L, "울산현대" }, new Object[] { 2L, null })))
+                .build();
+
+        assertThat(body(writer.respond(messenger))).isEqualTo(
+                "{\"code\":200,\"message\":\"전체 조회 성공: 2개\","
+                        + "\"data\":[{\"id\":1,\"team_name\":\"울산현대\"},{\"id\":2,\"team_name\":null}]}");
+    }
+
+    @Test
+    void filtersModelsInsideExistingResponse() throws IOException {
+        TeamModel team = TeamModel.builder().id(7L).team_uk("K01").team_name("울산현대").address("울산").build();
+        Messenger messenger = Messenger.builder()
+                .Code(200)
+                .message("검색 성공")
+                .data(Map.of("hits", List.of(SearchHit.builder().type("teams").score(1.5).item(team).build())))
+                .build();
+
+        String json = body(writer.respond(messenger, Set.of("team_name"), List.of(TeamRepositoryCustom.FIELDS)));
+        assertThat(json).contains("\"type\":\"teams\"", "\"score\":1.5", "\"item\":{\"team_name\":\"울산현대\"}")
+                .doesNotContain("address", "K01");
+    }
+
+    private static String body(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,118 @@
+package site.aiion.api.soccer.common.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+
+/**
+ * 인코딩별 ETag, If-None-Match 304, Accept-Encoding q 값에 따른 gzip 선택과 무효화를 확인한다.
+ */
+class JsonSnapshotCacheTest {
+
+    private final JsonSnapshotCache cache = new JsonSnapshotCache(new ObjectMapper(), true);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<Messenger> loader = () -> Messenger.builder()
+            .Code(200)
+            .message("전체 조회 성공")
+            .data(List.of("선수" + loads.incrementAndGet()))
+            .build();
+
+    @Test
+    void eachEncodingHasItsOwnEtag() {
+        ResponseEntity<byte[]> identity = cache.respond(JsonSnapshotCache.PLAYERS, loader, null, null);
+        ResponseEntity<byte[]> gzip = cache.respond(JsonSnapshotCache.PLAYERS, loader, null, "gzip, deflate");
+
+        assertThat(identity.getHeaders().getETag()).isNotNull();
+        assertThat(gzip.getHeaders().getETag()).isNotEqualTo(identity.getHeaders().getETag()).endsWith("-gz\"");
+        assertThat(identity.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gzip.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        // 같은 스냅샷에서 나온 두 표현
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void answersNotModifiedOnlyForMatchingRepresentation() {
+        String identityTag = cache.respond(JsonSnapshotCache.PLAYERS, loader, null, null).getHeaders().getETag();
+        String gzipTag = cache.respond(JsonSnapshotCache.PLAYERS, loader, null, "gzip").getHeaders().getETag();
+
+        ResponseEntity<byte[]> identity304 = cache.respond(JsonSnapshotCache.PLAYERS, loader, identityTag, null);
+        assertThat(identity304.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(identity304.getBody()).isNull();
+        assertThat(identity304.getHeaders().getETag()).isEqualTo(identityTag);
+
+        assertThat(cache.respond(JsonSnapshotCache.PLAYERS, loader, "W/" + gzipTag, "gzip").getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(cache.respond(JsonSnapshotCache.PLAYERS, loader, "\"other\", " + identityTag, null).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+        // 다른 인코딩의 ETag 로는 304 가 나오지 않는다
+        assertThat(cache.respond(JsonSnapshotCache.PLAYERS, loader, identityTag, "gzip").getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        assertThat(cache.respond(JsonSnapshotCache.PLAYERS, loader, gzipTag, null).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void invalidateChangesEtag() {
+        String before = cache.respond(JsonSnapshotCache.TEAMS, loader, null, null).getHeaders().getETag();
+
+        cache.invalidate(JsonSnapshotCache.TEAMS);
+        ResponseEntity<byte[]> after = cache.respond(JsonSnapshotCache.TEAMS, loader, before, null);
+
+        assertThat(after.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(after.getHeaders().getETag()).isNotEqualTo(before);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void gzipBodyInflatesToIdentityBody() throws IOException {
+        byte[] identity = cache.respond(JsonSnapshotCache.STADIUMS, loader, null, null).getBody();
+        byte[] gzip = cache.respond(JsonSnapshotCache.STADIUMS, loader, null, "gzip").getBody();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertThat(in.readAllBytes()).isEqualTo(identity);
+        }
+    }
+
+    @Test
+    void choosesGzipByQualityValues() {
+        assertThat(JsonSnapshotCache.acceptsGzip(null)).isFalse();
+        assertThat(JsonSnapshotCache.acceptsGzip("")).isFalse();
+        assertThat(JsonSnapshotCache.acceptsGzip("gzip")).isTrue();
+        assertThat(JsonSnapshotCache.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(JsonSnapshotCache.acceptsGzip("x-gzip")).isTrue();
+        assertThat(JsonSnapshotCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(JsonSnapshotCache.acceptsGzip("gzip; q=0.0, identity")).isFalse();
+        assertThat(JsonSnapshotCache.acceptsGzip("br, deflate")).isFalse();
+        assertThat(JsonSnapshotCache.acceptsGzip("*")).isTrue();
+        assertThat(JsonSnapshotCache.acceptsGzip("*;q=0")).isFalse();
+        // 명시한 gzip 이 * 보다 우선
+        assertThat(JsonSnapshotCache.acceptsGzip("*, gzip;q=0")).isFalse();
+        assertThat(JsonSnapshotCache.acceptsGzip("gzip;q=abc")).isFalse();
+    }
+
+    @Test
+    void sendsIdentityWhenGzipDisabled() {
+        JsonSnapshotCache plain = new JsonSnapshotCache(new ObjectMapper(), false);
+
+        ResponseEntity<byte[]> response = plain.respond(JsonSnapshotCache.PLAYERS, loader, null, "gzip");
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeaders().getETag()).doesNotEndWith("-gz\"");
+    }
+}
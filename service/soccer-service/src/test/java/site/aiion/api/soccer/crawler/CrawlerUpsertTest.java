@@ -0,0 +1,151 @@
+package site.aiion.api.soccer.crawler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sun.net.httpserver.HttpServer;
+
+import site.aiion.api.soccer.booking.StadiumBookingIndex;
+import site.aiion.api.soccer.common.bulk.BulkWriter;
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.snapshot.JsonSnapshotCache;
+import site.aiion.api.soccer.config.QuerydslConfig;
+import site.aiion.api.soccer.live.LiveScoreBroadcaster;
+import site.aiion.api.soccer.live.LiveScorePublisher;
+import site.aiion.api.soccer.schedule.Schedule;
+import site.aiion.api.soccer.schedule.ScheduleRepository;
+import site.aiion.api.soccer.schedule.ScheduleServiceImpl;
+import site.aiion.api.soccer.search.SoccerSearchIndex;
+import site.aiion.api.soccer.stadium.Stadium;
+import site.aiion.api.soccer.stadium.StadiumRepository;
+import site.aiion.api.soccer.standings.StandingsServiceImpl;
+import site.aiion.api.soccer.team.Team;
+import site.aiion.api.soccer.team.TeamRepository;
+
+/**
+ * 저장된 결과 페이지를 기존 일정 위에 수집했을 때, 날짜 표기가 달라도(2012-03-03 / 2012.03.04 ↔ yyyyMMdd)
+ * 같은 경기는 새로 넣지 않고 기존 행을 고치는지 확인한다. 서비스 트랜잭션이 그대로 커밋되게 돌린다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "soccer.crawler.allowed-hosts=127.0.0.1",
+        "soccer.crawler.host-interval=PT0S"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ CrawlerServiceImpl.class, ScheduleServiceImpl.class, StadiumBookingIndex.class, SoccerSearchIndex.class,
+        BulkWriter.class, StandingsServiceImpl.class, JsonSnapshotCache.class, LiveScorePublisher.class,
+        LiveScoreBroadcaster.class, QuerydslConfig.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class CrawlerUpsertTest {
+
+    @Autowired
+    private CrawlerService crawlerService;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private StadiumRepository stadiumRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String name = exchange.getRequestURI().getPath().substring(1);
+            try (InputStream in = getClass().getResourceAsStream("/crawler/" + name)) {
+                if (in == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    exchange.close();
+                    return;
+                }
+                byte[] body = in.readAllBytes();
+                exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+
+        for (String stadiumUk : List.of("D03", "B02", "A05", "D01")) {
+            stadiumRepository.save(Stadium.builder().stadium_uk(stadiumUk).stadium_name(stadiumUk).build());
+        }
+        for (String teamUk : List.of("K01", "K02", "K03", "K04", "K05", "K08", "K09", "K10")) {
+            teamRepository.save(Team.builder().team_uk(teamUk).team_name(teamUk).build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        scheduleRepository.deleteAll();
+        teamRepository.deleteAll();
+        stadiumRepository.deleteAll();
+    }
+
+    @Test
+    void updatesExistingRowsWrittenInOtherDateFormats() {
+        // 아직 점수가 없는 경기와, 이미 같은 결과가 들어 있는 경기
+        Schedule pending = scheduleRepository.save(Schedule.builder()
+                .sche_date("2012-03-03").stadium_uk("D03").gubun("Y")
+                .hometeam_uk("K05").awayteam_uk("K08").build());
+        Schedule finished = scheduleRepository.save(Schedule.builder()
+                .sche_date("2012.03.04").stadium_uk("B02").gubun("Y")
+                .hometeam_uk("K02").awayteam_uk("K01").home_score("0").away_score("0").build());
+
+        Messenger result = crawlerService.crawl(CrawlRequestModel.builder()
+                .urls(List.of(baseUrl + "results-1.html"))
+                .max_pages(10)
+                .build());
+
+        assertThat(result.getCode()).isEqualTo(200);
+        CrawlReportModel report = (CrawlReportModel) result.getData();
+        assertThat(report.getPages_fetched()).isEqualTo(2);
+        assertThat(report.getUpdated()).isEqualTo(1);
+        assertThat(report.getUnchanged()).isEqualTo(1);
+        assertThat(report.getInserted()).isEqualTo(2);
+        assertThat(scheduleRepository.count()).isEqualTo(4);
+
+        Schedule updated = scheduleRepository.findById(pending.getId()).orElseThrow();
+        assertThat(updated.getHome_score()).isEqualTo("2");
+        assertThat(updated.getAway_score()).isEqualTo("1");
+        // 기존 행의 날짜 표기는 바꾸지 않는다
+        assertThat(updated.getSche_date()).isEqualTo("2012-03-03");
+        assertThat(scheduleRepository.findById(finished.getId()).orElseThrow().getSche_date()).isEqualTo("2012.03.04");
+    }
+
+    @Test
+    void rejectsUrlsOutsideAllowedHosts() {
+        Messenger result = crawlerService.crawl(CrawlRequestModel.builder()
+                .urls(List.of("http://169.254.169.254/latest/meta-data"))
+                .build());
+
+        assertThat(result.getCode()).isEqualTo(400);
+        assertThat(scheduleRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,184 @@
+package site.aiion.api.soccer.crawler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import site.aiion.api.soccer.schedule.ScheduleModel;
+
+/**
+ * src/test/resources/crawler 의 저장된 결과 페이지를 로컬 HTTP 서버로 내려주고 수집 파이프라인 전체를 돌려 본다.
+ */
+class MatchCrawlerTest {
+
+    private static final Duration HOST_INTERVAL = Duration.ofMillis(100);
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // 다른 호스트(localhost)로 보내는 리다이렉트와 같은 호스트 안의 상대 주소 리다이렉트
+        server.createContext("/redirect-out", exchange -> {
+            exchange.getResponseHeaders().set("Location",
+                    "http://localhost:" + server.getAddress().getPort() + "/results-1.html");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/redirect-in", exchange -> {
+            exchange.getResponseHeaders().set("Location", "/results-1.html");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/external.html", exchange -> {
+            byte[] body = ("<html><body><a class=\"next\" href=\"http://169.254.169.254/latest/meta-data\">다음</a>"
+                    + "</body></html>").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/", exchange -> {
+            String name = exchange.getRequestURI().getPath().substring(1);
+            try (InputStream in = getClass().getResourceAsStream("/crawler/" + name)) {
+                if (in == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    exchange.close();
+                    return;
+                }
+                byte[] body = in.readAllBytes();
+                exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void followsNextLinksAndParsesFixtures() {
+        List<ScheduleModel> rows = new ArrayList<>();
+        try (MatchCrawler crawler = crawler()) {
+            long started = System.nanoTime();
+            MatchCrawler.CrawlStats stats = crawler.crawl(
+                    List.of(baseUrl + "results-1.html", baseUrl + "missing.html"), 10, rows::addAll);
+            long elapsed = System.nanoTime() - started;
+
+            // results-2 의 이전/다음 링크는 이미 받은 results-1 을 가리키므로 다시 받지 않는다
+            assertThat(stats.pagesFetched()).isEqualTo(2);
+            assertThat(stats.pagesFailed()).isEqualTo(1);
+            assertThat(stats.errors()).singleElement().asString().contains("missing.html", "HTTP 404");
+            assertThat(stats.rowsParsed()).isEqualTo(4);
+            assertThat(stats.rowsRejected()).isEqualTo(1);
+            // 같은 호스트에 3번 요청했으므로 최소 2번의 간격을 기다렸어야 한다
+            assertThat(elapsed).isGreaterThanOrEqualTo(HOST_INTERVAL.multipliedBy(2).toNanos());
+        }
+
+        assertThat(rows).extracting(ScheduleModel::getSche_date)
+                .containsExactly("20120303", "20120304", "20120310", "20120311");
+        ScheduleModel first = rows.get(0);
+        assertThat(first.getHometeam_uk()).isEqualTo("K05");
+        assertThat(first.getAwayteam_uk()).isEqualTo("K08");
+        assertThat(first.getStadium_uk()).isEqualTo("D03");
+        assertThat(first.getGubun()).isEqualTo("Y");
+        assertThat(first.getHome_score()).isEqualTo("2");
+        assertThat(first.getAway_score()).isEqualTo("1");
+        // "vs" 는 아직 치르지 않은 경기
+        assertThat(rows.get(2).getHome_score()).isNull();
+        assertThat(rows.get(3).getGubun()).isNull();
+    }
+
+    @Test
+    void stopsAtMaxPages() {
+        List<ScheduleModel> rows = new ArrayList<>();
+        try (MatchCrawler crawler = crawler()) {
+            MatchCrawler.CrawlStats stats = crawler.crawl(List.of(baseUrl + "results-1.html"), 1, rows::addAll);
+            assertThat(stats.pagesFetched()).isEqualTo(1);
+            assertThat(rows).hasSize(2);
+        }
+    }
+
+    @Test
+    void rejectsSeedsOutsideAllowedHosts() {
+        List<ScheduleModel> rows = new ArrayList<>();
+        try (MatchCrawler crawler = crawler()) {
+            String internal = "http://localhost:" + server.getAddress().getPort() + "/results-1.html";
+            assertThat(crawler.isAllowed(internal)).isFalse();
+            assertThat(crawler.isAllowed("file:///etc/passwd")).isFalse();
+
+            MatchCrawler.CrawlStats stats = crawler.crawl(List.of(internal), 10, rows::addAll);
+
+            assertThat(stats.pagesFetched()).isZero();
+            assertThat(stats.pagesFailed()).isEqualTo(1);
+            assertThat(stats.errors()).singleElement().asString().contains("허용되지 않은 호스트");
+        }
+        assertThat(rows).isEmpty();
+    }
+
+    @Test
+    void doesNotFollowNextLinksOutsideAllowedHosts() {
+        try (MatchCrawler crawler = crawler()) {
+            MatchCrawler.CrawlStats stats = crawler.crawl(List.of(baseUrl + "external.html"), 10, rows -> { });
+
+            assertThat(stats.pagesFetched()).isEqualTo(1);
+            assertThat(stats.pagesFailed()).isZero();
+        }
+    }
+
+    @Test
+    void checksEveryRedirectHop() {
+        List<ScheduleModel> rows = new ArrayList<>();
+        try (MatchCrawler crawler = crawler()) {
+            MatchCrawler.CrawlStats stats = crawler.crawl(
+                    List.of(baseUrl + "redirect-out", baseUrl + "redirect-in"), 2, rows::addAll);
+
+            // 허용된 호스트 안의 리다이렉트는 따라가고, 다른 호스트로 가는 리다이렉트는 요청하지 않는다
+            assertThat(stats.pagesFetched()).isEqualTo(1);
+            assertThat(stats.pagesFailed()).isEqualTo(1);
+            assertThat(stats.errors()).singleElement().asString()
+                    .contains("redirect-out", "허용되지 않은 리다이렉트 대상 localhost");
+        }
+        assertThat(rows).hasSize(2);
+    }
+
+    @Test
+    void matchesWildcardSubdomainsOnly() {
+        try (MatchCrawler crawler = new MatchCrawler(1, 1, new HostRateLimiter(HOST_INTERVAL), Duration.ofSeconds(5),
+                "test", List.of("*.example.com", "kleague.kr"))) {
+            assertThat(crawler.isAllowed("https://www.example.com/results")).isTrue();
+            assertThat(crawler.isAllowed("https://a.b.example.com/results")).isTrue();
+            assertThat(crawler.isAllowed("https://example.com/results")).isFalse();
+            assertThat(crawler.isAllowed("https://evil-example.com/results")).isFalse();
+            assertThat(crawler.isAllowed("http://KLEAGUE.kr/results")).isTrue();
+            assertThat(crawler.isAllowed("http://www.kleague.kr/results")).isFalse();
+        }
+    }
+
+    private static MatchCrawler crawler() {
+        return new MatchCrawler(2, 2, new HostRateLimiter(HOST_INTERVAL), Duration.ofSeconds(5), "test",
+                List.of("127.0.0.1"));
+    }
+}
@@ -0,0 +1,74 @@
+package site.aiion.api.soccer.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsWithCommasQuotesAndNewlines() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("a,b,c\n1,\"x, y\",\"say \"\"hi\"\"\"\n2,\"line1\nline2\",\n3,,z\n"));
+
+        assertThat(csv.readRecord()).containsExactly("a", "b", "c");
+        assertThat(csv.getRecordLine()).isEqualTo(1);
+        assertThat(csv.readRecord()).containsExactly("1", "x, y", "say \"hi\"");
+        assertThat(csv.getRecordLine()).isEqualTo(2);
+        assertThat(csv.readRecord()).containsExactly("2", "line1\nline2", "");
+        assertThat(csv.getRecordLine()).isEqualTo(3);
+        // 따옴표 안 줄바꿈 다음 레코드는 5행에서 시작한다
+        assertThat(csv.readRecord()).containsExactly("3", "", "z");
+        assertThat(csv.getRecordLine()).isEqualTo(5);
+        assertThat(csv.readRecord()).isNull();
+    }
+
+    @Test
+    void countsCrlfAndBareCrAsOneLineEach() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader(
+                "h\r\n\"a\r\nb\"\r\n\"c\rd\"\r\"e\nf\"\r\nlast"));
+
+        assertThat(csv.readRecord()).containsExactly("h");
+        assertThat(csv.readRecord()).containsExactly("a\r\nb");
+        assertThat(csv.getRecordLine()).isEqualTo(2);
+        assertThat(csv.readRecord()).containsExactly("c\rd");
+        assertThat(csv.getRecordLine()).isEqualTo(4);
+        assertThat(csv.readRecord()).containsExactly("e\nf");
+        assertThat(csv.getRecordLine()).isEqualTo(6);
+        assertThat(csv.readRecord()).containsExactly("last");
+        assertThat(csv.getRecordLine()).isEqualTo(8);
+        assertThat(csv.readRecord()).isNull();
+    }
+
+    @Test
+    void skipsBlankLinesButKeepsCounting() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("h\n\r\n\n1\n"));
+
+        assertThat(csv.readRecord()).containsExactly("h");
+        assertThat(csv.readRecord()).containsExactly("1");
+        assertThat(csv.getRecordLine()).isEqualTo(4);
+        assertThat(csv.readRecord()).isNull();
+    }
+
+    @Test
+    void stripsLeadingBom() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("\uFEFFplayer_uk,player_name\r\nP1,박지성\r\n"));
+
+        assertThat(csv.readRecord()).containsExactly("player_uk", "player_name");
+        assertThat(csv.readRecord()).isEqualTo(List.of("P1", "박지성"));
+    }
+
+    @Test
+    void rejectsUnclosedQuoteWithStartLine() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("h\n\"open\nnever closed\n"));
+
+        assertThat(csv.readRecord()).containsExactly("h");
+        assertThatThrownBy(csv::readRecord)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("2행");
+    }
+}
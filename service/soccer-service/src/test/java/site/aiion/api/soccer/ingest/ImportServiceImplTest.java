@@ -0,0 +1,92 @@
+package site.aiion.api.soccer.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import site.aiion.api.soccer.common.bulk.BulkWriter;
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.player.PlayerModel;
+import site.aiion.api.soccer.player.PlayerService;
+import site.aiion.api.soccer.schedule.ScheduleService;
+import site.aiion.api.soccer.stadium.StadiumService;
+import site.aiion.api.soccer.team.TeamService;
+
+/**
+ * 배치 저장이 실패하면 한 행씩 다시 저장해서 실패한 행만 원본 행 번호로 오류를 남기는지 확인한다.
+ */
+class ImportServiceImplTest {
+
+    private final List<String> savedUks = new ArrayList<>();
+    private ImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        PlayerService playerService = mock(PlayerService.class);
+        // player_uk 가 BAD 로 시작하는 행이 섞인 배치는 통째로 실패한다 (chunk 롤백)
+        when(playerService.saveAll(anyList())).thenAnswer(invocation -> {
+            List<PlayerModel> models = invocation.getArgument(0);
+            if (models.stream().anyMatch(m -> m.getPlayer_uk().startsWith("BAD"))) {
+                throw new IllegalStateException("중복 키");
+            }
+            models.forEach(m -> savedUks.add(m.getPlayer_uk()));
+            return Messenger.builder().Code(200).build();
+        });
+        importService = new ImportServiceImpl(playerService, mock(TeamService.class), mock(StadiumService.class),
+                mock(ScheduleService.class), new BulkWriter(null, 3), new ObjectMapper());
+    }
+
+    @Test
+    void retriesFailedBatchRowByRow() throws IOException {
+        String csv = "player_uk,player_name\n"
+                + "P1,가\n"
+                + "BAD1,\"여러\n줄\"\n"
+                + "P2,나\n"
+                + "P3,다\n"
+                + "P4,\n"
+                + "BAD2,라\n";
+        List<ImportEvent> events = new ArrayList<>();
+
+        ImportEvent done = importService.importRows("players", "csv", stream(csv), events::add);
+
+        assertThat(savedUks).containsExactly("P1", "P2", "P3");
+        assertThat(done.getRows()).isEqualTo(6);
+        assertThat(done.getSaved()).isEqualTo(3);
+        assertThat(done.getErrors()).isEqualTo(3);
+        // 오류는 행마다 하나씩, 원본 CSV 행 번호로
+        assertThat(events).filteredOn(e -> "error".equals(e.getEvent()))
+                .extracting(ImportEvent::getLine)
+                .containsExactly(3L, 7L, 8L);
+        assertThat(events).filteredOn(e -> Long.valueOf(3L).equals(e.getLine())).singleElement()
+                .extracting(ImportEvent::getMessage).asString().contains("중복 키");
+    }
+
+    @Test
+    void readsNdjsonRows() throws IOException {
+        String ndjson = "{\"player_uk\":\"P1\",\"player_name\":\"가\",\"unknown\":1}\n\n{oops\n{\"player_uk\":\"P2\",\"player_name\":\"나\"}\n";
+        List<ImportEvent> events = new ArrayList<>();
+
+        ImportEvent done = importService.importRows("player", "ndjson", stream(ndjson), events::add);
+
+        assertThat(savedUks).containsExactly("P1", "P2");
+        assertThat(done.getErrors()).isEqualTo(1);
+        assertThat(events).filteredOn(e -> "error".equals(e.getEvent()))
+                .extracting(ImportEvent::getLine).containsExactly(3L);
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,216 @@
+package site.aiion.api.soccer.live;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 경기별 fan-out, 구독자별 heartbeat, 큐가 넘친 느린 구독자 정리, 구독자 상한을 확인한다.
+ * 실제 연결 대신 보낸 프레임을 기록하는 emitter 를 쓴다.
+ */
+class LiveScoreBroadcasterTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final int MAX_SUBSCRIBERS = 3;
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private LiveScoreBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new LiveScoreBroadcaster(new ObjectMapper(), BUFFER_SIZE, MAX_SUBSCRIBERS,
+                Duration.ofMinutes(1), Duration.ofHours(1)) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                RecordingEmitter emitter = new RecordingEmitter(timeoutMs);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.gate.countDown());
+        broadcaster.shutdown();
+    }
+
+    private static ScoreEvent event(long scheduleId) {
+        return ScoreEvent.builder().schedule_id(scheduleId).home_score("1").away_score("0").build();
+    }
+
+    private RecordingEmitter subscribe(Long... matchIds) {
+        SseEmitter emitter = broadcaster.subscribe(Set.of(matchIds));
+        assertThat(emitter).isNotNull();
+        return (RecordingEmitter) emitter;
+    }
+
+    @Test
+    void fansOutToAllMatchSubscribersAndMatchingFiltersOnly() throws Exception {
+        RecordingEmitter all = subscribe();
+        RecordingEmitter first = subscribe(1L);
+        RecordingEmitter second = subscribe(2L);
+
+        broadcaster.broadcast(event(1L));
+        broadcaster.broadcast(event(2L));
+
+        assertThat(all.next()).contains("\"schedule_id\":1");
+        assertThat(all.next()).contains("\"schedule_id\":2");
+        assertThat(first.next()).contains("\"schedule_id\":1");
+        assertThat(second.next()).contains("\"schedule_id\":2");
+        assertThat(first.sent).isEmpty();
+        assertThat(second.sent).isEmpty();
+        assertThat(broadcaster.getPublishedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void heartbeatIsSentOncePerSubscriber() throws Exception {
+        RecordingEmitter all = subscribe();
+        RecordingEmitter several = subscribe(1L, 2L, 3L);
+
+        broadcaster.sendHeartbeat();
+        // 큐는 순서대로 비워지므로 뒤이은 점수 이벤트가 오면 heartbeat 는 그 앞에 모두 와 있다
+        broadcaster.broadcast(event(1L));
+
+        assertThat(several.next()).contains("ping");
+        assertThat(several.next()).contains("\"schedule_id\":1");
+        assertThat(several.sent).isEmpty();
+        assertThat(all.next()).contains("ping");
+        assertThat(all.next()).contains("\"schedule_id\":1");
+        assertThat(all.sent).isEmpty();
+    }
+
+    @Test
+    void evictsSubscriberWhoseQueueOverflows() throws Exception {
+        RecordingEmitter slow = subscribe();
+        RecordingEmitter fast = subscribe();
+        slow.blockSends();
+
+        // 빠른 구독자는 이벤트마다 바로 받아 가므로 큐가 쌓이지 않는다
+        broadcaster.broadcast(event(1L));
+        assertThat(fast.next()).contains("\"schedule_id\":1");
+        assertThat(slow.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        // 전송 중인 1건 외에 큐에 BUFFER_SIZE 건까지는 쌓인다
+        for (long id = 2; id <= 1 + BUFFER_SIZE; id++) {
+            broadcaster.broadcast(event(id));
+            assertThat(fast.next()).contains("\"schedule_id\":" + id);
+        }
+        assertThat(broadcaster.getEvictedCount()).isZero();
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(2);
+
+        broadcaster.broadcast(event(99L));
+        assertThat(broadcaster.getEvictedCount()).isEqualTo(1);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.next()).contains("\"schedule_id\":99");
+    }
+
+    @Test
+    void failedSendCompletesEmitterWithError() throws Exception {
+        RecordingEmitter broken = subscribe(1L);
+        broken.failSends();
+
+        broadcaster.broadcast(event(1L));
+
+        assertThat(broken.failed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(broken.error).isInstanceOf(IOException.class);
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void rejectsSubscribersOverCapAndFreesSlotAfterUnregister() throws Exception {
+        for (int i = 0; i < MAX_SUBSCRIBERS - 1; i++) {
+            subscribe();
+        }
+        RecordingEmitter broken = subscribe();
+
+        assertThat(broadcaster.subscribe(Set.of())).isNull();
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(MAX_SUBSCRIBERS);
+
+        broken.failSends();
+        broadcaster.broadcast(event(1L));
+        assertThat(broken.failed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(broadcaster.subscribe(Set.of(1L))).isNotNull();
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(MAX_SUBSCRIBERS);
+    }
+
+    /**
+     * 보낸 프레임을 문자열로 기록한다. 전송을 막아 느린 연결을, 예외를 던져 끊긴 연결을 흉내 낼 수 있다.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch failed = new CountDownLatch(1);
+        private volatile boolean blocking;
+        private volatile boolean failing;
+        private volatile Throwable error;
+
+        RecordingEmitter(long timeoutMs) {
+            super(timeoutMs);
+        }
+
+        void blockSends() {
+            blocking = true;
+        }
+
+        void failSends() {
+            failing = true;
+        }
+
+        String next() throws InterruptedException {
+            String frame = sent.poll(5, TimeUnit.SECONDS);
+            assertThat(frame).as("전송된 프레임").isNotNull();
+            return frame;
+        }
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            if (failing) {
+                throw new IOException("연결 끊김");
+            }
+            if (blocking) {
+                entered.countDown();
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            sent.add(items.stream()
+                    .map(item -> String.valueOf(item.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            error = ex;
+            failed.countDown();
+        }
+    }
+}
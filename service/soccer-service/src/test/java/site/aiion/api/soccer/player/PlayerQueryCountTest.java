@@ -0,0 +1,128 @@
+package site.aiion.api.soccer.player;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import jakarta.persistence.EntityManagerFactory;
+import site.aiion.api.soccer.config.QuerydslConfig;
+import site.aiion.api.soccer.stadium.Stadium;
+import site.aiion.api.soccer.team.Team;
+
+/**
+ * 선수 조회 경로가 선수 수와 관계없이 select 한 번으로 끝나는지 확인한다.
+ * 엔티티 대신 컬럼을 바로 projection 하므로 팀(@ManyToOne) 즉시 로딩이 끼어들면 여기서 걸린다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import(QuerydslConfig.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class PlayerQueryCountTest {
+
+    private static final int TEAM_COUNT = 3;
+    private static final int PLAYERS_PER_TEAM = 5;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private Statistics statistics;
+    private Long firstPlayerId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            em.persist(Stadium.builder().stadium_uk("D" + i).stadium_name("경기장" + i).build());
+            em.persist(Team.builder().team_uk("K" + i).team_name("팀" + i).stadium_uk("D" + i).build());
+            for (int no = 1; no <= PLAYERS_PER_TEAM; no++) {
+                Player player = em.persist(Player.builder()
+                        .player_uk("P" + i + no)
+                        .player_name("선수" + i + no)
+                        .position("MF")
+                        .back_no(String.valueOf(no))
+                        .team_uk("K" + i)
+                        .build());
+                if (firstPlayerId == null) {
+                    firstPlayerId = player.getId();
+                }
+            }
+        }
+        // 팀이 없는 선수는 팀 조인 조회에서도 빠지지 않아야 한다
+        em.persist(Player.builder().player_uk("P99").player_name("무소속").build());
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllModelsWithTeamUsesSingleStatement() {
+        List<PlayerModel> players = playerRepository.findAllModels(true);
+
+        assertThat(players).hasSize(TEAM_COUNT * PLAYERS_PER_TEAM + 1);
+        assertThat(players.get(0).getTeam_name()).isEqualTo("팀0");
+        assertThat(players.get(players.size() - 1).getTeam_name()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findAllModelsWithoutTeamUsesSingleStatement() {
+        List<PlayerModel> players = playerRepository.findAllModels(false);
+
+        assertThat(players).hasSize(TEAM_COUNT * PLAYERS_PER_TEAM + 1);
+        assertThat(players).extracting(PlayerModel::getTeam_name).containsOnlyNulls();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findModelByIdUsesSingleStatement() {
+        PlayerModel player = playerRepository.findModelById(firstPlayerId, true).orElseThrow();
+
+        assertThat(player.getPlayer_uk()).isEqualTo("P01");
+        assertThat(player.getTeam_name()).isEqualTo("팀0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findModelByIdWithoutTeamUsesSingleStatement() {
+        assertThat(playerRepository.findModelById(firstPlayerId, false)).isPresent();
+        assertThat(playerRepository.findModelById(-1L, false)).isEmpty();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findModelsByTeamUkUsesSingleStatement() {
+        List<PlayerModel> players = playerRepository.findModelsByTeamUk("K1");
+
+        assertThat(players).hasSize(PLAYERS_PER_TEAM)
+                .extracting(PlayerModel::getTeam_uk)
+                .containsOnly("K1");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,42 @@
+package site.aiion.api.soccer.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 구분자가 다른 sche_date 표기를 같은 날짜로 읽고, 날짜가 아닌 값은 null 로 돌려주는지 확인한다.
+ */
+class ScheduleDatesTest {
+
+    private static final LocalDate MARCH_17 = LocalDate.of(2012, 3, 17);
+
+    @Test
+    void parsesEverySupportedSeparator() {
+        assertThat(ScheduleDates.parse("20120317")).isEqualTo(MARCH_17);
+        assertThat(ScheduleDates.parse("2012-03-17")).isEqualTo(MARCH_17);
+        assertThat(ScheduleDates.parse("2012.03.17")).isEqualTo(MARCH_17);
+        assertThat(ScheduleDates.parse("2012/03/17")).isEqualTo(MARCH_17);
+        assertThat(ScheduleDates.parse(" 2012. 03. 17 ")).isEqualTo(MARCH_17);
+    }
+
+    @Test
+    void returnsNullForMissingOrMalformedInput() {
+        assertThat(ScheduleDates.parse(null)).isNull();
+        assertThat(ScheduleDates.parse("")).isNull();
+        assertThat(ScheduleDates.parse("2012031")).isNull();
+        assertThat(ScheduleDates.parse("201203170")).isNull();
+        assertThat(ScheduleDates.parse("2012_03_17")).isNull();
+        assertThat(ScheduleDates.parse("Mar 17 2012")).isNull();
+    }
+
+    @Test
+    void returnsNullForImpossibleDates() {
+        assertThat(ScheduleDates.parse("20120230")).isNull();
+        assertThat(ScheduleDates.parse("20121317")).isNull();
+        assertThat(ScheduleDates.parse("20120300")).isNull();
+        assertThat(ScheduleDates.parse("20120229")).isEqualTo(LocalDate.of(2012, 2, 29));
+    }
+}
@@ -0,0 +1,141 @@
+package site.aiion.api.soccer.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import jakarta.persistence.EntityManagerFactory;
+import site.aiion.api.soccer.booking.StadiumBookingIndex;
+import site.aiion.api.soccer.common.bulk.BulkWriter;
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.snapshot.JsonSnapshotCache;
+import site.aiion.api.soccer.config.QuerydslConfig;
+import site.aiion.api.soccer.live.LiveScoreBroadcaster;
+import site.aiion.api.soccer.live.LiveScorePublisher;
+import site.aiion.api.soccer.search.SoccerSearchIndex;
+import site.aiion.api.soccer.stadium.Stadium;
+import site.aiion.api.soccer.standings.StandingsServiceImpl;
+import site.aiion.api.soccer.team.Team;
+
+/**
+ * 일정 조회 경로가 경기 수와 관계없이 고정된 SQL 횟수로 끝나는지 확인한다.
+ * 연관(경기장/팀) 즉시 로딩이 다시 끼어들면 경기 수만큼 select 가 늘어나므로 여기서 걸린다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import({ ScheduleServiceImpl.class, StadiumBookingIndex.class, SoccerSearchIndex.class, BulkWriter.class, StandingsServiceImpl.class,
+        JsonSnapshotCache.class, LiveScorePublisher.class, LiveScoreBroadcaster.class, QuerydslConfig.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ScheduleQueryCountTest {
+
+    private static final int TEAM_COUNT = 6;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    private Statistics statistics;
+    private Long firstScheduleId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < TEAM_COUNT; i++) {
+            em.persist(Stadium.builder().stadium_uk("D" + i).stadium_name("경기장" + i).build());
+            em.persist(Team.builder().team_uk("K" + i).team_name("팀" + i).stadium_uk("D" + i).build());
+        }
+        // 모든 팀이 서로 홈/원정으로 한 번씩 (30경기)
+        for (int home = 0; home < TEAM_COUNT; home++) {
+            for (int away = 0; away < TEAM_COUNT; away++) {
+                if (home == away) {
+                    continue;
+                }
+                Schedule schedule = em.persist(Schedule.builder()
+                        .sche_date("201203" + String.format("%02d", home * TEAM_COUNT + away))
+                        .stadium_uk("D" + home)
+                        .gubun("Y")
+                        .hometeam_uk("K" + home)
+                        .awayteam_uk("K" + away)
+                        .home_score("1")
+                        .away_score("0")
+                        .build());
+                if (firstScheduleId == null) {
+                    firstScheduleId = schedule.getId();
+                }
+            }
+        }
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllUsesSingleStatement() {
+        Messenger messenger = scheduleService.findAll();
+
+        assertThat((List<?>) messenger.getData()).hasSize(TEAM_COUNT * (TEAM_COUNT - 1));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findByIdUsesSingleStatement() {
+        Messenger messenger = scheduleService.findById(ScheduleModel.builder().id(firstScheduleId).build());
+
+        assertThat(messenger.getCode()).isEqualTo(200);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findByWordUsesSingleStatement() {
+        Messenger messenger = scheduleService.findByWord(ScheduleModel.builder().sche_date("K0").build());
+
+        assertThat((List<?>) messenger.getData()).hasSize(2 * (TEAM_COUNT - 1));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void saveAllLooksUpStadiumsAndTeamsOnceForAllRows() {
+        List<ScheduleModel> models = new ArrayList<>();
+        for (int day = 1; day <= 20; day++) {
+            int home = day % TEAM_COUNT;
+            models.add(ScheduleModel.builder()
+                    .sche_date("201204" + String.format("%02d", day))
+                    .stadium_uk("D" + home)
+                    .gubun("Y")
+                    .hometeam_uk("K" + home)
+                    .awayteam_uk("K" + (home + 1) % TEAM_COUNT)
+                    .build());
+        }
+
+        Messenger messenger = scheduleService.saveAll(models);
+
+        assertThat((List<?>) messenger.getData()).hasSize(20);
+        // 경기장/팀 전체 조회 2회뿐, 행마다 uk 로 찾는 select 가 없어야 한다
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(2 * TEAM_COUNT);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+    }
+}
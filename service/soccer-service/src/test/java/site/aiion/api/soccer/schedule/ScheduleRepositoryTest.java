@@ -0,0 +1,146 @@
+package site.aiion.api.soccer.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import site.aiion.api.soccer.config.QuerydslConfig;
+import site.aiion.api.soccer.team.Team;
+
+/**
+ * match_date 기준 기간 조회(구분/팀 조건 포함), match_date 가 빈 기존 행 채우기,
+ * 저장/수정 시 sche_date → match_date 동기화를 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import(QuerydslConfig.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ScheduleRepositoryTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2012, 3, 1);
+    private static final LocalDate MARCH_31 = LocalDate.of(2012, 3, 31);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (String teamUk : new String[] { "K01", "K02", "K03" }) {
+            em.persist(Team.builder().team_uk(teamUk).team_name(teamUk).build());
+        }
+    }
+
+    private Schedule persist(String scheDate, String gubun, String home, String away) {
+        return em.persist(Schedule.builder()
+                .sche_date(scheDate).gubun(gubun).hometeam_uk(home).awayteam_uk(away).build());
+    }
+
+    private void persistMarch() {
+        // 표기가 섞여 있어도 날짜순으로 나와야 한다
+        persist("2012.03.17", "Y", "K01", "K02");
+        persist("20120303", "Y", "K02", "K03");
+        persist("2012-03-10", "N", "K03", "K01");
+        persist("20120401", "Y", "K01", "K03");
+        persist("20120229", "Y", "K02", "K01");
+        persist("미정", "Y", "K01", "K02");
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void findsRangeInDateOrderWithoutOptionalFilters() {
+        persistMarch();
+
+        assertThat(scheduleRepository.findModelsByRange(MARCH_1, MARCH_31, null, null))
+                .extracting(ScheduleModel::getSche_date)
+                .containsExactly("20120303", "2012-03-10", "2012.03.17");
+        // 빈 문자열도 조건 없음으로 본다
+        assertThat(scheduleRepository.findModelsByRange(MARCH_1, MARCH_31, " ", "")).hasSize(3);
+    }
+
+    @Test
+    void rangeIncludesBothEnds() {
+        persistMarch();
+
+        assertThat(scheduleRepository.findModelsByRange(LocalDate.of(2012, 2, 29), LocalDate.of(2012, 4, 1), null, null))
+                .extracting(ScheduleModel::getSche_date)
+                .containsExactly("20120229", "20120303", "2012-03-10", "2012.03.17", "20120401");
+    }
+
+    @Test
+    void filtersRangeByGubun() {
+        persistMarch();
+
+        assertThat(scheduleRepository.findModelsByRange(MARCH_1, MARCH_31, "N", null))
+                .extracting(ScheduleModel::getSche_date)
+                .containsExactly("2012-03-10");
+    }
+
+    @Test
+    void filtersRangeByHomeOrAwayTeam() {
+        persistMarch();
+
+        assertThat(scheduleRepository.findModelsByRange(MARCH_1, MARCH_31, null, "K01"))
+                .extracting(ScheduleModel::getSche_date)
+                .containsExactly("2012-03-10", "2012.03.17");
+        assertThat(scheduleRepository.findModelsByRange(MARCH_1, MARCH_31, "Y", "K03"))
+                .extracting(ScheduleModel::getSche_date)
+                .containsExactly("20120303");
+    }
+
+    @Test
+    void backfillFillsOnlyRowsWithParsableDate() {
+        Schedule dotted = persist("2012.03.17", "Y", "K01", "K02");
+        Schedule plain = persist("20120317", "Y", "K02", "K03");
+        Schedule dashed = persist("2012-03-10", "Y", "K03", "K01");
+        Schedule unknown = persist("미정", "Y", "K01", "K03");
+        em.flush();
+        // match_date 컬럼이 생기기 전에 저장된 행처럼 비운다
+        em.getEntityManager().createNativeQuery("UPDATE schedules SET match_date = NULL").executeUpdate();
+        em.clear();
+
+        assertThat(scheduleRepository.backfillMatchDates()).isEqualTo(3);
+        em.clear();
+
+        assertThat(em.find(Schedule.class, dotted.getId()).getMatch_date()).isEqualTo(LocalDate.of(2012, 3, 17));
+        assertThat(em.find(Schedule.class, plain.getId()).getMatch_date()).isEqualTo(LocalDate.of(2012, 3, 17));
+        assertThat(em.find(Schedule.class, dashed.getId()).getMatch_date()).isEqualTo(LocalDate.of(2012, 3, 10));
+        assertThat(em.find(Schedule.class, unknown.getId()).getMatch_date()).isNull();
+        // 이미 채워진 행은 다시 건드리지 않는다
+        assertThat(scheduleRepository.backfillMatchDates()).isZero();
+    }
+
+    @Test
+    void syncsMatchDateOnPersistAndUpdate() {
+        Schedule saved = persist("2012.03.17", "Y", "K01", "K02");
+        em.flush();
+        em.clear();
+        assertThat(em.find(Schedule.class, saved.getId()).getMatch_date()).isEqualTo(LocalDate.of(2012, 3, 17));
+
+        Schedule managed = em.find(Schedule.class, saved.getId());
+        managed.setSche_date("2012-04-01");
+        em.flush();
+        em.clear();
+        assertThat(em.find(Schedule.class, saved.getId()).getMatch_date()).isEqualTo(LocalDate.of(2012, 4, 1));
+
+        managed = em.find(Schedule.class, saved.getId());
+        managed.setSche_date("연기");
+        em.flush();
+        em.clear();
+        assertThat(em.find(Schedule.class, saved.getId()).getMatch_date()).isNull();
+    }
+}
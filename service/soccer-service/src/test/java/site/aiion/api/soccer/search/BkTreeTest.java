@@ -0,0 +1,112 @@
+package site.aiion.api.soccer.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * BK-tree 가지치기 결과가 전체 용어를 직접 비교한 결과와 같고, 허용 거리가 용어 길이에 맞춰 줄어드는지 확인한다.
+ */
+class BkTreeTest {
+
+    @Test
+    void scalesAllowedDistanceWithTermLength() {
+        assertThat(BkTree.maxDistanceFor(1)).isZero();
+        assertThat(BkTree.maxDistanceFor(2)).isZero();
+        assertThat(BkTree.maxDistanceFor(3)).isEqualTo(1);
+        assertThat(BkTree.maxDistanceFor(5)).isEqualTo(1);
+        assertThat(BkTree.maxDistanceFor(6)).isEqualTo(2);
+        assertThat(BkTree.maxDistanceFor(20)).isEqualTo(2);
+    }
+
+    @Test
+    void shortQueriesOnlyMatchExactly() {
+        BkTree<String> tree = players();
+
+        // 거리 2 를 그대로 쓰면 "ki", "min" 까지 걸린다
+        assertThat(values(tree.search("ji", 2))).containsExactly("Park Ji-Sung");
+        assertThat(tree.search("jj", 2)).isEmpty();
+    }
+
+    @Test
+    void shortIndexedTermsOnlyMatchExactly() {
+        BkTree<String> tree = players();
+
+        // "kia" 는 3자라 거리 1 까지 허용되지만, 2자 용어 "ki" 는 정확히 일치해야 한다
+        assertThat(tree.search("kia", 2)).isEmpty();
+        assertThat(values(tree.search("sun", 2))).containsExactlyInAnyOrder("Park Ji-Sung", "Ki Sung-Yueng", "Son Heung-Min");
+    }
+
+    @Test
+    void longQueriesTolerateTwoEdits() {
+        BkTree<String> tree = players();
+
+        List<BkTree.Match<String>> matches = tree.search("Prak Jisung", 2);
+        assertThat(matches).singleElement().satisfies(m -> {
+            assertThat(m.value()).isEqualTo("Park Ji-Sung");
+            assertThat(m.distance()).isEqualTo(2);
+        });
+        // 요청 거리가 더 작으면 그 값이 상한
+        assertThat(tree.search("Prak Jisung", 1)).isEmpty();
+        assertThat(values(tree.search("parkjisun", 2))).containsExactly("Park Ji-Sung");
+    }
+
+    @Test
+    void putReplacesAndRemoveDropsValue() {
+        BkTree<String> tree = players();
+
+        tree.put(1, "Park Ji-Hoon", "Park Ji-Hoon");
+        assertThat(tree.search("parkjisung", 2)).isEmpty();
+        assertThat(values(tree.search("parkjihoon", 2))).containsExactly("Park Ji-Hoon");
+
+        tree.remove(1);
+        assertThat(tree.search("parkjihoon", 2)).isEmpty();
+        assertThat(values(tree.search("lee young pyo", 0))).containsExactly("Lee Young-Pyo");
+    }
+
+    @Test
+    void prunedSearchMatchesBruteForce() {
+        Random random = new Random(7L);
+        BkTree<String> tree = new BkTree<>();
+        List<String> words = new ArrayList<>();
+        for (int id = 0; id < 500; id++) {
+            String word = randomWord(random);
+            words.add(word);
+            tree.put(id, word, word);
+        }
+        for (int round = 0; round < 200; round++) {
+            String query = randomWord(random);
+            int allowed = BkTree.maxDistanceFor(query.length());
+            List<String> expected = words.stream()
+                    .filter(w -> BkTree.distance(query, w) <= Math.min(allowed, BkTree.maxDistanceFor(w.length())))
+                    .toList();
+            assertThat(values(tree.search(query, 2))).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static BkTree<String> players() {
+        BkTree<String> tree = new BkTree<>();
+        tree.put(1, "Park Ji-Sung", "Park Ji-Sung");
+        tree.put(2, "Lee Young-Pyo", "Lee Young-Pyo");
+        tree.put(3, "Ki Sung-Yueng", "Ki Sung-Yueng");
+        tree.put(4, "Son Heung-Min", "Son Heung-Min");
+        return tree;
+    }
+
+    private static String randomWord(Random random) {
+        int length = 2 + random.nextInt(7);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(4)));
+        }
+        return sb.toString();
+    }
+
+    private static List<String> values(List<BkTree.Match<String>> matches) {
+        return matches.stream().map(BkTree.Match::value).toList();
+    }
+}
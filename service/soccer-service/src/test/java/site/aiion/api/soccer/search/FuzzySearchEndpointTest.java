@@ -0,0 +1,92 @@
+package site.aiion.api.soccer.search;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import site.aiion.api.soccer.player.PlayerController;
+import site.aiion.api.soccer.player.PlayerModel;
+import site.aiion.api.soccer.player.PlayerServiceImpl;
+import site.aiion.api.soccer.team.TeamController;
+import site.aiion.api.soccer.team.TeamModel;
+import site.aiion.api.soccer.team.TeamServiceImpl;
+
+/**
+ * GET /players/fuzzy, /team/fuzzy 가 색인만으로 응답하고 길이별 허용 거리를 따르는지 확인한다.
+ * 유사 검색은 DB 를 보지 않으므로 저장소 없이 색인만 채운 서비스로 컨트롤러를 띄운다.
+ */
+class FuzzySearchEndpointTest {
+
+    private SoccerSearchIndex index;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        index = new SoccerSearchIndex(Duration.ofHours(1));
+        index.rebuildPlayers(List.of(
+                PlayerModel.builder().id(1L).player_name("박지성").e_player_name("Park Ji-Sung").build(),
+                PlayerModel.builder().id(2L).player_name("기성용").e_player_name("Ki Sung-Yueng").build(),
+                PlayerModel.builder().id(3L).player_name("손흥민").e_player_name("Son Heung-Min").build()));
+        index.rebuildTeams(List.of(
+                TeamModel.builder().id(1L).team_name("울산현대").e_team_name("Ulsan Hyundai").build(),
+                TeamModel.builder().id(2L).team_name("FC서울").e_team_name("FC Seoul").build()));
+
+        PlayerServiceImpl playerService = new PlayerServiceImpl(null, null, index, null, null, null);
+        TeamServiceImpl teamService = new TeamServiceImpl(null, null, null, index, null);
+        ReflectionTestUtils.setField(playerService, "fuzzyMaxDistance", 2);
+        ReflectionTestUtils.setField(teamService, "fuzzyMaxDistance", 2);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new PlayerController(playerService, null, null),
+                new TeamController(teamService, null, null)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void findsPlayersWithTypos() throws Exception {
+        mockMvc.perform(get("/players/fuzzy").param("keyword", "Prak Jisung"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data[*].id", contains(1)));
+    }
+
+    @Test
+    void shortKeywordMustMatchExactly() throws Exception {
+        // 2자 검색어는 요청 거리와 관계없이 정확히 일치하는 용어만
+        mockMvc.perform(get("/players/fuzzy").param("keyword", "ki").param("maxDistance", "2"))
+                .andExpect(jsonPath("$.data[*].id", contains(2)));
+        mockMvc.perform(get("/players/fuzzy").param("keyword", "ko"))
+                .andExpect(jsonPath("$.data", empty()));
+    }
+
+    @Test
+    void requestedDistanceIsCappedByConfiguration() throws Exception {
+        mockMvc.perform(get("/team/fuzzy").param("keyword", "Ulsna Hyundia").param("maxDistance", "9"))
+                .andExpect(jsonPath("$.data", empty()));
+        mockMvc.perform(get("/team/fuzzy").param("keyword", "Ulsan Hyundia").param("maxDistance", "9"))
+                .andExpect(jsonPath("$.data[*].id", contains(1)));
+        mockMvc.perform(get("/team/fuzzy").param("keyword", "Ulsan Hyundia").param("maxDistance", "1"))
+                .andExpect(jsonPath("$.data", empty()));
+    }
+
+    @Test
+    void blankKeywordIsRejected() throws Exception {
+        mockMvc.perform(get("/team/fuzzy").param("keyword", " "))
+                .andExpect(jsonPath("$.code").value(400));
+    }
+}
@@ -0,0 +1,39 @@
+package site.aiion.api.soccer.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HangulJamoTest {
+
+    @Test
+    void decomposesSyllablesIntoBasicJamo() {
+        assertThat(HangulJamo.decompose("박지성")).isEqualTo("ㅂㅏㄱㅈㅣㅅㅓㅇ");
+        // 겹모음과 겹받침도 기본 자모로 푼다
+        assertThat(HangulJamo.decompose("관")).isEqualTo("ㄱㅗㅏㄴ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("의")).isEqualTo("ㅇㅡㅣ");
+    }
+
+    @Test
+    void splitsStandaloneCompoundJamoTheSameWay() {
+        assertThat(HangulJamo.decompose("ㅘ")).isEqualTo(HangulJamo.decompose("와").substring(1));
+        assertThat(HangulJamo.decompose("ㄳ")).isEqualTo("ㄱㅅ");
+        // 입력 중인 글자 ("박ㅈ") 는 완성된 이름의 자모 분해 결과의 접두어가 된다
+        assertThat(HangulJamo.decompose("박지성")).startsWith(HangulJamo.decompose("박ㅈ"));
+        assertThat(HangulJamo.decompose("닭갈비")).startsWith(HangulJamo.decompose("달"));
+    }
+
+    @Test
+    void keepsNonHangulCharacters() {
+        assertThat(HangulJamo.decompose("fc서울1")).isEqualTo("fcㅅㅓㅇㅜㄹ1");
+        assertThat(HangulJamo.decompose("")).isEmpty();
+    }
+
+    @Test
+    void extractsChoseong() {
+        assertThat(HangulJamo.choseong("박지성")).isEqualTo("ㅂㅈㅅ");
+        assertThat(HangulJamo.choseong("까치")).isEqualTo("ㄲㅊ");
+        assertThat(HangulJamo.choseong("fc서울")).isEqualTo("fcㅅㅇ");
+    }
+}
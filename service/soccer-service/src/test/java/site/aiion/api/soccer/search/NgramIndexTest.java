@@ -0,0 +1,132 @@
+package site.aiion.api.soccer.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * n-gram 색인 결과가 contains 검색과 같고, 추가/수정/삭제가 바로 반영되는지,
+ * BM25 점수가 필드 가중치/길이/희소도를 따르고 합친 통계에서는 색인이 달라도 같은 척도가 되는지 확인한다.
+ */
+class NgramIndexTest {
+
+    @Test
+    void findsDocumentsContainingKeyword() {
+        NgramIndex<String> index = new NgramIndex<>();
+        index.put(1, "박지성", "박지성", "Park Ji-Sung");
+        index.put(2, "이영표", "이영표", "Lee Young-Pyo");
+        index.put(3, "박주영", "박주영", "Park Chu-Young");
+
+        assertThat(index.search("박")).containsExactly("박지성", "박주영");
+        assertThat(index.search("지성")).containsExactly("박지성");
+        // 공백과 대소문자는 무시한다
+        assertThat(index.search("PARK ji")).containsExactly("박지성");
+        assertThat(index.search("young")).containsExactly("이영표", "박주영");
+        assertThat(index.search("지박")).isEmpty();
+        assertThat(index.search("  ")).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void verifiesContiguousMatchAfterPostingIntersection() {
+        NgramIndex<String> index = new NgramIndex<>();
+        index.put(1, "ab-bc", "ab-bc");
+        index.put(2, "abc", "abc");
+
+        // "ab", "bc" 는 두 문서 모두에 있지만 이어져 있는 것은 2번뿐
+        assertThat(index.search("abc")).containsExactly("abc");
+    }
+
+    @Test
+    void putWithSameIdReplacesDocument() {
+        NgramIndex<String> index = new NgramIndex<>();
+        index.put(1, "FC 서울", "FC 서울");
+        index.put(1, "서울 이랜드", "서울 이랜드");
+
+        assertThat(index.search("fc")).isEmpty();
+        assertThat(index.search("이랜드")).containsExactly("서울 이랜드");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeDropsDocumentFromPostings() {
+        NgramIndex<String> index = new NgramIndex<>();
+        index.put(1, "수원삼성", "수원삼성");
+        index.put(2, "수원FC", "수원FC");
+
+        index.remove(1);
+        index.remove(99);
+
+        assertThat(index.search("수원")).containsExactly("수원FC");
+        assertThat(index.search("삼성")).isEmpty();
+
+        index.clear();
+        assertThat(index.search("수원")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void returnsResultsInIdOrderRegardlessOfInsertOrder() {
+        NgramIndex<Long> index = new NgramIndex<>();
+        for (long id = 50; id >= 1; id--) {
+            index.put(id, id, "경기장" + id);
+        }
+        assertThat(index.search("경기장1")).containsExactly(1L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L);
+    }
+
+    @Test
+    void scoresBoostedShorterAndRarerMatchesHigher() {
+        NgramIndex<String> index = new NgramIndex<>(3.0, 1.0);
+        index.put(1, "이름", "수원", "");
+        index.put(2, "별명", "", "수원");
+        index.put(3, "긴 이름", "수원삼성블루윙즈", "");
+        index.put(4, "울산", "울산", "");
+
+        assertThat(ranked(index.searchScored("수원"))).containsExactly("이름", "긴 이름", "별명");
+        // 문서가 없으면 점수도 없다
+        assertThat(index.searchScored("부산")).isEmpty();
+
+        // 모든 문서에 있는 gram 보다 한 문서에만 있는 gram 의 점수가 높다
+        NgramIndex<String> idf = new NgramIndex<>();
+        idf.put(1, "흔함", "축구");
+        idf.put(2, "흔함2", "축구");
+        idf.put(3, "드묾", "야구");
+        assertThat(score(idf.searchScored("야구"))).isGreaterThan(score(idf.searchScored("축구").subList(0, 1)));
+    }
+
+    @Test
+    void sharedCorpusStatsPutIndexesOnOneScale() {
+        NgramIndex<String> small = new NgramIndex<>(3.0);
+        small.put(1, "수원", "수원");
+        NgramIndex<String> large = new NgramIndex<>(3.0);
+        large.put(1, "수원", "수원");
+        for (long id = 2; id <= 20; id++) {
+            large.put(id, "팀" + id, "팀" + id);
+        }
+
+        // 색인별 통계로는 같은 문서가 색인 크기에 따라 다른 점수를 받는다
+        assertThat(score(small.searchScored("수원"))).isNotCloseTo(score(large.searchScored("수원")), within(0.01));
+
+        NgramIndex.CorpusStats stats = NgramIndex.CorpusStats.merge(
+                List.of(small.corpusStats("수원"), large.corpusStats("수원")));
+        assertThat(stats.documents()).isEqualTo(21);
+        assertThat(stats.documentFrequencies()).containsEntry("수원", 2L);
+        assertThat(score(small.searchScored("수원", stats))).isCloseTo(score(large.searchScored("수원", stats)), within(1e-9));
+    }
+
+    private static List<String> ranked(List<NgramIndex.Scored<String>> scored) {
+        return scored.stream()
+                .sorted(Comparator.comparingDouble((NgramIndex.Scored<String> s) -> s.score()).reversed())
+                .map(NgramIndex.Scored::value)
+                .toList();
+    }
+
+    private static double score(List<NgramIndex.Scored<String>> scored) {
+        assertThat(scored).hasSize(1);
+        return scored.get(0).score();
+    }
+}
@@ -0,0 +1,117 @@
+package site.aiion.api.soccer.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.player.PlayerModel;
+import site.aiion.api.soccer.stadium.StadiumModel;
+import site.aiion.api.soccer.team.TeamModel;
+
+/**
+ * 타입별 검색 결과를 한 점수 척도로 합치는지, 한 타입이 실패하면 응답에 일부 결과임을 표시하는지 확인한다.
+ */
+class SearchServiceImplTest {
+
+    private SoccerSearchIndex index;
+    private SearchServiceImpl service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        index.shutdown();
+    }
+
+    @Test
+    void failedTypeMarksResponsePartial() {
+        index = new SoccerSearchIndex(Duration.ofHours(1)) {
+            @Override
+            public List<NgramIndex.Scored<TeamModel>> rankTeams(String keyword, NgramIndex.CorpusStats stats) {
+                throw new IllegalStateException("팀 색인 오류");
+            }
+        };
+        index.rebuildPlayers(List.of(PlayerModel.builder().id(1L).player_name("서울선수").build()));
+        service = service(index);
+
+        Messenger result = service.findByWord("서울", null, 20);
+
+        assertThat(result.getCode()).isEqualTo(200);
+        Map<?, ?> data = (Map<?, ?>) result.getData();
+        assertThat(data.get("partial")).isEqualTo(true);
+        assertThat(data.get("failed")).asInstanceOf(InstanceOfAssertFactories.LIST).containsExactly("teams");
+        assertThat((List<?>) data.get("timedOut")).isEmpty();
+        assertThat(data.get("counts")).asInstanceOf(InstanceOfAssertFactories.MAP)
+                .containsOnlyKeys("players", "stadiums", "schedules");
+    }
+
+    @Test
+    void completeResponseIsNotPartial() {
+        index = new SoccerSearchIndex(Duration.ofHours(1));
+        index.rebuildPlayers(List.of(PlayerModel.builder().id(1L).player_name("서울선수").build()));
+        service = service(index);
+
+        Map<?, ?> data = (Map<?, ?>) service.findByWord("서울", "player", 20).getData();
+
+        assertThat(data.get("partial")).isEqualTo(false);
+        assertThat((List<?>) data.get("failed")).isEmpty();
+    }
+
+    @Test
+    void ranksAcrossTypesOnSharedCorpusStatistics() {
+        index = new SoccerSearchIndex(Duration.ofHours(1));
+        // 팀 색인은 크고 "수원" 이 드물다, 경기장 색인은 문서가 하나뿐이다.
+        // 색인별 IDF 로 계산하면 팀 쪽 점수가 부풀려져 긴 팀 이름이 짧은 경기장 이름보다 앞선다.
+        List<TeamModel> teams = new ArrayList<>();
+        teams.add(TeamModel.builder().id(1L).team_name("수원삼성블루윙즈").build());
+        for (long id = 2; id <= 10; id++) {
+            teams.add(TeamModel.builder().id(id).team_name("팀" + id).build());
+        }
+        index.rebuildTeams(teams);
+        index.rebuildStadiums(List.of(StadiumModel.builder().id(1L).stadium_name("수원").build()));
+        service = service(index);
+
+        Map<?, ?> data = (Map<?, ?>) service.findByWord("수원", null, 20).getData();
+
+        List<?> hits = (List<?>) data.get("hits");
+        assertThat(hits).extracting("type").containsExactly("stadiums", "teams");
+        assertThat(hits).extracting("score").isSortedAccordingTo((a, b) -> Double.compare((Double) b, (Double) a));
+    }
+
+    @Test
+    void keepsOnlyTopHitsAcrossTypes() {
+        index = new SoccerSearchIndex(Duration.ofHours(1));
+        List<PlayerModel> players = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            players.add(PlayerModel.builder().id(id).player_name("선수" + "가".repeat((int) id)).build());
+        }
+        index.rebuildPlayers(players);
+        service = service(index);
+
+        Map<?, ?> data = (Map<?, ?>) service.findByWord("선수", null, 5).getData();
+
+        assertThat(data.get("totalCount")).isEqualTo(30);
+        // 짧은 이름일수록 길이 정규화로 점수가 높다
+        List<?> items = (List<?>) ((Map<?, ?>) data.get("results")).get("players");
+        assertThat(items).extracting("id").containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    private static SearchServiceImpl service(SoccerSearchIndex index) {
+        SearchServiceImpl service = new SearchServiceImpl(index);
+        ReflectionTestUtils.setField(service, "parallel", true);
+        ReflectionTestUtils.setField(service, "maxLimit", 100);
+        ReflectionTestUtils.setField(service, "playerTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(service, "teamTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(service, "stadiumTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(service, "scheduleTimeoutMs", 1000L);
+        return service;
+    }
+}
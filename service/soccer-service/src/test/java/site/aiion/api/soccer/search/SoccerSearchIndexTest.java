@@ -0,0 +1,126 @@
+package site.aiion.api.soccer.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import site.aiion.api.soccer.player.PlayerModel;
+import site.aiion.api.soccer.team.TeamModel;
+
+/**
+ * 트랜잭션 밖에서는 색인 갱신이 즉시 반영되므로 서비스 없이 색인만으로 추가/수정/삭제를 확인한다.
+ */
+class SoccerSearchIndexTest {
+
+    private SoccerSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 주기 반영이 테스트 도중 끼어들지 않도록 길게 잡고 flushSearchCounts 를 직접 부른다
+        index = new SoccerSearchIndex(Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void playerLifecycle() {
+        index.rebuildPlayers(List.of(
+                player(1L, "박지성", "Park Ji-Sung", "K01", "울산"),
+                player(2L, "이영표", "Lee Young-Pyo", "K01", "울산")));
+
+        assertThat(index.searchPlayers("지성")).extracting(PlayerModel::getId).containsExactly(1L);
+
+        index.indexPlayer(player(3L, "박주영", "Park Chu-Young", "K02", "서울"));
+        assertThat(index.searchPlayers("박")).extracting(PlayerModel::getId).containsExactly(1L, 3L);
+
+        // 같은 id 로 다시 넣으면 이전 이름으로는 더 이상 찾을 수 없다
+        index.indexPlayer(player(1L, "박지훈", "Park Ji-Hoon", "K01", "울산"));
+        assertThat(index.searchPlayers("지성")).isEmpty();
+        assertThat(index.searchPlayers("지훈")).extracting(PlayerModel::getId).containsExactly(1L);
+        assertThat(index.suggest("ㅂㅈㅎ", "player", 10)).extracting(SuggestModel::getId).containsExactly(1L);
+
+        index.removePlayer(3L);
+        assertThat(index.searchPlayers("박")).extracting(PlayerModel::getId).containsExactly(1L);
+        assertThat(index.suggest("박주", "player", 10)).isEmpty();
+    }
+
+    @Test
+    void reindexedPlayerCarriesNewTeamName() {
+        index.rebuildPlayers(List.of(player(1L, "박지성", "Park Ji-Sung", "K01", "울산")));
+
+        index.indexPlayer(player(1L, "박지성", "Park Ji-Sung", "K01", "울산 HD"));
+
+        assertThat(index.searchPlayers("박지성")).singleElement()
+                .extracting(PlayerModel::getTeam_name).isEqualTo("울산 HD");
+    }
+
+    @Test
+    void teamLifecycle() {
+        index.rebuildTeams(List.of(team(1L, "울산현대", "Ulsan Hyundai", "울산")));
+
+        assertThat(index.searchTeams("ulsan")).extracting(TeamModel::getId).containsExactly(1L);
+
+        index.indexTeam(team(2L, "FC서울", "FC Seoul", "서울"));
+        index.indexTeam(team(1L, "울산HD", "Ulsan HD", "울산"));
+        assertThat(index.searchTeams("현대")).isEmpty();
+        assertThat(index.searchTeams("울산")).extracting(TeamModel::getTeam_name).containsExactly("울산HD");
+        assertThat(index.searchTeams("서울")).extracting(TeamModel::getId).containsExactly(2L);
+
+        index.removeTeam(2L);
+        assertThat(index.searchTeams("서울")).isEmpty();
+        assertThat(index.fuzzySearchTeams("Seoul", 1)).isEmpty();
+    }
+
+    @Test
+    void searchCountsReachSuggestionsOnlyAfterFlush() {
+        index.rebuildPlayers(List.of(
+                player(1L, "박지성", "Park Ji-Sung", "K01", "울산"),
+                player(2L, "박주영", "Park Chu-Young", "K02", "서울")));
+        // 인기도가 같으면 이름 순
+        assertThat(index.suggest("박", "player", 10)).extracting(SuggestModel::getId).containsExactly(2L, 1L);
+
+        index.recordSearch("박지성");
+        index.recordSearch("박 지성");
+        index.recordSearch("박");
+        assertThat(index.suggest("박", "player", 10)).extracting(SuggestModel::getId).containsExactly(2L, 1L);
+
+        index.flushSearchCounts();
+        // 이름과 정확히 일치한 검색만 센다 (공백은 무시)
+        assertThat(index.suggest("박", "player", 10))
+                .extracting(SuggestModel::getId, SuggestModel::getPopularity)
+                .containsExactly(tuple(1L, 2L), tuple(2L, 0L));
+
+        // 이미 반영한 횟수는 다시 더하지 않는다
+        index.flushSearchCounts();
+        assertThat(index.suggest("박지성", "player", 1)).singleElement()
+                .extracting(SuggestModel::getPopularity).isEqualTo(2L);
+    }
+
+    private static PlayerModel player(Long id, String name, String englishName, String teamUk, String teamName) {
+        return PlayerModel.builder()
+                .id(id)
+                .player_name(name)
+                .e_player_name(englishName)
+                .team_uk(teamUk)
+                .team_name(teamName)
+                .build();
+    }
+
+    private static TeamModel team(Long id, String name, String englishName, String region) {
+        return TeamModel.builder()
+                .id(id)
+                .team_name(name)
+                .e_team_name(englishName)
+                .region_name(region)
+                .build();
+    }
+}
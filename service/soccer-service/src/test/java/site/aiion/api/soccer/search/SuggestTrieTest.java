@@ -0,0 +1,89 @@
+package site.aiion.api.soccer.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 접두어/초성 매칭과 인기도 순위, 노드별 top 목록 갱신을 확인한다.
+ */
+class SuggestTrieTest {
+
+    @Test
+    void matchesSyllableJamoAndChoseongPrefixes() {
+        SuggestTrie trie = new SuggestTrie();
+        trie.put(1, "박지성", "박지성", "Park Ji-Sung");
+        trie.put(2, "박주영", "박주영");
+        trie.put(3, "이영표", "이영표");
+
+        assertThat(labels(trie.suggest("박", 10))).containsExactly("박주영", "박지성");
+        // 입력 중인 받침/자모
+        assertThat(labels(trie.suggest("박ㅈ", 10))).containsExactly("박주영", "박지성");
+        assertThat(labels(trie.suggest("박지", 10))).containsExactly("박지성");
+        assertThat(labels(trie.suggest("바", 10))).containsExactly("박주영", "박지성");
+        // 초성
+        assertThat(labels(trie.suggest("ㅂㅈㅅ", 10))).containsExactly("박지성");
+        assertThat(labels(trie.suggest("ㅇㅇ", 10))).containsExactly("이영표");
+        // 영문명은 공백/대소문자 무시
+        assertThat(labels(trie.suggest("park j", 10))).containsExactly("박지성");
+        assertThat(trie.suggest("김", 10)).isEmpty();
+        assertThat(trie.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    void matchesFromEveryWordStart() {
+        SuggestTrie trie = new SuggestTrie();
+        trie.put(1, "FC 서울", "FC 서울");
+
+        assertThat(labels(trie.suggest("서울", 10))).containsExactly("FC 서울");
+        assertThat(labels(trie.suggest("fc서", 10))).containsExactly("FC 서울");
+        // 단어 중간부터는 찾지 않는다
+        assertThat(trie.suggest("울", 10)).isEmpty();
+    }
+
+    @Test
+    void ranksByPopularityThenShorterLabel() {
+        SuggestTrie trie = new SuggestTrie();
+        trie.put(1, "서울월드컵경기장", "서울월드컵경기장");
+        trie.put(2, "서울", "서울");
+        trie.put(3, "서울숲", "서울숲");
+
+        assertThat(labels(trie.suggest("서", 10))).containsExactly("서울", "서울숲", "서울월드컵경기장");
+
+        trie.recordSearches(Map.of("서울월드컵경기장", 3L, "서울숲", 1L, "서", 5L));
+        assertThat(labels(trie.suggest("서", 10))).containsExactly("서울월드컵경기장", "서울숲", "서울");
+        assertThat(trie.suggest("서", 1)).singleElement().extracting(SuggestTrie.Entry::popularity).isEqualTo(3L);
+
+        // 교체해도 인기도는 유지한다
+        trie.put(3, "서울숲", "서울숲", "Seoul Forest");
+        assertThat(trie.suggest("seoul", 1)).singleElement().extracting(SuggestTrie.Entry::popularity).isEqualTo(1L);
+    }
+
+    @Test
+    void keepsOnlyTopEntriesPerNodeAndRefreshesOnRemove() {
+        SuggestTrie trie = new SuggestTrie();
+        List<SuggestTrie.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            entries.add(SuggestTrie.entry(i, "선수" + (char) ('가' + i), "선수" + (char) ('가' + i)));
+        }
+        trie.rebuild(entries);
+
+        List<SuggestTrie.Entry> top = trie.suggest("선수", 100);
+        assertThat(top).hasSize(SuggestTrie.MAX_SUGGESTIONS);
+        assertThat(top.get(0).label()).isEqualTo("선수가");
+
+        // 목록에서 빠진 자리는 다음 순위 항목이 채운다
+        trie.remove(0);
+        List<SuggestTrie.Entry> afterRemove = trie.suggest("선수", 100);
+        assertThat(afterRemove).hasSize(SuggestTrie.MAX_SUGGESTIONS);
+        assertThat(labels(afterRemove)).doesNotContain("선수가").contains("선수" + (char) ('가' + 10));
+    }
+
+    private static List<String> labels(List<SuggestTrie.Entry> entries) {
+        return entries.stream().map(SuggestTrie.Entry::label).toList();
+    }
+}
@@ -0,0 +1,96 @@
+package site.aiion.api.soccer.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 병렬 시뮬레이션이 스레드 수와 관계없이 같은 결과를 내고, 확률 합이 맞는지 확인한다.
+ */
+class SeasonSimulatorTest {
+
+    private static final int TEAMS = 6;
+
+    @Test
+    void sameSeedGivesSameResultRegardlessOfParallelism() {
+        SeasonSimulator simulator = randomSeason(new Random(1L));
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            SeasonSimulator.Tally a = simulator.simulate(10_000, 42L, single);
+            SeasonSimulator.Tally b = simulator.simulate(10_000, 42L, many);
+            assertThat(a.getIterations()).isEqualTo(10_000);
+            for (int team = 0; team < TEAMS; team++) {
+                assertThat(a.titleProbability(team)).isEqualTo(b.titleProbability(team));
+                assertThat(a.expectedPoints(team)).isEqualTo(b.expectedPoints(team));
+            }
+        } finally {
+            single.shutdownNow();
+            many.shutdownNow();
+        }
+    }
+
+    @Test
+    void probabilitiesSumToOne() {
+        SeasonSimulator simulator = randomSeason(new Random(2L));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            SeasonSimulator.Tally tally = simulator.simulate(5_000, 7L, pool);
+            double titles = 0;
+            for (int team = 0; team < TEAMS; team++) {
+                titles += tally.titleProbability(team);
+                double positions = 0;
+                for (int pos = 0; pos < TEAMS; pos++) {
+                    positions += tally.positionProbability(team, pos);
+                }
+                assertThat(positions).isCloseTo(1.0, within(1e-9));
+                assertThat(tally.expectedPoints(team)).isGreaterThanOrEqualTo(simulator.basePoints(team));
+            }
+            assertThat(titles).isCloseTo(1.0, within(1e-9));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void finishedSeasonIsDecidedByStandings() {
+        // 남은 경기가 없으면 현재 1위가 항상 우승
+        List<SeasonSimulator.Played> played = List.of(
+                new SeasonSimulator.Played(0, 1, 2, 0),
+                new SeasonSimulator.Played(1, 2, 1, 1),
+                new SeasonSimulator.Played(2, 0, 0, 3));
+        SeasonSimulator simulator = new SeasonSimulator(3, played, List.of());
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            SeasonSimulator.Tally tally = simulator.simulate(3_000, 1L, pool);
+            assertThat(tally.titleProbability(0)).isEqualTo(1.0);
+            assertThat(tally.expectedPoints(0)).isEqualTo(6.0);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static SeasonSimulator randomSeason(Random random) {
+        List<SeasonSimulator.Played> played = new ArrayList<>();
+        List<SeasonSimulator.Fixture> remaining = new ArrayList<>();
+        for (int home = 0; home < TEAMS; home++) {
+            for (int away = 0; away < TEAMS; away++) {
+                if (home == away) {
+                    continue;
+                }
+                if (random.nextInt(3) > 0) {
+                    played.add(new SeasonSimulator.Played(home, away, random.nextInt(4), random.nextInt(3)));
+                } else {
+                    remaining.add(new SeasonSimulator.Fixture(home, away));
+                }
+            }
+        }
+        return new SeasonSimulator(TEAMS, played, remaining);
+    }
+}
@@ -0,0 +1,165 @@
+package site.aiion.api.soccer.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.schedule.ScheduleModel;
+import site.aiion.api.soccer.schedule.ScheduleRepository;
+import site.aiion.api.soccer.standings.StandingsService;
+
+/**
+ * 예측 캐시가 키별로 한 번만 계산하고, revision 이 바뀐 결과는 버리며, 크기 제한을 지키는지 확인한다.
+ */
+class SimulationServiceImplTest {
+
+    private final AtomicLong revision = new AtomicLong(1);
+    private ScheduleRepository scheduleRepository;
+    private SimulationServiceImpl simulationService;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        StandingsService standingsService = mock(StandingsService.class);
+        when(standingsService.revision()).thenAnswer(invocation -> revision.get());
+        when(scheduleRepository.findModelsByRange(any(), any(), any(), any()))
+                .thenAnswer(invocation -> season(((LocalDate) invocation.getArgument(0)).getYear()));
+        simulationService = new SimulationServiceImpl(scheduleRepository, standingsService, 2, 2);
+        ReflectionTestUtils.setField(simulationService, "defaultIterations", 200);
+        ReflectionTestUtils.setField(simulationService, "maxIterations", 1_000);
+        ReflectionTestUtils.setField(simulationService, "seed", 20120317L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationService.shutdown();
+    }
+
+    private static List<ScheduleModel> season(int year) {
+        List<ScheduleModel> schedules = new ArrayList<>();
+        schedules.add(match(1, year + "0301", "K01", "K02", "2", "1"));
+        schedules.add(match(2, year + "0308", "K02", "K03", "0", "0"));
+        schedules.add(match(3, year + "0315", "K03", "K01", null, null));
+        return schedules;
+    }
+
+    private static ScheduleModel match(long id, String date, String home, String away, String homeScore, String awayScore) {
+        return ScheduleModel.builder().id(id).sche_date(date).hometeam_uk(home).awayteam_uk(away)
+                .home_score(homeScore).away_score(awayScore).build();
+    }
+
+    private static LocalDate january(int year) {
+        return LocalDate.of(year, 1, 1);
+    }
+
+    @Test
+    void reusesResultUntilRevisionChanges() {
+        Messenger first = simulationService.simulate("2012", null, null);
+        Messenger second = simulationService.simulate("2012", null, null);
+
+        assertThat(first.getCode()).isEqualTo(200);
+        assertThat(second.getData()).isSameAs(first.getData());
+        verify(scheduleRepository, times(1)).findModelsByRange(eq(january(2012)), any(), any(), any());
+
+        revision.incrementAndGet();
+        Messenger third = simulationService.simulate("2012", null, null);
+        assertThat(third.getData()).isNotSameAs(first.getData());
+        verify(scheduleRepository, times(2)).findModelsByRange(eq(january(2012)), any(), any(), any());
+    }
+
+    @Test
+    void concurrentRequestsForSameKeyComputeOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return season(2012);
+        }).when(scheduleRepository).findModelsByRange(any(), any(), any(), any());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Messenger>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> simulationService.simulate("2012", null, null)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            Object data = results.get(0).get(5, TimeUnit.SECONDS).getData();
+            for (Future<Messenger> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getData()).isSameAs(data);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(scheduleRepository, times(1)).findModelsByRange(any(), any(), any(), any());
+    }
+
+    @Test
+    void differentKeysDoNotWaitForEachOther() throws Exception {
+        CountDownLatch otherDone = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            int year = ((LocalDate) invocation.getArgument(0)).getYear();
+            if (year == 2011) {
+                // 2012 계산이 끝나야 2011 계산이 끝난다. 전역 잠금이면 여기서 막힌다
+                assertThat(otherDone.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+            return season(year);
+        }).when(scheduleRepository).findModelsByRange(any(), any(), any(), any());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Messenger> slow = executor.submit(() -> simulationService.simulate("2011", null, null));
+            Thread.sleep(100);
+            Future<Messenger> fast = executor.submit(() -> simulationService.simulate("2012", null, null));
+            assertThat(fast.get(5, TimeUnit.SECONDS).getCode()).isEqualTo(200);
+            otherDone.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS).getCode()).isEqualTo(200);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void cacheKeepsOnlyMostRecentlyUsedEntries() {
+        simulationService.simulate("2012", null, 100);
+        simulationService.simulate("2012", null, 200);
+        simulationService.simulate("2012", null, 100);
+        // 크기 2 를 넘기면 가장 오래 안 쓴 200회 결과가 빠진다
+        simulationService.simulate("2012", null, 300);
+        simulationService.simulate("2012", null, 100);
+        simulationService.simulate("2012", null, 200);
+
+        verify(scheduleRepository, times(4)).findModelsByRange(any(), any(), any(), any());
+    }
+
+    @Test
+    void failedRunIsNotCached() {
+        doThrow(new IllegalStateException("DB 오류"))
+                .doAnswer(invocation -> season(2012))
+                .when(scheduleRepository).findModelsByRange(any(), any(), any(), any());
+
+        assertThatThrownBy(() -> simulationService.simulate("2012", null, null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(simulationService.simulate("2012", null, null).getCode()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,155 @@
+package site.aiion.api.soccer.standings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import site.aiion.api.soccer.schedule.ScheduleModel;
+
+/**
+ * 저장/수정/삭제를 한 경기씩 반영한 순위표가 최종 일정 전체를 처음부터 다시 집계한 결과와 같은지 확인한다.
+ */
+class StandingsTableTest {
+
+    private static final String[] TEAMS = { "K01", "K02", "K03", "K04", "K05", "K06", "K07", "K08" };
+    private static final String[] SEASONS = { "2011", "2012" };
+
+    @Test
+    void incrementalUpdatesMatchFullRecomputation() {
+        Random random = new Random(20120317L);
+        StandingsTable table = new StandingsTable();
+        Map<Long, ScheduleModel> schedules = new LinkedHashMap<>();
+        long nextId = 1;
+
+        for (int step = 0; step < 5_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 6 || schedules.isEmpty()) {
+                ScheduleModel model = randomSchedule(random, nextId++);
+                schedules.put(model.getId(), model);
+                table.apply(model);
+            } else if (op < 9) {
+                // 점수/팀/날짜가 바뀌거나 결과가 지워지는 수정
+                Long id = randomKey(random, schedules);
+                ScheduleModel model = randomSchedule(random, id);
+                schedules.put(id, model);
+                table.apply(model);
+            } else {
+                Long id = randomKey(random, schedules);
+                schedules.remove(id);
+                table.remove(id);
+            }
+        }
+
+        for (String season : SEASONS) {
+            assertThat(table.standings(season))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(recompute(schedules.values(), season));
+        }
+    }
+
+    @Test
+    void rebuildMatchesFullRecomputation() {
+        Random random = new Random(7L);
+        List<ScheduleModel> schedules = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            schedules.add(randomSchedule(random, id));
+        }
+        StandingsTable table = new StandingsTable();
+        table.rebuild(schedules);
+
+        for (String season : SEASONS) {
+            assertThat(table.standings(season))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(recompute(schedules, season));
+        }
+    }
+
+    @Test
+    void unplayedGamesAreIgnored() {
+        StandingsTable table = new StandingsTable();
+        table.apply(schedule(1L, "20120317", "K01", "K02", "", ""));
+        table.apply(schedule(2L, "20120318", "K01", "K03", "2", "1"));
+
+        List<StandingModel> standings = table.standings("2012");
+        assertThat(standings).extracting(StandingModel::getTeam_uk).containsExactly("K01", "K03");
+        assertThat(standings.get(0).getPoints()).isEqualTo(StandingsTable.WIN_POINTS);
+    }
+
+    // 비교 기준: 최종 일정 목록만 보고 처음부터 집계
+    private static List<StandingModel> recompute(Iterable<ScheduleModel> schedules, String season) {
+        Map<String, int[]> records = new HashMap<>();
+        for (ScheduleModel m : schedules) {
+            if (!season.equals(StandingsTable.seasonOf(m.getSche_date()))) {
+                continue;
+            }
+            Integer home = StandingsTable.parseScore(m.getHome_score());
+            Integer away = StandingsTable.parseScore(m.getAway_score());
+            if (home == null || away == null) {
+                continue;
+            }
+            tally(records.computeIfAbsent(m.getHometeam_uk(), k -> new int[5]), home, away);
+            tally(records.computeIfAbsent(m.getAwayteam_uk(), k -> new int[5]), away, home);
+        }
+        List<StandingModel> table = new ArrayList<>();
+        records.forEach((team, r) -> table.add(StandingModel.builder()
+                .season(season)
+                .team_uk(team)
+                .played(r[0] + r[1] + r[2])
+                .win(r[0])
+                .draw(r[1])
+                .loss(r[2])
+                .goals_for(r[3])
+                .goals_against(r[4])
+                .goal_diff(r[3] - r[4])
+                .points(r[0] * 3 + r[1])
+                .build()));
+        table.sort(Comparator.comparingInt(StandingModel::getPoints).reversed()
+                .thenComparing(Comparator.comparingInt(StandingModel::getGoal_diff).reversed())
+                .thenComparing(Comparator.comparingInt(StandingModel::getGoals_for).reversed())
+                .thenComparing(StandingModel::getTeam_uk));
+        for (int i = 0; i < table.size(); i++) {
+            table.get(i).setRank(i + 1);
+        }
+        return table;
+    }
+
+    private static void tally(int[] r, int scored, int conceded) {
+        r[scored > conceded ? 0 : scored == conceded ? 1 : 2]++;
+        r[3] += scored;
+        r[4] += conceded;
+    }
+
+    private static ScheduleModel randomSchedule(Random random, long id) {
+        int home = random.nextInt(TEAMS.length);
+        int away = (home + 1 + random.nextInt(TEAMS.length - 1)) % TEAMS.length;
+        String date = SEASONS[random.nextInt(SEASONS.length)] + String.format("%02d%02d", 3 + random.nextInt(8), 1 + random.nextInt(28));
+        boolean played = random.nextInt(5) > 0;
+        return schedule(id, date, TEAMS[home], TEAMS[away],
+                played ? String.valueOf(random.nextInt(5)) : "",
+                played ? String.valueOf(random.nextInt(5)) : "");
+    }
+
+    private static ScheduleModel schedule(Long id, String date, String home, String away, String homeScore, String awayScore) {
+        return ScheduleModel.builder()
+                .id(id)
+                .sche_date(date)
+                .hometeam_uk(home)
+                .awayteam_uk(away)
+                .home_score(homeScore)
+                .away_score(awayScore)
+                .build();
+    }
+
+    private static Long randomKey(Random random, Map<Long, ScheduleModel> schedules) {
+        List<Long> ids = new ArrayList<>(schedules.keySet());
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
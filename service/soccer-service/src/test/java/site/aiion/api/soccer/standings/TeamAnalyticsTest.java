@@ -0,0 +1,118 @@
+package site.aiion.api.soccer.standings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import site.aiion.api.soccer.schedule.ScheduleModel;
+
+/**
+ * 순서 없이 들어오는 저장/수정/삭제 뒤에도 최근 폼과 상대 전적이 최종 일정 목록 기준 결과와 같은지 확인한다.
+ */
+class TeamAnalyticsTest {
+
+    private static final String[] TEAMS = { "K01", "K02", "K03", "K04", "K05" };
+    private static final int FORM_SIZE = 5;
+
+    @Test
+    void incrementalUpdatesMatchFullRecomputation() {
+        Random random = new Random(42L);
+        TeamAnalytics analytics = new TeamAnalytics(FORM_SIZE);
+        Map<Long, ScheduleModel> schedules = new LinkedHashMap<>();
+        long nextId = 1;
+
+        for (int step = 0; step < 3_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 6 || schedules.isEmpty()) {
+                ScheduleModel model = randomSchedule(random, nextId++);
+                schedules.put(model.getId(), model);
+                analytics.apply(model);
+            } else if (op < 9) {
+                List<Long> ids = new ArrayList<>(schedules.keySet());
+                ScheduleModel model = randomSchedule(random, ids.get(random.nextInt(ids.size())));
+                schedules.put(model.getId(), model);
+                analytics.apply(model);
+            } else {
+                List<Long> ids = new ArrayList<>(schedules.keySet());
+                Long id = ids.get(random.nextInt(ids.size()));
+                schedules.remove(id);
+                analytics.remove(id);
+            }
+        }
+
+        for (String team : TEAMS) {
+            assertThat(analytics.form(team, FORM_SIZE))
+                    .extracting(FormModel::getSchedule_id)
+                    .containsExactlyElementsOf(expectedForm(schedules.values(), team));
+            for (String opponent : TEAMS) {
+                if (!team.equals(opponent)) {
+                    assertThat(analytics.headToHead(team, opponent))
+                            .usingRecursiveComparison()
+                            .isEqualTo(expectedHeadToHead(schedules.values(), team, opponent));
+                }
+            }
+        }
+    }
+
+    private static List<Long> expectedForm(Iterable<ScheduleModel> schedules, String team) {
+        List<ScheduleModel> played = new ArrayList<>();
+        for (ScheduleModel m : schedules) {
+            if (isPlayed(m) && (team.equals(m.getHometeam_uk()) || team.equals(m.getAwayteam_uk()))) {
+                played.add(m);
+            }
+        }
+        played.sort(Comparator.comparing(ScheduleModel::getSche_date)
+                .thenComparing(ScheduleModel::getId).reversed());
+        return played.stream().limit(FORM_SIZE).map(ScheduleModel::getId).toList();
+    }
+
+    private static HeadToHeadModel expectedHeadToHead(Iterable<ScheduleModel> schedules, String team, String opponent) {
+        HeadToHeadModel model = HeadToHeadModel.builder().team_uk(team).opponent_uk(opponent).build();
+        for (ScheduleModel m : schedules) {
+            if (!isPlayed(m)) {
+                continue;
+            }
+            boolean home = team.equals(m.getHometeam_uk()) && opponent.equals(m.getAwayteam_uk());
+            boolean away = opponent.equals(m.getHometeam_uk()) && team.equals(m.getAwayteam_uk());
+            if (!home && !away) {
+                continue;
+            }
+            int scored = Integer.parseInt(home ? m.getHome_score() : m.getAway_score());
+            int conceded = Integer.parseInt(home ? m.getAway_score() : m.getHome_score());
+            model.setPlayed(model.getPlayed() + 1);
+            model.setHome_played(model.getHome_played() + (home ? 1 : 0));
+            model.setAway_played(model.getAway_played() + (away ? 1 : 0));
+            model.setWin(model.getWin() + (scored > conceded ? 1 : 0));
+            model.setDraw(model.getDraw() + (scored == conceded ? 1 : 0));
+            model.setLoss(model.getLoss() + (scored < conceded ? 1 : 0));
+            model.setGoals_for(model.getGoals_for() + scored);
+            model.setGoals_against(model.getGoals_against() + conceded);
+        }
+        return model;
+    }
+
+    private static boolean isPlayed(ScheduleModel m) {
+        return !m.getHome_score().isEmpty() && !m.getAway_score().isEmpty();
+    }
+
+    private static ScheduleModel randomSchedule(Random random, long id) {
+        int home = random.nextInt(TEAMS.length);
+        int away = (home + 1 + random.nextInt(TEAMS.length - 1)) % TEAMS.length;
+        boolean played = random.nextInt(5) > 0;
+        return ScheduleModel.builder()
+                .id(id)
+                .sche_date(String.format("2012%02d%02d", 3 + random.nextInt(8), 1 + random.nextInt(28)))
+                .hometeam_uk(TEAMS[home])
+                .awayteam_uk(TEAMS[away])
+                .home_score(played ? String.valueOf(random.nextInt(4)) : "")
+                .away_score(played ? String.valueOf(random.nextInt(4)) : "")
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package site.aiion.api.soccer.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import site.aiion.api.soccer.player.PlayerModel;
+
+/**
+ * 쓰기가 스냅샷을 stale 로만 표시하고 다음 조회 때 한 번 다시 만드는지, 바뀐 게 없으면 같은 스냅샷을 돌려주는지,
+ * 트랜잭션 안의 쓰기는 커밋 뒤에야 보이는지 확인한다.
+ */
+class PlayerColumnStoreTest {
+
+    private final PlayerColumnStore store = new PlayerColumnStore();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static PlayerModel player(long id, String position) {
+        return PlayerModel.builder().id(id).position(position).height("180").build();
+    }
+
+    private static List<String> groups(PlayerColumns columns) {
+        return columns.aggregate("position", null, null, 2012).stream().map(PlayerStatModel::getGroup).toList();
+    }
+
+    @Test
+    void rebuildReplacesSnapshotAndClearsStale() {
+        store.indexPlayer(player(9, "FW"));
+
+        store.rebuild(List.of(player(1, "GK"), player(2, "DF")));
+
+        PlayerColumns snapshot = store.snapshot();
+        assertThat(snapshot.size).isEqualTo(2);
+        assertThat(groups(snapshot)).containsExactly("GK", "DF");
+        assertThat(store.snapshot()).isSameAs(snapshot);
+    }
+
+    @Test
+    void writesMarkStaleAndNextReadRebuildsOnce() {
+        store.rebuild(List.of(player(1, "GK"), player(2, "DF")));
+        PlayerColumns before = store.snapshot();
+
+        store.indexPlayer(player(3, "MF"));
+        store.indexPlayer(player(1, "FW"));
+        store.removePlayer(2L);
+        // 쓰기만으로는 스냅샷을 다시 만들지 않는다
+        assertThat(before.size).isEqualTo(2);
+
+        PlayerColumns after = store.snapshot();
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.size).isEqualTo(2);
+        assertThat(groups(after)).containsExactlyInAnyOrder("FW", "MF");
+        assertThat(store.snapshot()).isSameAs(after);
+    }
+
+    @Test
+    void facetIndexFollowsSnapshot() {
+        store.rebuild(List.of(player(1, "GK")));
+        PlayerFacetIndex facets = store.facets();
+        assertThat(store.facets()).isSameAs(facets);
+
+        store.indexPlayer(player(2, "DF"));
+
+        PlayerFacetIndex rebuilt = store.facets();
+        assertThat(rebuilt).isNotSameAs(facets);
+        assertThat(rebuilt.columns).isSameAs(store.snapshot());
+    }
+
+    @Test
+    void writesInsideTransactionApplyAfterCommit() {
+        store.rebuild(List.of(player(1, "GK")));
+        PlayerColumns before = store.snapshot();
+
+        TransactionSynchronizationManager.initSynchronization();
+        store.indexPlayer(player(2, "DF"));
+        assertThat(store.snapshot()).isSameAs(before);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(store.snapshot().size).isEqualTo(2);
+    }
+}
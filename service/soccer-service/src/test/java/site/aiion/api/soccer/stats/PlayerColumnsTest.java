@@ -0,0 +1,150 @@
+package site.aiion.api.soccer.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static site.aiion.api.soccer.stats.PlayerColumns.MISSING;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import site.aiion.api.soccer.player.PlayerModel;
+
+/**
+ * 열 스냅샷 집계가 groupBy 별로 인원수/키/몸무게/나이를 맞게 내고, 코드가 없는 선수를 "미상" 으로 묶으며,
+ * 숫자가 아니거나 비어 있는 칸은 통계에서 빼는지 확인한다.
+ */
+class PlayerColumnsTest {
+
+    private static final int REFERENCE_YEAR = 2012;
+
+    private static PlayerModel player(long id, String position, String nation, String teamUk,
+                                      String height, String weight, String birthDate) {
+        return PlayerModel.builder().id(id).position(position).nation(nation).team_uk(teamUk)
+                .height(height).weight(weight).birth_date(birthDate).build();
+    }
+
+    private static final PlayerColumns COLUMNS = PlayerColumns.of(List.of(
+            player(1, "GK", "브라질", "K01", "183cm", "80", "1980-01-01"),
+            player(2, "GK", "일본", "K02", "190", " 74 ", "19850505"),
+            player(3, "DF", null, "K01", "", null, "미상"),
+            player(4, null, "브라질", null, "175", "70", "1990"),
+            player(5, "  ", "일본", "K02", "abc", "68kg", "1990-03-03")));
+
+    private static PlayerStatModel group(List<PlayerStatModel> stats, String name) {
+        return stats.stream().filter(stat -> name.equals(stat.getGroup())).findFirst().orElseThrow();
+    }
+
+    @Test
+    void groupsByPositionWithUnknownBucketLast() {
+        List<PlayerStatModel> stats = COLUMNS.aggregate("position", null, null, REFERENCE_YEAR);
+
+        assertThat(stats).extracting(PlayerStatModel::getGroup).containsExactly("GK", "DF", "미상");
+        assertThat(stats).extracting(PlayerStatModel::getCount).containsExactly(2, 1, 2);
+
+        PlayerStatModel keepers = group(stats, "GK");
+        assertThat(keepers.getAvg_height()).isEqualTo(186.5);
+        assertThat(keepers.getMin_height()).isEqualTo(183);
+        assertThat(keepers.getMax_height()).isEqualTo(190);
+        assertThat(keepers.getAvg_weight()).isEqualTo(77.0);
+        assertThat(keepers.getAvg_age()).isEqualTo(29.5);
+        assertThat(keepers.getMin_age()).isEqualTo(27);
+        assertThat(keepers.getMax_age()).isEqualTo(32);
+
+        // 빈 키, 없는 몸무게, 날짜가 아닌 생일만 있는 그룹은 인원수만 있고 통계는 비어 있다
+        PlayerStatModel defenders = group(stats, "DF");
+        assertThat(defenders.getAvg_height()).isNull();
+        assertThat(defenders.getMin_weight()).isNull();
+        assertThat(defenders.getAvg_age()).isNull();
+
+        // 포지션이 null 이거나 공백인 선수. "abc" 키는 빠지고 "68kg" 은 68 로 읽는다
+        PlayerStatModel unknown = group(stats, "미상");
+        assertThat(unknown.getAvg_height()).isEqualTo(175.0);
+        assertThat(unknown.getMin_height()).isEqualTo(175);
+        assertThat(unknown.getAvg_weight()).isEqualTo(69.0);
+        assertThat(unknown.getAvg_age()).isEqualTo(22.0);
+    }
+
+    @Test
+    void groupsByNationAndTeam() {
+        List<PlayerStatModel> byNation = COLUMNS.aggregate("nation", null, null, REFERENCE_YEAR);
+        assertThat(byNation).extracting(PlayerStatModel::getGroup).containsExactly("브라질", "일본", "미상");
+        assertThat(byNation).extracting(PlayerStatModel::getCount).containsExactly(2, 2, 1);
+
+        // groupBy 는 대소문자를 가리지 않는다
+        List<PlayerStatModel> byTeam = COLUMNS.aggregate("TEAM", null, null, REFERENCE_YEAR);
+        assertThat(byTeam).extracting(PlayerStatModel::getGroup).containsExactly("K01", "K02", "미상");
+        assertThat(byTeam).extracting(PlayerStatModel::getCount).containsExactly(2, 2, 1);
+        assertThat(group(byTeam, "K02").getAvg_height()).isEqualTo(190.0);
+    }
+
+    @Test
+    void withoutGroupByAggregatesEveryone() {
+        for (String groupBy : new String[] { null, "", " " }) {
+            List<PlayerStatModel> stats = COLUMNS.aggregate(groupBy, null, null, REFERENCE_YEAR);
+
+            assertThat(stats).singleElement().satisfies(all -> {
+                assertThat(all.getGroup()).isEqualTo("전체");
+                assertThat(all.getCount()).isEqualTo(5);
+                assertThat(all.getAvg_height()).isEqualTo(182.7);
+                assertThat(all.getMin_weight()).isEqualTo(68);
+                assertThat(all.getMax_weight()).isEqualTo(80);
+            });
+        }
+        assertThat(PlayerColumns.EMPTY.aggregate(null, null, null, REFERENCE_YEAR)).isEmpty();
+    }
+
+    @Test
+    void rejectsUnsupportedGroupBy() {
+        assertThatThrownBy(() -> COLUMNS.aggregate("height", null, null, REFERENCE_YEAR))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void filtersByPositionAndTeam() {
+        assertThat(COLUMNS.aggregate("team", "GK", null, REFERENCE_YEAR))
+                .extracting(PlayerStatModel::getGroup, PlayerStatModel::getCount)
+                .containsExactly(tuple("K01", 1), tuple("K02", 1));
+        assertThat(COLUMNS.aggregate(null, "GK", "K02", REFERENCE_YEAR))
+                .singleElement()
+                .satisfies(stat -> assertThat(stat.getAvg_height()).isEqualTo(190.0));
+        assertThat(COLUMNS.aggregate("position", null, "K01", REFERENCE_YEAR))
+                .extracting(PlayerStatModel::getGroup)
+                .containsExactly("GK", "DF");
+    }
+
+    @Test
+    void unknownFilterCodesMatchNothing() {
+        assertThat(COLUMNS.aggregate("position", "ST", null, REFERENCE_YEAR)).isEmpty();
+        assertThat(COLUMNS.aggregate("position", null, "K99", REFERENCE_YEAR)).isEmpty();
+        assertThat(COLUMNS.aggregate(null, "GK", "K99", REFERENCE_YEAR)).isEmpty();
+        // "미상" 은 그룹 이름일 뿐 필터 값으로는 없는 코드다
+        assertThat(COLUMNS.aggregate(null, "미상", null, REFERENCE_YEAR)).isEmpty();
+    }
+
+    @Test
+    void parseShortReadsLeadingDigits() {
+        assertThat(PlayerColumns.parseShort("183")).isEqualTo((short) 183);
+        assertThat(PlayerColumns.parseShort("183cm")).isEqualTo((short) 183);
+        assertThat(PlayerColumns.parseShort(" 74 ")).isEqualTo((short) 74);
+        assertThat(PlayerColumns.parseShort("9999")).isEqualTo((short) 9999);
+        assertThat(PlayerColumns.parseShort(null)).isEqualTo(MISSING);
+        assertThat(PlayerColumns.parseShort("")).isEqualTo(MISSING);
+        assertThat(PlayerColumns.parseShort("   ")).isEqualTo(MISSING);
+        assertThat(PlayerColumns.parseShort("cm183")).isEqualTo(MISSING);
+        assertThat(PlayerColumns.parseShort("12345")).isEqualTo(MISSING);
+    }
+
+    @Test
+    void parseYearReadsFirstFourDigits() {
+        assertThat(PlayerColumns.parseYear("1979-11-22")).isEqualTo((short) 1979);
+        assertThat(PlayerColumns.parseYear("19791122")).isEqualTo((short) 1979);
+        assertThat(PlayerColumns.parseYear("1997")).isEqualTo((short) 1997);
+        assertThat(PlayerColumns.parseYear(null)).isEqualTo(MISSING);
+        assertThat(PlayerColumns.parseYear("")).isEqualTo(MISSING);
+        assertThat(PlayerColumns.parseYear("197")).isEqualTo(MISSING);
+        assertThat(PlayerColumns.parseYear("79-11-22")).isEqualTo(MISSING);
+        assertThat(PlayerColumns.parseYear("미상")).isEqualTo(MISSING);
+    }
+}
@@ -0,0 +1,127 @@
+package site.aiion.api.soccer.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import site.aiion.api.soccer.player.PlayerModel;
+
+/**
+ * 비트셋 필터/facet 결과가 목록을 직접 걸러 센 결과와 같은지 확인한다.
+ */
+class PlayerFacetIndexTest {
+
+    private static final String[] POSITIONS = { "GK", "DF", "MF", "FW", null };
+    private static final String[] NATIONS = { "브라질", "세르비아", "일본", null, null, null };
+    private static final String[] TEAMS = { "K01", "K02", "K05", "K07" };
+
+    @Test
+    void filtersAndFacetsMatchBruteForce() {
+        Random random = new Random(20120317L);
+        List<PlayerModel> players = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            int year = 1975 + random.nextInt(25);
+            players.add(PlayerModel.builder()
+                    .id(id)
+                    .position(POSITIONS[random.nextInt(POSITIONS.length)])
+                    .nation(NATIONS[random.nextInt(NATIONS.length)])
+                    .team_uk(TEAMS[random.nextInt(TEAMS.length)])
+                    .birth_date(random.nextInt(10) == 0 ? null : year + "-01-01")
+                    .build());
+        }
+        PlayerFacetIndex index = new PlayerFacetIndex(PlayerColumns.of(players));
+
+        for (int round = 0; round < 200; round++) {
+            List<String> positions = random.nextBoolean() ? null : pick(random, "GK", "DF", "MF", "FW", "미상");
+            List<String> nations = random.nextBoolean() ? null : pick(random, "브라질", "일본", "미상");
+            List<String> teams = random.nextBoolean() ? null : pick(random, TEAMS);
+            Integer bornFrom = random.nextBoolean() ? null : 1975 + random.nextInt(25);
+            Integer bornTo = random.nextBoolean() ? null : 1975 + random.nextInt(25);
+
+            PlayerFacetIndex.Result result = index.query(
+                    new PlayerFacetIndex.Query(positions, nations, teams, bornFrom, bornTo), 0, 1000);
+
+            Predicate<PlayerModel> byPosition = p -> positions == null || positions.contains(label(p.getPosition()));
+            Predicate<PlayerModel> byNation = p -> nations == null || nations.contains(label(p.getNation()));
+            Predicate<PlayerModel> byTeam = p -> teams == null || teams.contains(p.getTeam_uk());
+            Predicate<PlayerModel> byYear = p -> inRange(p, bornFrom, bornTo);
+
+            List<PlayerModel> expected = players.stream()
+                    .filter(byPosition.and(byNation).and(byTeam).and(byYear))
+                    .toList();
+            assertThat(result.total()).isEqualTo(expected.size());
+            assertThat(result.players()).extracting(PlayerModel::getId)
+                    .containsExactlyElementsOf(expected.stream().map(PlayerModel::getId).toList());
+
+            // 각 차원은 자기 조건을 뺀 나머지 조건으로 센다
+            assertFacet(result, "position", players, byNation.and(byTeam).and(byYear), p -> label(p.getPosition()));
+            assertFacet(result, "nation", players, byPosition.and(byTeam).and(byYear), p -> label(p.getNation()));
+            assertFacet(result, "team", players, byPosition.and(byNation).and(byYear), PlayerModel::getTeam_uk);
+            assertFacet(result, "birth_year", players, byPosition.and(byNation).and(byTeam), PlayerFacetIndexTest::bucket);
+        }
+    }
+
+    @Test
+    void pagesThroughMatches() {
+        List<PlayerModel> players = new ArrayList<>();
+        for (long id = 1; id <= 150; id++) {
+            players.add(PlayerModel.builder().id(id).position(id % 2 == 0 ? "MF" : "FW").build());
+        }
+        PlayerFacetIndex index = new PlayerFacetIndex(PlayerColumns.of(players));
+        PlayerFacetIndex.Result page = index.query(
+                new PlayerFacetIndex.Query(List.of("MF"), null, null, null, null), 60, 10);
+        assertThat(page.total()).isEqualTo(75);
+        assertThat(page.players()).extracting(PlayerModel::getId)
+                .containsExactly(122L, 124L, 126L, 128L, 130L, 132L, 134L, 136L, 138L, 140L);
+    }
+
+    private static void assertFacet(PlayerFacetIndex.Result result, String dimension, List<PlayerModel> players,
+                                    Predicate<PlayerModel> others, Function<PlayerModel, String> value) {
+        Map<String, Integer> expected = new HashMap<>();
+        players.stream().filter(others).forEach(p -> expected.merge(value.apply(p), 1, Integer::sum));
+        Map<String, Integer> actual = new HashMap<>();
+        result.facets().get(dimension).forEach(f -> actual.put(f.getValue(), f.getCount()));
+        assertThat(actual).as(dimension).isEqualTo(expected);
+    }
+
+    private static List<String> pick(Random random, String... values) {
+        List<String> picked = new ArrayList<>();
+        for (String value : values) {
+            if (random.nextInt(3) == 0) {
+                picked.add(value);
+            }
+        }
+        return picked.isEmpty() ? List.of(values[0]) : picked;
+    }
+
+    private static String label(String value) {
+        return value == null ? PlayerFacetIndex.UNKNOWN : value;
+    }
+
+    private static boolean inRange(PlayerModel p, Integer from, Integer to) {
+        if (from == null && to == null) {
+            return true;
+        }
+        if (p.getBirth_date() == null) {
+            return false;
+        }
+        int year = Integer.parseInt(p.getBirth_date().substring(0, 4));
+        return (from == null || year >= from) && (to == null || year <= to);
+    }
+
+    private static String bucket(PlayerModel p) {
+        if (p.getBirth_date() == null) {
+            return PlayerFacetIndex.UNKNOWN;
+        }
+        int start = Integer.parseInt(p.getBirth_date().substring(0, 4)) / 5 * 5;
+        return start + "-" + (start + 4);
+    }
+}
@@ -0,0 +1,132 @@
+package site.aiion.api.soccer.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import site.aiion.api.soccer.player.PlayerModel;
+
+/**
+ * k-d tree 최근접 결과가 같은 정규화로 전부 비교한 결과와 같은지 확인한다.
+ */
+class PlayerSimilarityIndexTest {
+
+    private static final String[] POSITIONS = { "GK", "DF", "MF", "FW", null };
+
+    @Test
+    void nearestMatchesBruteForceAcrossWrites() {
+        Random random = new Random(1983L);
+        Map<Long, PlayerModel> players = new LinkedHashMap<>();
+        for (long id = 1; id <= 400; id++) {
+            players.put(id, player(random, id));
+        }
+        PlayerSimilarityIndex index = new PlayerSimilarityIndex();
+        index.rebuild(players.values());
+        // 정규화 기준은 전체 구성 시점 값으로 고정된다
+        Scale scale = Scale.of(List.copyOf(players.values()));
+        assertNearest(index, players, scale, random);
+
+        // 재구성 기준(25%)보다 적게 바꿔서 잎 추가/삭제 표시 경로를 탄다
+        for (int i = 0; i < 60; i++) {
+            long id = 1 + random.nextInt(450);
+            if (random.nextInt(3) == 0) {
+                players.remove(id);
+                index.remove(id);
+            } else {
+                PlayerModel model = player(random, id);
+                players.put(id, model);
+                index.put(model);
+            }
+        }
+        assertThat(index.size()).isEqualTo(players.size());
+        assertNearest(index, players, scale, random);
+    }
+
+    @Test
+    void unknownPlayerHasNoNeighbours() {
+        PlayerSimilarityIndex index = new PlayerSimilarityIndex();
+        index.rebuild(List.of(PlayerModel.builder().id(1L).height("180").build()));
+        assertThat(index.nearest(2L, 5)).isNull();
+        assertThat(index.nearest(1L, 5)).isEmpty();
+    }
+
+    private static void assertNearest(PlayerSimilarityIndex index, Map<Long, PlayerModel> players, Scale scale,
+                                      Random random) {
+        List<Long> ids = new ArrayList<>(players.keySet());
+        for (int round = 0; round < 50; round++) {
+            Long id = ids.get(random.nextInt(ids.size()));
+            int k = 1 + random.nextInt(12);
+            double[] target = scale.point(players.get(id));
+            List<Double> expected = players.values().stream()
+                    .filter(p -> !p.getId().equals(id))
+                    .map(p -> distance(target, scale.point(p)))
+                    .sorted(Comparator.naturalOrder())
+                    .limit(k)
+                    .toList();
+
+            List<PlayerSimilarityIndex.Neighbor> actual = index.nearest(id, k);
+            assertThat(actual).hasSize(expected.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(actual.get(i).distance()).isCloseTo(expected.get(i), within(1e-9));
+                assertThat(distance(target, scale.point(actual.get(i).player())))
+                        .isCloseTo(actual.get(i).distance(), within(1e-9));
+            }
+        }
+    }
+
+    private static PlayerModel player(Random random, long id) {
+        return PlayerModel.builder()
+                .id(id)
+                .height(random.nextInt(15) == 0 ? null : String.valueOf(165 + random.nextInt(30)))
+                .weight(random.nextInt(15) == 0 ? null : String.valueOf(60 + random.nextInt(30)))
+                .birth_date(random.nextInt(10) == 0 ? null : (1975 + random.nextInt(25)) + "-05-01")
+                .position(POSITIONS[random.nextInt(POSITIONS.length)])
+                .build();
+    }
+
+    private static double distance(double[] a, double[] b) {
+        double sum = 0;
+        for (int d = 0; d < a.length; d++) {
+            sum += (a[d] - b[d]) * (a[d] - b[d]);
+        }
+        return Math.sqrt(sum);
+    }
+
+    private record Scale(double[] mean, double[] std) {
+        static Scale of(List<PlayerModel> players) {
+            int dims = PlayerSimilarityIndex.DIMENSIONS;
+            double[] mean = new double[dims];
+            double[] std = new double[dims];
+            for (int d = 0; d < dims; d++) {
+                int dim = d;
+                double[] values = players.stream()
+                        .mapToDouble(p -> PlayerSimilarityIndex.features(p)[dim])
+                        .filter(v -> !Double.isNaN(v))
+                        .toArray();
+                double m = Arrays.stream(values).average().orElse(0);
+                double variance = Arrays.stream(values).map(v -> (v - m) * (v - m)).average().orElse(0);
+                mean[d] = m;
+                std[d] = variance > 1e-9 ? Math.sqrt(variance) : 1.0;
+            }
+            return new Scale(mean, std);
+        }
+
+        double[] point(PlayerModel p) {
+            double[] raw = PlayerSimilarityIndex.features(p);
+            double[] point = new double[raw.length];
+            for (int d = 0; d < raw.length; d++) {
+                point[d] = Double.isNaN(raw[d]) ? 0 : (raw[d] - mean[d]) / std[d];
+            }
+            return point;
+        }
+    }
+}
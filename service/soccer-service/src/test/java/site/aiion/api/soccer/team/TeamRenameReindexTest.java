@@ -0,0 +1,71 @@
+package site.aiion.api.soccer.team;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import site.aiion.api.soccer.common.domain.Messenger;
+import site.aiion.api.soccer.common.snapshot.JsonSnapshotCache;
+import site.aiion.api.soccer.config.QuerydslConfig;
+import site.aiion.api.soccer.player.Player;
+import site.aiion.api.soccer.player.PlayerModel;
+import site.aiion.api.soccer.player.PlayerRepository;
+import site.aiion.api.soccer.search.SoccerSearchIndex;
+
+/**
+ * 팀 이름을 바꾸면 선수 색인에 들어 있는 team_name 도 커밋 후에 새 이름으로 바뀌는지 확인한다.
+ * 색인은 커밋 후에 갱신되므로 테스트 트랜잭션 없이 서비스 트랜잭션이 그대로 커밋되게 돌린다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ TeamServiceImpl.class, SoccerSearchIndex.class, JsonSnapshotCache.class, QuerydslConfig.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class TeamRenameReindexTest {
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SoccerSearchIndex soccerSearchIndex;
+
+    @AfterEach
+    void cleanUp() {
+        playerRepository.deleteAll();
+        teamRepository.deleteAll();
+    }
+
+    @Test
+    void renamingTeamReindexesItsPlayers() {
+        Team team = teamRepository.save(Team.builder().team_uk("K01").team_name("울산현대").build());
+        teamRepository.save(Team.builder().team_uk("K02").team_name("FC서울").build());
+        playerRepository.save(Player.builder().player_uk("P1").player_name("박지성").team_uk("K01").build());
+        playerRepository.save(Player.builder().player_uk("P2").player_name("박주영").team_uk("K02").build());
+        soccerSearchIndex.rebuildPlayers(playerRepository.findAllModels(true));
+
+        Messenger result = teamService.update(TeamModel.builder().id(team.getId()).team_name("울산HD").build());
+
+        assertThat(result.getCode()).isEqualTo(200);
+        assertThat(soccerSearchIndex.searchPlayers("박지성")).singleElement()
+                .extracting(PlayerModel::getTeam_name).isEqualTo("울산HD");
+        // 다른 팀 선수는 그대로
+        assertThat(soccerSearchIndex.searchPlayers("박주영")).singleElement()
+                .extracting(PlayerModel::getTeam_name).isEqualTo("FC서울");
+    }
+}